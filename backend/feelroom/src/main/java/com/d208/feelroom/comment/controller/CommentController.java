@@ -5,6 +5,7 @@ import com.d208.feelroom.global.security.dto.UserDetailsImpl;
 import com.d208.feelroom.user.domain.entity.User;
 import com.d208.feelroom.comment.dto.CommentDetailResponseDto;
 import com.d208.feelroom.comment.dto.CommentMyStatusResponseDto;
+import com.d208.feelroom.comment.dto.CommentSliceResponseDto;
 import com.d208.feelroom.comment.dto.CommentUpdateRequestDto;
 import com.d208.feelroom.comment.service.CommentService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -38,6 +39,19 @@ public class CommentController { // 클래스 이름은 그대로 유지해도 
         return ResponseEntity.ok(responseDto);
     }
 
+    @Operation(summary = "대댓글 더보기 (커서 조회)", description = "특정 댓글의 대댓글을 커서(키셋) 기반으로 조회합니다.")
+    @GetMapping("/{commentId}/replies")
+    public ResponseEntity<CommentSliceResponseDto> getReplies(
+            @Parameter(description = "부모 댓글 ID") @PathVariable UUID commentId,
+            @Parameter(description = "이전 응답의 nextReplyCursor 또는 nextCursor (처음부터 조회 시 생략)") @RequestParam(required = false) String after,
+            @Parameter(description = "페이지 당 대댓글 수 (최대 50)") @RequestParam(defaultValue = "10") int size,
+            @Parameter(hidden = true) @AuthenticationPrincipal UserDetailsImpl userDetails) {
+
+        Long userId = (userDetails != null && userDetails.getUser() != null) ? userDetails.getUser().getUserId() : null;
+        CommentSliceResponseDto responseDto = commentService.findRepliesByCursor(commentId, after, size, userId);
+        return ResponseEntity.ok(responseDto);
+    }
+
     @Operation(summary = "댓글/대댓글 수정", security = @SecurityRequirement(name = "bearerAuth"))
     @PatchMapping("/{commentId}")
     public ResponseEntity<Void> updateComment(
@@ -1,11 +1,15 @@
 package com.d208.feelroom.comment.domain.repository;
 
 import com.d208.feelroom.comment.domain.entity.Comment;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -37,6 +41,118 @@ public interface CommentRepository extends JpaRepository<Comment, UUID> {
             "ORDER BY p.createdAt ASC NULLS FIRST, c.createdAt ASC")
     List<Comment> findAllByReviewIdOrderByParentAndCreatedAt(@Param("reviewId") UUID reviewId);
 
+    /**
+     * 특정 리뷰의 최상위 댓글만 페이징하여 조회합니다. (idx_review_comments 활용)
+     * 좋아요 수는 CommentSummary를 fetch join하여 별도의 COUNT 쿼리 없이 가져옵니다.
+     * @param reviewId 리뷰 ID
+     * @param pageable 페이징 정보 (정렬은 생성 시간 순으로 고정)
+     * @return 최상위 댓글 페이지
+     */
+    @Query(value = "SELECT c FROM Comment c " +
+            "LEFT JOIN FETCH c.user u " +
+            "LEFT JOIN FETCH c.commentSummary cs " +
+            "WHERE c.review.reviewId = :reviewId AND c.parentComment IS NULL " +
+            "ORDER BY c.createdAt ASC, c.commentId ASC",
+            countQuery = "SELECT COUNT(c) FROM Comment c " +
+                    "WHERE c.review.reviewId = :reviewId AND c.parentComment IS NULL")
+    Page<Comment> findRootCommentsByReviewId(@Param("reviewId") UUID reviewId, Pageable pageable);
+
+    /**
+     * 주어진 최상위 댓글들에 달린 대댓글을 한 번에 조회합니다. (idx_parent_comments 활용)
+     * @param parentIds 부모 댓글 ID 목록
+     * @return 부모 ID, 생성 시간 순으로 정렬된 대댓글 리스트
+     */
+    @Query("SELECT c FROM Comment c " +
+            "LEFT JOIN FETCH c.user u " +
+            "LEFT JOIN FETCH c.replyToUser r " +
+            "LEFT JOIN FETCH c.commentSummary cs " +
+            "JOIN FETCH c.parentComment p " +
+            "WHERE p.commentId IN :parentIds " +
+            "ORDER BY c.createdAt ASC, c.commentId ASC")
+    List<Comment> findRepliesByParentIds(@Param("parentIds") List<UUID> parentIds);
+
+    /**
+     * [키셋 페이징] 특정 리뷰의 첫 페이지 최상위 댓글을 조회합니다. (idx_review_comments 활용)
+     */
+    @Query("SELECT c FROM Comment c " +
+            "LEFT JOIN FETCH c.user u " +
+            "LEFT JOIN FETCH c.commentSummary cs " +
+            "WHERE c.review.reviewId = :reviewId AND c.parentComment IS NULL " +
+            "ORDER BY c.createdAt ASC, c.commentId ASC")
+    Slice<Comment> findRootCommentSlice(@Param("reviewId") UUID reviewId, Pageable pageable);
+
+    /**
+     * [키셋 페이징] 커서(createdAt, commentId) 이후의 최상위 댓글을 조회합니다.
+     * OFFSET 없이 인덱스 범위 스캔으로 다음 페이지를 가져옵니다.
+     */
+    @Query("SELECT c FROM Comment c " +
+            "LEFT JOIN FETCH c.user u " +
+            "LEFT JOIN FETCH c.commentSummary cs " +
+            "WHERE c.review.reviewId = :reviewId AND c.parentComment IS NULL " +
+            "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.commentId > :commentId)) " +
+            "ORDER BY c.createdAt ASC, c.commentId ASC")
+    Slice<Comment> findRootCommentSliceAfter(@Param("reviewId") UUID reviewId,
+                                             @Param("createdAt") LocalDateTime createdAt,
+                                             @Param("commentId") UUID commentId,
+                                             Pageable pageable);
+
+    /**
+     * 부모 댓글별로 앞에서부터 최대 :limit 개의 대댓글 ID만 조회합니다. (MySQL 8 윈도우 함수)
+     * 스레드 길이와 관계없이 부모당 조회 건수가 제한됩니다.
+     * @return BINARY(16) 형식의 대댓글 ID 리스트
+     */
+    @Query(value = """
+            SELECT ranked.comment_id
+            FROM (
+                SELECT c.comment_id,
+                       ROW_NUMBER() OVER (PARTITION BY c.parent_comment_id ORDER BY c.created_at ASC, c.comment_id ASC) AS rn
+                FROM comments c
+                WHERE c.parent_comment_id IN :parentIds
+            ) ranked
+            WHERE ranked.rn <= :limit
+            """, nativeQuery = true)
+    List<byte[]> findReplyIdsLimitedPerParent(@Param("parentIds") List<UUID> parentIds, @Param("limit") int limit);
+
+    /**
+     * ID 목록으로 대댓글을 연관 엔티티와 함께 조회합니다.
+     */
+    @Query("SELECT c FROM Comment c " +
+            "LEFT JOIN FETCH c.user u " +
+            "LEFT JOIN FETCH c.replyToUser r " +
+            "LEFT JOIN FETCH c.commentSummary cs " +
+            "JOIN FETCH c.parentComment p " +
+            "WHERE c.commentId IN :commentIds " +
+            "ORDER BY c.createdAt ASC, c.commentId ASC")
+    List<Comment> findRepliesByIds(@Param("commentIds") List<UUID> commentIds);
+
+    /**
+     * [키셋 페이징] 특정 부모 댓글의 첫 페이지 대댓글을 조회합니다. (idx_parent_comments 활용)
+     */
+    @Query("SELECT c FROM Comment c " +
+            "LEFT JOIN FETCH c.user u " +
+            "LEFT JOIN FETCH c.replyToUser r " +
+            "LEFT JOIN FETCH c.commentSummary cs " +
+            "JOIN FETCH c.parentComment p " +
+            "WHERE p.commentId = :parentId " +
+            "ORDER BY c.createdAt ASC, c.commentId ASC")
+    Slice<Comment> findReplySlice(@Param("parentId") UUID parentId, Pageable pageable);
+
+    /**
+     * [키셋 페이징] 특정 부모 댓글의 대댓글을 커서 이후부터 조회합니다.
+     */
+    @Query("SELECT c FROM Comment c " +
+            "LEFT JOIN FETCH c.user u " +
+            "LEFT JOIN FETCH c.replyToUser r " +
+            "LEFT JOIN FETCH c.commentSummary cs " +
+            "JOIN FETCH c.parentComment p " +
+            "WHERE p.commentId = :parentId " +
+            "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.commentId > :commentId)) " +
+            "ORDER BY c.createdAt ASC, c.commentId ASC")
+    Slice<Comment> findReplySliceAfter(@Param("parentId") UUID parentId,
+                                       @Param("createdAt") LocalDateTime createdAt,
+                                       @Param("commentId") UUID commentId,
+                                       Pageable pageable);
+
     @Query("SELECT c.commentId FROM Comment c " +
             "WHERE c.review.reviewId = :reviewId AND c.deletedAt IS NULL")
     List<UUID> findAllCommentIdsByReviewId(@Param("reviewId") UUID reviewId);
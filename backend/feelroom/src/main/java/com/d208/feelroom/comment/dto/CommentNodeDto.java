@@ -50,6 +50,14 @@ public class CommentNodeDto {
     @Setter
     private List<CommentNodeDto> replies = new ArrayList<>();
 
+    @Schema(description = "미리보기 이후 더 불러올 대댓글 존재 여부 (커서 조회 시에만 사용)")
+    @Setter
+    private boolean hasMoreReplies;
+
+    @Schema(description = "대댓글 더보기 조회용 커서 (커서 조회 시에만 사용)")
+    @Setter
+    private String nextReplyCursor;
+
     // 정적 팩토리 메서드 (엔티티 -> DTO 변환)
     public static CommentNodeDto from(Comment comment) {
         CommentNodeDto dto = new CommentNodeDto();
@@ -0,0 +1,17 @@
+package com.d208.feelroom.comment.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+@Schema(description = "커서 기반 댓글 목록 응답 DTO")
+public record CommentSliceResponseDto(
+        @Schema(description = "댓글 목록")
+        List<CommentNodeDto> comments,
+        @Schema(description = "다음 페이지 조회용 커서 (불투명 문자열). 마지막 페이지면 null")
+        String nextCursor,
+        @Schema(description = "다음 페이지 존재 여부")
+        boolean hasNext
+) {}
@@ -1,5 +1,6 @@
 package com.d208.feelroom.comment.event.listener;
 
+import com.d208.feelroom.global.config.AsyncConfig;
 import com.d208.feelroom.comment.domain.repository.CommentSummaryRepository;
 import com.d208.feelroom.comment.event.CommentInteractionEvent;
 import lombok.RequiredArgsConstructor;
@@ -25,7 +26,7 @@ public class CommentSummaryUpdater {
      *
      * @param event 좋아요 변경 이벤트
      */
-    @Async // 비동기적으로 실행
+    @Async(AsyncConfig.SUMMARY_EXECUTOR) // 비동기적으로 실행
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT) // 부모 트랜잭션 커밋 후 실행
     @Transactional(propagation = Propagation.REQUIRES_NEW) // 새로운 트랜잭션에서 실행
     public void handleCommentInteractionEvent(CommentInteractionEvent event) {
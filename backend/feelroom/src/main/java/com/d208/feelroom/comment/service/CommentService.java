@@ -9,6 +9,8 @@ import com.d208.feelroom.comment.domain.repository.CommentSummaryRepository;
 import com.d208.feelroom.comment.dto.*;
 import com.d208.feelroom.comment.exception.CommentAccessDeniedException;
 import com.d208.feelroom.comment.exception.CommentNotFoundException;
+import com.d208.feelroom.global.util.KeysetCursor;
+import com.d208.feelroom.global.util.UuidUtils;
 import com.d208.feelroom.review.domain.entity.Review;
 import com.d208.feelroom.review.domain.repository.ReviewRepository;
 import com.d208.feelroom.review.exception.ReviewNotFoundException;
@@ -24,7 +26,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -43,6 +47,10 @@ public class CommentService {
     private final EventPublisher eventPublisher;
     private final ApplicationEventPublisher appEventPublisher;
     private final CommentSummaryRepository commentSummaryRepository; // CommentSummaryRepository 주입
+
+    private static final int MAX_CURSOR_PAGE_SIZE = 50; // 커서 조회 시 최대 페이지 크기
+    private static final int REPLY_PREVIEW_SIZE = 3;    // 커서 조회 시 부모 댓글당 대댓글 미리보기 개수
+
     /**
      * 새로운 댓글 또는 대댓글을 생성합니다.
      *
@@ -194,71 +202,171 @@ public class CommentService {
      */
     @Transactional(readOnly = true)
     public Page<CommentNodeDto> findCommentsByReview(UUID reviewId, Pageable pageable, Long userId) {
-        // 1. DB에서 리뷰의 모든 댓글을 한 번에 조회
-        List<Comment> allComments = commentRepository.findAllByReviewIdOrderByParentAndCreatedAt(reviewId);
+        // 1. 요청된 페이지의 최상위 댓글만 DB에서 페이징하여 조회
+        Pageable rootPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        Page<Comment> rootPage = commentRepository.findRootCommentsByReviewId(reviewId, rootPageable);
 
-        if (allComments.isEmpty()) {
-            return Page.empty(pageable);
+        if (rootPage.isEmpty()) {
+            return new PageImpl<>(Collections.emptyList(), pageable, rootPage.getTotalElements());
         }
 
-        // --- [수정] 좋아요 수 및 상태 조회를 위한 데이터 준비 ---
-        // 2. 조회된 모든 댓글의 ID 리스트 추출
-        List<UUID> allCommentIds = allComments.stream()
+        // 2. 해당 페이지의 최상위 댓글에 달린 대댓글만 한 번에 조회
+        List<UUID> rootIds = rootPage.getContent().stream()
                 .map(Comment::getCommentId)
                 .collect(Collectors.toList());
+        List<Comment> replies = commentRepository.findRepliesByParentIds(rootIds);
+
+        // 3. 현재 사용자가 좋아요 누른 댓글 ID Set 조회 (페이지 내 댓글 대상)
+        Set<UUID> likedCommentIds = findLikedCommentIds(userId, rootPage.getContent(), replies);
 
-        // 3. TODO: [성능 개선 필요] 각 댓글의 좋아요 수를 Map으로 조회합니다.
-        // 현재는 각 댓글 ID마다 COUNT 쿼리를 실행하여 N+1 문제가 발생할 수 있습니다.
-        // 추후 GROUP BY를 사용하는 단일 쿼리로 최적화하거나, comment_summary 테이블을 활용해야 합니다.
-        Map<UUID, Integer> likeCountMap = new HashMap<>();
-        for (UUID commentId : allCommentIds) {
-            likeCountMap.put(commentId, (int) commentLikeRepository.countByComment_CommentId(commentId));
+        // 4. 대댓글을 부모 댓글 기준으로 그룹핑
+        Map<UUID, List<CommentNodeDto>> repliesMap = new HashMap<>();
+        for (Comment reply : replies) {
+            UUID parentId = reply.getParentComment().getCommentId();
+            repliesMap.computeIfAbsent(parentId, k -> new ArrayList<>())
+                    .add(toCommentNode(reply, likedCommentIds));
         }
 
-        // 4. 현재 사용자가 좋아요 누른 댓글 ID Set 조회 (이 부분은 이미 최적화됨)
-        Set<UUID> likedCommentIds = (userId != null) ?
-                commentLikeRepository.findLikedCommentIdsByUser(userId, allCommentIds) :
-                Collections.emptySet();
-        // ----------------------------------------------------
+        // 5. 최상위 댓글 DTO 변환 및 계층 구조 조립
+        List<CommentNodeDto> rootComments = new ArrayList<>(rootPage.getNumberOfElements());
+        for (Comment root : rootPage.getContent()) {
+            CommentNodeDto dto = toCommentNode(root, likedCommentIds);
+            dto.setReplies(repliesMap.getOrDefault(root.getCommentId(), Collections.emptyList()));
+            rootComments.add(dto);
+        }
 
-        // 5. 모든 댓글을 DTO로 변환하고, 추가 정보를 주입
-        Map<UUID, CommentNodeDto> dtoMap = new HashMap<>();
-        for (Comment comment : allComments) {
-            CommentNodeDto dto = CommentNodeDto.from(comment);
+        return new PageImpl<>(rootComments, pageable, rootPage.getTotalElements());
+    }
 
-            // 좋아요 수 설정 (위에서 만든 likeCountMap에서 가져옴)
-            dto.setLikeCount(likeCountMap.getOrDefault(comment.getCommentId(), 0));
+    /**
+     * 특정 리뷰의 댓글 목록을 커서(키셋) 기반으로 조회합니다.
+     * 최상위 댓글은 한 페이지만, 대댓글은 부모당 미리보기 개수만큼만 조회하므로
+     * 메모리와 지연 시간이 스레드 전체 길이가 아닌 페이지 크기에 비례합니다.
+     *
+     * @param reviewId 리뷰 ID
+     * @param after    이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param size     페이지 당 최상위 댓글 수
+     * @param userId   현재 로그인한 사용자 ID (비로그인 시 null)
+     * @return 댓글 목록과 다음 페이지 커서
+     */
+    @Transactional(readOnly = true)
+    public CommentSliceResponseDto findCommentsByReviewCursor(UUID reviewId, String after, int size, Long userId) {
+        KeysetCursor cursor = KeysetCursor.parse(after);
+        Pageable limit = PageRequest.of(0, clampPageSize(size));
+
+        // 1. 커서 이후의 최상위 댓글 한 페이지 조회
+        Slice<Comment> rootSlice = (cursor == null)
+                ? commentRepository.findRootCommentSlice(reviewId, limit)
+                : commentRepository.findRootCommentSliceAfter(reviewId, cursor.createdAt(), cursor.uuidId(), limit);
+        List<Comment> roots = rootSlice.getContent();
+        if (roots.isEmpty()) {
+            return CommentSliceResponseDto.builder()
+                    .comments(Collections.emptyList())
+                    .hasNext(false)
+                    .build();
+        }
 
-            // 현재 사용자 좋아요 여부 설정
-            dto.setLiked(likedCommentIds.contains(comment.getCommentId()));
+        // 2. 부모당 (미리보기 개수 + 1)개의 대댓글만 조회 (+1은 '더보기' 여부 판단용)
+        List<UUID> rootIds = roots.stream().map(Comment::getCommentId).toList();
+        List<UUID> replyIds = commentRepository.findReplyIdsLimitedPerParent(rootIds, REPLY_PREVIEW_SIZE + 1).stream()
+                .map(UuidUtils::bytesToUUID)
+                .toList();
+        List<Comment> replies = replyIds.isEmpty() ? Collections.emptyList() : commentRepository.findRepliesByIds(replyIds);
 
-            dtoMap.put(comment.getCommentId(), dto);
-        }
+        Set<UUID> likedCommentIds = findLikedCommentIds(userId, roots, replies);
 
-        // 6. 계층 구조로 재조합
-        List<CommentNodeDto> rootComments = new ArrayList<>();
-        Map<UUID, List<CommentNodeDto>> repliesMap = new HashMap<>();
+        Map<UUID, List<Comment>> repliesByParent = new HashMap<>();
+        for (Comment reply : replies) {
+            repliesByParent.computeIfAbsent(reply.getParentComment().getCommentId(), k -> new ArrayList<>()).add(reply);
+        }
 
-        allComments.forEach(comment -> {
-            CommentNodeDto dto = dtoMap.get(comment.getCommentId());
-            if (comment.getParentComment() == null) {
-                rootComments.add(dto);
-            } else {
-                UUID parentId = comment.getParentComment().getCommentId();
-                repliesMap.computeIfAbsent(parentId, k -> new ArrayList<>()).add(dto);
+        // 3. 최상위 댓글 DTO 변환 및 대댓글 미리보기 조립
+        List<CommentNodeDto> nodes = new ArrayList<>(roots.size());
+        for (Comment root : roots) {
+            CommentNodeDto dto = toCommentNode(root, likedCommentIds);
+            List<Comment> children = repliesByParent.getOrDefault(root.getCommentId(), Collections.emptyList());
+            boolean hasMoreReplies = children.size() > REPLY_PREVIEW_SIZE;
+            List<Comment> preview = hasMoreReplies ? children.subList(0, REPLY_PREVIEW_SIZE) : children;
+
+            dto.setReplies(preview.stream().map(reply -> toCommentNode(reply, likedCommentIds)).toList());
+            dto.setHasMoreReplies(hasMoreReplies);
+            if (hasMoreReplies) {
+                dto.setNextReplyCursor(commentKey(preview.get(preview.size() - 1)).encode());
             }
-        });
+            nodes.add(dto);
+        }
 
-        rootComments.forEach(parentDto ->
-                parentDto.setReplies(repliesMap.getOrDefault(parentDto.getCommentId(), Collections.emptyList()))
-        );
+        String nextCursor = KeysetCursor.nextOf(rootSlice, CommentService::commentKey);
+        return CommentSliceResponseDto.builder()
+                .comments(nodes)
+                .nextCursor(nextCursor)
+                .hasNext(rootSlice.hasNext())
+                .build();
+    }
+
+    /**
+     * 특정 댓글의 대댓글을 커서(키셋) 기반으로 조회합니다. ('대댓글 더보기')
+     *
+     * @param parentCommentId 부모(최상위) 댓글 ID
+     * @param after           이전 응답의 nextReplyCursor 또는 nextCursor
+     * @param size            페이지 당 대댓글 수
+     * @param userId          현재 로그인한 사용자 ID (비로그인 시 null)
+     * @return 대댓글 목록과 다음 페이지 커서
+     */
+    @Transactional(readOnly = true)
+    public CommentSliceResponseDto findRepliesByCursor(UUID parentCommentId, String after, int size, Long userId) {
+        KeysetCursor cursor = KeysetCursor.parse(after);
+        Pageable limit = PageRequest.of(0, clampPageSize(size));
+
+        Slice<Comment> replySlice = (cursor == null)
+                ? commentRepository.findReplySlice(parentCommentId, limit)
+                : commentRepository.findReplySliceAfter(parentCommentId, cursor.createdAt(), cursor.uuidId(), limit);
+        List<Comment> replies = replySlice.getContent();
+
+        Set<UUID> likedCommentIds = findLikedCommentIds(userId, Collections.emptyList(), replies);
+        List<CommentNodeDto> nodes = replies.stream()
+                .map(reply -> toCommentNode(reply, likedCommentIds))
+                .toList();
+
+        String nextCursor = KeysetCursor.nextOf(replySlice, CommentService::commentKey);
+        return CommentSliceResponseDto.builder()
+                .comments(nodes)
+                .nextCursor(nextCursor)
+                .hasNext(replySlice.hasNext())
+                .build();
+    }
+
+    private static KeysetCursor commentKey(Comment comment) {
+        return KeysetCursor.of(comment.getCreatedAt(), comment.getCommentId());
+    }
 
-        // 7. 수동 페이징
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), rootComments.size());
-        List<CommentNodeDto> pagedContent = (start >= rootComments.size()) ? Collections.emptyList() : rootComments.subList(start, end);
+    private int clampPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+    }
 
-        return new PageImpl<>(pagedContent, pageable, rootComments.size());
+    /**
+     * 현재 사용자가 좋아요 누른 댓글 ID를 주어진 댓글들 범위 내에서 한 번의 쿼리로 조회합니다.
+     */
+    private Set<UUID> findLikedCommentIds(Long userId, List<Comment> roots, List<Comment> replies) {
+        if (userId == null || (roots.isEmpty() && replies.isEmpty())) {
+            return Collections.emptySet();
+        }
+        List<UUID> commentIds = new ArrayList<>(roots.size() + replies.size());
+        roots.forEach(comment -> commentIds.add(comment.getCommentId()));
+        replies.forEach(comment -> commentIds.add(comment.getCommentId()));
+        return commentLikeRepository.findLikedCommentIdsByUser(userId, commentIds);
+    }
+
+    /**
+     * Comment 엔티티를 CommentNodeDto로 변환합니다.
+     * 좋아요 수는 fetch join된 CommentSummary에서 가져옵니다. (COUNT 쿼리 없음)
+     */
+    private CommentNodeDto toCommentNode(Comment comment, Set<UUID> likedCommentIds) {
+        CommentNodeDto dto = CommentNodeDto.from(comment);
+        CommentSummary summary = comment.getCommentSummary();
+        dto.setLikeCount(summary != null ? summary.getCommentLikeCount() : 0);
+        dto.setLiked(likedCommentIds.contains(comment.getCommentId()));
+        return dto;
     }
 
     /**
@@ -0,0 +1,290 @@
+package com.d208.feelroom.global.buffer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 같은 키(리뷰 ID, 영화 ID 등)에 대한 카운터 증감량(delta)을 메모리에서 합산했다가
+ * 주기적으로 한 번에 기록하는 write-behind 버퍼입니다.
+ *
+ * - 키 해시 기준으로 여러 stripe(ConcurrentHashMap)에 나누어 저장하여 쓰기 경합을 줄입니다.
+ * - flushIntervalMs 마다, 또는 대기 중인 키가 maxEntries 이상이 되면 flusher로 한 번에 전달합니다.
+ * - flusher가 배치 전체에 실패하면 키 하나씩 다시 기록하여, 실패 원인이 된 키(삭제된 리뷰의 FK 위반 등)만 골라냅니다.
+ *   실패한 키의 delta는 버퍼에 되돌려 다음 주기에 재시도하고, maxAttempts 번 실패하면 로그를 남기고 버립니다.
+ * - 모든 키가 실패하면(DB 장애 등) 다음 flush를 지수적으로 미루어, 장애 중에 재시도 횟수를 빠르게 소진하지 않도록 합니다.
+ * - close() 시 남은 delta를 모두 flush 합니다.
+ *
+ * @param <K> 합산 기준 키 타입
+ */
+@Slf4j
+public class CoalescingWriteBuffer<K> implements AutoCloseable {
+
+    private static final int ISOLATION_GIVE_UP = 3; // 한 키도 성공하지 못한 채 연속 실패하면 키별 재기록을 중단 (장애로 판단)
+    private static final long MAX_BACKOFF_MS = 30_000;
+
+    private final String name;
+    private final int width;
+    private final int maxEntries;
+    private final int maxAttempts;
+    private final long flushIntervalMs;
+    private final ConcurrentHashMap<K, long[]>[] stripes;
+    private final Consumer<Map<K, long[]>> flusher;
+    private final ScheduledExecutorService scheduler;
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    // 아래 상태는 flushLock 안에서만 접근
+    private final Map<K, Integer> failedAttempts = new HashMap<>(); // 키별 연속 실패 횟수
+    private int consecutiveFailedFlushes = 0;
+    private long retryNotBeforeNanos = 0;
+
+    private final Timer flushTimer;
+    private final Counter flushedEntries;
+    private final Counter flushFailures;
+    private final Counter droppedEntries;
+
+    /**
+     * @param name            버퍼 이름 (메트릭 태그, 스레드 이름에 사용)
+     * @param width           키당 delta 개수 (예: 좋아요/댓글 → 2)
+     * @param stripeCount     stripe 개수 (2의 거듭제곱)
+     * @param flushIntervalMs 주기적 flush 간격 (ms)
+     * @param maxEntries      이 개수 이상의 키가 쌓이면 주기를 기다리지 않고 flush
+     * @param maxAttempts     한 키의 delta를 버리기 전까지 기록을 시도하는 횟수
+     * @param flusher         합산된 delta를 DB에 기록하는 함수 (다중 행 UPSERT 등)
+     * @param meterRegistry   메트릭 레지스트리
+     */
+    @SuppressWarnings("unchecked")
+    public CoalescingWriteBuffer(String name, int width, int stripeCount, long flushIntervalMs, int maxEntries,
+                                 int maxAttempts, Consumer<Map<K, long[]>> flusher, MeterRegistry meterRegistry) {
+        if (Integer.bitCount(stripeCount) != 1) {
+            throw new IllegalArgumentException("stripeCount must be a power of two: " + stripeCount);
+        }
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be positive: " + maxAttempts);
+        }
+        this.name = name;
+        this.width = width;
+        this.maxEntries = maxEntries;
+        this.maxAttempts = maxAttempts;
+        this.flushIntervalMs = flushIntervalMs;
+        this.flusher = flusher;
+        this.stripes = new ConcurrentHashMap[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+        }
+
+        Gauge.builder("write.buffer.depth", this, CoalescingWriteBuffer::depth)
+                .description("flush 대기 중인 키 수")
+                .tag("buffer", name)
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("write.buffer.flush.latency").tag("buffer", name).register(meterRegistry);
+        this.flushedEntries = Counter.builder("write.buffer.flushed.entries").tag("buffer", name).register(meterRegistry);
+        this.flushFailures = Counter.builder("write.buffer.flush.failures").tag("buffer", name).register(meterRegistry);
+        this.droppedEntries = Counter.builder("write.buffer.dropped.entries")
+                .description("재시도 횟수를 넘겨 버린 키 수")
+                .tag("buffer", name)
+                .register(meterRegistry);
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory(name + "-flush-"));
+        this.scheduler.scheduleWithFixedDelay(this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 키에 대한 delta를 버퍼에 합산합니다.
+     */
+    public void add(K key, long... delta) {
+        if (delta.length != width) {
+            throw new IllegalArgumentException("delta length must be " + width + " but was " + delta.length);
+        }
+        stripeFor(key).merge(key, delta.clone(), CoalescingWriteBuffer::sum);
+
+        if (closed.get()) {
+            flush(); // 종료 이후 유입된 delta는 즉시 기록
+        } else if (depth() >= maxEntries && flushRequested.compareAndSet(false, true)) {
+            scheduler.execute(this::flush);
+        }
+    }
+
+    /**
+     * 버퍼에 쌓인 delta를 꺼내 flusher로 한 번에 기록합니다.
+     * 직전 flush가 모두 실패해 대기 중이면(backoff) 건너뜁니다. (close() 이후는 제외)
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushRequested.set(false);
+            if (!closed.get() && System.nanoTime() - retryNotBeforeNanos < 0) {
+                return;
+            }
+            Map<K, long[]> batch = drain();
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            long start = System.nanoTime();
+            try {
+                flusher.accept(batch);
+                flushedEntries.increment(batch.size());
+                batch.keySet().forEach(failedAttempts::remove);
+                consecutiveFailedFlushes = 0;
+            } catch (Exception e) {
+                flushFailures.increment();
+                if (batch.size() == 1) {
+                    batch.forEach((key, delta) -> requeue(key, delta, e));
+                    backOff();
+                } else {
+                    log.warn("[{}] {}건 flush 실패, 키별로 다시 기록합니다: {}", name, batch.size(), e.getMessage());
+                    flushOneByOne(batch);
+                }
+            } finally {
+                flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * flush 대기 중인 키 수
+     */
+    public int depth() {
+        int depth = 0;
+        for (ConcurrentHashMap<K, long[]> stripe : stripes) {
+            depth += stripe.size();
+        }
+        return depth;
+    }
+
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+        log.info("[{}] write buffer closed. remaining depth={}", name, depth());
+    }
+
+    /**
+     * 배치 기록이 실패했을 때 키 하나씩 기록하여 실패한 키만 버퍼에 되돌립니다.
+     * 한 키도 성공하지 못한 채 ISOLATION_GIVE_UP 번 연속 실패하면 장애로 보고 나머지는 시도하지 않고 되돌린 뒤 다음 flush를 미룹니다.
+     */
+    private void flushOneByOne(Map<K, long[]> batch) {
+        int written = 0;
+        int consecutiveFailures = 0;
+        for (Map.Entry<K, long[]> entry : batch.entrySet()) {
+            K key = entry.getKey();
+            long[] delta = entry.getValue();
+            if (written == 0 && consecutiveFailures >= ISOLATION_GIVE_UP) {
+                requeue(key, delta, null);
+                continue;
+            }
+            try {
+                flusher.accept(Collections.singletonMap(key, delta));
+                flushedEntries.increment();
+                failedAttempts.remove(key);
+                written++;
+                consecutiveFailures = 0;
+            } catch (Exception e) {
+                consecutiveFailures++;
+                requeue(key, delta, e);
+            }
+        }
+
+        if (written > 0) {
+            consecutiveFailedFlushes = 0;
+        } else {
+            backOff();
+        }
+    }
+
+    /**
+     * 한 키도 기록하지 못한 flush가 이어지면 다음 flush를 flushIntervalMs * 2^n (최대 MAX_BACKOFF_MS) 뒤로 미룹니다.
+     */
+    private void backOff() {
+        consecutiveFailedFlushes++;
+        long backoffMs = Math.min(flushIntervalMs << Math.min(consecutiveFailedFlushes, 20), MAX_BACKOFF_MS);
+        retryNotBeforeNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(backoffMs);
+        log.error("[{}] flush가 {}회 연속 실패하여 {}ms 후 재시도합니다. depth={}", name, consecutiveFailedFlushes, backoffMs, depth());
+    }
+
+    /**
+     * 기록하지 못한 delta를 버퍼에 되돌립니다. maxAttempts 번 실패한 키는 다시 쌓지 않고 버립니다.
+     */
+    private void requeue(K key, long[] delta, Exception cause) {
+        int attempts = failedAttempts.merge(key, 1, Integer::sum);
+        if (attempts >= maxAttempts) {
+            failedAttempts.remove(key);
+            droppedEntries.increment();
+            log.error("[{}] {}회 기록에 실패한 delta를 버립니다: key={}, delta={}", name, attempts, key, Arrays.toString(delta), cause);
+            return;
+        }
+        stripeFor(key).merge(key, delta, CoalescingWriteBuffer::sum);
+    }
+
+    /**
+     * 각 키를 원자적으로 제거하며 꺼냅니다. 제거 이후 유입되는 delta는 새 엔트리로 쌓이므로 유실되지 않습니다.
+     * 합산 결과가 모두 0인 키(예: 좋아요 후 취소)는 기록하지 않습니다.
+     */
+    private Map<K, long[]> drain() {
+        Map<K, long[]> batch = new HashMap<>();
+        for (ConcurrentHashMap<K, long[]> stripe : stripes) {
+            for (K key : stripe.keySet()) {
+                long[] delta = stripe.remove(key);
+                if (delta == null) {
+                    continue;
+                }
+                if (isZero(delta)) {
+                    failedAttempts.remove(key); // 상쇄되어 더 기록할 것이 없음
+                } else {
+                    batch.put(key, delta);
+                }
+            }
+        }
+        return batch;
+    }
+
+    private ConcurrentHashMap<K, long[]> stripeFor(K key) {
+        int h = key.hashCode();
+        return stripes[(h ^ (h >>> 16)) & (stripes.length - 1)];
+    }
+
+    private static long[] sum(long[] a, long[] b) {
+        long[] result = a.clone();
+        for (int i = 0; i < result.length; i++) {
+            result[i] += b[i];
+        }
+        return result;
+    }
+
+    private static boolean isZero(long[] delta) {
+        for (long value : delta) {
+            if (value != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
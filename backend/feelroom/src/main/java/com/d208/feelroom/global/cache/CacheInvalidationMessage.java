@@ -0,0 +1,13 @@
+package com.d208.feelroom.global.cache;
+
+import java.util.List;
+
+/**
+ * 노드 간 L1(로컬) 캐시 무효화를 위해 Redis pub/sub으로 전파되는 메시지
+ *
+ * @param origin    메시지를 발행한 노드 ID (자기 자신이 보낸 메시지는 무시)
+ * @param cacheName 캐시 이름
+ * @param keys      무효화할 키 목록 (null이면 캐시 전체 무효화)
+ */
+public record CacheInvalidationMessage(String origin, String cacheName, List<String> keys) {
+}
@@ -0,0 +1,84 @@
+package com.d208.feelroom.global.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 캐시 무효화를 트랜잭션 단위로 모아서 커밋 이후 한 번에 수행합니다.
+ *
+ * - 트랜잭션 안에서 호출되면 (캐시 이름, 키)를 모아 두었다가 커밋 후 중복 없이 무효화합니다. 롤백되면 버립니다.
+ * - 트랜잭션 밖에서 호출되면 즉시 무효화합니다.
+ * - 2단 캐시는 캐시 이름별로 다른 노드에 무효화 메시지를 한 번만 전파합니다.
+ *
+ * 커밋 이후에 무효화하므로, 커밋 전 다른 요청이 옛 값을 다시 캐시에 채워 넣는 경쟁이 생기지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidator {
+
+    private final CacheManager cacheManager;
+
+    public void invalidate(String cacheName, Object key) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(Map.of(cacheName, Set.of(key)));
+            return;
+        }
+
+        PendingInvalidations pending = (PendingInvalidations) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingInvalidations();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.keysByCache.computeIfAbsent(cacheName, name -> new LinkedHashSet<>()).add(key);
+    }
+
+    private void evict(Map<String, Set<Object>> keysByCache) {
+        keysByCache.forEach((cacheName, keys) -> {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache == null) {
+                return;
+            }
+            if (cache instanceof TwoTierCache twoTierCache) {
+                twoTierCache.evictAll(keys);
+            } else {
+                keys.forEach(cache::evict);
+            }
+            log.info("[Cache] Invalidated {} entries from cache {}", keys.size(), cacheName);
+        });
+    }
+
+    /**
+     * 현재 트랜잭션에서 모인 무효화 대상
+     */
+    private class PendingInvalidations implements TransactionSynchronization {
+
+        private final Map<String, Set<Object>> keysByCache = new LinkedHashMap<>();
+
+        @Override
+        public void afterCommit() {
+            try {
+                evict(keysByCache);
+            } catch (Exception e) {
+                // 무효화 실패가 이미 커밋된 비즈니스 로직을 깨뜨리지 않도록 로그만 남깁니다.
+                log.error("[Cache] Failed to invalidate caches after commit: {}", keysByCache.keySet(), e);
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(CacheInvalidator.this);
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.d208.feelroom.global.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 프로세스 내부 Caffeine(L1) + Redis(L2) 2단 캐시
+ *
+ * - 조회: L1 -> L2 -> 원본(loader) 순서로 찾고, 아래 단계에서 찾은 값은 위 단계에 채워 넣습니다.
+ * - 무효화: L2와 로컬 L1을 지운 뒤 다른 노드의 L1도 지우도록 무효화 메시지를 발행합니다.
+ * - 단계별 hit/miss 카운터와 로딩 시간 타이머를 기록합니다. (cache.tier.requests, cache.tier.load)
+ *
+ * L1 키는 RedisCache와 동일하게 문자열로 변환하여 사용하므로, 다른 노드에서 전달된 키로도 무효화할 수 있습니다.
+ * 무효화마다 세대 번호(invalidations)를 올리고, L2에서 읽어 L1에 채우는 동안 세대가 바뀌었으면 채운 값을 되돌립니다.
+ * (무효화 이전에 읽은 옛 값이 무효화 이후 L1에 남아 nearCacheTtl 동안 제공되는 경쟁 방지)
+ */
+public class TwoTierCache implements org.springframework.cache.Cache {
+
+    private final String name;
+    private final Cache<String, ValueWrapper> localCache;
+    private final org.springframework.cache.Cache redisCache;
+    private final Consumer<CacheInvalidationMessage> invalidationPublisher;
+    private final String nodeId;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final Counter l1Hits;
+    private final Counter l1Misses;
+    private final Counter l2Hits;
+    private final Counter l2Misses;
+    private final Timer l2LoadTimer;
+    private final Timer sourceLoadTimer;
+
+    public TwoTierCache(String name,
+                        Cache<String, ValueWrapper> localCache,
+                        org.springframework.cache.Cache redisCache,
+                        Consumer<CacheInvalidationMessage> invalidationPublisher,
+                        String nodeId,
+                        MeterRegistry meterRegistry) {
+        this.name = name;
+        this.localCache = localCache;
+        this.redisCache = redisCache;
+        this.invalidationPublisher = invalidationPublisher;
+        this.nodeId = nodeId;
+
+        this.l1Hits = requestCounter(meterRegistry, "l1", "hit");
+        this.l1Misses = requestCounter(meterRegistry, "l1", "miss");
+        this.l2Hits = requestCounter(meterRegistry, "l2", "hit");
+        this.l2Misses = requestCounter(meterRegistry, "l2", "miss");
+        this.l2LoadTimer = loadTimer(meterRegistry, "l2");
+        this.sourceLoadTimer = loadTimer(meterRegistry, "source");
+        meterRegistry.gauge("cache.tier.l1.size", Tags.of("cache", name),
+                localCache, Cache::estimatedSize);
+    }
+
+    private Counter requestCounter(MeterRegistry registry, String tier, String result) {
+        return Counter.builder("cache.tier.requests")
+                .description("Two-tier cache lookups by tier and result")
+                .tags("cache", name, "tier", tier, "result", result)
+                .register(registry);
+    }
+
+    private Timer loadTimer(MeterRegistry registry, String tier) {
+        return Timer.builder("cache.tier.load")
+                .description("Time spent loading a value from the next tier (l2 = Redis, source = DB)")
+                .tags("cache", name, "tier", tier)
+                .register(registry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localCache;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = toLocalKey(key);
+        ValueWrapper local = localCache.getIfPresent(localKey);
+        if (local != null) {
+            l1Hits.increment();
+            return local;
+        }
+        l1Misses.increment();
+
+        long generation = invalidations.get();
+        ValueWrapper remote = l2LoadTimer.record(() -> redisCache.get(key));
+        if (remote == null) {
+            l2Misses.increment();
+            return null;
+        }
+        l2Hits.increment();
+        // 역직렬화된 값을 그대로 L1에 보관하여 다음 조회부터는 네트워크/역직렬화 비용이 없도록 합니다.
+        ValueWrapper wrapper = new SimpleValueWrapper(remote.get());
+        localCache.put(localKey, wrapper);
+        if (invalidations.get() != generation) {
+            // 읽는 사이 무효화가 있었으면 옛 값일 수 있으므로 L1에서 되돌림 (그사이 다른 스레드가 넣은 값은 유지)
+            localCache.asMap().remove(localKey, wrapper);
+        }
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = (wrapper != null ? wrapper.get() : null);
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    /**
+     * @Cacheable(sync = true)에서 사용됩니다. 같은 노드에서 같은 키에 대한 원본 로딩은 한 번만 수행됩니다.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+
+        ValueWrapper loaded = localCache.get(toLocalKey(key), k -> {
+            try {
+                Object value = sourceLoadTimer.recordCallable(valueLoader);
+                redisCache.put(key, value);
+                return new SimpleValueWrapper(value);
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+        });
+        return (T) loaded.get();
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        redisCache.put(key, value);
+        localCache.put(toLocalKey(key), new SimpleValueWrapper(value));
+    }
+
+    @Override
+    public void evict(Object key) {
+        redisCache.evict(key);
+        String localKey = toLocalKey(key);
+        invalidations.incrementAndGet();
+        localCache.invalidate(localKey);
+        // List.of()는 Jackson 타입 정보로 역직렬화할 수 없으므로 ArrayList 사용
+        invalidationPublisher.accept(new CacheInvalidationMessage(nodeId, name, new ArrayList<>(List.of(localKey))));
+    }
+
+    /**
+     * 여러 키를 한 번에 무효화합니다. 다른 노드로는 무효화 메시지 하나만 발행합니다.
+     */
+    public void evictAll(Collection<?> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        List<String> localKeys = new ArrayList<>(keys.size());
+        for (Object key : keys) {
+            redisCache.evict(key);
+            localKeys.add(toLocalKey(key));
+        }
+        invalidations.incrementAndGet();
+        localCache.invalidateAll(localKeys);
+        invalidationPublisher.accept(new CacheInvalidationMessage(nodeId, name, localKeys));
+    }
+
+    @Override
+    public void clear() {
+        redisCache.clear();
+        invalidations.incrementAndGet();
+        localCache.invalidateAll();
+        invalidationPublisher.accept(new CacheInvalidationMessage(nodeId, name, null));
+    }
+
+    /**
+     * 다른 노드에서 전달된 무효화 메시지를 로컬 L1에만 반영합니다. (L2는 이미 발행한 노드가 지웠음)
+     */
+    void invalidateLocal(List<String> localKeys) {
+        invalidations.incrementAndGet();
+        if (localKeys == null) {
+            localCache.invalidateAll();
+        } else {
+            localCache.invalidateAll(localKeys);
+        }
+    }
+
+    private String toLocalKey(Object key) {
+        return String.valueOf(key);
+    }
+}
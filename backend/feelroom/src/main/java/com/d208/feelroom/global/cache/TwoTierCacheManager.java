@@ -0,0 +1,111 @@
+package com.d208.feelroom.global.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 지정된 캐시 이름에 대해서만 Caffeine L1을 앞단에 두는 CacheManager
+ *
+ * - nearCacheNames에 없는 캐시는 기존 RedisCacheManager의 캐시를 그대로 반환합니다.
+ * - Redis pub/sub 채널(INVALIDATION_CHANNEL)로 무효화 메시지를 주고받아 모든 노드의 L1을 일관되게 유지합니다.
+ */
+@Slf4j
+public class TwoTierCacheManager implements CacheManager, MessageListener, InitializingBean {
+
+    public static final String INVALIDATION_CHANNEL = "cache:invalidation";
+
+    private final CacheManager redisCacheManager;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Map<String, Long> nearCacheMaxSizes;
+    private final Duration nearCacheTtl;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, TwoTierCache> twoTierCaches = new ConcurrentHashMap<>();
+
+    /**
+     * @param nearCacheMaxSizes L1을 적용할 캐시 이름별 최대 엔트리 수
+     * @param nearCacheTtl      L1 엔트리 최대 보관 시간 (무효화 메시지를 놓친 경우의 상한)
+     */
+    public TwoTierCacheManager(CacheManager redisCacheManager,
+                               RedisTemplate<String, Object> redisTemplate,
+                               MeterRegistry meterRegistry,
+                               RedisMessageListenerContainer listenerContainer,
+                               Map<String, Long> nearCacheMaxSizes,
+                               Duration nearCacheTtl) {
+        this.redisCacheManager = redisCacheManager;
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.listenerContainer = listenerContainer;
+        this.nearCacheMaxSizes = nearCacheMaxSizes;
+        this.nearCacheTtl = nearCacheTtl;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Long maxSize = nearCacheMaxSizes.get(name);
+        if (maxSize == null) {
+            return redisCacheManager.getCache(name);
+        }
+        return twoTierCaches.computeIfAbsent(name, cacheName -> new TwoTierCache(
+                cacheName,
+                Caffeine.newBuilder()
+                        .maximumSize(maxSize)
+                        .expireAfterWrite(nearCacheTtl)
+                        .build(),
+                redisCacheManager.getCache(cacheName),
+                this::publishInvalidation,
+                nodeId,
+                meterRegistry));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return redisCacheManager.getCacheNames();
+    }
+
+    private void publishInvalidation(CacheInvalidationMessage message) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, message);
+        } catch (Exception e) {
+            // 전파에 실패해도 다른 노드의 L1은 nearCacheTtl 이후 만료됩니다.
+            log.error("[Cache] Failed to publish invalidation for cache {} keys {}", message.cacheName(), message.keys(), e);
+        }
+    }
+
+    /**
+     * 다른 노드가 발행한 무효화 메시지를 수신하여 로컬 L1에서 제거합니다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Object payload = redisTemplate.getValueSerializer().deserialize(message.getBody());
+        if (!(payload instanceof CacheInvalidationMessage invalidation) || nodeId.equals(invalidation.origin())) {
+            return;
+        }
+        TwoTierCache cache = twoTierCaches.get(invalidation.cacheName());
+        if (cache != null) {
+            cache.invalidateLocal(invalidation.keys());
+            log.debug("[Cache] Invalidated L1 entries {}::{} from node {}", invalidation.cacheName(), invalidation.keys(), invalidation.origin());
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.d208.feelroom.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * AI(FastAPI) 서버 호출 설정 (application.yml의 ai-client.*)
+ * 커넥션 풀/타임아웃은 전체 공통, 서킷 브레이커/벌크헤드/응답 캐시는 엔드포인트별로 설정합니다.
+ * 설정이 없는 엔드포인트는 Endpoint의 기본값을 사용합니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ai-client")
+public class AiClientProperties {
+
+    private int maxConnections = 50;             // 커넥션 풀 최대 크기
+    private long pendingAcquireTimeoutMs = 500;  // 풀에서 커넥션을 기다리는 최대 시간
+    private int connectTimeoutMs = 1000;         // TCP 연결 타임아웃
+    private long responseTimeoutMs = 3000;       // 응답 대기 타임아웃
+
+    private Map<String, Endpoint> endpoints = new HashMap<>();
+
+    public Endpoint get(String endpoint) {
+        return endpoints.getOrDefault(endpoint, new Endpoint());
+    }
+
+    @Getter
+    @Setter
+    public static class Endpoint {
+        private int maxConcurrent = 20;        // 벌크헤드: 동시에 대기할 수 있는 요청 수 (초과 시 즉시 fallback)
+        private int failureThreshold = 5;      // 연속 실패가 이 횟수에 도달하면 서킷 OPEN
+        private long openDurationMs = 10000;   // OPEN 유지 시간 (이후 한 건만 시험 호출)
+        private long cacheTtlMs = 0;           // 요청 본문 기준 응답 캐시 TTL (0이면 캐시 안 함)
+        private long cacheMaxSize = 1000;      // 응답 캐시 최대 엔트리 수
+    }
+}
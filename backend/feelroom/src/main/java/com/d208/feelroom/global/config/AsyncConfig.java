@@ -0,0 +1,125 @@
+package com.d208.feelroom.global.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @Async 리스너 그룹별 전용 스레드 풀 설정
+ *
+ * - 그룹마다 크기와 큐 길이가 제한된 풀을 사용하여, 부하 급증 시 비동기 작업이 무한정 쌓이지 않도록 합니다.
+ * - 큐가 가득 차면 설정된 거절 정책(기본: CALLER_RUNS)으로 backpressure를 겁니다.
+ * - 활성 스레드 수, 큐 깊이, 작업 대기/처리 시간, 거절 횟수를 Actuator 메트릭(async.executor.*)으로 노출합니다.
+ * - 기본 풀은 AsyncConfigurer로 등록하므로, 'taskExecutor'/'applicationTaskExecutor' 이름을 쓰지 않아
+ *   Spring Boot의 applicationTaskExecutor 자동 구성(WebFlux/MVC 비동기 처리 등에서 사용)이 그대로 유지됩니다.
+ */
+@Configuration
+@EnableConfigurationProperties(AsyncExecutorProperties.class)
+@RequiredArgsConstructor
+public class AsyncConfig implements AsyncConfigurer {
+
+    /** 이름을 지정하지 않은 @Async가 사용하는 기본 풀 (getAsyncExecutor로 등록) */
+    public static final String DEFAULT_EXECUTOR = "defaultAsyncExecutor";
+    /** 요약 테이블 갱신 (CommentSummaryUpdater 등) */
+    public static final String SUMMARY_EXECUTOR = "summaryExecutor";
+    /** 인기 점수 갱신 (ReviewPopularityEventListener) */
+    public static final String POPULARITY_EXECUTOR = "popularityExecutor";
+    /** 팔로잉 피드 타임라인 전파 (FeedTimelineEventListener) */
+    public static final String FEED_EXECUTOR = "feedExecutor";
+
+    private final AsyncExecutorProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Bean(name = DEFAULT_EXECUTOR)
+    public ThreadPoolTaskExecutor defaultAsyncExecutor() {
+        return createExecutor("default");
+    }
+
+    @Override
+    public Executor getAsyncExecutor() {
+        return defaultAsyncExecutor();
+    }
+
+    @Bean(name = SUMMARY_EXECUTOR)
+    public ThreadPoolTaskExecutor summaryExecutor() {
+        return createExecutor("summary");
+    }
+
+    @Bean(name = POPULARITY_EXECUTOR)
+    public ThreadPoolTaskExecutor popularityExecutor() {
+        return createExecutor("popularity");
+    }
+
+    @Bean(name = FEED_EXECUTOR)
+    public ThreadPoolTaskExecutor feedExecutor() {
+        return createExecutor("feed");
+    }
+
+    private ThreadPoolTaskExecutor createExecutor(String group) {
+        AsyncExecutorProperties.Pool pool = properties.get(group);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("async-" + group + "-");
+        executor.setCorePoolSize(pool.getCoreSize());
+        executor.setMaxPoolSize(pool.getMaxSize());
+        executor.setQueueCapacity(pool.getQueueCapacity());
+        executor.setRejectedExecutionHandler(countingHandler(group, pool.getRejectionPolicy().toHandler()));
+        executor.setTaskDecorator(timingDecorator(group));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(pool.getAwaitTerminationSeconds());
+
+        Gauge.builder("async.executor.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("작업을 실행 중인 스레드 수")
+                .tag("executor", group)
+                .register(meterRegistry);
+        Gauge.builder("async.executor.pool.size", executor, ThreadPoolTaskExecutor::getPoolSize)
+                .tag("executor", group)
+                .register(meterRegistry);
+        Gauge.builder("async.executor.queue.depth", executor, ThreadPoolTaskExecutor::getQueueSize)
+                .description("실행을 기다리는 작업 수")
+                .tag("executor", group)
+                .register(meterRegistry);
+        return executor;
+    }
+
+    /**
+     * 작업 제출 시점부터 실행 시작까지(대기)와 실행 시작부터 완료까지(처리) 시간을 기록합니다.
+     */
+    private TaskDecorator timingDecorator(String group) {
+        Timer waitTimer = Timer.builder("async.executor.task.wait").tag("executor", group).register(meterRegistry);
+        Timer runTimer = Timer.builder("async.executor.task.duration").tag("executor", group).register(meterRegistry);
+
+        return runnable -> {
+            long submittedAt = System.nanoTime();
+            return () -> {
+                long startedAt = System.nanoTime();
+                waitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                try {
+                    runnable.run();
+                } finally {
+                    runTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            };
+        };
+    }
+
+    private RejectedExecutionHandler countingHandler(String group, RejectedExecutionHandler delegate) {
+        Counter rejected = Counter.builder("async.executor.rejected").tag("executor", group).register(meterRegistry);
+        return (runnable, executor) -> {
+            rejected.increment();
+            delegate.rejectedExecution(runnable, executor);
+        };
+    }
+}
@@ -0,0 +1,55 @@
+package com.d208.feelroom.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * @Async 리스너 그룹별 스레드 풀 설정 (application.yml의 async.executors.*)
+ * 설정이 없는 그룹은 Pool의 기본값을 사용합니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "async")
+public class AsyncExecutorProperties {
+
+    private Map<String, Pool> executors = new HashMap<>();
+
+    public Pool get(String group) {
+        return executors.getOrDefault(group, new Pool());
+    }
+
+    @Getter
+    @Setter
+    public static class Pool {
+        private int coreSize = 2;
+        private int maxSize = 4;
+        private int queueCapacity = 500;
+        private int awaitTerminationSeconds = 30;
+        private RejectionPolicy rejectionPolicy = RejectionPolicy.CALLER_RUNS;
+    }
+
+    /**
+     * 큐가 가득 찼을 때의 처리 정책
+     */
+    public enum RejectionPolicy {
+        CALLER_RUNS,    // 호출한 스레드에서 직접 실행 (자연스러운 backpressure)
+        ABORT,          // TaskRejectedException 발생
+        DISCARD,        // 새 작업 버림
+        DISCARD_OLDEST; // 가장 오래된 대기 작업을 버리고 새 작업 추가
+
+        public RejectedExecutionHandler toHandler() {
+            return switch (this) {
+                case CALLER_RUNS -> new ThreadPoolExecutor.CallerRunsPolicy();
+                case ABORT -> new ThreadPoolExecutor.AbortPolicy();
+                case DISCARD -> new ThreadPoolExecutor.DiscardPolicy();
+                case DISCARD_OLDEST -> new ThreadPoolExecutor.DiscardOldestPolicy();
+            };
+        }
+    }
+}
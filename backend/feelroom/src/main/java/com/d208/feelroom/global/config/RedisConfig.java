@@ -1,5 +1,8 @@
 package com.d208.feelroom.global.config;
 
+import com.d208.feelroom.global.cache.TwoTierCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
@@ -8,6 +11,7 @@ import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -20,6 +24,15 @@ import java.util.Map;
 @EnableCaching
 public class RedisConfig {
 
+    public static final String MOVIE_STATIC_DETAILS_CACHE = "movieStaticDetails";
+    public static final String KEYWORD_SEARCH_CACHE = "keywordSearch";
+
+    @Value("${cache.near.movie-static-details.max-size:1000}")
+    private long movieStaticDetailsNearCacheSize;
+
+    @Value("${cache.near.ttl-ms:600000}")
+    private long nearCacheTtlMs; // L1 엔트리 최대 보관 시간 (기본 10분)
+
     /**
      * [역할 1] TokenBlacklistService에서 직접 사용할 RedisTemplate 설정
      * - Key는 String, Value는 JSON으로 직렬화됩니다.
@@ -43,7 +56,10 @@ public class RedisConfig {
      * - 캐시 이름별로 다른 유효 시간(TTL)을 적용합니다.
      */
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                     RedisTemplate<String, Object> redisTemplate,
+                                     MeterRegistry meterRegistry,
+                                     RedisMessageListenerContainer redisMessageListenerContainer) {
         // 모든 캐시에 공통으로 적용될 직렬화 설정
         RedisCacheConfiguration commonConfig = RedisCacheConfiguration.defaultCacheConfig()
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
@@ -52,14 +68,17 @@ public class RedisConfig {
         // 캐시 이름별로 개별 TTL 설정을 담을 Map
         Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
 
-        // "movie-details" 캐시는 1일(24시간) 유효
-        cacheConfigurations.put("movie-details", commonConfig.entryTtl(Duration.ofDays(1)));
+        // 영화 정적 정보는 변경 시 이벤트로 무효화되므로(MovieCacheInvalidationListener) 사실상 만료 없이 30일 유효
+        cacheConfigurations.put(MOVIE_STATIC_DETAILS_CACHE, commonConfig.entryTtl(Duration.ofDays(30)));
+
+        // 키워드 검색 결과(영화 ID 페이지)는 FastAPI 키워드 추출 결과에 따라 달라지므로 짧게 5분만 유지
+        cacheConfigurations.put(KEYWORD_SEARCH_CACHE, commonConfig.entryTtl(Duration.ofMinutes(5)));
 
         // "user-session" 또는 다른 짧은 유효시간이 필요한 캐시가 있다면 여기에 추가
         // cacheConfigurations.put("some-other-cache", commonConfig.entryTtl(Duration.ofMinutes(10)));
 
         // CacheManager 빌더를 사용하여 최종 설정 조합
-        return RedisCacheManager.builder(connectionFactory)
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
                 // 위 Map에 지정되지 않은 캐시의 기본 TTL은 30분으로 설정
                 .cacheDefaults(commonConfig.entryTtl(Duration.ofMinutes(30)))
 
@@ -67,5 +86,22 @@ public class RedisConfig {
                 .withInitialCacheConfigurations(cacheConfigurations)
 
                 .build();
+        redisCacheManager.afterPropertiesSet();
+
+        // 조회가 많은 캐시는 Redis(L2) 앞에 프로세스 내부 Caffeine(L1)을 둡니다.
+        Map<String, Long> nearCacheMaxSizes = Map.of(MOVIE_STATIC_DETAILS_CACHE, movieStaticDetailsNearCacheSize);
+        return new TwoTierCacheManager(redisCacheManager, redisTemplate, meterRegistry, redisMessageListenerContainer,
+                nearCacheMaxSizes, Duration.ofMillis(nearCacheTtlMs));
+    }
+
+    /**
+     * [역할 3] 노드 간 pub/sub 메시지를 수신하는 공용 리스너 컨테이너
+     * 채널을 구독하는 각 컴포넌트(L1 캐시 무효화, 토큰 블랙리스트, 영화 카드 장르 무효화, 자동완성 새 제목)가 초기화 시 직접 리스너를 등록합니다.
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
     }
 }
\ No newline at end of file
@@ -1,21 +1,50 @@
 package com.d208.feelroom.global.config;
 
+import io.netty.channel.ChannelOption;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
 
 @Configuration
+@EnableConfigurationProperties(AiClientProperties.class)
+@RequiredArgsConstructor
 public class WebClientConfig {
     @Value("${recommendation.api.base-url}")
     private String baseUrl;
 
+    private final AiClientProperties properties;
+
+    /**
+     * AI(FastAPI) 서버 공용 WebClient (키워드 검색, 추천)
+     * 크기가 제한된 커넥션 풀과 연결/응답 타임아웃을 걸어, AI 서버가 느려져도 요청이 무한정 묶이지 않도록 합니다.
+     * 직접 주입하지 말고 AiApiClient를 통해 호출하세요. (서킷 브레이커/벌크헤드/메트릭 적용)
+     */
     @Bean
-    public WebClient recommendationApiClient() {
+    public WebClient aiApiWebClient() {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("ai-api")
+                .maxConnections(properties.getMaxConnections())
+                .pendingAcquireTimeout(Duration.ofMillis(properties.getPendingAcquireTimeoutMs()))
+                .maxIdleTime(Duration.ofSeconds(30))
+                .evictInBackground(Duration.ofSeconds(60))
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, properties.getConnectTimeoutMs())
+                .responseTimeout(Duration.ofMillis(properties.getResponseTimeoutMs()));
+
         return WebClient.builder()
                 .baseUrl(baseUrl + "/api/v1")
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                 .build();
     }
@@ -0,0 +1,189 @@
+package com.d208.feelroom.global.infra;
+
+import com.d208.feelroom.global.config.AiClientProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * AI(FastAPI) 서버 공용 호출 클라이언트
+ *
+ * 엔드포인트별로 다음을 적용합니다. (설정: ai-client.endpoints.<endpoint>)
+ * - 서킷 브레이커: 연속 실패 시 일정 시간 호출을 끊고 즉시 fallback
+ * - 벌크헤드: 동시 호출 수 제한, 초과 시 대기하지 않고 즉시 fallback (요청 스레드가 AI 서버 뒤에 줄 서지 않도록)
+ * - 응답 캐시(선택): 요청 본문(JSON)을 키로 짧은 TTL 동안 재사용
+ * - 지연시간 히스토그램: ai.client.requests{endpoint, outcome}
+ *
+ * 실패/거절/타임아웃은 모두 빈 Mono로 끝나므로, 호출 측은 defaultIfEmpty 등으로 fallback 값을 정하면 됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AiApiClient {
+
+    public static final String KEYWORD_SEARCH = "keyword-search";
+    public static final String RECOMMEND_NEW_USER = "recommend-new-user";
+    public static final String RECOMMEND_USER = "recommend-user";
+    public static final String RECOMMEND_FEED = "recommend-feed";
+    public static final String RECOMMEND_USER_BATCH = "recommend-user-batch"; // 배치 전용 (요청 경로와 벌크헤드 분리)
+
+    private final WebClient aiApiWebClient;
+    private final AiClientProperties properties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, EndpointGuard> guards = new ConcurrentHashMap<>();
+    private final Map<String, Cache<String, Object>> responseCaches = new ConcurrentHashMap<>();
+
+    /**
+     * JSON 본문으로 POST 요청을 보냅니다.
+     *
+     * @param endpoint     설정/메트릭용 엔드포인트 이름 (KEYWORD_SEARCH 등)
+     * @param uri          base-url(/api/v1) 이후 경로
+     * @param body         요청 본문
+     * @param responseType 응답 타입
+     * @return 응답 (실패, 서킷 OPEN, 벌크헤드 초과 시 빈 Mono)
+     */
+    public <T> Mono<T> post(String endpoint, String uri, Object body, Class<T> responseType) {
+        return Mono.defer(() -> {
+            Cache<String, Object> cache = responseCache(endpoint);
+            String cacheKey = cache != null ? cacheKey(body) : null;
+            if (cacheKey != null) {
+                Object cached = cache.getIfPresent(cacheKey);
+                if (cached != null) {
+                    cacheCounter(endpoint, "hit").increment();
+                    return Mono.just(responseType.cast(cached));
+                }
+                cacheCounter(endpoint, "miss").increment();
+            }
+
+            // 허가는 구독 종료(완료/오류/취소)나 요청 구성 중 예외 어디서든 한 번만 반환
+            EndpointGuard guard = guard(endpoint);
+            return Mono.using(guard::tryAcquire, permit -> {
+                if (!permit.granted()) {
+                    rejectedCounter(endpoint, permit).increment();
+                    log.warn("AI 서버 호출 생략 ({}): endpoint={}", permit, endpoint);
+                    return Mono.<T>empty();
+                }
+                return call(endpoint, uri, body, responseType, guard, cache, cacheKey);
+            }, guard::release);
+        });
+    }
+
+    private <T> Mono<T> call(String endpoint, String uri, Object body, Class<T> responseType,
+                             EndpointGuard guard, Cache<String, Object> cache, String cacheKey) {
+        long start = System.nanoTime();
+        return aiApiWebClient.post()
+                .uri(uri)
+                .bodyValue(body)
+                .retrieve()
+                .bodyToMono(responseType)
+                // 풀 대기 + 연결 + 응답 전체에 대한 데드라인
+                .timeout(Duration.ofMillis(properties.getPendingAcquireTimeoutMs()
+                        + properties.getConnectTimeoutMs() + properties.getResponseTimeoutMs()))
+                .doOnSuccess(response -> {
+                    guard.onSuccess();
+                    record(endpoint, "success", start);
+                    if (cacheKey != null && response != null) {
+                        cache.put(cacheKey, response);
+                    }
+                })
+                .onErrorResume(e -> {
+                    if (isServerFailure(e)) {
+                        guard.onFailure();
+                    } else {
+                        guard.onSuccess(); // 4xx/역직렬화 오류: 서버는 응답했으므로 서킷에는 반영하지 않음
+                    }
+                    record(endpoint, e instanceof TimeoutException ? "timeout" : "error", start);
+                    log.error("AI 서버 통신 실패: endpoint={}, state={}, error={}", endpoint, guard.state(), e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * 서킷 브레이커 실패로 셀 오류인지 판단합니다. (5xx, 타임아웃, 연결/풀 대기 실패)
+     */
+    static boolean isServerFailure(Throwable e) {
+        if (e instanceof WebClientResponseException responseException) {
+            return responseException.getStatusCode().is5xxServerError();
+        }
+        return e instanceof TimeoutException || e instanceof WebClientRequestException;
+    }
+
+    private EndpointGuard guard(String endpoint) {
+        return guards.computeIfAbsent(endpoint, name -> {
+            EndpointGuard guard = new EndpointGuard(properties.get(name));
+            Gauge.builder("ai.client.circuit.state", guard, g -> g.state().ordinal())
+                    .description("서킷 상태 (0=CLOSED, 1=HALF_OPEN, 2=OPEN)")
+                    .tag("endpoint", name)
+                    .register(meterRegistry);
+            Gauge.builder("ai.client.bulkhead.available", guard, EndpointGuard::availablePermits)
+                    .description("벌크헤드 남은 동시 호출 수")
+                    .tag("endpoint", name)
+                    .register(meterRegistry);
+            return guard;
+        });
+    }
+
+    private Cache<String, Object> responseCache(String endpoint) {
+        AiClientProperties.Endpoint config = properties.get(endpoint);
+        if (config.getCacheTtlMs() <= 0) {
+            return null;
+        }
+        return responseCaches.computeIfAbsent(endpoint, name -> Caffeine.newBuilder()
+                .maximumSize(config.getCacheMaxSize())
+                .expireAfterWrite(config.getCacheTtlMs(), TimeUnit.MILLISECONDS)
+                .build());
+    }
+
+    private String cacheKey(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            return null; // 직렬화할 수 없는 본문은 캐시하지 않음
+        }
+    }
+
+    private void record(String endpoint, String outcome, long startNanos) {
+        Timer.builder("ai.client.requests")
+                .description("AI 서버 호출 지연시간")
+                .tag("endpoint", endpoint)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Counter rejectedCounter(String endpoint, EndpointGuard.Permit reason) {
+        return Counter.builder("ai.client.rejected")
+                .description("서킷 OPEN 또는 벌크헤드 초과로 호출하지 않은 요청 수")
+                .tag("endpoint", endpoint)
+                .tag("reason", reason.name().toLowerCase())
+                .register(meterRegistry);
+    }
+
+    private Counter cacheCounter(String endpoint, String result) {
+        return Counter.builder("ai.client.cache")
+                .tag("endpoint", endpoint)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
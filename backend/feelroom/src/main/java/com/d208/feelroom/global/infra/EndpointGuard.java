@@ -0,0 +1,108 @@
+package com.d208.feelroom.global.infra;
+
+import com.d208.feelroom.global.config.AiClientProperties;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 외부 엔드포인트 하나에 대한 서킷 브레이커 + 벌크헤드
+ *
+ * - CLOSED: 정상 호출. 연속 실패가 failureThreshold에 도달하면 OPEN
+ * - OPEN: openDurationMs 동안 호출하지 않고 즉시 거절
+ * - HALF_OPEN: OPEN 시간이 지나면 한 건만 시험 호출, 성공하면 CLOSED / 실패하면 다시 OPEN
+ * - 벌크헤드: 동시에 진행 중인 호출을 maxConcurrent개로 제한하고, 초과분은 기다리지 않고 즉시 거절
+ *
+ * 시험 호출 여부는 허가(PROBE)에 담기므로, 시험 호출이 결과 없이 취소되어도 release()에서 다음 시험 호출을 허용합니다.
+ */
+class EndpointGuard {
+
+    enum State { CLOSED, HALF_OPEN, OPEN }
+
+    enum Permit {
+        ACQUIRED, PROBE, CIRCUIT_OPEN, BULKHEAD_FULL;
+
+        boolean granted() {
+            return this == ACQUIRED || this == PROBE;
+        }
+    }
+
+    private final int failureThreshold;
+    private final long openDurationMs;
+    private final Semaphore bulkhead;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicBoolean probeInFlight = new AtomicBoolean();
+    private volatile long openedAt = 0; // 0이면 CLOSED
+
+    EndpointGuard(AiClientProperties.Endpoint config) {
+        this.failureThreshold = config.getFailureThreshold();
+        this.openDurationMs = config.getOpenDurationMs();
+        this.bulkhead = new Semaphore(config.getMaxConcurrent());
+    }
+
+    /**
+     * 호출 허가를 요청합니다. 허가(granted)를 받은 경우 호출 후 결과와 관계없이 release()를 한 번 호출해야 합니다.
+     */
+    Permit tryAcquire() {
+        State state = state();
+        if (state == State.OPEN) {
+            return Permit.CIRCUIT_OPEN;
+        }
+        boolean probe = state == State.HALF_OPEN;
+        if (probe && !probeInFlight.compareAndSet(false, true)) {
+            return Permit.CIRCUIT_OPEN;
+        }
+        if (!bulkhead.tryAcquire()) {
+            if (probe) {
+                probeInFlight.set(false);
+            }
+            return Permit.BULKHEAD_FULL;
+        }
+        return probe ? Permit.PROBE : Permit.ACQUIRED;
+    }
+
+    /**
+     * 허가를 반환합니다. 시험 호출이 성공/실패 기록 없이 끝났으면(취소 등) 다음 시험 호출을 허용합니다.
+     */
+    void release(Permit permit) {
+        if (!permit.granted()) {
+            return;
+        }
+        if (permit == Permit.PROBE) {
+            probeInFlight.set(false);
+        }
+        bulkhead.release();
+    }
+
+    void onSuccess() {
+        consecutiveFailures.set(0);
+        openedAt = 0;
+        probeInFlight.set(false);
+    }
+
+    void onFailure() {
+        if (openedAt != 0) {
+            // 시험 호출 실패: 다시 OPEN
+            openedAt = System.currentTimeMillis();
+            probeInFlight.set(false);
+            return;
+        }
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            openedAt = System.currentTimeMillis();
+        }
+    }
+
+    State state() {
+        long opened = openedAt;
+        if (opened == 0) {
+            return State.CLOSED;
+        }
+        return System.currentTimeMillis() - opened < openDurationMs ? State.OPEN : State.HALF_OPEN;
+    }
+
+    int availablePermits() {
+        return bulkhead.availablePermits();
+    }
+}
@@ -0,0 +1,67 @@
+package com.d208.feelroom.global.infra;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 여러 노드에서 같은 @Scheduled 작업이 동시에 실행되지 않도록 하는 Redis 잠금 (SET NX PX)
+ *
+ * - 잠금 값으로 실행마다 새 토큰을 쓰고, 해제는 토큰이 같을 때만 지웁니다. (TTL이 지나 다른 노드가 잡은 잠금을 지우지 않음)
+ * - TTL은 작업이 비정상 종료되었을 때 잠금이 풀리는 상한이므로 작업의 최대 소요 시간보다 길게 잡습니다.
+ * - Redis 오류로 잠금을 확인할 수 없으면 잡지 못한 것으로 봅니다. (다음 주기에 다시 시도)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisJobLock {
+
+    private static final String KEY_PREFIX = "lock:";
+
+    // KEYS[1]=잠금 키, ARGV[1]=토큰 → 토큰이 같을 때만 삭제
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    /**
+     * 잠금을 시도합니다.
+     *
+     * @param name 작업 이름 (키는 lock:{name})
+     * @param ttl  잠금 최대 보유 시간
+     * @return 잡았으면 해제에 쓸 토큰, 다른 노드가 보유 중이면 empty
+     */
+    public Optional<String> tryAcquire(String name, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + name, token, ttl))) {
+                return Optional.of(token);
+            }
+        } catch (Exception e) {
+            log.error("[Redis] Failed to acquire job lock {}", name, e);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * tryAcquire로 잡은 잠금을 해제합니다. (실패해도 TTL 이후 풀림)
+     */
+    public void release(String name, String token) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(KEY_PREFIX + name), token);
+        } catch (Exception e) {
+            log.error("[Redis] Failed to release job lock {}", name, e);
+        }
+    }
+}
@@ -19,6 +19,8 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import com.d208.feelroom.global.security.filter.JwtAuthenticationFilter;
+import com.d208.feelroom.global.security.filter.JwtErrorResponseWriter;
+import com.d208.feelroom.global.security.service.JwtPrincipalCache;
 import com.d208.feelroom.global.security.service.UserDetailsServiceImpl;
 import com.d208.feelroom.global.security.util.JwtUtil;
 import com.d208.feelroom.user.service.TokenBlacklistService;
@@ -34,6 +36,8 @@ public class SecurityConfig {
 	private final JwtUtil jwtUtil;
 	private final UserDetailsServiceImpl userDetailsService;
 	private final TokenBlacklistService tokenBlacklistService;
+	private final JwtPrincipalCache jwtPrincipalCache;
+	private final JwtErrorResponseWriter jwtErrorResponseWriter;
 	private final PasswordEncoder passwordEncoder;
 
 	// Swagger UI 접근을 위한 경로 목록
@@ -43,7 +47,8 @@ public class SecurityConfig {
 	// 필터를 Bean으로 등록하면 다른 곳에서도 주입받아 사용할 수 있습니다.
 	@Bean
 	public JwtAuthenticationFilter jwtAuthenticationFilter() {
-		return new JwtAuthenticationFilter(jwtUtil, userDetailsService, tokenBlacklistService);
+		return new JwtAuthenticationFilter(jwtUtil, userDetailsService, tokenBlacklistService, jwtPrincipalCache,
+				jwtErrorResponseWriter);
 	}
 
 	@Bean
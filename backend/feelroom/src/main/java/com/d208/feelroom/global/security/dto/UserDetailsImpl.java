@@ -19,6 +19,19 @@ public class UserDetailsImpl implements UserDetails {
         this.user = user;
     }
 
+    /**
+     * JWT 인증 경로에서 쓰는 경량 주체를 만듭니다.
+     * DB에서 엔티티를 읽지 않고 userId / username / 권한만 채운 User를 감싸므로, 컨트롤러에서는 getUser().getUserId()와
+     * getUser().getUserRole()만 사용해야 합니다. (비밀번호, 연관 엔티티 등은 비어 있음)
+     */
+    public static UserDetailsImpl of(Long userId, String username, UserRole role) {
+        return new UserDetailsImpl(User.builder()
+                .userId(userId)
+                .username(username)
+                .userRole(role)
+                .build());
+    }
+
     // UserDetailsImpl.java
 
     @Override
@@ -37,7 +50,8 @@ public class UserDetailsImpl implements UserDetails {
     public String getPassword() {
         // 현재 로컬 계정만 지원하므로, user.getLocalAccount()는 null 이 아니라고 가정
         // 이후 소셜 OAuth 도입하면 수정되어야 함.
-        return user.getLocalAccount().getPasswordHash();
+        // JWT 인증 경로의 경량 주체(of)에는 계정 정보가 없음
+        return user.getLocalAccount() == null ? null : user.getLocalAccount().getPasswordHash();
     }
 
     @Override
@@ -1,9 +1,8 @@
 package com.d208.feelroom.global.security.filter;
 
 import java.io.IOException;
-import java.time.LocalDateTime;
-import java.util.Map;
 
+import com.d208.feelroom.global.security.service.JwtPrincipalCache;
 import com.d208.feelroom.global.security.service.UserDetailsServiceImpl;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -15,7 +14,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.d208.feelroom.user.service.TokenBlacklistService;
 import com.d208.feelroom.global.security.util.JwtUtil;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.d208.feelroom.global.security.util.TokenDigest;
 
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
@@ -33,6 +32,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 	private final JwtUtil jwtUtil;
 	private final UserDetailsServiceImpl userDetailsService;
 	private final TokenBlacklistService tokenBlacklistService;
+	private final JwtPrincipalCache jwtPrincipalCache;
+	private final JwtErrorResponseWriter errorResponseWriter;
 
 	@Override
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -40,27 +41,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 		String tokenValue = jwtUtil.getJwtFromHeader(request);
 
 		if (tokenValue != null) {
-			boolean isBlacklistedToken = tokenBlacklistService.isTokenBlacklisted(tokenValue);
-			boolean isValidToken = jwtUtil.validateToken(tokenValue);
-
-			if (isBlacklistedToken) {
-				response.setContentType("application/json");
-				response.setCharacterEncoding("UTF-8");
-				response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-
-				Map<String, Object> errorResponse = Map.of("status", HttpServletResponse.SC_UNAUTHORIZED, "message",
-						"해당 토큰은 블랙리스트에 등록되어 있습니다.", "timestamp", LocalDateTime.now().toString());
-
-				ObjectMapper objectMapper = new ObjectMapper();
-				response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
-				// response.getWriter().write("해당 토큰은 블랙리스트에 등록되어 있습니다.");
+			// 다이제스트를 한 번만 계산해서 블랙리스트 조회와 검증된 Claims 캐시 키로 함께 사용
+			byte[] digest = TokenDigest.sha256(tokenValue);
 
+			if (tokenBlacklistService.isTokenBlacklisted(digest)) {
+				errorResponseWriter.write(response, HttpServletResponse.SC_UNAUTHORIZED, "해당 토큰은 블랙리스트에 등록되어 있습니다.");
 				return; // Stop filter chain, block request
 			}
-			if (isValidToken) {
-				Claims info = jwtUtil.getUserInfoFromToken(tokenValue);
+
+			JwtUtil.TokenVerification verification = jwtUtil.verify(tokenValue, digest);
+			if (verification.isValid()) {
 				try {
-					setAuthentication(info.getSubject()); // subject에 username 저장
+					setAuthentication(verification.claims()); // Claim(uid, sub, auth)으로 인증 주체 구성
 				} catch (Exception e) {
 					log.error("Authentication Error: {}", e.getMessage());
 					// 여기서 response에 에러를 직접 작성할 수도 있습니다.
@@ -72,12 +64,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 	}
 
 	// 인증 처리 메서드
-	private void setAuthentication(String username) {
+	private void setAuthentication(Claims info) {
+		UserDetails userDetails = loadPrincipal(info);
+		if (userDetails == null) {
+			return; // 탈퇴했거나 username이 바뀐 계정의 토큰은 인증하지 않음
+		}
 		SecurityContext context = SecurityContextHolder.createEmptyContext();
-		UserDetails userDetails = userDetailsService.loadUserByUsername(username);
 		Authentication authentication = new UsernamePasswordAuthenticationToken(userDetails, null,
 				userDetails.getAuthorities());
 		context.setAuthentication(authentication);
 		SecurityContextHolder.setContext(context);
 	}
-}
\ No newline at end of file
+
+	// 사용자 ID Claim이 있으면 서명된 Claim으로 주체를 구성하고(캐시), 없는 예전 토큰만 DB에서 조회
+	private UserDetails loadPrincipal(Claims info) {
+		Long userId = jwtUtil.getUserId(info);
+		if (userId == null) {
+			return userDetailsService.loadUserByUsername(info.getSubject());
+		}
+		return jwtPrincipalCache.resolve(userId, info.getSubject(), jwtUtil.getUserRole(info)).orElse(null);
+	}
+}
@@ -0,0 +1,48 @@
+package com.d208.feelroom.global.security.filter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * JWT 필터에서 인증 오류 응답(JSON)을 쓰는 공용 writer
+ *
+ * 오류마다 ObjectMapper를 새로 만들지 않도록 애플리케이션의 ObjectMapper로 미리 만든 ObjectWriter를 재사용합니다.
+ * 응답 형식: {"status": 401, "message": "...", "timestamp": "..."}
+ */
+@Component
+@RequiredArgsConstructor
+public class JwtErrorResponseWriter {
+
+	private final ObjectMapper objectMapper;
+
+	private ObjectWriter writer;
+
+	@PostConstruct
+	public void init() {
+		writer = objectMapper.writerFor(Map.class);
+	}
+
+	public void write(HttpServletResponse response, int status, String message) throws IOException {
+		response.setContentType("application/json");
+		response.setCharacterEncoding("UTF-8");
+		response.setStatus(status);
+
+		Map<String, Object> errorResponse = new LinkedHashMap<>();
+		errorResponse.put("status", status);
+		errorResponse.put("message", message);
+		errorResponse.put("timestamp", LocalDateTime.now().toString());
+
+		writer.writeValue(response.getWriter(), errorResponse);
+	}
+}
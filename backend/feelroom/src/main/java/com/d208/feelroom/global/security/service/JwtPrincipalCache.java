@@ -0,0 +1,103 @@
+package com.d208.feelroom.global.security.service;
+
+import com.d208.feelroom.global.security.dto.UserDetailsImpl;
+import com.d208.feelroom.user.domain.UserRole;
+import com.d208.feelroom.user.domain.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JWT 인증 주체(UserDetailsImpl)를 사용자 ID 기준으로 프로세스 내부에 캐시합니다.
+ *
+ * - 토큰의 서명된 Claim(uid, sub, auth)으로 캐시 키를 정하므로, 요청마다 users + local_accounts 조인을 하지 않습니다.
+ * - 캐시 미스일 때만 PK로 username / 권한을 읽어 "아직 유효한 계정인지"를 확인합니다. (탈퇴 사용자는 조회되지 않음)
+ * - 프로필 / 권한 변경, 탈퇴 시 UserService가 커밋 이후 무효화합니다. 다른 노드에는 TTL이 지나야 반영되므로 TTL은 짧게 유지합니다.
+ * - 비활성화(enabled=false)하면 DB를 전혀 보지 않고 Claim만으로 주체를 만듭니다. 이때 탈퇴는 토큰 만료 시점에 반영됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JwtPrincipalCache {
+
+    private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${security.principal-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${security.principal-cache.max-size:10000}")
+    private long maxSize;
+
+    @Value("${security.principal-cache.ttl-ms:60000}")
+    private long ttlMs; // 다른 노드에서 탈퇴 / 권한 변경이 반영되기까지의 상한 (기본 1분)
+
+    private Cache<Long, Optional<UserDetailsImpl>> cache;
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwtPrincipals");
+    }
+
+    /**
+     * 검증된 토큰의 Claim으로 인증 주체를 구합니다.
+     *
+     * @param userId   토큰의 사용자 ID
+     * @param username 토큰의 subject
+     * @param role     토큰의 권한
+     * @return 인증 주체, 탈퇴했거나 username이 바뀌어 더 이상 유효하지 않은 토큰이면 empty
+     */
+    public Optional<UserDetailsImpl> resolve(Long userId, String username, UserRole role) {
+        if (!enabled) {
+            return Optional.of(UserDetailsImpl.of(userId, username, role));
+        }
+
+        // 없는 사용자(탈퇴)도 empty로 캐시하여, 탈퇴 계정의 남은 토큰이 매 요청 DB를 두드리지 않도록 함
+        Optional<UserDetailsImpl> principal = cache.get(userId, this::load);
+        return principal.filter(p -> p.getUsername().equals(username));
+    }
+
+    /**
+     * 사용자의 캐시된 인증 주체를 무효화합니다. 트랜잭션 안에서 호출되면 커밋 이후에 무효화합니다.
+     * (커밋 전에 무효화하면 다른 요청이 옛 값을 다시 채워 넣을 수 있음)
+     */
+    public void invalidate(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.invalidate(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.invalidate(userId);
+            }
+        });
+    }
+
+    private Optional<UserDetailsImpl> load(Long userId) {
+        List<Object[]> rows = userRepository.findAuthInfoById(userId);
+        if (rows.isEmpty()) {
+            log.info("[Auth] Principal not found for token userId={} (deactivated or removed)", userId);
+            return Optional.empty();
+        }
+        Object[] row = rows.get(0);
+        return Optional.of(UserDetailsImpl.of(userId, (String) row[0], (UserRole) row[1]));
+    }
+}
@@ -1,6 +1,7 @@
 package com.d208.feelroom.global.security.util;
 
 import java.security.Key;
+import java.time.Duration;
 import java.util.Base64;
 import java.util.Date;
 
@@ -10,24 +11,34 @@ import org.springframework.util.StringUtils;
 
 import com.d208.feelroom.user.domain.UserRole; // UserRole Enum 경로
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j(topic = "JwtUtil")
 @Component
+@RequiredArgsConstructor
 public class JwtUtil {
 	// 헤더 값, 접두사 등 상수 정의
 	public static final String AUTHORIZATION_HEADER = "Authorization";
 	public static final String AUTHORIZATION_KEY = "auth"; // 사용자 권한 Claim Key
+	public static final String USER_ID_KEY = "uid"; // 사용자 ID Claim Key (인증 시 DB 조회 없이 주체 구성)
 	public static final String BEARER_PREFIX = "Bearer ";
 
 	// application.yml에서 설정값 주입
@@ -36,13 +47,29 @@ public class JwtUtil {
 	@Value("${jwt.token.access-expiration-time}")
 	private long accessTokenExpirationTime;
 
+	@Value("${jwt.claims-cache.max-size:50000}")
+	private long claimsCacheMaxSize;
+
+	private final MeterRegistry meterRegistry;
+
 	private Key key;
 	private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
 
+	// 검증된 토큰의 Claims (키: 토큰 다이제스트, 토큰 만료 시각에 함께 만료)
+	private Cache<String, Claims> verifiedClaimsCache;
+
 	@PostConstruct
 	public void init() {
 		byte[] bytes = Base64.getDecoder().decode(secretKey);
 		key = Keys.hmacShaKeyFor(bytes);
+
+		verifiedClaimsCache = Caffeine.newBuilder()
+				.maximumSize(claimsCacheMaxSize)
+				.expireAfter(Expiry.creating((String digest, Claims claims) -> Duration.ofMillis(
+						Math.max(0, claims.getExpiration().getTime() - System.currentTimeMillis()))))
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, verifiedClaimsCache, "jwtVerifiedClaims");
 	}
 
 	/**
@@ -53,9 +80,25 @@ public class JwtUtil {
 	 * @return 생성된 JWT 문자열 (Bearer 접두어 포함)
 	 */
 	public String createAccessToken(String username, UserRole role) {
+		return createAccessToken(null, username, role);
+	}
+
+	/**
+	 * 사용자 ID를 포함한 Access Token 생성
+	 * 
+	 * @param userId   사용자 ID (null이면 Claim을 넣지 않음)
+	 * @param username 사용자 이름 (토큰의 주체)
+	 * @param role     사용자 권한
+	 * @return 생성된 JWT 문자열 (Bearer 접두어 포함)
+	 */
+	public String createAccessToken(Long userId, String username, UserRole role) {
 		Date now = new Date();
-		return BEARER_PREFIX + Jwts.builder().setSubject(username) // Subject에 username 저장
-				.claim(AUTHORIZATION_KEY, role.name()) // Claim에 권한 정보 저장
+		JwtBuilder builder = Jwts.builder().setSubject(username) // Subject에 username 저장
+				.claim(AUTHORIZATION_KEY, role.name()); // Claim에 권한 정보 저장
+		if (userId != null) {
+			builder.claim(USER_ID_KEY, userId); // Claim에 사용자 ID 저장
+		}
+		return BEARER_PREFIX + builder
 				.setExpiration(new Date(now.getTime() + accessTokenExpirationTime)).setIssuedAt(now)
 				.signWith(key, signatureAlgorithm).compact();
 	}
@@ -81,19 +124,53 @@ public class JwtUtil {
 	 * @return 유효하면 true, 아니면 false
 	 */
 	public boolean validateToken(String token) {
+		return verify(token).isValid();
+	}
+
+	/**
+	 * 토큰을 한 번만 파싱해서 서명 / 만료를 검증하고 Claims 또는 실패 사유를 반환합니다.
+	 * 
+	 * @param token 검증할 JWT 토큰
+	 * @return 검증 결과 (유효하면 claims, 아니면 error)
+	 */
+	public TokenVerification verify(String token) {
+		return verify(token, TokenDigest.sha256(token));
+	}
+
+	/**
+	 * 토큰 다이제스트를 이미 계산한 경우(블랙리스트 확인 등) 재사용하는 검증 메서드입니다.
+	 * 검증에 성공한 토큰의 Claims는 다이제스트를 키로 만료 시각까지 캐시하므로, 같은 토큰의 다음 요청은 HMAC 검증과 파싱을 건너뜁니다.
+	 * 
+	 * @param token  검증할 JWT 토큰
+	 * @param digest 토큰의 SHA-256 다이제스트 (TokenDigest.sha256)
+	 * @return 검증 결과 (유효하면 claims, 아니면 error)
+	 */
+	public TokenVerification verify(String token, byte[] digest) {
+		String cacheKey = TokenDigest.encode(digest);
+		Claims cached = verifiedClaimsCache.getIfPresent(cacheKey);
+		if (cached != null && cached.getExpiration().getTime() > System.currentTimeMillis()) {
+			return TokenVerification.valid(cached);
+		}
+
 		try {
-			Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-			return true;
+			Claims claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+			if (claims.getExpiration() != null) {
+				verifiedClaimsCache.put(cacheKey, claims);
+			}
+			return TokenVerification.valid(claims);
 		} catch (SecurityException | MalformedJwtException | SignatureException e) {
 			log.error("Invalid JWT signature, 유효하지 않은 JWT 서명입니다.");
+			return TokenVerification.invalid(TokenError.INVALID_SIGNATURE);
 		} catch (ExpiredJwtException e) {
 			log.error("Expired JWT token, 만료된 JWT 토큰입니다.");
+			return TokenVerification.invalid(TokenError.EXPIRED);
 		} catch (UnsupportedJwtException e) {
 			log.error("Unsupported JWT token, 지원되지 않는 JWT 토큰입니다.");
+			return TokenVerification.invalid(TokenError.UNSUPPORTED);
 		} catch (IllegalArgumentException e) {
 			log.error("JWT claims is empty, 잘못된 JWT 토큰입니다.");
+			return TokenVerification.invalid(TokenError.EMPTY);
 		}
-		return false;
 	}
 
 	/**
@@ -103,7 +180,34 @@ public class JwtUtil {
 	 * @return 토큰에 담긴 Claims 정보
 	 */
 	public Claims getUserInfoFromToken(String token) {
-		return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+		TokenVerification verification = verify(token);
+		if (!verification.isValid()) {
+			// 예전처럼 파서 예외(만료, 서명 오류 등)를 그대로 받아야 하는 호출부를 위해 다시 파싱
+			return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+		}
+		return verification.claims();
+	}
+
+	/**
+	 * Claims에서 사용자 ID를 꺼냅니다.
+	 * 
+	 * @param claims 검증된 토큰의 Claims
+	 * @return 사용자 ID, 사용자 ID Claim이 없는 예전 토큰이면 null
+	 */
+	public Long getUserId(Claims claims) {
+		Object userId = claims.get(USER_ID_KEY);
+		return userId instanceof Number number ? number.longValue() : null;
+	}
+
+	/**
+	 * Claims에서 사용자 권한을 꺼냅니다.
+	 * 
+	 * @param claims 검증된 토큰의 Claims
+	 * @return 사용자 권한, 권한 Claim이 없으면 null
+	 */
+	public UserRole getUserRole(Claims claims) {
+		String role = claims.get(AUTHORIZATION_KEY, String.class);
+		return role == null ? null : UserRole.valueOf(role);
 	}
 
 	/**
@@ -112,7 +216,33 @@ public class JwtUtil {
 	 * @return
 	 */
 	public Date getExpiration(String token) {
-		return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody().getExpiration();
+		return getUserInfoFromToken(token).getExpiration();
+	}
+
+	/**
+	 * 토큰 검증 실패 사유
+	 */
+	public enum TokenError {
+		INVALID_SIGNATURE, EXPIRED, UNSUPPORTED, EMPTY
+	}
+
+	/**
+	 * 토큰 검증 결과. 유효하면 claims, 아니면 error만 채워집니다.
+	 * claims는 캐시에서 여러 요청이 공유하므로 읽기 전용으로만 사용해야 합니다.
+	 */
+	public record TokenVerification(Claims claims, TokenError error) {
+
+		static TokenVerification valid(Claims claims) {
+			return new TokenVerification(claims, null);
+		}
+
+		static TokenVerification invalid(TokenError error) {
+			return new TokenVerification(null, error);
+		}
+
+		public boolean isValid() {
+			return claims != null;
+		}
 	}
 
 }
\ No newline at end of file
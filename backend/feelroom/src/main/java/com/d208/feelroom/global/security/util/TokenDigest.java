@@ -0,0 +1,40 @@
+package com.d208.feelroom.global.security.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * JWT 원문 대신 저장 / 비교 키로 쓰는 토큰 다이제스트 (SHA-256)
+ *
+ * 토큰 원문을 Redis 키나 메모리에 그대로 두지 않기 위해 사용하며, 문자열 표현은 패딩 없는 Base64URL(43자)입니다.
+ */
+public final class TokenDigest {
+
+	private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+		}
+	});
+
+	private TokenDigest() {
+	}
+
+	public static byte[] sha256(String token) {
+		return SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public static String encode(byte[] digest) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+	}
+
+	/**
+	 * @throws IllegalArgumentException 올바른 Base64URL 문자열이 아닐 경우
+	 */
+	public static byte[] decode(String encoded) {
+		return Base64.getUrlDecoder().decode(encoded);
+	}
+}
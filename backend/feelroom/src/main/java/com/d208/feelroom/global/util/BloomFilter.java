@@ -0,0 +1,72 @@
+package com.d208.feelroom.global.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 이미 해시된 키(SHA-256 등 고르게 분포된 16바이트 이상)를 넣는 스레드 안전 Bloom filter
+ *
+ * - 키의 앞 16바이트를 두 개의 64비트 값으로 보고 double hashing(h1 + i * h2)으로 k개 비트 위치를 만듭니다.
+ * - 비트 배열은 AtomicLongArray라서 락 없이 여러 스레드가 동시에 put / mightContain 할 수 있습니다.
+ * - 삭제는 지원하지 않습니다. 만료가 필요하면 호출하는 쪽에서 필터를 세대별로 교체합니다.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions 예상 삽입 수
+     * @param falsePositiveRate  목표 오탐률 (0 < fpp < 1)
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("잘못된 Bloom filter 설정입니다: n=" + expectedInsertions + ", fpp=" + falsePositiveRate);
+        }
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.max(1, (optimalBits + 63) >>> 6);
+        this.bits = new AtomicLongArray(words);
+        this.bitSize = (long) words << 6;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+    }
+
+    public void put(byte[] hash) {
+        long h1 = readLong(hash, 0);
+        long h2 = readLong(hash, 8);
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitSize);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    public boolean mightContain(byte[] hash) {
+        long h1 = readLong(hash, 0);
+        long h2 = readLong(hash, 8);
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitSize);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long readLong(byte[] hash, int offset) {
+        if (hash.length < offset + 8) {
+            throw new IllegalArgumentException("Bloom filter 키는 16바이트 이상의 해시여야 합니다.");
+        }
+        long value = 0;
+        for (int i = offset; i < offset + 8; i++) {
+            value = (value << 8) | (hash[i] & 0xFF);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,96 @@
+package com.d208.feelroom.global.util;
+
+import org.springframework.data.domain.Slice;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * 키셋(커서) 페이징 공용 커서
+ *
+ * 마지막으로 받은 항목의 정렬 키 (score, createdAt, id)를 담습니다. score는 좋아요 수처럼 시각보다 앞선 정렬 키가 있을 때만 사용합니다.
+ * 클라이언트에는 Base64URL로 인코딩한 불투명 문자열로 내려가며, 받은 값을 그대로 다음 요청에 돌려주기만 하면 됩니다.
+ * 저장소 쿼리는 이 값으로 (created_at < ? OR (created_at = ? AND id > ?)) 범위 조건을 걸어 OFFSET 없이 다음 페이지를 읽습니다.
+ * (id 비교 방향은 정렬에 쓰는 인덱스 뒤에 붙는 PK의 방향을 따릅니다. created_at DESC 인덱스면 id ASC)
+ */
+public record KeysetCursor(Double score, LocalDateTime createdAt, String id) {
+
+    private static final String DELIMITER = "|";
+
+    public static KeysetCursor of(LocalDateTime createdAt, Object id) {
+        return new KeysetCursor(null, createdAt, String.valueOf(id));
+    }
+
+    public static KeysetCursor of(double score, LocalDateTime createdAt, Object id) {
+        return new KeysetCursor(score, createdAt, String.valueOf(id));
+    }
+
+    /**
+     * 커서 문자열을 파싱합니다. null 또는 빈 문자열이면 첫 페이지를 의미하므로 null을 반환합니다.
+     * @throws IllegalArgumentException 커서 형식이 올바르지 않을 경우
+     */
+    public static KeysetCursor parse(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(value.trim()), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\" + DELIMITER, 3);
+            if (parts.length != 3 || parts[2].isEmpty()) {
+                throw new IllegalArgumentException("잘못된 커서 형식입니다: " + value);
+            }
+            Double score = parts[0].isEmpty() ? null : Double.valueOf(parts[0]);
+            return new KeysetCursor(score, LocalDateTime.parse(parts[1]), parts[2]);
+        } catch (DateTimeParseException e) {
+            // NumberFormatException, 잘못된 Base64 입력은 IllegalArgumentException이므로 그대로 전파됨
+            throw new IllegalArgumentException("잘못된 커서 형식입니다: " + value);
+        }
+    }
+
+    /**
+     * Slice의 마지막 항목으로 다음 페이지 커서를 만듭니다. 다음 페이지가 없으면 null을 반환합니다.
+     */
+    public static <T> String nextOf(Slice<T> slice, Function<T, KeysetCursor> keyExtractor) {
+        return nextOf(slice.getContent(), slice.hasNext(), keyExtractor);
+    }
+
+    public static <T> String nextOf(List<T> content, boolean hasNext, Function<T, KeysetCursor> keyExtractor) {
+        if (!hasNext || content.isEmpty()) {
+            return null;
+        }
+        return keyExtractor.apply(content.get(content.size() - 1)).encode();
+    }
+
+    public String encode() {
+        String raw = (score == null ? "" : score.toString()) + DELIMITER + createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * score가 있는 정렬(좋아요 수 순 등)에서 score를 꺼냅니다.
+     * @throws IllegalArgumentException 다른 정렬에서 발급된 커서일 경우
+     */
+    public double requireScore() {
+        if (score == null) {
+            throw new IllegalArgumentException("정렬 기준과 맞지 않는 커서입니다.");
+        }
+        return score;
+    }
+
+    public UUID uuidId() {
+        return UUID.fromString(id);
+    }
+
+    public long longId() {
+        try {
+            return Long.parseLong(id);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("정렬 기준과 맞지 않는 커서입니다.");
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.d208.feelroom.global.util; // 실제 프로젝트의 패키지 경로에 맞게 수정하세요.
 
 import java.nio.ByteBuffer;
+import java.util.Comparator;
 import java.util.UUID;
 
 /**
@@ -8,6 +9,16 @@ import java.util.UUID;
  */
 public final class UuidUtils {
 
+    /**
+     * uuidToBytes 결과의 바이트 순서(부호 없는 비교)와 같은 UUID 정렬 순서.
+     * BINARY(16) 컬럼 인덱스 순서와 일치하므로, 여러 행을 같은 순서로 잠가야 할 때 사용합니다.
+     * (UUID.compareTo는 부호 있는 long 비교라서 최상위 비트가 1인 UUID의 순서가 다름)
+     */
+    public static final Comparator<UUID> BINARY_ORDER = (a, b) -> {
+        int result = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return result != 0 ? result : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    };
+
     /**
      * 이 클래스는 인스턴스화할 수 없습니다.
      * 유틸리티 클래스는 상태를 가지지 않으므로 static 메서드만으로 구성하는 것이 좋습니다.
@@ -33,4 +44,18 @@ public final class UuidUtils {
         long leastSigBits = bb.getLong();
         return new UUID(mostSigBits, leastSigBits);
     }
-}
\ No newline at end of file
+
+    /**
+     * UUID 객체를 16바이트 배열(byte[])로 변환합니다.
+     * JdbcTemplate 등으로 BINARY(16) 컬럼에 직접 값을 바인딩할 때 사용됩니다.
+     *
+     * @param uuid 변환할 UUID
+     * @return 16바이트 길이의 배열
+     */
+    public static byte[] uuidToBytes(UUID uuid) {
+        ByteBuffer bb = ByteBuffer.allocate(16);
+        bb.putLong(uuid.getMostSignificantBits());
+        bb.putLong(uuid.getLeastSignificantBits());
+        return bb.array();
+    }
+}
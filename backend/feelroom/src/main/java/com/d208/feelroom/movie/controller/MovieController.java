@@ -112,6 +112,31 @@ public class MovieController {
         ReviewListResponseDto response = movieService.getMovieReviews(movieId, sortBy, page, size, userId);
         return ResponseEntity.ok(response);
     }
+
+    @Operation(
+            summary = "특정 영화 리뷰 목록 조회 (커서)",
+            description = "cursor 파라미터가 있으면 이전 응답의 nextCursor 이후를 조회합니다. 깊은 페이지도 앞 페이지를 다시 읽지 않습니다. " +
+                    "정렬 기준은 첫 요청과 같아야 합니다."
+    )
+    @GetMapping(value = "/{movieId}/reviews", params = "cursor")
+    public ResponseEntity<ReviewListResponseDto> getMovieReviewsByCursor(
+            @Parameter(description = "영화 ID", required = true)
+            @PathVariable Integer movieId,
+
+            @Parameter(description = "정렬 기준 (likes/comments/latest)", example = "latest")
+            @RequestParam(defaultValue = "latest") String sortBy,
+
+            @Parameter(description = "이전 응답의 nextCursor (빈 값이면 첫 페이지)")
+            @RequestParam String cursor,
+
+            @Parameter(description = "페이지 크기", example = "10")
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(hidden = true) @AuthenticationPrincipal UserDetailsImpl userDetails
+    ) {
+        Long userId = (userDetails != null && userDetails.getUser() != null) ? userDetails.getUser().getUserId() : null;
+        ReviewListResponseDto response = movieService.getMovieReviewsByCursor(movieId, sortBy, cursor, size, userId);
+        return ResponseEntity.ok(response);
+    }
     // ===============================================
 
     /**
@@ -11,6 +11,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -36,6 +37,14 @@ public interface MovieGenreRepository extends JpaRepository<MovieGenre, MovieGen
     @Query("SELECT mg.genre.name FROM MovieGenre mg WHERE mg.id.movieId = :movieId")
     List<String> findGenreNamesByMovieId(@Param("movieId") Integer movieId);
 
+    /**
+     * 여러 영화의 장르 이름을 한 번에 조회합니다. (영화 카드 일괄 조립용)
+     *
+     * @return List<Object[]>, 각 row는 [0]: movieId (Integer), [1]: 장르 이름 (String)
+     */
+    @Query("SELECT mg.id.movieId, mg.genre.name FROM MovieGenre mg WHERE mg.id.movieId IN :movieIds")
+    List<Object[]> findGenreNamesByMovieIds(@Param("movieIds") Collection<Integer> movieIds);
+
     /**
      * 특정 장르 ID에 해당하는 모든 'Movie' 엔티티를 조회합니다.
      */
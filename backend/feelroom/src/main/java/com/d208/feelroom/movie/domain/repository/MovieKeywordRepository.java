@@ -11,6 +11,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -42,6 +43,32 @@ public interface MovieKeywordRepository extends JpaRepository<MovieKeyword, Movi
     @Query("SELECT mk.movie FROM MovieKeyword mk WHERE mk.id.keywordId = :keywordId")
     List<Movie> findMoviesByKeywordId(@Param("keywordId") Integer keywordId);
 
+    /**
+     * 여러 키워드에 걸친 영화 ID를 한 번에 집계하여 한 페이지만 조회합니다.
+     * 일치한 키워드 수(많을수록 우선) -> TMDB 평점 -> movie_id 순으로 정렬하며, 중복 영화는 GROUP BY로 합쳐집니다.
+     * (idx_keyword_movies(keyword_id)에 PK의 movie_id가 포함되어 있어 movie_keyword 쪽은 인덱스만으로 처리됨)
+     *
+     * @return 영화 ID 목록 (hasNext 판단이 필요하면 limit을 페이지 크기 + 1로 전달)
+     */
+    @Query(value = """
+            SELECT mk.movie_id
+            FROM movie_keyword mk
+            JOIN movies m ON m.movie_id = mk.movie_id
+            WHERE mk.keyword_id IN (:keywordIds)
+            GROUP BY mk.movie_id, m.vote_average
+            ORDER BY COUNT(*) DESC, m.vote_average DESC, mk.movie_id
+            LIMIT :limit OFFSET :offset
+            """, nativeQuery = true)
+    List<Integer> findMovieIdsRankedByKeywordOverlap(@Param("keywordIds") Collection<Integer> keywordIds,
+                                                     @Param("limit") int limit,
+                                                     @Param("offset") long offset);
+
+    /**
+     * 주어진 키워드 중 하나 이상을 가진 영화 수 (중복 제외)
+     */
+    @Query(value = "SELECT COUNT(DISTINCT mk.movie_id) FROM movie_keyword mk WHERE mk.keyword_id IN (:keywordIds)", nativeQuery = true)
+    long countMoviesByKeywordIds(@Param("keywordIds") Collection<Integer> keywordIds);
+
     /**
      * 특정 영화 ID에 해당하는 모든 MovieKeyword '연관 엔티티'를 조회합니다.
      * 쿼리 메서드로 자동 생성이 가능합니다.
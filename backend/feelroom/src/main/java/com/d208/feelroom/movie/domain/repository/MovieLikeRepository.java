@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -35,4 +36,13 @@ public interface MovieLikeRepository extends JpaRepository<MovieLike, MovieLikeI
      */
     @Query("SELECT ml.movie.tmdbId FROM MovieLike ml WHERE ml.user.userId = :userId")
     List<Integer> findLikedMovieTmdbIdsByUserId(@Param("userId") Long userId);
+
+    /**
+     * 여러 사용자가 '좋아요'를 누른 영화의 tmdb_id를 한 번에 조회합니다. (추천 배치의 청크 단위 조회)
+     *
+     * @param userIds 사용자 ID 목록
+     * @return List<Object[]>, 각 row는 [0]: user_id (Long), [1]: tmdb_id (Integer)
+     */
+    @Query("SELECT ml.user.userId, ml.movie.tmdbId FROM MovieLike ml WHERE ml.user.userId IN :userIds")
+    List<Object[]> findLikedMovieTmdbIdsByUserIdIn(@Param("userIds") Collection<Long> userIds);
 }
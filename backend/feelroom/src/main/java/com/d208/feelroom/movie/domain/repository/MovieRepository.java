@@ -25,6 +25,36 @@ public interface MovieRepository extends JpaRepository<Movie,Integer> {
     @Query("SELECT m.tmdbId FROM Movie m WHERE m.tmdbId IN :tmdbIds")
     Set<Integer> findExistingTmdbIds(@Param("tmdbIds") List<Integer> tmdbIds);
 
+    /**
+     * 제목 접두사 검색 (idx_title 인덱스 범위 스캔, DB에서 LIMIT/OFFSET 적용)
+     *
+     * @param prefix LIKE 특수문자가 이스케이프된 접두사
+     */
+    @Query(value = """
+        SELECT m.movie_id FROM movies m
+        WHERE m.title LIKE CONCAT(:prefix, '%')
+        ORDER BY m.title, m.movie_id
+        LIMIT :limit OFFSET :offset
+        """, nativeQuery = true)
+    List<Integer> findMovieIdsByTitlePrefix(@Param("prefix") String prefix, @Param("limit") int limit, @Param("offset") int offset);
+
+    /**
+     * 제목 FULLTEXT(ngram) 검색 (ft_title 인덱스, DB에서 LIMIT/OFFSET 적용)
+     * 정렬은 TMDB 투표 수가 많은(잘 알려진) 영화 우선
+     *
+     * @param phrase BOOLEAN MODE 검색식 (큰따옴표로 감싼 구문)
+     */
+    @Query(value = """
+        SELECT m.movie_id FROM movies m
+        WHERE MATCH(m.title) AGAINST (:phrase IN BOOLEAN MODE)
+        ORDER BY m.vote_count DESC, m.movie_id
+        LIMIT :limit OFFSET :offset
+        """, nativeQuery = true)
+    List<Integer> findMovieIdsByTitleFulltext(@Param("phrase") String phrase, @Param("limit") int limit, @Param("offset") int offset);
+
+    // TMDB ID 목록으로 영화 엔티티를 한 번에 조회 (영화 카드 일괄 조립용)
+    List<Movie> findAllByTmdbIdIn(Collection<Integer> tmdbIds);
+
     /**
      * 특정 사용자가 '좋아요'를 누른 영화 목록을 최신순(가장 최근에 좋아요 누른 순)으로 조회합니다.
      * 무한 스크롤(Slice)을 지원합니다.
@@ -95,4 +125,13 @@ public interface MovieRepository extends JpaRepository<Movie,Integer> {
     @Query("SELECT new com.d208.feelroom.movie.dto.LikedMovieInfo(m.movieId, m.title, m.posterUrl) " +
             "FROM Movie m WHERE m.tmdbId IN :tmdbIds")
     List<LikedMovieInfo> findLikedMovieInfoByTmdbIds(@Param("tmdbIds") List<Integer> tmdbIds);
-}
\ No newline at end of file
+
+    /**
+     * 제목 자동완성 인덱스 빌드용 경량 조회 (엔티티를 로딩하지 않고 필요한 컬럼만 가져옴)
+     * 컬럼 타입(release_date DATE)과 관계없이 엔티티 매핑(String)대로 받도록 JPQL 프로젝션을 사용합니다.
+     *
+     * @return 각 row는 [movieId(Integer), title(String), releaseDate(String), voteCount(Integer)]
+     */
+    @Query("SELECT m.movieId, m.title, m.releaseDate, m.voteCount FROM Movie m")
+    List<Object[]> findAllTitleEntries();
+}
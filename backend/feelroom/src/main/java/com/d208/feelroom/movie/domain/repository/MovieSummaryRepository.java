@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -30,4 +31,53 @@ public interface MovieSummaryRepository extends JpaRepository<MovieSummary, Inte
             @Param("countChange") int countChange,
             @Param("ratingChange") long ratingChange
     );
-}
\ No newline at end of file
+
+    // ========== MovieSummaryBatchService (set-based 재동기화) ==========
+
+    /**
+     * movie_summary와 reviews의 GROUP BY 집계를 한 번의 스캔으로 비교하여,
+     * 리뷰 수 또는 평점 합계가 어긋난(drift) 영화만 조회합니다.
+     *
+     * @return List<Object[]>, 각 row는 [0]: movie_id, [1]: 현재 review_count, [2]: 실제 review_count,
+     *         [3]: 현재 rating_sum, [4]: 실제 rating_sum
+     */
+    @Query(value = """
+        SELECT ms.movie_id,
+               ms.review_count,
+               COALESCE(agg.review_count, 0) AS actual_review_count,
+               ms.rating_sum,
+               COALESCE(agg.rating_sum, 0) AS actual_rating_sum
+        FROM movie_summary ms
+        LEFT JOIN (
+            SELECT movie_id, COUNT(*) AS review_count, SUM(rating) AS rating_sum
+            FROM reviews
+            WHERE deleted_at IS NULL
+            GROUP BY movie_id
+        ) agg ON agg.movie_id = ms.movie_id
+        WHERE ms.review_count <> COALESCE(agg.review_count, 0)
+           OR ms.rating_sum <> COALESCE(agg.rating_sum, 0)
+        """, nativeQuery = true)
+    List<Object[]> findDriftedMovieSummaries();
+
+    /**
+     * 지정한 영화들의 MovieSummary만 reviews 테이블의 실제 집계 값으로 재조정합니다.
+     * 집계는 UPDATE 시점에 다시 계산되므로, 조회 이후 발생한 변경도 반영됩니다.
+     *
+     * @param movieIds 재조정할 영화 ID 목록 (drift가 발견된 영화)
+     * @return 실제로 변경된 행 수
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE movie_summary ms
+        LEFT JOIN (
+            SELECT movie_id, COUNT(*) AS review_count, SUM(rating) AS rating_sum
+            FROM reviews
+            WHERE deleted_at IS NULL AND movie_id IN (:movieIds)
+            GROUP BY movie_id
+        ) agg ON agg.movie_id = ms.movie_id
+        SET ms.review_count = COALESCE(agg.review_count, 0),
+            ms.rating_sum = COALESCE(agg.rating_sum, 0)
+        WHERE ms.movie_id IN (:movieIds)
+        """, nativeQuery = true)
+    int reconcileMovieSummaries(@Param("movieIds") List<Integer> movieIds);
+}
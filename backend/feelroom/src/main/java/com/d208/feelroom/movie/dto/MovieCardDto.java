@@ -0,0 +1,26 @@
+package com.d208.feelroom.movie.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 목록 화면(검색, 온보딩, 인기 영화, 추천)에서 공통으로 사용하는 영화 카드 정보
+ * MovieCardAssembler가 여러 영화를 한 번에 조립하며, 각 화면은 필요한 필드만 골라 응답 DTO로 변환합니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class MovieCardDto {
+    private Integer movieId;
+    private Integer tmdbId;
+    private String title;
+    private String posterUrl;
+    private String releaseDate;
+    private Integer runtime;
+    private Double voteAverage;        // TMDB 평점
+    private List<String> genres;       // 장르 이름 목록
+    private Double userRatingAverage;  // 우리 서비스 평점 (리뷰가 없으면 0.0)
+}
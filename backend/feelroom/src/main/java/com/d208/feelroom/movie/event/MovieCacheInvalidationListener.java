@@ -0,0 +1,50 @@
+package com.d208.feelroom.movie.event;
+
+import com.d208.feelroom.global.cache.CacheInvalidator;
+import com.d208.feelroom.global.config.RedisConfig;
+import com.d208.feelroom.review.event.ReviewChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 도메인 이벤트를 영화 관련 캐시 영역 무효화로 연결합니다.
+ *
+ * 이벤트를 발행한 트랜잭션 안에서 동기로 실행되며, 실제 무효화는 CacheInvalidator가 커밋 이후 트랜잭션 단위로 모아서 수행합니다.
+ * 새로운 캐시 영역이 추가되면 아래 매핑에만 등록하면 됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MovieCacheInvalidationListener {
+
+    // 이벤트 종류 -> 무효화할 캐시 영역 (키는 movieId)
+    private static final Map<MovieChangedEvent.ChangeType, List<String>> MOVIE_CHANGE_REGIONS = Map.of(
+            MovieChangedEvent.ChangeType.MOVIE_UPDATED, List.of(RedisConfig.MOVIE_STATIC_DETAILS_CACHE),
+            MovieChangedEvent.ChangeType.METADATA_CHANGED, List.of(RedisConfig.MOVIE_STATIC_DETAILS_CACHE)
+    );
+
+    // 리뷰 생성/수정/삭제는 movie_summary에만 반영되고, movie_summary는 캐시하지 않고 매번 조회하므로 현재 무효화할 영역이 없습니다.
+    private static final List<String> REVIEW_CHANGE_REGIONS = List.of();
+
+    private final CacheInvalidator cacheInvalidator;
+
+    @EventListener
+    public void handleMovieChanged(MovieChangedEvent event) {
+        invalidate(MOVIE_CHANGE_REGIONS.getOrDefault(event.getChangeType(), List.of()), event.getMovieId());
+    }
+
+    @EventListener
+    public void handleReviewChanged(ReviewChangedEvent event) {
+        invalidate(REVIEW_CHANGE_REGIONS, event.getMovieId());
+    }
+
+    private void invalidate(List<String> cacheNames, Integer movieId) {
+        if (movieId == null) {
+            return;
+        }
+        cacheNames.forEach(cacheName -> cacheInvalidator.invalidate(cacheName, movieId));
+    }
+}
@@ -0,0 +1,20 @@
+package com.d208.feelroom.movie.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 영화 자체 정보(평점, 제목 등) 또는 메타데이터(장르, 배우, 감독, 키워드)가 변경되었을 때 발행되는 이벤트
+ */
+@Getter
+@RequiredArgsConstructor
+public class MovieChangedEvent {
+
+    private final Integer movieId;
+    private final ChangeType changeType;
+
+    public enum ChangeType {
+        MOVIE_UPDATED,     // movies 테이블 컬럼 변경 (TMDB 평점 동기화 등)
+        METADATA_CHANGED   // 장르/배우/감독/키워드 연관관계 변경 (TMDB import 등)
+    }
+}
@@ -0,0 +1,18 @@
+package com.d208.feelroom.movie.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 새 영화가 movies 테이블에 추가되었을 때 발행되는 이벤트 (TMDB import 등)
+ * 제목 자동완성 인덱스처럼 영화 목록을 메모리에 들고 있는 곳이 DB를 다시 조회하지 않고 반영할 수 있도록 필요한 값을 함께 담습니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class MovieCreatedEvent {
+
+    private final Integer movieId;
+    private final String title;
+    private final String releaseDate;
+    private final Integer voteCount;
+}
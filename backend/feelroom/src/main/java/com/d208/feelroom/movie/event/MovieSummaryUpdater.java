@@ -1,40 +1,100 @@
 package com.d208.feelroom.movie.event; // listener 패키지를 만들어 관리합니다.
 
-import com.d208.feelroom.movie.domain.repository.MovieSummaryRepository;
+import com.d208.feelroom.global.buffer.CoalescingWriteBuffer;
 import com.d208.feelroom.review.event.ReviewChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class MovieSummaryUpdater {
 
-    private final MovieSummaryRepository movieSummaryRepository;
+    private static final int UPSERT_ROWS_PER_STATEMENT = 500;
+    private static final String UPSERT_SQL_PREFIX =
+            "INSERT INTO movie_summary (movie_id, review_count, rating_sum) VALUES ";
+    private static final String UPSERT_SQL_SUFFIX = """
+             ON DUPLICATE KEY UPDATE
+                review_count = review_count + VALUES(review_count),
+                rating_sum = rating_sum + VALUES(rating_sum)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${summary.write-buffer.flush-interval-ms:200}")
+    private long flushIntervalMs;
+
+    @Value("${summary.write-buffer.max-entries:1000}")
+    private int maxEntries;
+
+    @Value("${summary.write-buffer.stripes:16}")
+    private int stripes;
+
+    @Value("${summary.write-buffer.max-attempts:20}")
+    private int maxAttempts;
+
+    // movieId -> [리뷰 개수 변경량, 평점 변경량]
+    private CoalescingWriteBuffer<Integer> buffer;
 
-    @Async
+    @PostConstruct
+    public void init() {
+        buffer = new CoalescingWriteBuffer<>("movie-summary", 2, stripes, flushIntervalMs, maxEntries, maxAttempts,
+                this::flushMovieSummaries, meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        buffer.close(); // 종료 시 남은 변경량 기록
+    }
+
+    /**
+     * 리뷰 생성/수정/삭제 이벤트를 받아 MovieSummary 변경량을 영화별로 버퍼에 합산합니다.
+     * 실제 DB 기록은 버퍼가 주기적으로 다중 행 UPSERT 한 번으로 처리합니다.
+     */
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void handleReviewChangeEvent(ReviewChangedEvent event) {
-        log.info("UPSERT 실행: movieId={}, ratingChange={}, countChange={}",
+        log.debug("MovieSummary 변경량 버퍼링: movieId={}, ratingChange={}, countChange={}",
                 event.getMovieId(), event.getRatingChange(), event.getCountChange());
+        buffer.add(event.getMovieId(), event.getCountChange(), event.getRatingChange());
+    }
+
+    private void flushMovieSummaries(Map<Integer, long[]> deltas) {
+        List<Integer> movieIds = new ArrayList<>(deltas.keySet());
+        Collections.sort(movieIds); // 행 잠금 순서를 일정하게 유지
 
-        try {
-            movieSummaryRepository.upsertReviewSummary(
-                    event.getMovieId(),
-                    event.getCountChange(),
-                    event.getRatingChange()
-            );
-        } catch (Exception e) {
-            // DB 제약 조건 위반 등 예외 발생 시 로그 기록 및 후속 처리
-            log.error("MovieSummary UPSERT 중 오류 발생", e);
-            // 필요 시 에러 알림(Sentry, Slack 등) 로직 추가
-        }
+        // 청크가 여러 문장으로 나뉘어도 한 트랜잭션으로 기록합니다. 뒤 청크가 실패했을 때 앞 청크만 커밋된 채
+        // 버퍼가 배치 전체를 다시 기록하면 이미 반영된 변경량이 두 번 더해지기 때문입니다.
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int from = 0; from < movieIds.size(); from += UPSERT_ROWS_PER_STATEMENT) {
+                List<Integer> chunk = movieIds.subList(from, Math.min(from + UPSERT_ROWS_PER_STATEMENT, movieIds.size()));
+                Object[] params = new Object[chunk.size() * 3];
+                int i = 0;
+                for (Integer movieId : chunk) {
+                    long[] delta = deltas.get(movieId);
+                    params[i++] = movieId;
+                    params[i++] = delta[0];
+                    params[i++] = delta[1];
+                }
+                String sql = UPSERT_SQL_PREFIX + String.join(", ", Collections.nCopies(chunk.size(), "(?, ?, ?)")) + UPSERT_SQL_SUFFIX;
+                jdbcTemplate.update(sql, params);
+            }
+        });
+        log.debug("MovieSummary flush 완료: {}건", movieIds.size());
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package com.d208.feelroom.movie.service;
 
+import com.d208.feelroom.global.config.RedisConfig;
 import com.d208.feelroom.movie.domain.entity.Movie;
 import com.d208.feelroom.movie.domain.repository.*;
 import com.d208.feelroom.movie.dto.cache.MovieStaticCacheDto;
@@ -29,11 +30,13 @@ public class MovieCacheService {
      * 영화의 '정적'인 공통 상세 정보를 조회합니다.
      * 캐시에 데이터가 있으면 캐시에서 바로 반환하고, 없으면 DB에서 조회 후 캐시에 저장합니다.
      * 이 메서드는 반드시 외부 클래스(예: MovieService)에서 호출되어야 AOP 프록시가 동작합니다.
+     * 캐시는 로컬 L1(Caffeine) + Redis L2 2단 구조이며, sync = true로 같은 노드의 동시 Cache Miss는 DB를 한 번만 조회합니다.
+     * (결과가 null이면 MovieNotFoundException이 발생하므로 unless 조건은 필요하지 않습니다.)
      *
      * @param movieId 조회할 영화의 ID
      * @return 캐시되거나 DB에서 조회된 영화의 정적 정보 DTO
      */
-    @Cacheable(value = "movieStaticDetails", key = "#movieId", unless = "#result == null")
+    @Cacheable(value = RedisConfig.MOVIE_STATIC_DETAILS_CACHE, key = "#movieId", sync = true)
     public MovieStaticCacheDto findMovieStaticDetails(Integer movieId) {
         log.info("===== [Cache Miss] DB에서 영화 정적 정보를 조회합니다. Movie ID: {} =====", movieId);
 
@@ -0,0 +1,190 @@
+package com.d208.feelroom.movie.service;
+
+import com.d208.feelroom.movie.domain.entity.Movie;
+import com.d208.feelroom.movie.domain.entity.summary.MovieSummary;
+import com.d208.feelroom.movie.domain.repository.MovieGenreRepository;
+import com.d208.feelroom.movie.domain.repository.MovieRepository;
+import com.d208.feelroom.movie.domain.repository.MovieSummaryRepository;
+import com.d208.feelroom.movie.dto.MovieCardDto;
+import com.d208.feelroom.movie.event.MovieChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 여러 영화 ID를 받아 카드 정보(기본 정보 + 장르 + 우리 서비스 평점)를 한 번에 조립합니다.
+ *
+ * - 영화 / 장르 / 요약(평점)을 관계별로 IN 쿼리 한 번씩만 조회합니다. (목록 크기와 무관하게 최대 3회)
+ * - 장르 이름과 평점은 프로세스 내부 read-through 캐시를 공유하여, 자주 노출되는 영화는 DB 조회 없이 조립됩니다.
+ *   장르는 메타데이터 변경 이벤트로 무효화하고(Redis pub/sub으로 모든 노드에 전파), 평점은 리뷰마다 바뀌므로 짧은 TTL로만 관리합니다.
+ * - 결과는 요청한 ID 순서를 유지하며, DB에 없는 영화는 제외합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MovieCardAssembler implements MessageListener {
+
+    public static final String GENRE_INVALIDATION_CHANNEL = "movie-card:genre-invalidation";
+
+    private final MovieRepository movieRepository;
+    private final MovieGenreRepository movieGenreRepository;
+    private final MovieSummaryRepository movieSummaryRepository;
+    private final MeterRegistry meterRegistry;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    @Value("${movie-card.cache.max-size:10000}")
+    private long cacheMaxSize;
+
+    @Value("${movie-card.cache.genre-ttl-ms:600000}")
+    private long genreTtlMs; // 무효화 메시지를 놓친 노드에서 바뀐 장르가 보이는 시간의 상한 (기본 10분)
+
+    @Value("${movie-card.cache.rating-ttl-ms:60000}")
+    private long ratingTtlMs; // 평점은 최대 이 시간만큼 늦게 반영됨 (기본 1분)
+
+    private Cache<Integer, List<String>> genreCache;
+    private Cache<Integer, Double> ratingCache;
+
+    @PostConstruct
+    public void init() {
+        genreCache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(Duration.ofMillis(genreTtlMs))
+                .recordStats()
+                .build();
+        ratingCache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(Duration.ofMillis(ratingTtlMs))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, genreCache, "movieCardGenres");
+        CaffeineCacheMetrics.monitor(meterRegistry, ratingCache, "movieCardRatings");
+        listenerContainer.addMessageListener(this, new ChannelTopic(GENRE_INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * 영화 ID 목록으로 카드 목록을 조립합니다.
+     *
+     * @param movieIds 영화 ID 목록 (순서 유지, 중복 허용)
+     * @return 요청 순서대로 정렬된 카드 목록 (DB에 없는 영화 제외)
+     */
+    public List<MovieCardDto> assemble(List<Integer> movieIds) {
+        if (movieIds == null || movieIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Set<Integer> uniqueIds = new LinkedHashSet<>(movieIds);
+        Map<Integer, Movie> movieMap = movieRepository.findAllById(uniqueIds).stream()
+                .collect(Collectors.toMap(Movie::getMovieId, Function.identity()));
+        return toCards(movieIds.stream().map(movieMap::get).filter(Objects::nonNull).toList());
+    }
+
+    /**
+     * 이미 조회된 Movie 엔티티 목록으로 카드 목록을 조립합니다. (영화 조회 쿼리 생략)
+     */
+    public List<MovieCardDto> assembleFromMovies(List<Movie> movies) {
+        if (movies == null || movies.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return toCards(movies);
+    }
+
+    /**
+     * TMDB ID 목록으로 카드 목록을 조립합니다. (AI 추천 결과 변환용)
+     *
+     * @param tmdbIds TMDB ID 목록 (순서 유지)
+     * @return 요청 순서대로 정렬된 카드 목록 (DB에 없는 영화 제외)
+     */
+    public List<MovieCardDto> assembleByTmdbIds(List<Integer> tmdbIds) {
+        if (tmdbIds == null || tmdbIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<Integer, Movie> movieMap = movieRepository.findAllByTmdbIdIn(new LinkedHashSet<>(tmdbIds)).stream()
+                .collect(Collectors.toMap(Movie::getTmdbId, Function.identity(), (a, b) -> a));
+        return toCards(tmdbIds.stream().map(movieMap::get).filter(Objects::nonNull).toList());
+    }
+
+    private List<MovieCardDto> toCards(List<Movie> movies) {
+        Set<Integer> movieIds = movies.stream().map(Movie::getMovieId).collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<Integer, List<String>> genres = genreCache.getAll(movieIds, this::loadGenres);
+        Map<Integer, Double> ratings = ratingCache.getAll(movieIds, this::loadRatings);
+
+        return movies.stream()
+                .map(movie -> MovieCardDto.builder()
+                        .movieId(movie.getMovieId())
+                        .tmdbId(movie.getTmdbId())
+                        .title(movie.getTitle())
+                        .posterUrl(movie.getPosterUrl())
+                        .releaseDate(movie.getReleaseDate())
+                        .runtime(movie.getRuntime())
+                        .voteAverage(movie.getVoteAverage())
+                        .genres(genres.getOrDefault(movie.getMovieId(), Collections.emptyList()))
+                        .userRatingAverage(ratings.getOrDefault(movie.getMovieId(), 0.0))
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    // 캐시에 없는 영화들의 장르를 IN 쿼리 한 번으로 조회 (장르가 없는 영화도 빈 목록으로 캐싱)
+    private Map<Integer, List<String>> loadGenres(Set<? extends Integer> movieIds) {
+        Map<Integer, List<String>> result = new HashMap<>();
+        movieIds.forEach(id -> result.put(id, new ArrayList<>()));
+        for (Object[] row : movieGenreRepository.findGenreNamesByMovieIds(new ArrayList<>(movieIds))) {
+            result.get((Integer) row[0]).add((String) row[1]);
+        }
+        return result;
+    }
+
+    // 캐시에 없는 영화들의 평점을 IN 쿼리 한 번으로 조회 (요약이 없는 영화는 0.0)
+    private Map<Integer, Double> loadRatings(Set<? extends Integer> movieIds) {
+        Map<Integer, Double> result = new HashMap<>();
+        movieIds.forEach(id -> result.put(id, 0.0));
+        for (MovieSummary summary : movieSummaryRepository.findAllById(new ArrayList<Integer>(movieIds))) {
+            result.put(summary.getMovieId(), summary.getUserRatingAverage());
+        }
+        return result;
+    }
+
+    /**
+     * 장르 등 메타데이터가 바뀐 영화는 커밋 이후 캐시에서 제거하고, 다른 노드에도 무효화 메시지를 발행합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleMovieChanged(MovieChangedEvent event) {
+        if (event.getChangeType() != MovieChangedEvent.ChangeType.METADATA_CHANGED) {
+            return;
+        }
+        genreCache.invalidate(event.getMovieId());
+        try {
+            redisTemplate.convertAndSend(GENRE_INVALIDATION_CHANNEL, event.getMovieId());
+        } catch (Exception e) {
+            // 전파에 실패해도 다른 노드의 캐시는 genreTtlMs 이후 만료됩니다.
+            log.error("[MovieCard] Failed to publish genre invalidation for movie {}", event.getMovieId(), e);
+        }
+    }
+
+    /**
+     * 무효화 메시지를 수신하여 이 노드의 장르 캐시에서 제거합니다. (발행한 노드 자신도 수신하지만 이미 제거된 상태라 무해함)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Object payload = redisTemplate.getValueSerializer().deserialize(message.getBody());
+        if (payload instanceof Number movieId) {
+            genreCache.invalidate(movieId.intValue());
+        }
+    }
+}
@@ -1,12 +1,14 @@
 package com.d208.feelroom.movie.service;
 
+import com.d208.feelroom.global.cache.CacheInvalidator;
+import com.d208.feelroom.global.config.RedisConfig;
+import com.d208.feelroom.global.util.KeysetCursor;
 import com.d208.feelroom.movie.domain.entity.Movie;
 import com.d208.feelroom.movie.domain.entity.MovieLike;
 import com.d208.feelroom.movie.domain.entity.summary.MovieSummary;
 import com.d208.feelroom.review.domain.repository.ReviewLikeRepository;
 import com.d208.feelroom.review.domain.repository.ReviewRepository;
 import com.d208.feelroom.movie.dto.*;
-import com.d208.feelroom.movie.domain.repository.MovieGenreRepository;
 import com.d208.feelroom.movie.domain.repository.MovieLikeRepository;
 import com.d208.feelroom.movie.domain.repository.MovieRepository;
 import com.d208.feelroom.movie.domain.repository.MovieSummaryRepository;
@@ -17,11 +19,10 @@ import com.d208.feelroom.review.dto.ReviewListResponseDto;
 import com.d208.feelroom.badge.event.EventPublisher;
 import com.d208.feelroom.user.event.UserActivityEvent.ActivityType;
 import com.d208.feelroom.movie.exception.MovieNotFoundException;
+import com.d208.feelroom.movie.scheduler.PopularMovieScheduler;
 import com.d208.feelroom.user.exception.UserNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
@@ -32,7 +33,6 @@ import org.springframework.transaction.annotation.Transactional;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.d208.feelroom.global.util.UuidUtils.bytesToUUID;
@@ -49,8 +49,10 @@ public class MovieService {
     private final MovieCacheService movieCacheService;
     private final MovieSummaryRepository movieSummaryRepository;
     private final MovieLikeRepository movieLikeRepository;
-    private final MovieGenreRepository movieGenreRepository;
     private final RedisTemplate<String, Object> redisTemplate;
+    private final PopularMovieScheduler popularMovieScheduler;
+    private final CacheInvalidator cacheInvalidator;
+    private final MovieCardAssembler movieCardAssembler;
     private static final String POPULAR_MOVIES_ZSET_KEY = "popular_movies";
     private static final int POPULAR_MOVIES_COUNT = 30; // 조회할 영화 개수를 상수로 관리
 
@@ -91,7 +93,7 @@ public class MovieService {
     }
 
     /**
-     * 특정 영화의 리뷰 목록 조회 (Page 객체 활용)
+     * 특정 영화의 리뷰 목록 조회 (페이지 번호 기반)
      */
     @Transactional(readOnly = true) // 읽기 전용 트랜잭션
     public ReviewListResponseDto getMovieReviews(Integer movieId, String sortBy, int page, int size, Long userId) {
@@ -104,25 +106,61 @@ public class MovieService {
         Pageable pageable = PageRequest.of(page, size);
 
         // 3. 배치 처리된 summary 테이블을 활용한 정렬 기준별 리뷰 조회
-        Page<Object[]> reviewResultPage;
-        switch (sortBy.toLowerCase()) {
-            case "likes":
-                reviewResultPage = reviewRepository.findReviewsByMovieIdOrderByLikesNative(
-                        movieId, pageable);
-                break;
-            case "comments":
-                reviewResultPage = reviewRepository.findReviewsByMovieIdOrderByCommentsNative(
-                        movieId, pageable);
-                break;
-            case "latest":
-            default:
-                reviewResultPage = reviewRepository.findReviewsByMovieIdOrderByLatestNative(
-                        movieId, pageable);
-                break;
+        Slice<Object[]> reviewSlice = switch (ReviewSort.from(sortBy)) {
+            case LIKES -> reviewRepository.findReviewsByMovieIdOrderByLikesNative(movieId, pageable);
+            case COMMENTS -> reviewRepository.findReviewsByMovieIdOrderByCommentsNative(movieId, pageable);
+            case LATEST -> reviewRepository.findReviewsByMovieIdOrderByLatestNative(movieId, pageable);
+        };
+
+        return buildReviewListResponse(movieId, sortBy, reviewSlice, userId);
+    }
+
+    /**
+     * 특정 영화의 리뷰 목록 조회 (커서 기반)
+     * 이전 응답의 nextCursor 이후만 인덱스 범위로 읽으므로, 깊이 스크롤해도 앞 페이지를 다시 훑지 않습니다.
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지이면 null)
+     */
+    @Transactional(readOnly = true)
+    public ReviewListResponseDto getMovieReviewsByCursor(Integer movieId, String sortBy, String cursor, int size, Long userId) {
+        if (!movieRepository.existsById(movieId)) {
+            throw new MovieNotFoundException(movieId);
+        }
+
+        KeysetCursor keyset = KeysetCursor.parse(cursor);
+        if (keyset == null) {
+            return getMovieReviews(movieId, sortBy, 0, size, userId);
+        }
+
+        Pageable limit = PageRequest.of(0, size);
+        Slice<Object[]> reviewSlice = switch (ReviewSort.from(sortBy)) {
+            case LIKES -> reviewRepository.findReviewsByMovieIdOrderByLikesNativeAfter(
+                    movieId, (long) keyset.requireScore(), keyset.createdAt(), keyset.uuidId(), limit);
+            case COMMENTS -> reviewRepository.findReviewsByMovieIdOrderByCommentsNativeAfter(
+                    movieId, (long) keyset.requireScore(), keyset.createdAt(), keyset.uuidId(), limit);
+            case LATEST -> reviewRepository.findReviewsByMovieIdOrderByLatestNativeAfter(
+                    movieId, keyset.createdAt(), keyset.uuidId(), limit);
+        };
+
+        return buildReviewListResponse(movieId, sortBy, reviewSlice, userId);
+    }
+
+    // 영화 리뷰 목록 정렬 기준 (알 수 없는 값은 최신순)
+    private enum ReviewSort {
+        LIKES, COMMENTS, LATEST;
+
+        static ReviewSort from(String sortBy) {
+            return switch (sortBy == null ? "" : sortBy.toLowerCase()) {
+                case "likes" -> LIKES;
+                case "comments" -> COMMENTS;
+                default -> LATEST;
+            };
         }
+    }
 
+    private ReviewListResponseDto buildReviewListResponse(Integer movieId, String sortBy, Slice<Object[]> reviewSlice, Long userId) {
         // 4. 현재 페이지의 리뷰 ID 목록 추출
-        List<UUID> reviewIdsOnPage = reviewResultPage.getContent().stream()
+        List<UUID> reviewIdsOnPage = reviewSlice.getContent().stream()
                 .map(row -> {
                     byte[] reviewIdBytes = (byte[]) row[0];
                     return bytesToUUID(reviewIdBytes);
@@ -137,7 +175,7 @@ public class MovieService {
 
         // 4. Native Query 결과를 DTO로 변환
         final Set<UUID> finalLikedReviewIds = likedReviewIds; // 람다에서 사용하기 위해 final 또는 effectively final로 만듦
-        List<ReviewListResponseDto.ReviewInfo> reviewInfoList = reviewResultPage.getContent()
+        List<ReviewListResponseDto.ReviewInfo> reviewInfoList = reviewSlice.getContent()
                 .stream()
                 .map(row -> {
                     ReviewListResponseDto.ReviewInfo reviewInfo = mapToReviewInfo(row); // 여기서 수정된 헬퍼 메서드 사용
@@ -147,11 +185,8 @@ public class MovieService {
                 })
                 .collect(Collectors.toList());
 
-        // 5. Page 객체에서 총 리뷰 수 가져오기 (자동 count 쿼리 결과)
-        long totalReviews = reviewResultPage.getTotalElements();
-
         // 6. 리뷰 통계 정보 조회
-        // MovieSummary에서 총 리뷰 수와 평균 평점을 가져오는 것이 더 효율적입니다.
+        // MovieSummary에서 총 리뷰 수와 평균 평점을 가져오는 것이 더 효율적입니다. (페이지마다 count 쿼리를 실행하지 않음)
         MovieSummary movieSummary = movieSummaryRepository.findById(movieId).orElse(null);
 
         // totalReviews와 averageRating을 MovieSummary에서 가져옵니다.
@@ -163,11 +198,24 @@ public class MovieService {
                 .averageRating(averageRatingFromSummary) // MovieSummary의 getUserRatingAverage() 사용
                 .build();
 
-
-        // 7. 최종 응답 DTO 구성
+        // 7. 다음 페이지 커서 (정렬 기준의 점수 + 작성 시각 + 리뷰 ID)
+        ReviewSort sort = ReviewSort.from(sortBy);
+        String nextCursor = KeysetCursor.nextOf(reviewSlice, row -> {
+            LocalDateTime createdAt = ((Timestamp) row[6]).toLocalDateTime();
+            UUID reviewId = bytesToUUID((byte[]) row[0]);
+            return switch (sort) {
+                case LIKES -> KeysetCursor.of(((Number) row[11]).doubleValue(), createdAt, reviewId);
+                case COMMENTS -> KeysetCursor.of(((Number) row[12]).doubleValue(), createdAt, reviewId);
+                case LATEST -> KeysetCursor.of(createdAt, reviewId);
+            };
+        });
+
+        // 8. 최종 응답 DTO 구성
         return ReviewListResponseDto.builder()
                 .reviews(reviewInfoList)
                 .reviewStats(reviewStats)
+                .hasNext(reviewSlice.hasNext())
+                .nextCursor(nextCursor)
                 .build();
     }
 
@@ -278,10 +326,14 @@ public class MovieService {
         }
     }
 
-    @CacheEvict(value = "movie-details", key = "#movieId")
+    /**
+     * 영화 상세 정보 캐시를 수동으로 무효화합니다. (L2 + 모든 노드의 L1)
+     * 일반적인 변경은 MovieChangedEvent / ReviewChangedEvent를 통해 자동으로 무효화되므로 직접 호출할 필요가 없습니다.
+     * 트랜잭션 안에서 호출되면 커밋 이후에 무효화됩니다.
+     */
     public void evictMovieDetailsCache(Integer movieId) {
         log.info("===== 영화 ID: {}의 상세 정보 캐시를 삭제합니다. =====", movieId);
-        // 이 메서드는 어노테이션이 핵심이므로, 내부 로직은 비워두어도 됩니다.
+        cacheInvalidator.invalidate(RedisConfig.MOVIE_STATIC_DETAILS_CACHE, movieId);
     }
 
     /**
@@ -338,35 +390,26 @@ public class MovieService {
         // limit만큼만 처리
         int actualLimit = Math.min(limit, ONBOARDING_MOVIE_LIST.length);
 
-        List<OnboardingMovieResponseDto> result = new ArrayList<>();
-
-        // 배열 순회하면서 각 영화 정보 조회
-        for (int i = 0; i < actualLimit; i++) {
-            Integer movieId = ONBOARDING_MOVIE_LIST[i];
-
-            // 영화 정보 조회
-            Optional<Movie> movieOpt = movieRepository.findById(movieId);
-
-            if (movieOpt.isPresent()) {
-                Movie movie = movieOpt.get();
+        List<Integer> movieIds = Arrays.asList(ONBOARDING_MOVIE_LIST).subList(0, actualLimit);
 
-                // 장르 정보 조회
-                List<String> genres = movieGenreRepository.findGenreNamesByMovieId(movieId);
-
-                // DTO 생성
-                OnboardingMovieResponseDto dto = OnboardingMovieResponseDto.builder()
-                        .movieId(movie.getMovieId())
-                        .title(movie.getTitle())
-                        .posterUrl(movie.getPosterUrl())
-                        .genres(genres)
-                        .build();
-
-                result.add(dto);
-            } else {
-                log.warn("온보딩 리스트의 영화 ID {}를 찾을 수 없습니다.", movieId);
-            }
+        // 영화 / 장르 정보를 한 번에 조회하여 카드로 조립 (배열 순서 유지)
+        List<MovieCardDto> cards = movieCardAssembler.assemble(movieIds);
+        if (cards.size() < movieIds.size()) {
+            Set<Integer> foundIds = cards.stream().map(MovieCardDto::getMovieId).collect(Collectors.toSet());
+            movieIds.stream()
+                    .filter(movieId -> !foundIds.contains(movieId))
+                    .forEach(movieId -> log.warn("온보딩 리스트의 영화 ID {}를 찾을 수 없습니다.", movieId));
         }
 
+        List<OnboardingMovieResponseDto> result = cards.stream()
+                .map(card -> OnboardingMovieResponseDto.builder()
+                        .movieId(card.getMovieId())
+                        .title(card.getTitle())
+                        .posterUrl(card.getPosterUrl())
+                        .genres(card.getGenres())
+                        .build())
+                .collect(Collectors.toList());
+
         return result;
     }
 
@@ -377,33 +420,44 @@ public class MovieService {
      */
     @Transactional(readOnly = true)
     public List<PopularMovieResponseDto> getPopularMovies() {
-        // 1. Redis ZSET에서 인기 영화 ID 목록을 상위 N개 조회합니다. (점수 높은 순)
-        // reverseRange(key, start, end) -> 0부터 (POPULAR_MOVIES_COUNT - 1)까지
-        Set<Object> movieIdsObjects = redisTemplate.opsForZSet().reverseRange(POPULAR_MOVIES_ZSET_KEY, 0, POPULAR_MOVIES_COUNT - 1);
-
-        if (movieIdsObjects == null || movieIdsObjects.isEmpty()) {
-            log.warn("Popular movies ZSET is empty or not found. Returning empty list.");
+        // 1~2. 인기 영화 ID 목록을 상위 N개 조회합니다. (점수 높은 순)
+        List<Integer> movieIds = findPopularMovieIds();
+        if (movieIds.isEmpty()) {
+            log.warn("Popular movies ZSET and snapshot are empty or not found. Returning empty list.");
             return Collections.emptyList();
         }
 
-        // 2. Object 타입을 Integer 타입의 ID 목록으로 변환합니다.
-        List<Integer> movieIds = movieIdsObjects.stream()
-                .map(id -> Integer.parseInt(id.toString()))
+        // 3~4. 카드 조립기로 한 번에 조회하고, Redis에서 가져온 순서(랭킹 순서)를 유지하면서 DTO 리스트를 생성합니다.
+        //      (DB에서 어떤 이유로 조회가 안 된 영화(삭제 등)는 제외됩니다.)
+        return movieCardAssembler.assemble(movieIds).stream()
+                .map(card -> PopularMovieResponseDto.builder() // DTO로 변환
+                        .movieId(card.getMovieId())
+                        .title(card.getTitle())
+                        .posterUrl(card.getPosterUrl())
+                        .build())
                 .collect(Collectors.toList());
+    }
 
-        // 3. RDB에서 ID 목록으로 영화의 상세 정보를 한 번에 조회합니다. (IN 쿼리)
-        Map<Integer, Movie> movieMap = movieRepository.findAllById(movieIds).stream()
-                .collect(Collectors.toMap(Movie::getMovieId, Function.identity()));
-
-        // 4. Redis에서 가져온 순서(랭킹 순서)를 유지하면서 DTO 리스트를 생성합니다.
-        return movieIds.stream()
-                .map(movieMap::get) // Map에서 ID에 해당하는 Movie 객체를 찾습니다.
-                .filter(Objects::nonNull) // DB에서 어떤 이유로 조회가 안 된 경우(삭제 등)를 대비해 null 체크
-                .map(movie -> PopularMovieResponseDto.builder() // DTO로 변환
-                        .movieId(movie.getMovieId())
-                        .title(movie.getTitle())
-                        .posterUrl(movie.getPosterUrl())
-                        .build())
+    /**
+     * 랭킹 준비가 끝났다면 Redis ZSET에서, 아직 준비 중(서버 기동 직후)이라면 마지막 스냅샷에서 인기 영화 ID를 가져옵니다.
+     * 스냅샷이 없으면 현재 ZSET을 그대로 사용합니다.
+     */
+    private List<Integer> findPopularMovieIds() {
+        if (!popularMovieScheduler.isRankingReady()) {
+            List<Integer> snapshot = popularMovieScheduler.findLastSnapshot();
+            if (!snapshot.isEmpty()) {
+                return snapshot.subList(0, Math.min(POPULAR_MOVIES_COUNT, snapshot.size()));
+            }
+        }
+
+        // reverseRange(key, start, end) -> 0부터 (POPULAR_MOVIES_COUNT - 1)까지
+        Set<Object> movieIdsObjects = redisTemplate.opsForZSet().reverseRange(POPULAR_MOVIES_ZSET_KEY, 0, POPULAR_MOVIES_COUNT - 1);
+        if (movieIdsObjects == null) {
+            return Collections.emptyList();
+        }
+        // Object 타입을 Integer 타입의 ID 목록으로 변환합니다.
+        return movieIdsObjects.stream()
+                .map(id -> Integer.parseInt(id.toString()))
                 .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,42 @@
+package com.d208.feelroom.movie.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인기 영화 랭킹 준비 상태를 readiness 그룹에 노출합니다. (health 컴포넌트 이름: popularMovieRanking)
+ *
+ * - 랭킹 계산 완료: UP
+ * - 준비 중이지만 이전 스냅샷이 있음: UP (스냅샷으로 응답 가능하므로 트래픽을 받아도 됨)
+ * - 준비 중이고 스냅샷은 없지만 popular_movies ZSET이 남아 있음: UP (조회가 현재 ZSET을 그대로 사용함)
+ * - 준비 중이고 둘 다 없음: OUT_OF_SERVICE (시작 시 실패했다면 백오프로 재시도 중)
+ */
+@Component
+@RequiredArgsConstructor
+public class PopularMovieRankingHealthIndicator implements HealthIndicator {
+
+    private final PopularMovieScheduler popularMovieScheduler;
+
+    @Override
+    public Health health() {
+        if (popularMovieScheduler.isRankingReady()) {
+            return Health.up().withDetail("phase", "READY").build();
+        }
+
+        Health.Builder builder;
+        if (!popularMovieScheduler.findLastSnapshot().isEmpty()) {
+            builder = Health.up().withDetail("servingSnapshot", true);
+        } else if (popularMovieScheduler.hasLiveRanking()) {
+            builder = Health.up().withDetail("servingLiveRanking", true);
+        } else {
+            builder = Health.outOfService();
+        }
+        builder.withDetail("phase", popularMovieScheduler.getWarmUpFailure() == null ? "WARMING_UP" : "FAILED");
+        if (popularMovieScheduler.getWarmUpFailure() != null) {
+            builder.withDetail("error", popularMovieScheduler.getWarmUpFailure());
+        }
+        return builder.build();
+    }
+}
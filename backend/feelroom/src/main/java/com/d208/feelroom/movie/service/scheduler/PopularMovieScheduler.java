@@ -6,23 +6,35 @@ import com.d208.feelroom.movie.domain.entity.summary.MovieSummary; // MovieSumma
 import com.d208.feelroom.movie.domain.repository.MovieRepository;
 import com.d208.feelroom.movie.domain.repository.MovieSummaryRepository;
 import com.d208.feelroom.review.domain.repository.ReviewRepository; // 리뷰 레포지토리 추가
-import jakarta.annotation.PostConstruct;
+import com.d208.feelroom.global.config.AsyncConfig;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StopWatch;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoUnit;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -37,22 +49,105 @@ public class PopularMovieScheduler {
     private final RedisTemplate<String, Object> redisTemplate;
 
     private static final String POPULAR_MOVIES_ZSET_KEY = "popular_movies";
+    private static final String POPULAR_MOVIES_TMP_KEY_PREFIX = POPULAR_MOVIES_ZSET_KEY + ":rebuild:"; // + 실행별 UUID
+    private static final Duration POPULAR_MOVIES_TMP_TTL = Duration.ofMinutes(10); // RENAME 전에 실패하면 남는 임시 키 정리용
+    private static final long MAX_RANKING_SIZE = 5000;
+    private static final String POPULAR_MOVIES_SNAPSHOT_KEY = POPULAR_MOVIES_ZSET_KEY + ":snapshot";
+    private static final int SNAPSHOT_SIZE = 100;
+
+    private volatile boolean rankingReady = false;
+    private volatile String warmUpFailure;
+    private volatile int warmUpAttempts = 0;
+    private volatile long nextWarmUpAt = Long.MAX_VALUE; // 재시도 예정 시각 (epoch millis), 실패 전에는 재시도하지 않음
+
+    @Value("${popular-movies.warm-up.initial-retry-delay-ms:10000}")
+    private long initialRetryDelayMs;
+
+    @Value("${popular-movies.warm-up.max-retry-delay-ms:600000}")
+    private long maxRetryDelayMs;
+
     private static final double GRAVITY = 1.5;
 
-    @PostConstruct
+    /**
+     * 애플리케이션 기동이 끝난 뒤 백그라운드에서 랭킹을 준비합니다.
+     * 컨텍스트 초기화(@PostConstruct)를 막지 않으며, 진행 상태는 readiness 헬스 체크(popularMovieRanking)로 노출됩니다.
+     * 준비가 끝나기 전까지 인기 영화 조회는 마지막으로 저장된 스냅샷을 사용합니다.
+     */
+    @Async(AsyncConfig.DEFAULT_EXECUTOR)
+    @EventListener(ApplicationReadyEvent.class)
     public void init() {
+        warmUp("[Startup]");
+    }
+
+    /**
+     * 시작 시 랭킹 준비가 실패했다면 새벽 배치를 기다리지 않고 지수 백오프로 다시 시도합니다.
+     * (스냅샷이 없는 인스턴스는 그동안 readiness가 OUT_OF_SERVICE로 남기 때문)
+     */
+    @Scheduled(fixedDelayString = "${popular-movies.warm-up.retry-check-interval-ms:5000}")
+    public void retryWarmUp() {
+        if (rankingReady || System.currentTimeMillis() < nextWarmUpAt) {
+            return;
+        }
+        warmUp("[Startup-Retry]");
+    }
+
+    private void warmUp(String phase) {
         StopWatch stopWatch = new StopWatch("MoviePopularityInitializer");
         stopWatch.start("Calculating popular movie scores");
-        log.info("[PostConstruct] Initializing popular movie scores on application startup...");
+        log.info("{} Warming up popular movie scores in background... (attempt {})", phase, warmUpAttempts + 1);
 
         try {
             updatePopularMovieScores();
+            warmUpFailure = null;
+            nextWarmUpAt = Long.MAX_VALUE;
+        } catch (Exception e) {
+            warmUpFailure = e.getMessage();
+            warmUpAttempts++;
+            long delay = Math.min(maxRetryDelayMs, initialRetryDelayMs << Math.min(warmUpAttempts - 1, 20));
+            nextWarmUpAt = System.currentTimeMillis() + delay;
+            log.error("{} Popular movie warm-up failed. Serving last snapshot and retrying in {} ms.", phase, delay, e);
         } finally {
             stopWatch.stop();
-            log.info("[PostConstruct] Finished initializing popular movie scores. {}", stopWatch.prettyPrint());
+            log.info("{} Finished popular movie warm-up. {}", phase, stopWatch.prettyPrint());
         }
     }
 
+    /**
+     * 이번 인스턴스에서 랭킹 계산이 한 번 이상 성공했는지 여부
+     */
+    public boolean isRankingReady() {
+        return rankingReady;
+    }
+
+    /**
+     * 시작 시 랭킹 준비가 실패했다면 그 원인 (없으면 null)
+     */
+    public String getWarmUpFailure() {
+        return warmUpFailure;
+    }
+
+    /**
+     * popular_movies ZSET에 랭킹이 남아 있는지 여부 (스냅샷이 없을 때 조회가 이 랭킹을 그대로 사용함)
+     */
+    public boolean hasLiveRanking() {
+        Long size = redisTemplate.opsForZSet().zCard(POPULAR_MOVIES_ZSET_KEY);
+        return size != null && size > 0;
+    }
+
+    /**
+     * 마지막으로 저장된 랭킹 스냅샷 (상위 영화 ID, 순위 순서)
+     */
+    @SuppressWarnings("unchecked")
+    public List<Integer> findLastSnapshot() {
+        Object snapshot = redisTemplate.opsForValue().get(POPULAR_MOVIES_SNAPSHOT_KEY);
+        if (!(snapshot instanceof List<?> ids)) {
+            return Collections.emptyList();
+        }
+        return ids.stream()
+                .map(id -> Integer.parseInt(id.toString()))
+                .collect(Collectors.toList());
+    }
+
     @Scheduled(cron = "0 0 3 * * *")
     public void updatePopularMovieScores() {
         log.info("[Scheduler] Starting popular movie score update...");
@@ -61,6 +156,7 @@ public class PopularMovieScheduler {
         Set<Integer> targetMovieIds = getTargetMovieIds();
         if (targetMovieIds.isEmpty()) {
             log.info("[Scheduler] No target movies to update. Skipping.");
+            rankingReady = true; // 계산할 대상이 없으면 현재 랭킹이 최신 상태
             return;
         }
         log.info("[Scheduler] Target movie count: {}", targetMovieIds.size());
@@ -70,7 +166,8 @@ public class PopularMovieScheduler {
         Map<Integer, MovieSummary> summaryMap = movieSummaryRepository.findAllById(targetMovieIds).stream()
                 .collect(Collectors.toMap(MovieSummary::getMovieId, Function.identity()));
 
-        // 3. 선별된 영화들에 대해서만 점수를 계산하고 Redis에 업데이트합니다.
+        // 3. 선별된 영화들에 대해서만 점수를 계산하여 한 번에 쓸 배치를 만듭니다.
+        Set<ZSetOperations.TypedTuple<Object>> scoreBatch = new HashSet<>(targetMovies.size());
         targetMovies.forEach(movie -> {
             MovieSummary summary = summaryMap.get(movie.getMovieId());
             if (summary == null || summary.getReviewCount() == 0) {
@@ -81,13 +178,60 @@ public class PopularMovieScheduler {
             double baseScore = summary.getReviewCount() * Math.pow(averageRating, 2);
             double finalScore = calculateDecayedScore(baseScore, movie.getReleaseDate());
 
-            redisTemplate.opsForZSet().add(POPULAR_MOVIES_ZSET_KEY, movie.getMovieId(), finalScore);
+            scoreBatch.add(new DefaultTypedTuple<>(movie.getMovieId(), finalScore));
         });
 
-        // 4. ZSET을 정리하여 너무 오래된 데이터를 삭제합니다.
-        trimZSet();
+        // 4. 임시 키에 기존 랭킹 복사 + 배치 ZADD + 정리 후 RENAME 하여, 읽는 쪽에서 반쯤 갱신된 랭킹을 보지 않도록 합니다.
+        if (scoreBatch.isEmpty()) {
+            trimZSet(POPULAR_MOVIES_ZSET_KEY);
+        } else {
+            replaceRanking(scoreBatch);
+        }
+
+        // 5. 다음 기동 시 랭킹 준비 전까지 제공할 스냅샷을 저장합니다.
+        saveSnapshot();
+        rankingReady = true;
+        warmUpFailure = null;
+
+        log.info("[Scheduler] Finished popular movie score update for {} movies ({} scored).", targetMovies.size(), scoreBatch.size());
+    }
 
-        log.info("[Scheduler] Finished popular movie score update for {} movies.", targetMovies.size());
+    /**
+     * 계산된 점수 배치를 파이프라인 한 번으로 임시 키에 쓰고, popular_movies 위로 원자적으로 RENAME 합니다.
+     * 이번에 대상이 아닌 영화의 기존 점수는 유지되도록 현재 랭킹을 먼저 임시 키로 복사합니다.
+     * 여러 노드가 동시에 실행해도 서로의 임시 키를 덮어쓰지 않도록 실행마다 고유한 임시 키를 씁니다.
+     */
+    private void replaceRanking(Set<ZSetOperations.TypedTuple<Object>> scoreBatch) {
+        String tmpKey = POPULAR_MOVIES_TMP_KEY_PREFIX + UUID.randomUUID();
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                // ZUNIONSTORE tmp 1 popular_movies (원본이 없으면 빈 결과)
+                operations.opsForZSet().unionAndStore(POPULAR_MOVIES_ZSET_KEY, Collections.emptyList(), tmpKey);
+                operations.opsForZSet().add(tmpKey, scoreBatch); // 단일 ZADD (다중 멤버)
+                operations.opsForZSet().removeRange(tmpKey, 0, -(MAX_RANKING_SIZE + 1));
+                operations.expire(tmpKey, POPULAR_MOVIES_TMP_TTL);
+                operations.rename(tmpKey, POPULAR_MOVIES_ZSET_KEY);
+                operations.persist(POPULAR_MOVIES_ZSET_KEY); // RENAME은 TTL도 옮기므로 해제
+                return null;
+            }
+        });
+        log.info("[Scheduler] Replaced popular_movies ZSET with {} updated scores (max {} entries).", scoreBatch.size(), MAX_RANKING_SIZE);
+    }
+
+    /**
+     * 현재 랭킹 상위 영화 ID를 순위 순서대로 스냅샷 키에 저장합니다. (만료 없음)
+     */
+    private void saveSnapshot() {
+        Set<Object> topRanked = redisTemplate.opsForZSet().reverseRange(POPULAR_MOVIES_ZSET_KEY, 0, SNAPSHOT_SIZE - 1);
+        if (topRanked == null || topRanked.isEmpty()) {
+            return;
+        }
+        List<Integer> snapshot = topRanked.stream()
+                .map(id -> Integer.parseInt(id.toString()))
+                .collect(Collectors.toList());
+        redisTemplate.opsForValue().set(POPULAR_MOVIES_SNAPSHOT_KEY, snapshot);
     }
 
     /**
@@ -117,11 +261,10 @@ public class PopularMovieScheduler {
     /**
      * ZSET의 크기를 관리하기 위해 오래된 (순위가 낮은) 항목들을 제거합니다.
      */
-    private void trimZSet() {
+    private void trimZSet(String key) {
         // 최대 5000개의 영화만 랭킹에 유지하고, 그보다 순위가 낮은 영화는 제거
-        long maxRank = 5000;
-        redisTemplate.opsForZSet().removeRange(POPULAR_MOVIES_ZSET_KEY, 0, - (maxRank + 1));
-        log.info("[Scheduler] Trimmed popular_movies ZSET to max {} entries.", maxRank);
+        redisTemplate.opsForZSet().removeRange(key, 0, - (MAX_RANKING_SIZE + 1));
+        log.info("[Scheduler] Trimmed popular_movies ZSET to max {} entries.", MAX_RANKING_SIZE);
     }
 
     // calculateDecayedScore 메서드는 이전과 동일
@@ -4,9 +4,11 @@ import com.d208.feelroom.movie.domain.entity.Movie;
 import com.d208.feelroom.movie.domain.repository.MovieRepository;
 import com.d208.feelroom.movie.dto.TmdbChangesResponseDto;
 import com.d208.feelroom.movie.dto.TmdbMovieDetailDto;
+import com.d208.feelroom.movie.event.MovieChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,6 +30,7 @@ public class TmdbChangesService {
 
     private final RestTemplate restTemplate;
     private final MovieRepository movieRepository;
+    private final ApplicationEventPublisher appEventPublisher;
 
     @Value("${tmdb.api.key}")
     private String tmdbApiKey;
@@ -258,6 +261,8 @@ public class TmdbChangesService {
 
                 if (hasChanges) {
                     movieRepository.save(movie);
+                    // 캐시 무효화 이벤트 (배치 트랜잭션 안에서는 커밋 후 한 번에 무효화됨)
+                    appEventPublisher.publishEvent(new MovieChangedEvent(movie.getMovieId(), MovieChangedEvent.ChangeType.MOVIE_UPDATED));
                     return true;
                 }
             } else {
@@ -3,9 +3,12 @@ package com.d208.feelroom.movie.service.scheduler;
 import com.d208.feelroom.movie.domain.entity.*;
 import com.d208.feelroom.movie.domain.repository.*;
 import com.d208.feelroom.movie.dto.*;
+import com.d208.feelroom.movie.event.MovieChangedEvent;
+import com.d208.feelroom.movie.event.MovieCreatedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,6 +25,7 @@ public class TmdbMovieImportService {
 
     private final RestTemplate restTemplate;
     private final MovieRepository movieRepository;
+    private final ApplicationEventPublisher appEventPublisher;
     private final ActorRepository actorRepository;
     private final DirectorRepository directorRepository;
     private final GenreRepository genreRepository;
@@ -290,6 +294,10 @@ public class TmdbMovieImportService {
             }
         }
 
+        // 6. 캐시 무효화 / 자동완성 인덱스 반영 이벤트
+        appEventPublisher.publishEvent(new MovieChangedEvent(movie.getMovieId(), MovieChangedEvent.ChangeType.METADATA_CHANGED));
+        appEventPublisher.publishEvent(new MovieCreatedEvent(movie.getMovieId(), movie.getTitle(), movie.getReleaseDate(), movie.getVoteCount()));
+
         log.info("Successfully processed movie with all relations: {} (TMDB ID: {})", movie.getTitle(), movie.getTmdbId());
     }
 
@@ -414,6 +422,9 @@ public class TmdbMovieImportService {
                 }
             }
         }
+
+        // 캐시 무효화 이벤트 (기존 영화의 장르/배우/감독/키워드가 바뀜)
+        appEventPublisher.publishEvent(new MovieChangedEvent(movieId, MovieChangedEvent.ChangeType.METADATA_CHANGED));
     }
 
     /**
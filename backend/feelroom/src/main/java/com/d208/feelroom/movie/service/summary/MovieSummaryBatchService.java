@@ -5,14 +5,20 @@ import com.d208.feelroom.movie.domain.entity.summary.MovieSummary;
 import com.d208.feelroom.movie.domain.repository.MovieRepository;
 import com.d208.feelroom.movie.domain.repository.MovieSummaryRepository;
 import com.d208.feelroom.review.domain.repository.ReviewRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Slf4j
 @Service
@@ -22,6 +28,22 @@ public class MovieSummaryBatchService {
     private final MovieRepository movieRepository; // MovieSummary 생성 시 Movie 엔티티 조회용으로 필요
     private final ReviewRepository reviewRepository;
     private final MovieSummaryRepository movieSummaryRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${batch.movie-summary.chunk-size:1000}") // 보정 UPDATE 한 번에 넣을 영화 ID 수 (IN 목록 크기 제한)
+    private int chunkSize;
+
+    // 마지막 배치 실행에서 발견된 drift 규모 (Gauge)
+    private final AtomicLong lastDriftedMovies = new AtomicLong();
+    private final AtomicLong lastReviewCountDrift = new AtomicLong();
+    private final AtomicLong lastRatingSumDrift = new AtomicLong();
+
+    @PostConstruct
+    public void registerMetrics() {
+        meterRegistry.gauge("movie.summary.sync.drifted.movies", lastDriftedMovies);
+        meterRegistry.gauge("movie.summary.sync.drift.review.count", lastReviewCountDrift);
+        meterRegistry.gauge("movie.summary.sync.drift.rating.sum", lastRatingSumDrift);
+    }
 
     /**
      * 서버 시작 시 딱 한 번 실행되는 초기화 메서드.
@@ -37,39 +59,45 @@ public class MovieSummaryBatchService {
     /**
      * 매일 새벽 2시에 기존 MovieSummary 레코드들을 Review 테이블의 실제 데이터와 재동기화합니다.
      * 이 배치는 이미 리뷰가 하나라도 달려 MovieSummary 레코드가 생성된 영화들만 대상으로 합니다.
+     *
+     * movie_summary와 reviews 집계를 한 번의 스캔으로 비교하여, 어긋난 영화만 chunkSize개씩 나눈 UPDATE로 보정합니다.
+     * 발견된 drift 규모는 Actuator 메트릭(movie.summary.sync.*)으로 노출됩니다.
      */
     @Scheduled(cron = "0 0 2 * * *") // 매일 2 AM에 실행
+    @Transactional
     public void syncExistingMovieSummaries() {
-        log.info("===== MovieSummary Sync Batch Started (Existing Summaries Only) =====");
+        log.info("===== MovieSummary Sync Batch Started (Set-based, Drift Only) =====");
         long startTime = System.currentTimeMillis();
 
-        // 1. 현재 MovieSummary 테이블에 존재하는 모든 MovieSummary 엔티티를 가져옵니다.
-        //    (id만 가져와도 되지만, 엔티티를 가져와서 바로 사용할 수 있도록 findAll 사용)
-        List<MovieSummary> existingSummaries = movieSummaryRepository.findAll();
-
-        int processedCount = 0;
-        int failedCount = 0;
-
-        log.info("Processing {} existing MovieSummaries...", existingSummaries.size());
-        for (MovieSummary summary : existingSummaries) {
-            try {
-                // 각 영화별 요약 정보 업데이트를 별도의 트랜잭션으로 처리
-                // syncSingleMovieSummary는 MovieSummary를 찾거나 생성하고 reconcile 후 저장합니다.
-                // 이미 summary 객체를 가지고 있지만, 트랜잭션 분리를 위해 movieId로 다시 찾도록 합니다.
-                // 아니면, summary 객체를 넘겨주는 오버로드 메서드를 만들 수도 있습니다. (여기서는 기존 로직 유지)
-                syncSingleMovieSummary(summary.getMovieId());
-                processedCount++;
-            } catch (Exception e) {
-                failedCount++;
-                log.error("Failed to sync MovieSummary for movie ID: {}. Error: {}", summary.getMovieId(), e.getMessage(), e);
-                // 특정 영화 처리 실패 시에도 다른 영화 처리는 계속 진행
-            }
+        // 1. 한 번의 집계 스캔으로 drift가 발생한 영화만 조회
+        List<Object[]> driftedRows = movieSummaryRepository.findDriftedMovieSummaries();
+
+        List<Integer> driftedMovieIds = new ArrayList<>(driftedRows.size());
+        long reviewCountDrift = 0;
+        long ratingSumDrift = 0;
+        for (Object[] row : driftedRows) {
+            driftedMovieIds.add(((Number) row[0]).intValue());
+            reviewCountDrift += Math.abs(((Number) row[2]).longValue() - ((Number) row[1]).longValue());
+            ratingSumDrift += Math.abs(((Number) row[4]).longValue() - ((Number) row[3]).longValue());
+        }
+
+        // 2. 어긋난 영화만 보정 (대부분의 날에는 0건). 대량 drift 시 IN 목록이 무한정 커지지 않도록 청크 단위로 실행
+        int updatedCount = 0;
+        for (int from = 0; from < driftedMovieIds.size(); from += chunkSize) {
+            List<Integer> chunk = driftedMovieIds.subList(from, Math.min(from + chunkSize, driftedMovieIds.size()));
+            updatedCount += movieSummaryRepository.reconcileMovieSummaries(chunk);
         }
 
-        long endTime = System.currentTimeMillis();
+        long duration = System.currentTimeMillis() - startTime;
+        lastDriftedMovies.set(driftedMovieIds.size());
+        lastReviewCountDrift.set(reviewCountDrift);
+        lastRatingSumDrift.set(ratingSumDrift);
+        meterRegistry.counter("movie.summary.sync.corrected").increment(updatedCount);
+        meterRegistry.timer("movie.summary.sync.duration").record(duration, TimeUnit.MILLISECONDS);
+
         log.info("===== MovieSummary Sync Batch Finished =====");
-        log.info("Total existing summaries processed: {}, Success: {}, Failed: {}, Duration: {} ms",
-                existingSummaries.size(), processedCount, failedCount, (endTime - startTime));
+        log.info("Drifted movies: {}, Updated: {}, Review count drift: {}, Rating sum drift: {}, Duration: {} ms",
+                driftedMovieIds.size(), updatedCount, reviewCountDrift, ratingSumDrift, duration);
     }
 
 
@@ -28,7 +28,7 @@ public class NotificationController {
      * [API 1] 안 읽은 알림 존재 여부 확인
      */
     @Operation(summary = "안 읽은 알림 존재 여부 확인",
-            description = "안 읽은 알림이 있는지 빠르게 확인하여 아이콘 등에 표시할 때 사용합니다.")
+            description = "안 읽은 알림이 있는지와 그 개수(unread_count)를 빠르게 확인하여 아이콘 / 배지 등에 표시할 때 사용합니다.")
     @GetMapping("/exists-unread")
     public ResponseEntity<UnreadNotificationStatusDto> getUnreadNotificationStatus(
             @Parameter(hidden = true) @AuthenticationPrincipal UserDetailsImpl userDetails) {
@@ -46,10 +46,12 @@ public class NotificationController {
     @GetMapping
     public ResponseEntity<NotificationSliceResponseDto> getMyNotifications(
             @PageableDefault(size = 20) Pageable pageable,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략, 지정하면 page는 무시)")
+            @RequestParam(required = false) String cursor,
             @Parameter(hidden = true) @AuthenticationPrincipal UserDetailsImpl userDetails) {
 
         Long userId = userDetails.getUser().getUserId();
-        NotificationSliceResponseDto response = notificationService.getNotifications(userId, pageable);
+        NotificationSliceResponseDto response = notificationService.getNotifications(userId, cursor, pageable);
         return ResponseEntity.ok(response);
     }
 
@@ -52,6 +52,10 @@ public class Notification {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    // 중복 기록 방지 키 (NotificationWriter가 INSERT ... ON DUPLICATE KEY UPDATE와 함께 사용, UNIQUE)
+    @Column(name = "idempotency_key", length = 100, updatable = false)
+    private String idempotencyKey;
+
     // 생성 시점에 isRead와 createdAt을 초기화
     @PrePersist
     protected void onCreate() {
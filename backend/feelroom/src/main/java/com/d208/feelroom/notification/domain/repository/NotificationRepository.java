@@ -8,14 +8,30 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
     /**
-     * [API 1] 특정 사용자에게 안 읽은 알림이 하나 이상 존재하는지 확인합니다.
+     * [API 1] 특정 사용자의 안 읽은 알림 수를 셉니다. (Redis 카운터가 없을 때만 사용, UnreadNotificationCounter)
      */
-    boolean existsByReceiver_UserIdAndIsRead(Long receiverId, char isRead);
+    long countByReceiver_UserIdAndIsRead(Long receiverId, char isRead);
+
+    /**
+     * [API 1] 여러 사용자의 안 읽은 알림 수를 한 번에 셉니다. (Redis 카운터 주기 보정용)
+     * 안 읽은 알림이 없는 사용자는 결과에 포함되지 않습니다.
+     *
+     * @return [0]: receiver_id, [1]: 안 읽은 알림 수
+     */
+    @Query(value = """
+        SELECT n.receiver_id, COUNT(*)
+        FROM notifications n
+        WHERE n.receiver_id IN (:receiverIds) AND n.is_read = 'N'
+        GROUP BY n.receiver_id
+        """, nativeQuery = true)
+    List<Object[]> countUnreadByReceiverIds(@Param("receiverIds") Collection<Long> receiverIds);
 
     /**
      * [API 2] 특정 사용자의 전체 알림 목록을 조회합니다.
@@ -28,18 +44,39 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
         FROM notifications n
         LEFT JOIN users u ON n.sender_id = u.user_id
         WHERE n.receiver_id = :receiverId
-        ORDER BY n.created_at DESC
+        ORDER BY n.created_at DESC, n.notification_id ASC
         """, nativeQuery = true)
     Slice<Object[]> findNotificationsByReceiverId(@Param("receiverId") Long receiverId, Pageable pageable);
 
+    /**
+     * [API 2 - 키셋 페이징] 커서(created_at, notification_id) 이후의 알림 목록을 조회합니다.
+     * OFFSET 없이 idx_receiver_notifications (receiver_id, created_at) 범위 스캔으로 다음 페이지를 가져옵니다.
+     * (findNotificationsByReceiverId 와 컬럼 순서 동일)
+     */
+    @Query(value = """
+        SELECT n.notification_id, n.type, n.is_read, n.created_at,
+               n.target_review_id, n.target_comment_id, n.target_badge_id,
+               n.sender_id, u.nickname as sender_nickname
+        FROM notifications n
+        LEFT JOIN users u ON n.sender_id = u.user_id
+        WHERE n.receiver_id = :receiverId
+        AND (n.created_at < :createdAt OR (n.created_at = :createdAt AND n.notification_id > :notificationId))
+        ORDER BY n.created_at DESC, n.notification_id ASC
+        """, nativeQuery = true)
+    Slice<Object[]> findNotificationsByReceiverIdAfter(@Param("receiverId") Long receiverId,
+                                                       @Param("createdAt") LocalDateTime createdAt,
+                                                       @Param("notificationId") Long notificationId,
+                                                       Pageable pageable);
+
     /**
      * [API 3] 특정 사용자의 특정 알림들을 '읽음' 상태로 일괄 변경합니다.
      * 엔티티를 조회하지 않고 바로 UPDATE 쿼리를 실행하여 효율적입니다.
+     * 이미 읽은 알림은 건드리지 않으므로, 반환값은 이번에 새로 읽음 처리된 알림 수입니다. (안 읽은 알림 카운터 차감용)
      */
     @Modifying
     @Query(
-            value = "UPDATE notifications n SET n.is_read = 'Y' WHERE n.receiver_id = :userId AND n.notification_id IN :notificationIds",
+            value = "UPDATE notifications n SET n.is_read = 'Y' WHERE n.receiver_id = :userId AND n.notification_id IN :notificationIds AND n.is_read = 'N'",
             nativeQuery = true // Native Query로 실행하도록 설정
     )
-    void markAsReadByIds(@Param("userId") Long userId, @Param("notificationIds") List<Long> notificationIds);
+    int markAsReadByIds(@Param("userId") Long userId, @Param("notificationIds") List<Long> notificationIds);
 }
\ No newline at end of file
@@ -7,5 +7,10 @@ import java.util.List;
 @Builder
 public record NotificationSliceResponseDto(
         List<NotificationResponseDto> notifications,
-        boolean hasNext
-) {}
\ No newline at end of file
+        boolean hasNext,
+        String nextCursor // 다음 페이지 커서 (마지막 페이지이면 null)
+) {
+    public NotificationSliceResponseDto(List<NotificationResponseDto> notifications, boolean hasNext) {
+        this(notifications, hasNext, null);
+    }
+}
\ No newline at end of file
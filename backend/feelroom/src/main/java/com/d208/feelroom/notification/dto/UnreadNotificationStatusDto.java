@@ -7,5 +7,9 @@ import io.swagger.v3.oas.annotations.media.Schema;
 public record UnreadNotificationStatusDto(
         @JsonProperty("exists")
         @Schema(description = "안 읽은 알림 존재 여부", example = "true")
-        boolean exists
+        boolean exists,
+
+        @JsonProperty("unread_count")
+        @Schema(description = "안 읽은 알림 수", example = "3")
+        long unreadCount
 ) {}
\ No newline at end of file
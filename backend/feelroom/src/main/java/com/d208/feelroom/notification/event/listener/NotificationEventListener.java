@@ -1,27 +1,29 @@
 package com.d208.feelroom.notification.event.listener;
 
 import com.d208.feelroom.notification.domain.entity.Notification;
-import com.d208.feelroom.notification.domain.repository.NotificationRepository;
+import com.d208.feelroom.notification.service.NotificationWriter;
 import com.d208.feelroom.comment.domain.entity.Comment;
 import com.d208.feelroom.user.domain.entity.User;
 import com.d208.feelroom.badge.event.BadgeAchievedEvent;
 import com.d208.feelroom.comment.event.CommentEvent;
 import com.d208.feelroom.user.event.FollowEvent;
 import lombok.RequiredArgsConstructor;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+/**
+ * 팔로우 / 댓글 / 뱃지 획득 이벤트로 인앱 알림을 만듭니다.
+ * 알림은 NotificationWriter 대기열에 넣기만 하고(모아서 다중 행 INSERT), 원본 트랜잭션이 커밋된 뒤에만 만듭니다.
+ * (트랜잭션 밖에서 발행된 이벤트는 바로 처리)
+ */
 @Component
 @RequiredArgsConstructor
 public class NotificationEventListener {
 
-    private final NotificationRepository notificationRepository;
+    private final NotificationWriter notificationWriter;
 
-    @Async // (선택사항) 알림 생성을 비동기적으로 처리하여, 사용자 응답 시간을 단축시킵니다.
-    @EventListener
-    @Transactional
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void handleFollowEvent(FollowEvent event) {
         // 자기 자신을 팔로우하는 경우는 없으므로, 별도 체크는 생략
         Notification notification = Notification.builder()
@@ -29,12 +31,11 @@ public class NotificationEventListener {
                 .receiver(event.followee()) // 알림 받는 사람
                 .sender(event.follower())   // 알림 보낸 사람
                 .build();
-        notificationRepository.save(notification);
+        // 언팔로우 후 다시 팔로우하면 새 알림이므로 이벤트마다 새 멱등 키 발급
+        notificationWriter.enqueue(notification, null);
     }
 
-    @Async
-    @EventListener
-    @Transactional
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void handleCommentEvent(CommentEvent event) {
         Comment newComment = event.newComment();
         User sender = newComment.getUser();
@@ -53,7 +54,7 @@ public class NotificationEventListener {
                     .targetReview(newComment.getReview())
                     .targetComment(newComment) // 새로 달린 답글을 타겟으로
                     .build();
-            notificationRepository.save(notification);
+            notificationWriter.enqueue(notification, "REPLY:" + newComment.getCommentId());
 
             // 2. 일반 댓글(Comment)인 경우
         } else {
@@ -69,7 +70,7 @@ public class NotificationEventListener {
                     .targetReview(newComment.getReview())
                     .targetComment(newComment)
                     .build();
-            notificationRepository.save(notification);
+            notificationWriter.enqueue(notification, "COMMENT:" + newComment.getCommentId());
         }
     }
 
@@ -77,9 +78,7 @@ public class NotificationEventListener {
      * 사용자가 새로운 뱃지를 획득했을 때의 이벤트를 수신하여
      * 'BADGE' 타입의 알림을 생성합니다.
      */
-    @Async
-    @EventListener
-    @Transactional
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void handleBadgeAchievedEvent(BadgeAchievedEvent event) {
         // 뱃지 획득 알림은 시스템 알림이므로 sender가 없습니다.
         Notification notification = Notification.builder()
@@ -89,6 +88,7 @@ public class NotificationEventListener {
                 .targetBadge(event.badge()) // 어떤 뱃지를 획득했는지 target으로 설정
                 .build();
 
-        notificationRepository.save(notification);
+        // 같은 뱃지는 한 번만 획득하므로 (사용자, 뱃지)가 곧 멱등 키
+        notificationWriter.enqueue(notification, "BADGE:" + event.user().getUserId() + ":" + event.badge().getBadgeId());
     }
 }
\ No newline at end of file
@@ -4,8 +4,10 @@ import com.d208.feelroom.notification.dto.NotificationResponseDto;
 import com.d208.feelroom.notification.dto.NotificationSliceResponseDto;
 import com.d208.feelroom.notification.dto.UnreadNotificationStatusDto;
 import com.d208.feelroom.notification.domain.repository.NotificationRepository;
+import com.d208.feelroom.global.util.KeysetCursor;
 import com.d208.feelroom.global.util.UuidUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
@@ -21,14 +23,15 @@ import java.util.stream.Collectors;
 public class NotificationService {
 
     private final NotificationRepository notificationRepository;
+    private final UnreadNotificationCounter unreadNotificationCounter;
 
     /**
-     * [API 1] 안 읽은 알림 존재 여부 확인
+     * [API 1] 안 읽은 알림 존재 여부 및 개수 확인
+     * 페이지마다 호출되므로 DB 대신 Redis 카운터로 응답합니다. (카운터가 없을 때만 DB에서 세어 채움)
      */
-    @Transactional(readOnly = true)
     public UnreadNotificationStatusDto checkForUnreadNotifications(Long userId) {
-        boolean exists = notificationRepository.existsByReceiver_UserIdAndIsRead(userId, 'N');
-        return new UnreadNotificationStatusDto(exists);
+        long unreadCount = unreadNotificationCounter.get(userId);
+        return new UnreadNotificationStatusDto(unreadCount > 0, unreadCount);
     }
 
     /**
@@ -36,7 +39,21 @@ public class NotificationService {
      */
     @Transactional(readOnly = true)
     public NotificationSliceResponseDto getNotifications(Long userId, Pageable pageable) {
-        Slice<Object[]> notificationSlice = notificationRepository.findNotificationsByReceiverId(userId, pageable);
+        return getNotifications(userId, null, pageable);
+    }
+
+    /**
+     * [API 2] 알림 목록 조회 (cursor가 있으면 키셋 페이징)
+     *
+     * @param cursor 이전 응답의 nextCursor (없으면 page 번호로 조회)
+     */
+    @Transactional(readOnly = true)
+    public NotificationSliceResponseDto getNotifications(Long userId, String cursor, Pageable pageable) {
+        KeysetCursor keyset = KeysetCursor.parse(cursor);
+        Slice<Object[]> notificationSlice = (keyset == null)
+                ? notificationRepository.findNotificationsByReceiverId(userId, pageable)
+                : notificationRepository.findNotificationsByReceiverIdAfter(userId, keyset.createdAt(), keyset.longId(),
+                        PageRequest.of(0, pageable.getPageSize()));
         List<Object[]> results = notificationSlice.getContent();
 
         if (results.isEmpty()) {
@@ -47,7 +64,11 @@ public class NotificationService {
                 .map(this::mapRowToNotificationDto)
                 .collect(Collectors.toList());
 
-        return new NotificationSliceResponseDto(notificationDtos, notificationSlice.hasNext());
+        // 커서는 알림 생성 시각([3]) + 알림 ID([0])
+        String nextCursor = KeysetCursor.nextOf(notificationSlice,
+                row -> KeysetCursor.of(((Timestamp) row[3]).toLocalDateTime(), ((Number) row[0]).longValue()));
+
+        return new NotificationSliceResponseDto(notificationDtos, notificationSlice.hasNext(), nextCursor);
     }
 
     /**
@@ -58,7 +79,8 @@ public class NotificationService {
         if (notificationIds == null || notificationIds.isEmpty()) {
             return; // 처리할 ID가 없으면 아무 작업도 하지 않음
         }
-        notificationRepository.markAsReadByIds(userId, notificationIds);
+        int updated = notificationRepository.markAsReadByIds(userId, notificationIds);
+        unreadNotificationCounter.decrement(userId, updated); // 커밋 이후 반영
     }
 
     // == private 헬퍼 메서드 ==
@@ -0,0 +1,315 @@
+package com.d208.feelroom.notification.service;
+
+import com.d208.feelroom.global.util.UuidUtils;
+import com.d208.feelroom.notification.domain.entity.Notification;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 인앱 알림을 모아서 다중 행 INSERT로 기록하는 writer
+ *
+ * - 이벤트 리스너는 enqueue만 하고 바로 반환합니다. (알림 한 건마다 트랜잭션 / 커넥션을 잡지 않음)
+ * - flush 스레드 하나가 flushIntervalMs 마다, 또는 batchSize 만큼 쌓이면 큐를 비워 batchSize 행씩 INSERT 합니다.
+ *   따라서 알림 기록이 점유하는 커넥션은 동시에 최대 한 개입니다.
+ * - 행마다 멱등 키(idempotency_key, UNIQUE)를 넣고 INSERT ... ON DUPLICATE KEY UPDATE로 기록하므로, 커밋 응답을 못 받아 재시도해도 중복 알림이 생기지 않습니다.
+ *   (INSERT IGNORE와 달리 FK 위반 등 다른 오류는 그대로 실패로 드러남)
+ * - 큐가 가득 차면 flush를 앞당기고 offerTimeoutMs 동안만 자리가 나기를 기다립니다. 그래도 가득 차 있으면 알림을 버리고
+ *   notification.writer.rows{result=rejected}로 집계합니다. (커밋/요청 스레드에서 DB에 직접 쓰거나 무한정 기다리지 않음)
+ * - 기록한 만큼 수신자별 안 읽은 알림 카운터(UnreadNotificationCounter)를 올립니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationWriter {
+
+    private static final String INSERT_SQL_PREFIX = """
+            INSERT INTO notifications
+                (type, receiver_id, sender_id, target_review_id, target_comment_id, target_badge_id, is_read, created_at, idempotency_key)
+            VALUES\s""";
+    private static final String INSERT_SQL_ROW = "(?, ?, ?, ?, ?, ?, 'N', ?, ?)";
+    private static final String INSERT_SQL_SUFFIX = " ON DUPLICATE KEY UPDATE idempotency_key = idempotency_key";
+    private static final String COUNT_EXISTING_SQL_PREFIX = "SELECT COUNT(*) FROM notifications WHERE idempotency_key IN (";
+    private static final int COLUMNS = 8;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${notification.writer.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${notification.writer.batch-size:500}")
+    private int batchSize; // 한 INSERT 문에 담을 행 수
+
+    @Value("${notification.writer.flush-interval-ms:200}")
+    private long flushIntervalMs; // 알림이 보이기까지의 최대 지연 (평시)
+
+    @Value("${notification.writer.max-retries:3}")
+    private int maxRetries;
+
+    @Value("${notification.writer.offer-timeout-ms:50}")
+    private long offerTimeoutMs; // 큐가 가득 찼을 때 호출 스레드가 기다리는 최대 시간
+
+    private BlockingQueue<PendingNotification> queue;
+    private ScheduledExecutorService scheduler;
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+    private volatile boolean closed = false;
+
+    private Counter writtenRows;
+    private Counter duplicateRows;
+    private Counter rejectedRows;
+    private Counter failedRows;
+    private Timer flushTimer;
+    private Timer lagTimer;
+
+    @PostConstruct
+    public void init() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        Gauge.builder("notification.writer.queue.depth", queue, BlockingQueue::size)
+                .description("기록 대기 중인 알림 수")
+                .register(meterRegistry);
+        writtenRows = Counter.builder("notification.writer.rows").tag("result", "written").register(meterRegistry);
+        duplicateRows = Counter.builder("notification.writer.rows").tag("result", "duplicate").register(meterRegistry);
+        rejectedRows = Counter.builder("notification.writer.rows").tag("result", "rejected").register(meterRegistry);
+        failedRows = Counter.builder("notification.writer.rows").tag("result", "failed").register(meterRegistry);
+        flushTimer = Timer.builder("notification.writer.flush.latency").register(meterRegistry);
+        lagTimer = Timer.builder("notification.writer.lag")
+                .description("알림 이벤트 수신부터 DB 기록까지 걸린 시간")
+                .register(meterRegistry);
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("notification-writer-"));
+        scheduler.scheduleWithFixedDelay(this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 알림을 기록 대기열에 넣습니다. 알림 엔티티에서 ID만 꺼내 두므로 연관 엔티티는 초기화하지 않습니다.
+     *
+     * @param notification   기록할 알림 (빌더로 만든 비영속 엔티티)
+     * @param idempotencyKey 같은 알림을 두 번 기록하지 않기 위한 키 (null이면 enqueue 시점에 새로 발급)
+     */
+    public void enqueue(Notification notification, String idempotencyKey) {
+        PendingNotification pending = PendingNotification.of(notification,
+                idempotencyKey != null ? idempotencyKey : notification.getType() + ":" + UUID.randomUUID());
+
+        if (closed) {
+            rejectedRows.increment();
+            log.warn("[NotificationWriter] 종료된 뒤 들어온 알림을 버립니다. type={}, receiverId={}", pending.type(), pending.receiverId());
+            return;
+        }
+        if (!queue.offer(pending) && !offerAfterFlush(pending)) {
+            rejectedRows.increment();
+            log.warn("[NotificationWriter] 대기열이 가득 차 알림을 버립니다. type={}, receiverId={}", pending.type(), pending.receiverId());
+            return;
+        }
+        if (queue.size() >= batchSize) {
+            requestFlush();
+        }
+    }
+
+    /**
+     * 큐가 가득 찬 경우: 즉시 flush를 요청하고 offerTimeoutMs 동안 자리가 나기를 기다립니다.
+     */
+    private boolean offerAfterFlush(PendingNotification pending) {
+        requestFlush();
+        try {
+            return queue.offer(pending, offerTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void requestFlush() {
+        if (!flushRequested.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            scheduler.execute(this::flush);
+        } catch (RejectedExecutionException e) {
+            // close() 이후: 남은 알림은 close()의 마지막 flush가 기록함
+            flushRequested.set(false);
+        }
+    }
+
+    /**
+     * 대기 중인 알림을 batchSize 행씩 기록합니다.
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushRequested.set(false);
+            List<PendingNotification> batch = new ArrayList<>(batchSize);
+            while (queue.drainTo(batch, batchSize) > 0) {
+                write(batch);
+                batch.clear();
+            }
+        } catch (Exception e) {
+            // 예외가 스케줄러로 전파되면 이후 주기가 모두 취소되므로 여기서 막음
+            log.error("[NotificationWriter] flush 실패", e);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        closed = true;
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+        log.info("[NotificationWriter] closed. remaining={}", queue.size());
+    }
+
+    /**
+     * 한 배치를 다중 행 INSERT ... ON DUPLICATE KEY UPDATE 한 문장으로 기록합니다. 실패하면 maxRetries 까지 재시도합니다.
+     * (멱등 키 덕분에 앞선 시도가 실제로는 커밋되었더라도 중복 행이 생기지 않음)
+     */
+    private void write(List<PendingNotification> batch) {
+        long start = System.nanoTime();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                int inserted = insert(batch);
+                writtenRows.increment(inserted);
+                duplicateRows.increment(batch.size() - inserted);
+                updateUnreadCounters(batch, inserted);
+                break;
+            } catch (Exception e) {
+                if (attempt > maxRetries) {
+                    failedRows.increment(batch.size());
+                    log.error("[NotificationWriter] 알림 {}건 기록 실패 ({}회 시도)", batch.size(), attempt, e);
+                    break;
+                }
+                log.warn("[NotificationWriter] 알림 {}건 기록 재시도 ({}/{}): {}", batch.size(), attempt, maxRetries, e.getMessage());
+                sleepBeforeRetry(attempt);
+            }
+        }
+        flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        long now = System.currentTimeMillis();
+        for (PendingNotification pending : batch) {
+            lagTimer.record(now - pending.enqueuedAtMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 배치를 기록하고 새로 추가된 행 수를 반환합니다.
+     * 드라이버 기본 설정(found rows)에서는 변경 없는 중복 행도 영향 행 1로 세므로, 이미 있는 멱등 키 수를 먼저 세어 뺍니다.
+     */
+    private int insert(List<PendingNotification> batch) {
+        Set<String> keys = new LinkedHashSet<>();
+        batch.forEach(pending -> keys.add(pending.idempotencyKey()));
+        int existing = countExisting(keys);
+
+        StringBuilder sql = new StringBuilder(INSERT_SQL_PREFIX.length() + batch.size() * (INSERT_SQL_ROW.length() + 1));
+        sql.append(INSERT_SQL_PREFIX);
+        Object[] params = new Object[batch.size() * COLUMNS];
+
+        for (int i = 0; i < batch.size(); i++) {
+            PendingNotification pending = batch.get(i);
+            if (i > 0) {
+                sql.append(',');
+            }
+            sql.append(INSERT_SQL_ROW);
+            int p = i * COLUMNS;
+            params[p] = pending.type();
+            params[p + 1] = pending.receiverId();
+            params[p + 2] = pending.senderId();
+            params[p + 3] = pending.targetReviewId() != null ? UuidUtils.uuidToBytes(pending.targetReviewId()) : null;
+            params[p + 4] = pending.targetCommentId() != null ? UuidUtils.uuidToBytes(pending.targetCommentId()) : null;
+            params[p + 5] = pending.targetBadgeId();
+            params[p + 6] = Timestamp.valueOf(pending.createdAt());
+            params[p + 7] = pending.idempotencyKey();
+        }
+
+        sql.append(INSERT_SQL_SUFFIX);
+
+        jdbcTemplate.update(sql.toString(), params);
+        return keys.size() - existing;
+    }
+
+    private int countExisting(Set<String> keys) {
+        String sql = COUNT_EXISTING_SQL_PREFIX + String.join(",", Collections.nCopies(keys.size(), "?")) + ")";
+        Long count = jdbcTemplate.queryForObject(sql, Long.class, keys.toArray());
+        return count != null ? count.intValue() : 0;
+    }
+
+    /**
+     * 모두 새로 기록되었으면 수신자별 건수만큼 카운터를 올리고, 중복으로 무시된 행이 있으면
+     * 어느 행인지 알 수 없으므로 해당 배치 수신자의 카운터를 지워 다음 조회 때 DB에서 다시 세도록 합니다.
+     */
+    private void updateUnreadCounters(List<PendingNotification> batch, int inserted) {
+        Map<Long, Long> countsByReceiver = new HashMap<>();
+        for (PendingNotification pending : batch) {
+            countsByReceiver.merge(pending.receiverId(), 1L, Long::sum);
+        }
+        if (inserted == batch.size()) {
+            unreadNotificationCounter.incrementAll(countsByReceiver);
+        } else {
+            unreadNotificationCounter.evictAll(countsByReceiver.keySet());
+        }
+    }
+
+    private void sleepBeforeRetry(int attempt) {
+        try {
+            Thread.sleep(100L * attempt);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 기록 대기 중인 알림 한 건 (ID 값만 보관)
+     */
+    private record PendingNotification(String type, Long receiverId, Long senderId, UUID targetReviewId,
+                                       UUID targetCommentId, Integer targetBadgeId, LocalDateTime createdAt,
+                                       String idempotencyKey, long enqueuedAtMillis) {
+
+        static PendingNotification of(Notification notification, String idempotencyKey) {
+            return new PendingNotification(
+                    notification.getType(),
+                    notification.getReceiver().getUserId(),
+                    notification.getSender() != null ? notification.getSender().getUserId() : null,
+                    notification.getTargetReview() != null ? notification.getTargetReview().getReviewId() : null,
+                    notification.getTargetComment() != null ? notification.getTargetComment().getCommentId() : null,
+                    notification.getTargetBadge() != null ? notification.getTargetBadge().getBadgeId() : null,
+                    LocalDateTime.now(), // 이벤트 발생 시각 (기록 시각이 아님)
+                    idempotencyKey,
+                    System.currentTimeMillis());
+        }
+    }
+}
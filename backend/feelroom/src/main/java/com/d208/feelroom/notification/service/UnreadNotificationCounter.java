@@ -0,0 +1,233 @@
+package com.d208.feelroom.notification.service;
+
+import com.d208.feelroom.notification.domain.repository.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자별 안 읽은 알림 수 Redis 카운터
+ *
+ * - notification:unread:{userId} : 안 읽은 알림 수 (정수)
+ * - 키가 없으면 조회 시 DB에서 한 번 세어 채웁니다. (idx_unread_notifications 범위 카운트)
+ * - 키가 있을 때만 증감합니다. 키가 없는 사용자의 증감을 반영하면 DB 값 없이 1부터 시작하는 틀린 카운터가 생기기 때문입니다.
+ * - 알림 기록(NotificationWriter)과 읽음 처리(markNotificationsAsRead) 사이의 경쟁, 중복 기록 등으로 생기는 오차는
+ *   주기적으로 DB와 맞춥니다(reconcile). 보정은 값만 고치고 TTL은 그대로 두므로, DB에서 적재한 뒤 ttlHours 동안
+ *   조회하지 않은 사용자의 키는 만료되어 Redis와 보정 대상에서 빠집니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnreadNotificationCounter {
+
+    private static final String KEY_PREFIX = "notification:unread:";
+    private static final String RECONCILE_LOCK_KEY = "lock:notification:unread-reconcile"; // KEY_PREFIX 패턴에 걸리지 않도록 별도 접두사
+    private static final int RECONCILE_CHUNK_SIZE = 500;
+
+    // KEYS[1]=카운터, ARGV[1]=증감량 → 키가 없으면 아무것도 하지 않고 -1, 있으면 결과 값 (0 미만이면 0으로 보정)
+    private static final DefaultRedisScript<Long> ADD_IF_EXISTS_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return -1
+            end
+            local count = redis.call('INCRBY', KEYS[1], ARGV[1])
+            if count < 0 then
+                redis.call('SET', KEYS[1], 0, 'KEEPTTL')
+                return 0
+            end
+            return count
+            """, Long.class);
+
+    // KEYS[1]=카운터, ARGV[1]=DB 값 → 키가 있을 때만 값을 바꾸고 TTL은 유지 (보정이 키 수명을 늘리거나 방금 지운 키를 되살리지 않도록)
+    private static final DefaultRedisScript<Long> SET_IF_EXISTS_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('SET', KEYS[1], ARGV[1], 'XX', 'KEEPTTL') then
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final NotificationRepository notificationRepository;
+
+    @Value("${notification.unread-counter.ttl-hours:24}")
+    private long ttlHours; // DB에서 적재한 뒤 보관 시간 (보정으로 늘어나지 않음)
+
+    @Value("${notification.unread-counter.reconcile-interval-ms:600000}")
+    private long reconcileIntervalMs;
+
+    /**
+     * 안 읽은 알림 수를 조회합니다. Redis 장애 시에는 DB에서 직접 셉니다.
+     */
+    public long get(Long userId) {
+        String key = key(userId);
+        try {
+            Object cached = redisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                return ((Number) cached).longValue();
+            }
+        } catch (Exception e) {
+            log.error("[Redis] Failed to read unread notification counter for user {}", userId, e);
+            return countFromDb(userId);
+        }
+
+        long count = countFromDb(userId);
+        try {
+            // 그 사이 다른 요청이 채웠으면 그 값을 유지
+            redisTemplate.opsForValue().setIfAbsent(key, count, Duration.ofHours(ttlHours));
+        } catch (Exception e) {
+            log.error("[Redis] Failed to load unread notification counter for user {}", userId, e);
+        }
+        return count;
+    }
+
+    /**
+     * 새로 기록된 알림 수만큼 수신자별 카운터를 올립니다. (키가 있는 사용자만, 파이프라인 한 번)
+     */
+    public void incrementAll(Map<Long, Long> countsByReceiver) {
+        if (countsByReceiver.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) throws DataAccessException {
+                    countsByReceiver.forEach((userId, count) ->
+                            operations.execute(ADD_IF_EXISTS_SCRIPT, List.of(key(userId)), count));
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            // 반영하지 못한 카운터는 다음 조회에서 DB 값으로 다시 채워지도록 제거
+            log.error("[Redis] Failed to increment unread notification counters, evicting {} keys", countsByReceiver.size(), e);
+            evictAll(countsByReceiver.keySet());
+        }
+    }
+
+    /**
+     * 읽음 처리된 알림 수만큼 카운터를 내립니다. 트랜잭션 안에서 호출되면 커밋 이후에 반영합니다.
+     */
+    public void decrement(Long userId, long count) {
+        if (count <= 0) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applyDecrement(userId, count);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                applyDecrement(userId, count);
+            }
+        });
+    }
+
+    /**
+     * 카운터를 제거하여 다음 조회 시 DB에서 다시 세도록 합니다.
+     */
+    public void evictAll(Collection<Long> userIds) {
+        try {
+            redisTemplate.delete(userIds.stream().map(UnreadNotificationCounter::key).toList());
+        } catch (Exception e) {
+            log.error("[Redis] Failed to evict unread notification counters for users {}", userIds, e);
+        }
+    }
+
+    /**
+     * Redis에 올라와 있는 카운터를 주기적으로 DB 값과 맞춥니다. (청크 단위 GROUP BY 카운트 한 번 + 파이프라인 한 번)
+     *
+     * 모든 인스턴스에서 스케줄되므로 Redis 락을 잡은 한 곳에서만 실행합니다. 락은 풀지 않고 주기보다 조금 짧은 TTL로 만료시켜
+     * 인스턴스 수와 관계없이 주기마다 한 번만 실행되도록 합니다.
+     */
+    @Scheduled(fixedDelayString = "${notification.unread-counter.reconcile-interval-ms:600000}",
+            initialDelayString = "${notification.unread-counter.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        if (!tryLockReconcile()) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        int reconciled = 0;
+        List<Long> chunk = new ArrayList<>(RECONCILE_CHUNK_SIZE);
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                chunk.add(Long.parseLong(cursor.next().substring(KEY_PREFIX.length())));
+                if (chunk.size() == RECONCILE_CHUNK_SIZE) {
+                    reconciled += reconcileChunk(chunk);
+                    chunk.clear();
+                }
+            }
+            reconciled += reconcileChunk(chunk);
+            log.info("[Redis] Reconciled {} unread notification counters in {}ms", reconciled, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("[Redis] Failed to reconcile unread notification counters", e);
+        }
+    }
+
+    private int reconcileChunk(List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+        Map<Long, Long> counts = new HashMap<>();
+        userIds.forEach(userId -> counts.put(userId, 0L)); // 안 읽은 알림이 없는 사용자는 결과에 없음
+        for (Object[] row : notificationRepository.countUnreadByReceiverIds(userIds)) {
+            counts.put(((Number) row[0]).longValue(), ((Number) row[1]).longValue());
+        }
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                counts.forEach((userId, count) ->
+                        operations.execute(SET_IF_EXISTS_SCRIPT, List.of(key(userId)), count));
+                return null;
+            }
+        });
+        return counts.size();
+    }
+
+    private boolean tryLockReconcile() {
+        try {
+            Duration lockTtl = Duration.ofMillis(reconcileIntervalMs * 9 / 10);
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(RECONCILE_LOCK_KEY, "locked", lockTtl));
+        } catch (Exception e) {
+            log.error("[Redis] Failed to acquire unread notification reconcile lock", e);
+            return false;
+        }
+    }
+
+    private void applyDecrement(Long userId, long count) {
+        try {
+            redisTemplate.execute(ADD_IF_EXISTS_SCRIPT, List.of(key(userId)), -count);
+        } catch (Exception e) {
+            log.error("[Redis] Failed to decrement unread notification counter for user {}", userId, e);
+            evictAll(List.of(userId));
+        }
+    }
+
+    private long countFromDb(Long userId) {
+        return notificationRepository.countByReceiver_UserIdAndIsRead(userId, 'N');
+    }
+
+    private static String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
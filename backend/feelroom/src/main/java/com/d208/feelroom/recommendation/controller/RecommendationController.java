@@ -2,11 +2,13 @@ package com.d208.feelroom.recommendation.controller;
 
 import com.d208.feelroom.global.security.dto.UserDetailsImpl;
 import com.d208.feelroom.movie.domain.entity.Movie;
-import com.d208.feelroom.movie.domain.repository.MovieRepository;
 import com.d208.feelroom.movie.dto.LikedMovieInfo;
+import com.d208.feelroom.movie.service.MovieCardAssembler;
 import com.d208.feelroom.recommendation.dto.request.NewUserRequestDto;
 import com.d208.feelroom.recommendation.dto.request.UserActivityRequestDto;
+import com.d208.feelroom.recommendation.dto.MovieRecommendationResultDto;
 import com.d208.feelroom.recommendation.service.RecommendationService;
+import com.d208.feelroom.recommendation.service.RecommendationStore;
 import com.d208.feelroom.recommendation.service.UserActivityService;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -20,6 +22,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Tag(name = "AI 추천 알고리즘 API", description = "추천 영화, 리뷰 데이터 가져오는 API")
 @RestController
@@ -28,15 +31,23 @@ import java.util.List;
 @RequiredArgsConstructor
 public class RecommendationController {
     private final RecommendationService recommendationService;
-    private final MovieRepository movieRepository;
+    private final MovieCardAssembler movieCardAssembler;
     private final UserActivityService userActivityService;
+    private final RecommendationStore recommendationStore;
 
     @GetMapping("/recommendation/movies")
     public ResponseEntity<List<LikedMovieInfo>> getRecommendedMovies(
             @Parameter(hidden = true) @AuthenticationPrincipal UserDetailsImpl userDetails
     ) {
-        // 1. 현재 로그인한 사용자의 활동 내역을 DB에서 조회
         Long userId = userDetails.getUser().getUserId();
+
+        // 0. 배치로 미리 계산된 추천 결과가 있으면 그대로 반환 (Redis 키 조회 한 번)
+        List<LikedMovieInfo> storedMovies = recommendationStore.findMovies(userId);
+        if (storedMovies != null) {
+            return ResponseEntity.ok(storedMovies);
+        }
+
+        // 1. 저장된 결과가 없는 사용자만 즉시 계산: 현재 로그인한 사용자의 활동 내역을 DB에서 조회
         UserActivityRequestDto userActivity = userActivityService.getUserActivity(userId);
         log.info("사용자 활동 데이터: {}", userActivity); // 추가
         List<Integer> recommendedtmdbIds = null;
@@ -55,8 +66,17 @@ public class RecommendationController {
 
         log.info("AI 서버에서 받은 영화 tmdb ID들: {}", recommendedtmdbIds); // 추가
 
-        // 4. 받은 ID 목록으로 우리 DB에서 LikedMovieInfo DTO 목록을 직접 조회
-        List<LikedMovieInfo> recommendedMovies = movieRepository.findLikedMovieInfoByTmdbIds(recommendedtmdbIds);
+        // 다음 요청부터는 저장된 결과로 응답 (이후 변경은 추천 배치가 갱신)
+        recommendationStore.saveAll(List.of(new MovieRecommendationResultDto(userId, recommendedtmdbIds)));
+
+        // 4. 받은 ID 목록으로 영화 카드를 한 번에 조립하여 LikedMovieInfo DTO 목록으로 변환 (AI 추천 순서 유지)
+        List<LikedMovieInfo> recommendedMovies = movieCardAssembler.assembleByTmdbIds(recommendedtmdbIds).stream()
+                .map(card -> LikedMovieInfo.builder()
+                        .movie_id(card.getMovieId())
+                        .title(card.getTitle())
+                        .poster_url(card.getPosterUrl())
+                        .build())
+                .collect(Collectors.toList());
 
         // 5. 조회된 DTO 리스트를 클라이언트에 반환 (HTTP 200 OK)
         return ResponseEntity.ok(recommendedMovies);
@@ -2,10 +2,14 @@ package com.d208.feelroom.recommendation.dto;
 
 import java.util.List;
 
+import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
+@NoArgsConstructor
+@AllArgsConstructor
 public class MovieRecommendationResultDto {
 	private Long userId;
-	private List<Integer> recommendedMovieIds;
+	private List<Integer> recommendedMovieIds; // AI 서버가 반환한 추천 순서 그대로의 TMDB ID
 }
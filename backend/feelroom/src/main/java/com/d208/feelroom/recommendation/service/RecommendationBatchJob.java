@@ -1,43 +1,178 @@
-//package com.d208.feelroom.recommendation.service;
-//
-//import java.time.LocalDateTime;
-//import java.util.List;
-//
-//import org.springframework.scheduling.annotation.Scheduled;
-//import org.springframework.stereotype.Component;
-//
-//import com.d208.feelroom.recommendation.dto.MovieRecommendationResultDto;
-//import com.d208.feelroom.recommendation.dto.UserMovieActivityDto;
-//
-//import lombok.RequiredArgsConstructor;
-//import lombok.extern.slf4j.Slf4j;
-//
-//@Slf4j(topic = "RecommendationBatchJob")
-//@Component
-//@RequiredArgsConstructor
-//public class RecommendationBatchJob {
-//
-//	private final RecommendationService recommendationService;
-//	private final UserActivityService activityCollector;
-//	private final RecommendationSaver recommendationSaver;
-//
-//	// 매일 오전 5시에 실행되는 배치 스케줄
-//	@Scheduled(cron = "0 0 5 * * *")
-//	public void runMovieRecommendationBatch() {
-//		log.info("영화 추천 배치 작업 시작...");
-//
-//		LocalDateTime since = LocalDateTime.now().minusDays(1);
-//
-//		// 최근 1일간의 사용자 활동 수집
-//		List<UserMovieActivityDto> userMovieActivities = activityCollector.collectMovieActivitiesSince(since);
-//		log.info("총 {}명의 영화 관련 사용자 활동 수집 완료", userMovieActivities.size());
-//
-//		// 영화 추천 결과 FastAPI에서 받아오기
-//		List<MovieRecommendationResultDto> results = recommendationService.getMovieRecommendations(userMovieActivities);
-//		log.info("{}명의 영화 추천 결과 수신 완료", results.size());
-//
-//		// 추천 결과 저장
-//		recommendationSaver.saveMovieRecommendations(results);
-//		log.info("영화 추천 결과 저장 완료");
-//	}
-//}
\ No newline at end of file
+package com.d208.feelroom.recommendation.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.d208.feelroom.global.infra.RedisJobLock;
+import com.d208.feelroom.recommendation.dto.MovieRecommendationResultDto;
+import com.d208.feelroom.recommendation.dto.request.UserActivityRequestDto;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 영화 추천 사전 계산 배치
+ *
+ * 마지막 실행 이후 활동(리뷰/평점, 좋아요)이 있었던 사용자와 이전 실행에서 실패한 사용자를 골라 청크 단위로 처리합니다.
+ * - 청크마다 사용자 활동을 일괄 조회하고, AI 서버에는 동시 요청 수를 제한해 병렬로 요청합니다.
+ * - 결과는 RecommendationStore를 통해 DB 배치 UPSERT + Redis 캐시 갱신됩니다.
+ * - 마지막 실행 시각(Redis)은 실패와 관계없이 앞으로 옮기고, 실패한 사용자는 재시도 Set에 남겨 다음 실행에서 다시 처리합니다.
+ * - 모든 노드에서 스케줄되므로 Redis 잠금을 잡은 노드 하나만 실행합니다.
+ */
+@Slf4j(topic = "RecommendationBatchJob")
+@Component
+@RequiredArgsConstructor
+public class RecommendationBatchJob {
+
+	private static final String LAST_RUN_KEY = "batch:movie-recommendation:last-run";
+	private static final String RETRY_KEY = "batch:movie-recommendation:retry";
+	private static final String JOB_LOCK = "batch:movie-recommendation";
+	private static final Duration JOB_LOCK_TTL = Duration.ofHours(3);
+
+	private final RecommendationService recommendationService;
+	private final UserActivityService activityCollector;
+	private final RecommendationStore recommendationStore;
+	private final RedisTemplate<String, Object> redisTemplate;
+	private final RedisJobLock redisJobLock;
+
+	@Value("${batch.movie-recommendation.chunk-size:200}")
+	private int chunkSize;
+
+	@Value("${batch.movie-recommendation.concurrency:4}") // ai-client.endpoints.recommend-user-batch.max-concurrent 이하로 유지
+	private int concurrency;
+
+	// 매일 오전 5시에 실행되는 배치 스케줄
+	@Scheduled(cron = "${batch.movie-recommendation.cron:0 0 5 * * *}")
+	public void runMovieRecommendationBatch() {
+		Optional<String> lock = redisJobLock.tryAcquire(JOB_LOCK, JOB_LOCK_TTL);
+		if (lock.isEmpty()) {
+			log.warn("영화 추천 배치가 이미 실행 중입니다. 이번 실행은 건너뜁니다.");
+			return;
+		}
+		try {
+			runIncrementalBatch();
+		} finally {
+			redisJobLock.release(JOB_LOCK, lock.get());
+		}
+	}
+
+	private void runIncrementalBatch() {
+		long startTime = System.currentTimeMillis();
+		LocalDateTime runStartedAt = LocalDateTime.now();
+		LocalDateTime since = loadLastRun(runStartedAt);
+		log.info("영화 추천 배치 작업 시작... since={}", since);
+
+		// 마지막 실행 이후 활동이 있었던 사용자 + 이전 실행에서 실패한 사용자
+		Set<Long> retryUserIds = loadRetryUserIds();
+		Set<Long> targets = new LinkedHashSet<>(activityCollector.findUserIdsWithActivitySince(since));
+		targets.addAll(retryUserIds);
+		List<Long> userIds = new ArrayList<>(targets);
+		log.info("총 {}명의 영화 관련 사용자 활동 수집 완료 (재시도 {}명)", userIds.size(), retryUserIds.size());
+
+		int requested = 0;
+		Set<Long> failedUserIds = new HashSet<>();
+		for (int from = 0; from < userIds.size(); from += chunkSize) {
+			List<Long> chunk = userIds.subList(from, Math.min(from + chunkSize, userIds.size()));
+			try {
+				requested += processChunk(chunk, failedUserIds);
+			} catch (Exception e) {
+				// 청크 하나의 실패(DB/AI 호출 예외)가 나머지 청크를 막지 않도록 청크 전체를 재시도 대상으로 남김
+				failedUserIds.addAll(chunk);
+				log.error("영화 추천 배치 청크 실패: {}명을 다음 실행에서 다시 처리합니다.", chunk.size(), e);
+			}
+			int processed = Math.min(from + chunkSize, userIds.size());
+			long elapsed = Math.max(1, System.currentTimeMillis() - startTime);
+			log.info("영화 추천 배치 진행: {}/{}명 처리, 실패 {}/{}건, {} users/s",
+					processed, userIds.size(), failedUserIds.size(), requested, processed * 1000L / elapsed);
+		}
+
+		saveRetryUserIds(failedUserIds, retryUserIds);
+		saveLastRun(runStartedAt);
+		if (!failedUserIds.isEmpty()) {
+			log.warn("추천 실패 사용자 {}명: 재시도 대상으로 남겨 다음 실행에서 다시 처리합니다.", failedUserIds.size());
+		}
+
+		log.info("영화 추천 결과 저장 완료: users={}, requested={}, failed={}, elapsed={}ms",
+				userIds.size(), requested, failedUserIds.size(), System.currentTimeMillis() - startTime);
+	}
+
+	/**
+	 * 청크 하나의 활동 조회 → AI 추천 → 저장을 수행하고, 실패한 사용자를 failedUserIds에 모읍니다.
+	 *
+	 * @return AI 서버에 요청한 사용자 수
+	 */
+	private int processChunk(List<Long> chunk, Set<Long> failedUserIds) {
+		// 활동이 모두 사라진 사용자(신규 사용자 취급)는 요청 시점에 온보딩 기반으로 계산
+		List<UserActivityRequestDto> activities = activityCollector.getUserActivities(chunk).stream()
+				.filter(activity -> !activity.getReviewedMovieIds().isEmpty() || !activity.getLikedMovieIds().isEmpty())
+				.toList();
+
+		// 영화 추천 결과 FastAPI에서 받아오기 (동시 요청 수 제한)
+		List<MovieRecommendationResultDto> results = recommendationService.getUserRecommendationsInBatch(activities, concurrency);
+
+		// AI 호출 실패(결과 없음)와 저장 실패를 합산
+		Set<Long> answered = new HashSet<>();
+		results.forEach(result -> answered.add(result.getUserId()));
+		activities.stream()
+				.map(UserActivityRequestDto::getUserId)
+				.filter(userId -> !answered.contains(userId))
+				.forEach(failedUserIds::add);
+
+		// 추천 결과 저장 (DB 다중 행 UPSERT + Redis 캐시)
+		failedUserIds.addAll(recommendationStore.saveAll(results));
+		return activities.size();
+	}
+
+	private Set<Long> loadRetryUserIds() {
+		Set<Object> members = redisTemplate.opsForSet().members(RETRY_KEY);
+		Set<Long> userIds = new LinkedHashSet<>();
+		if (members != null) {
+			for (Object member : members) {
+				if (member instanceof Number userId) {
+					userIds.add(userId.longValue());
+				}
+			}
+		}
+		return userIds;
+	}
+
+	/**
+	 * 이번 실패를 먼저 추가한 뒤 재시도에 성공한 사용자를 제거합니다. (중간에 중단되어도 실패 사용자를 잃지 않음)
+	 */
+	private void saveRetryUserIds(Set<Long> failedUserIds, Set<Long> retriedUserIds) {
+		if (!failedUserIds.isEmpty()) {
+			redisTemplate.opsForSet().add(RETRY_KEY, failedUserIds.toArray());
+		}
+		Object[] recovered = retriedUserIds.stream().filter(userId -> !failedUserIds.contains(userId)).toArray();
+		if (recovered.length > 0) {
+			redisTemplate.opsForSet().remove(RETRY_KEY, recovered);
+		}
+	}
+
+	private LocalDateTime loadLastRun(LocalDateTime now) {
+		Object value = redisTemplate.opsForValue().get(LAST_RUN_KEY);
+		if (value instanceof Number epochMillis) {
+			return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis.longValue()), ZoneId.systemDefault());
+		}
+		// 최초 실행: 최근 1일간의 활동부터
+		return now.minusDays(1);
+	}
+
+	private void saveLastRun(LocalDateTime runStartedAt) {
+		long epochMillis = runStartedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+		redisTemplate.opsForValue().set(LAST_RUN_KEY, epochMillis);
+	}
+}
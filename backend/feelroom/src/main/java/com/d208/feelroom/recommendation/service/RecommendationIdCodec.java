@@ -0,0 +1,108 @@
+package com.d208.feelroom.recommendation.service;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 추천 영화 ID 목록의 압축 바이너리 인코딩
+ *
+ * 형식: [버전(1바이트)] [개수(varint)] [첫 ID(zigzag varint)] [이전 ID와의 차이(zigzag varint)]...
+ * 추천 순서를 그대로 보존해야 하므로 정렬하지 않고, 음수가 될 수 있는 차이는 zigzag로 부호를 접어 저장합니다.
+ * TMDB ID 20개 기준 JSON 텍스트(약 150바이트) 대비 40~60바이트 수준입니다.
+ *
+ * 첫 바이트가 '['이면 이전 형식(JSON 배열 텍스트)으로 보고 그대로 읽습니다.
+ * 잘리거나 손상된 값은 모두 IllegalArgumentException으로 알립니다.
+ */
+final class RecommendationIdCodec {
+
+	private static final byte VERSION_DELTA_VARINT = 1;
+	private static final ObjectMapper LEGACY_JSON = new ObjectMapper();
+
+	private RecommendationIdCodec() {
+	}
+
+	static byte[] encode(List<Integer> ids) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(2 + ids.size() * 3);
+		out.write(VERSION_DELTA_VARINT);
+		writeVarint(out, ids.size());
+		int previous = 0;
+		for (Integer id : ids) {
+			writeVarint(out, zigzag(id - previous));
+			previous = id;
+		}
+		return out.toByteArray();
+	}
+
+	static List<Integer> decode(byte[] bytes) {
+		if (bytes == null || bytes.length == 0) {
+			return new ArrayList<>();
+		}
+		if (bytes[0] == '[') {
+			return decodeLegacyJson(bytes);
+		}
+		if (bytes[0] != VERSION_DELTA_VARINT) {
+			throw new IllegalArgumentException("지원하지 않는 추천 결과 인코딩 버전: " + bytes[0]);
+		}
+
+		int[] position = {1};
+		int count = readVarint(bytes, position);
+		if (count < 0 || count > bytes.length - position[0]) { // ID 하나는 최소 1바이트
+			throw new IllegalArgumentException("추천 결과 개수가 데이터 길이와 맞지 않습니다: " + count);
+		}
+		List<Integer> ids = new ArrayList<>(count);
+		int previous = 0;
+		for (int i = 0; i < count; i++) {
+			previous += unzigzag(readVarint(bytes, position));
+			ids.add(previous);
+		}
+		return ids;
+	}
+
+	private static List<Integer> decodeLegacyJson(byte[] bytes) {
+		try {
+			return LEGACY_JSON.readValue(new String(bytes, StandardCharsets.UTF_8), new TypeReference<List<Integer>>() {});
+		} catch (Exception e) {
+			throw new IllegalArgumentException("이전 형식(JSON) 추천 결과를 읽을 수 없습니다.", e);
+		}
+	}
+
+	private static int zigzag(int value) {
+		return (value << 1) ^ (value >> 31);
+	}
+
+	private static int unzigzag(int value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	private static void writeVarint(ByteArrayOutputStream out, int value) {
+		while ((value & ~0x7F) != 0) {
+			out.write((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		out.write(value);
+	}
+
+	private static int readVarint(byte[] bytes, int[] position) {
+		int result = 0;
+		int shift = 0;
+		while (true) {
+			if (position[0] >= bytes.length) {
+				throw new IllegalArgumentException("추천 결과 데이터가 잘렸습니다.");
+			}
+			if (shift > 28) {
+				throw new IllegalArgumentException("varint가 32비트를 넘습니다.");
+			}
+			byte b = bytes[position[0]++];
+			result |= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return result;
+			}
+			shift += 7;
+		}
+	}
+}
@@ -1,13 +1,15 @@
 package com.d208.feelroom.recommendation.service;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 
 import com.d208.feelroom.recommendation.dto.MovieRecommendationResultDto;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -16,32 +18,65 @@ import lombok.extern.slf4j.Slf4j;
 public class RecommendationSaver {
 
 	private final JdbcTemplate jdbcTemplate;
-	private final ObjectMapper objectMapper;
 
-	public RecommendationSaver(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+	private static final String UPSERT_SQL_PREFIX =
+			"INSERT INTO user_movie_recommendations (user_id, recommended_movie_ids, updated_at) VALUES ";
+	private static final String UPSERT_SQL_ROW = "(?, ?, NOW(6))";
+	private static final String UPSERT_SQL_SUFFIX = """
+			 ON DUPLICATE KEY UPDATE
+			    recommended_movie_ids = VALUES(recommended_movie_ids),
+			    updated_at = VALUES(updated_at)
+			""";
+
+	@Value("${batch.movie-recommendation.upsert-chunk-size:500}") // 한 INSERT 문에 담을 행 수
+	private int upsertChunkSize;
+
+	public RecommendationSaver(JdbcTemplate jdbcTemplate) {
 		this.jdbcTemplate = jdbcTemplate;
-		this.objectMapper = objectMapper;
 	}
 
-	// 이 코드는 다음과 같은 역할을 합니다:
-	// 동일한 user_id가 존재하지 않으면 새 레코드를 삽입합니다.
-	// 동일한 user_id가 이미 존재하면 해당 레코드를 업데이트합니다.
-	// updated_at 타임스탬프도 함께 갱신됩니다.
 	// 추천 결과를 user_movie_recommendations 테이블에 저장 (있으면 갱신)
-	public void saveMovieRecommendations(List<MovieRecommendationResultDto> results) {
-		for (MovieRecommendationResultDto result : results) {
+	// - upsertChunkSize개씩 다중 행 INSERT ... ON DUPLICATE KEY UPDATE 한 문장으로 보내 왕복 횟수를 줄입니다.
+	// - 추천 ID 목록은 JSON 텍스트 대신 압축 바이너리(RecommendationIdCodec)로 저장합니다.
+	// - 청크 하나가 실패해도 나머지 청크는 계속 저장하고, 실패한 사용자 ID를 반환합니다.
+	public Set<Long> saveMovieRecommendations(List<MovieRecommendationResultDto> results) {
+		long startTime = System.currentTimeMillis();
+		Set<Long> failedUserIds = new HashSet<>();
+		int saved = 0;
+
+		for (int from = 0; from < results.size(); from += upsertChunkSize) {
+			List<MovieRecommendationResultDto> chunk = results.subList(from, Math.min(from + upsertChunkSize, results.size()));
 			try {
-				String json = objectMapper.writeValueAsString(result.getRecommendedMovieIds());
+				upsertChunk(chunk);
+				saved += chunk.size();
+			} catch (DataAccessException e) {
+				log.error("추천 결과 저장 실패 (청크 {}~{}건, 나머지 청크는 계속 진행)", from, from + chunk.size(), e);
+				chunk.forEach(result -> failedUserIds.add(result.getUserId()));
+			}
+		}
+
+		long elapsed = Math.max(1, System.currentTimeMillis() - startTime);
+		log.info("추천 결과 저장: saved={}, failed={}, elapsed={}ms, throughput={} rows/s",
+				saved, failedUserIds.size(), elapsed, saved * 1000L / elapsed);
+		return failedUserIds;
+	}
 
-				jdbcTemplate.update("""
-						    INSERT INTO user_movie_recommendations (user_id, recommended_movie_ids, updated_at)
-						    VALUES (?, ?, NOW())
-						    ON DUPLICATE KEY UPDATE recommended_movie_ids = VALUES(recommended_movie_ids)
-						""", result.getUserId(), json);
+	private void upsertChunk(List<MovieRecommendationResultDto> chunk) {
+		StringBuilder sql = new StringBuilder(UPSERT_SQL_PREFIX.length() + chunk.size() * (UPSERT_SQL_ROW.length() + 1) + UPSERT_SQL_SUFFIX.length());
+		sql.append(UPSERT_SQL_PREFIX);
+		Object[] params = new Object[chunk.size() * 2];
 
-			} catch (JsonProcessingException e) {
-				log.error("추천 영화 ID 직렬화 실패", e);
+		for (int i = 0; i < chunk.size(); i++) {
+			MovieRecommendationResultDto result = chunk.get(i);
+			if (i > 0) {
+				sql.append(',');
 			}
+			sql.append(UPSERT_SQL_ROW);
+			params[i * 2] = result.getUserId();
+			params[i * 2 + 1] = RecommendationIdCodec.encode(result.getRecommendedMovieIds());
 		}
+		sql.append(UPSERT_SQL_SUFFIX);
+
+		jdbcTemplate.update(sql.toString(), params);
 	}
 }
@@ -1,15 +1,16 @@
 package com.d208.feelroom.recommendation.service;
+import com.d208.feelroom.recommendation.dto.MovieRecommendationResultDto;
 import com.d208.feelroom.recommendation.dto.request.NewUserRequestDto;
 import com.d208.feelroom.recommendation.dto.request.UserActivityRequestDto;
 import com.d208.feelroom.recommendation.dto.response.FeedRecommendationItem;
 import com.d208.feelroom.recommendation.dto.response.FeedRecommendationResponse;
 import com.d208.feelroom.recommendation.dto.response.MovieRecommendationItem;
 import com.d208.feelroom.recommendation.dto.response.MovieRecommendationResponse;
+import com.d208.feelroom.global.infra.AiApiClient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
-import reactor.core.publisher.Mono;
+import reactor.core.publisher.Flux;
 
 import java.util.Collections;
 import java.util.List;
@@ -21,8 +22,8 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class RecommendationService {
 
-	// WebClientConfig에서 생성한 Bean 주입
-	private final WebClient recommendationApiClient;
+	// 타임아웃/서킷 브레이커/벌크헤드가 적용된 AI 서버 공용 클라이언트
+	private final AiApiClient aiApiClient;
 
 	/**
 	 * 1-1. 신규 사용자를 위한 영화 추천 ID 목록 조회
@@ -32,20 +33,14 @@ public class RecommendationService {
 	public List<Integer> getNewUserRecommendations(NewUserRequestDto request) {
 		log.info("AI 서버에 신규 사용자 추천 요청 전송");
 
-		return recommendationApiClient
-				.post()
-				.uri("/recommendations/new_user") // Endpoint 경로
-				.bodyValue(request)
-				.retrieve() // 요청 실행 및 응답 수신
-				.bodyToMono(MovieRecommendationResponse.class) // 응답 본문을 DTO로 변환
+		return aiApiClient
+				.post(AiApiClient.RECOMMEND_NEW_USER, "/recommendations/new_user", request, MovieRecommendationResponse.class)
+				.filter(response -> response.getRecommendations() != null)
 				.map(response -> response.getRecommendations().stream()
 						.map(MovieRecommendationItem::getTmdbId) // 각 추천 아이템에서 movieId만 추출
 						.collect(Collectors.toList())) // List<Integer>로 수집
-				.onErrorResume(e -> { // 통신 중 에러 발생 시
-					log.error("AI 서버 통신 실패 (신규 사용자 추천): {}", e.getMessage());
-					return Mono.just(Collections.emptyList()); // 빈 리스트 반환
-				})
-				.block(); // 비동기 작업이 완료될 때까지 대기하고 결과를 반환
+				.defaultIfEmpty(Collections.emptyList()) // 실패/서킷 OPEN/벌크헤드 초과 시 빈 리스트
+				.block(); // 클라이언트 데드라인(풀 대기 + 연결 + 응답 타임아웃) 안에서만 대기
 	}
 
 	/**
@@ -56,19 +51,32 @@ public class RecommendationService {
 	public List<Integer> getUserRecommendations(UserActivityRequestDto activity) {
 		log.info("AI 서버에 기존 사용자({}) 추천 요청 전송", activity.getUserId());
 
-		return recommendationApiClient
-				.post()
-				.uri("/recommendations/user")
-				.bodyValue(activity)
-				.retrieve()
-				.bodyToMono(MovieRecommendationResponse.class)
+		return aiApiClient
+				.post(AiApiClient.RECOMMEND_USER, "/recommendations/user", activity, MovieRecommendationResponse.class)
+				.filter(response -> response.getRecommendations() != null)
 				.map(response -> response.getRecommendations().stream()
 						.map(MovieRecommendationItem::getTmdbId)
 						.collect(Collectors.toList()))
-				.onErrorResume(e -> {
-					log.error("AI 서버 통신 실패 (기존 사용자 추천): {}", e.getMessage());
-					return Mono.just(Collections.emptyList());
-				})
+				.defaultIfEmpty(Collections.emptyList()) // 실패/서킷 OPEN/벌크헤드 초과 시 빈 리스트
+				.block(); // 클라이언트 데드라인(풀 대기 + 연결 + 응답 타임아웃) 안에서만 대기
+	}
+
+	/**
+	 * 1-3. 여러 사용자의 영화 추천을 동시 요청 수를 제한하여 한 번에 조회 (추천 배치용)
+	 * 요청 경로와 벌크헤드를 나누기 위해 배치 전용 엔드포인트 설정(recommend-user-batch)을 사용합니다.
+	 * @param activities 사용자별 활동 내역
+	 * @param concurrency 동시에 보낼 최대 요청 수
+	 * @return 추천에 성공한 사용자들의 결과 (실패한 사용자는 제외)
+	 */
+	public List<MovieRecommendationResultDto> getUserRecommendationsInBatch(List<UserActivityRequestDto> activities, int concurrency) {
+		return Flux.fromIterable(activities)
+				.flatMap(activity -> aiApiClient
+						.post(AiApiClient.RECOMMEND_USER_BATCH, "/recommendations/user", activity, MovieRecommendationResponse.class)
+						.filter(response -> response.getRecommendations() != null)
+						.map(response -> new MovieRecommendationResultDto(activity.getUserId(), response.getRecommendations().stream()
+								.map(MovieRecommendationItem::getTmdbId)
+								.collect(Collectors.toList()))), concurrency)
+				.collectList()
 				.block();
 	}
 
@@ -80,19 +88,13 @@ public class RecommendationService {
 	public List<UUID> getFeedRecommendations(UserActivityRequestDto activity) {
 		log.info("AI 서버에 사용자({}) 리뷰 피드 추천 요청 전송", activity.getUserId());
 
-		return recommendationApiClient
-				.post()
-				.uri("/recommendations/feed")
-				.bodyValue(activity)
-				.retrieve()
-				.bodyToMono(FeedRecommendationResponse.class)
+		return aiApiClient
+				.post(AiApiClient.RECOMMEND_FEED, "/recommendations/feed", activity, FeedRecommendationResponse.class)
+				.filter(response -> response.getRecommendations() != null)
 				.map(response -> response.getRecommendations().stream()
 						.map(FeedRecommendationItem::getReviewId) // item에서 reviewId(UUID)를 바로 가져옴
 						.collect(Collectors.toList()))
-				.onErrorResume(e -> {
-					log.error("AI 서버 통신 실패 (리뷰 피드 추천): {}", e.getMessage());
-					return Mono.just(Collections.emptyList());
-				})
-				.block();
+				.defaultIfEmpty(Collections.emptyList()) // 실패/서킷 OPEN/벌크헤드 초과 시 빈 리스트
+				.block(); // 클라이언트 데드라인(풀 대기 + 연결 + 응답 타임아웃) 안에서만 대기
 	}
 }
\ No newline at end of file
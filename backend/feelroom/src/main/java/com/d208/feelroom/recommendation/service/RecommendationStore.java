@@ -0,0 +1,153 @@
+package com.d208.feelroom.recommendation.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.d208.feelroom.movie.domain.entity.Movie;
+import com.d208.feelroom.movie.domain.repository.MovieRepository;
+import com.d208.feelroom.movie.dto.LikedMovieInfo;
+import com.d208.feelroom.recommendation.dto.MovieRecommendationResultDto;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 미리 계산된 영화 추천 결과 저장소
+ *
+ * - 원본: user_movie_recommendations (RecommendationSaver가 배치 UPSERT)
+ * - 캐시: Redis "recommendation:movies:{userId}" 에 화면에 바로 내려줄 영화 카드(LikedMovieInfo) 목록을 저장
+ *
+ * 조회는 Redis 키 하나로 끝나고, 캐시가 만료된 경우에만 DB에서 TMDB ID를 읽어 다시 채웁니다.
+ */
+@Slf4j(topic = "RecommendationStore")
+@Component
+@RequiredArgsConstructor
+public class RecommendationStore {
+
+	public static final String MOVIES_KEY_PREFIX = "recommendation:movies:";
+
+	private static final String SELECT_STORED_SQL =
+			"SELECT recommended_movie_ids FROM user_movie_recommendations WHERE user_id = ?";
+
+	private final RedisTemplate<String, Object> redisTemplate;
+	private final JdbcTemplate jdbcTemplate;
+	private final MovieRepository movieRepository;
+	private final RecommendationSaver recommendationSaver;
+
+	@Value("${recommendation.store.cache-ttl-hours:36}") // 일일 배치 주기보다 길게 유지
+	private long cacheTtlHours;
+
+	/**
+	 * 사용자의 저장된 추천 영화 목록을 조회합니다.
+	 *
+	 * @return 추천 영화 카드 목록 (저장된 추천 결과가 없으면 null)
+	 */
+	@SuppressWarnings("unchecked")
+	public List<LikedMovieInfo> findMovies(Long userId) {
+		Object cached = redisTemplate.opsForValue().get(key(userId));
+		if (cached instanceof List<?> movies) {
+			return (List<LikedMovieInfo>) movies;
+		}
+
+		List<Integer> tmdbIds = findStoredTmdbIds(userId);
+		if (tmdbIds == null) {
+			return null;
+		}
+
+		Map<Long, List<LikedMovieInfo>> resolved = resolve(List.of(new MovieRecommendationResultDto(userId, tmdbIds)));
+		cache(resolved);
+		return resolved.get(userId);
+	}
+
+	/**
+	 * 추천 결과를 DB에 저장하고, 저장에 성공한 사용자만 Redis 캐시를 갱신합니다. (빈 결과는 저장하지 않음)
+	 *
+	 * @return DB 저장에 실패한 사용자 ID
+	 */
+	public Set<Long> saveAll(List<MovieRecommendationResultDto> results) {
+		List<MovieRecommendationResultDto> nonEmpty = results.stream()
+				.filter(result -> result.getRecommendedMovieIds() != null && !result.getRecommendedMovieIds().isEmpty())
+				.toList();
+		if (nonEmpty.isEmpty()) {
+			return Set.of();
+		}
+
+		Set<Long> failedUserIds = recommendationSaver.saveMovieRecommendations(nonEmpty);
+		List<MovieRecommendationResultDto> saved = failedUserIds.isEmpty()
+				? nonEmpty
+				: nonEmpty.stream().filter(result -> !failedUserIds.contains(result.getUserId())).toList();
+		if (!saved.isEmpty()) {
+			cache(resolve(saved));
+		}
+		return failedUserIds;
+	}
+
+	private List<Integer> findStoredTmdbIds(Long userId) {
+		List<byte[]> rows = jdbcTemplate.query(SELECT_STORED_SQL, (rs, rowNum) -> rs.getBytes(1), userId);
+		if (rows.isEmpty() || rows.get(0) == null) {
+			return null;
+		}
+		try {
+			return RecommendationIdCodec.decode(rows.get(0));
+		} catch (IllegalArgumentException e) {
+			log.error("저장된 추천 결과 역직렬화 실패: userId={}", userId, e);
+			return null;
+		}
+	}
+
+	/**
+	 * 여러 사용자의 추천 TMDB ID를 IN 쿼리 한 번으로 영화 카드로 변환합니다. (추천 순서 유지, DB에 없는 영화는 제외)
+	 */
+	private Map<Long, List<LikedMovieInfo>> resolve(List<MovieRecommendationResultDto> results) {
+		Set<Integer> tmdbIds = new HashSet<>();
+		results.forEach(result -> tmdbIds.addAll(result.getRecommendedMovieIds()));
+
+		Map<Integer, LikedMovieInfo> moviesByTmdbId = movieRepository.findAllByTmdbIdIn(tmdbIds).stream()
+				.collect(Collectors.toMap(Movie::getTmdbId,
+						movie -> new LikedMovieInfo(movie.getMovieId(), movie.getTitle(), movie.getPosterUrl()),
+						(a, b) -> a));
+
+		Map<Long, List<LikedMovieInfo>> resolved = new HashMap<>();
+		for (MovieRecommendationResultDto result : results) {
+			resolved.put(result.getUserId(), result.getRecommendedMovieIds().stream()
+					.map(moviesByTmdbId::get)
+					.filter(Objects::nonNull)
+					.collect(Collectors.toCollection(ArrayList::new)));
+		}
+		return resolved;
+	}
+
+	/**
+	 * 사용자별 추천 영화 카드 목록을 파이프라인으로 한 번에 캐싱합니다.
+	 */
+	private void cache(Map<Long, List<LikedMovieInfo>> moviesByUser) {
+		Duration ttl = Duration.ofHours(cacheTtlHours);
+		redisTemplate.executePipelined(new SessionCallback<Object>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public Object execute(RedisOperations operations) throws DataAccessException {
+				moviesByUser.forEach((userId, movies) -> operations.opsForValue().set(key(userId), movies, ttl));
+				return null;
+			}
+		});
+	}
+
+	private static String key(Long userId) {
+		return MOVIES_KEY_PREFIX + userId;
+	}
+}
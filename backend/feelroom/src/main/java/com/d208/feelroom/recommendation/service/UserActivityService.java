@@ -8,11 +8,15 @@ import com.d208.feelroom.review.domain.repository.ReviewRepository;
 import com.d208.feelroom.user.domain.repository.UserOnboardingMovieRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID; // 추가
 
 @Slf4j(topic = "UserActivityService")
@@ -25,6 +29,16 @@ public class UserActivityService {
 	private final MovieLikeRepository movieLikeRepository;
 	private final UserOnboardingMovieRepository userOnboardingMovieRepository;
 	private final ReviewLikeRepository reviewLikeRepository; // ReviewLikeRepository 주입
+	private final JdbcTemplate jdbcTemplate;
+
+	// 추천 입력(리뷰/평점, 좋아요 리뷰, 좋아요 영화)이 바뀐 사용자 (삭제된 좋아요는 행이 없으므로 다음 활동 때 반영)
+	private static final String SELECT_ACTIVE_USER_IDS_SQL = """
+			SELECT user_id FROM reviews WHERE updated_at >= ?
+			UNION
+			SELECT user_id FROM review_likes WHERE created_at >= ?
+			UNION
+			SELECT user_id FROM movie_likes WHERE created_at >= ?
+			""";
 
 	/**
 	 * 기존 사용자의 활동 내역(리뷰, 평점, 좋아요 영화, 좋아요 리뷰 등)을 조회하여 AI 추천 모델에 전달할 DTO를 생성합니다.
@@ -67,6 +81,40 @@ public class UserActivityService {
 		return new UserActivityRequestDto(userId, reviewedMovieTmdbIds, ratings, likedReviewIds, likedMovieTmdbIds);
 	}
 
+	/**
+	 * 여러 사용자의 활동 내역을 종류별 IN 쿼리 한 번씩(총 3회)으로 조회합니다. (추천 배치용)
+	 *
+	 * @param userIds 사용자 ID 목록 (청크)
+	 * @return userIds 순서대로의 활동 내역 (활동이 없는 사용자는 빈 목록)
+	 */
+	@Transactional(readOnly = true)
+	public List<UserActivityRequestDto> getUserActivities(List<Long> userIds) {
+		Map<Long, UserActivityRequestDto> activities = new LinkedHashMap<>();
+		for (Long userId : userIds) {
+			activities.put(userId, new UserActivityRequestDto(userId, new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>()));
+		}
+		if (activities.isEmpty()) {
+			return List.of();
+		}
+
+		for (Object[] row : reviewRepository.findReviewedMovieTmdbIdsAndRatingsByUserIdIn(activities.keySet())) {
+			UserActivityRequestDto activity = activities.get((Long) row[0]);
+			activity.getReviewedMovieIds().add((Integer) row[1]);
+			if (row[2] != null) {
+				activity.getRatings().add(((Number) row[2]).doubleValue());
+			}
+		}
+		for (Object[] row : reviewLikeRepository.findReviewIdsByUserIdIn(activities.keySet())) {
+			activities.get((Long) row[0]).getLikedReviewIds().add((UUID) row[1]);
+		}
+		for (Object[] row : movieLikeRepository.findLikedMovieTmdbIdsByUserIdIn(activities.keySet())) {
+			activities.get((Long) row[0]).getLikedMovieIds().add((Integer) row[1]);
+		}
+
+		log.info("사용자 활동 내역 일괄 조회 완료. users: {}", activities.size());
+		return new ArrayList<>(activities.values());
+	}
+
 	/**
 	 * 신규 사용자 또는 활동이 없는 사용자의 초기 영화 선호도 데이터를 조회합니다.
 	 *
@@ -82,4 +130,14 @@ public class UserActivityService {
 
 		return new NewUserRequestDto(likedMovieId);
 	}
-}
\ No newline at end of file
+
+	/**
+	 * 주어진 시각 이후 추천 입력 활동이 있었던 사용자 ID 목록을 조회합니다. (추천 배치의 증분 대상)
+	 *
+	 * @param since 마지막 배치 실행 시각
+	 * @return 활동이 있었던 사용자 ID (중복 없음)
+	 */
+	public List<Long> findUserIdsWithActivitySince(LocalDateTime since) {
+		return jdbcTemplate.queryForList(SELECT_ACTIVE_USER_IDS_SQL, Long.class, since, since, since);
+	}
+}
@@ -3,6 +3,7 @@ package com.d208.feelroom.review.controller;
 import com.d208.feelroom.comment.dto.CommentCreateRequestDto;
 import com.d208.feelroom.comment.dto.CommentCreateResponseDto;
 import com.d208.feelroom.comment.dto.CommentNodeDto;
+import com.d208.feelroom.comment.dto.CommentSliceResponseDto;
 import com.d208.feelroom.global.security.dto.UserDetailsImpl;
 import com.d208.feelroom.review.dto.*;
 import com.d208.feelroom.comment.service.CommentService;
@@ -210,6 +211,21 @@ public class ReviewController {
         return ResponseEntity.ok(commentPage);
     }
 
+    @Operation(summary = "리뷰의 댓글/대댓글 목록 커서 조회 (2계층)",
+            description = "커서(키셋) 기반으로 최상위 댓글을 조회합니다. 대댓글은 부모당 일부만 미리보기로 포함되며, " +
+                    "나머지는 nextReplyCursor로 '/api/v1/comments/{commentId}/replies'에서 이어서 조회합니다.")
+    @GetMapping("/{reviewId}/comments/cursor")
+    public ResponseEntity<CommentSliceResponseDto> getCommentsByReviewCursor(
+            @Parameter(description = "댓글 목록을 조회할 리뷰 ID", required = true) @PathVariable UUID reviewId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String after,
+            @Parameter(description = "페이지 당 최상위 댓글 수 (최대 50)") @RequestParam(defaultValue = "10") int size,
+            @Parameter(hidden = true) @AuthenticationPrincipal UserDetailsImpl userDetails) {
+
+        Long userId = (userDetails != null && userDetails.getUser() != null) ? userDetails.getUser().getUserId() : null;
+        CommentSliceResponseDto responseDto = commentService.findCommentsByReviewCursor(reviewId, after, size, userId);
+        return ResponseEntity.ok(responseDto);
+    }
+
     @Operation(summary = "리뷰 좋아요 토글", security = @SecurityRequirement(name = "bearerAuth"))
     @PutMapping("/reviews/{reviewId}/like") // 예시 경로
     public ResponseEntity<ReviewMyStatusResponseDto> toggleReviewLike( // 반환 타입을 DTO로 변경
@@ -247,6 +263,9 @@ public class ReviewController {
             @Parameter(description = "페이지 정보 (size, page). 최초 호출시 ?size=10&page=0")
             Pageable pageable,
 
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략, 지정하면 page는 무시)")
+            @RequestParam(required = false) String cursor,
+
             @Parameter(hidden = true) // Swagger 문서에서는 숨김 처리
             @AuthenticationPrincipal UserDetailsImpl userDetails) {
 
@@ -255,7 +274,7 @@ public class ReviewController {
         Long currentUserId = userDetails.getUser().getUserId();
 
         // 서비스 로직을 호출하여 피드 데이터를 가져옵니다.
-        ReviewFeedResponseDto response = reviewService.getReviewFeed(currentUserId, pageable);
+        ReviewFeedResponseDto response = reviewService.getReviewFeed(currentUserId, cursor, pageable);
 
         return ResponseEntity.ok(response);
     }
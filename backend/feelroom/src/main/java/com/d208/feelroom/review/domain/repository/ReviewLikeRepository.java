@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -59,4 +60,12 @@ public interface ReviewLikeRepository extends JpaRepository<ReviewLike, ReviewLi
      */
     @Query("SELECT rl.review.reviewId FROM ReviewLike rl WHERE rl.user.userId = :userId")
     List<UUID> findReviewIdsByUserId(@Param("userId") Long userId);
+
+    /**
+     * 여러 사용자가 '좋아요'를 누른 리뷰 ID를 한 번에 조회합니다. (추천 배치의 청크 단위 조회)
+     * @param userIds 사용자 ID 목록
+     * @return List<Object[]>, 각 row는 [0]: user_id (Long), [1]: review_id (UUID)
+     */
+    @Query("SELECT rl.user.userId, rl.review.reviewId FROM ReviewLike rl WHERE rl.user.userId IN :userIds")
+    List<Object[]> findReviewIdsByUserIdIn(@Param("userIds") Collection<Long> userIds);
 }
\ No newline at end of file
@@ -2,7 +2,6 @@ package com.d208.feelroom.review.domain.repository;
 
 import com.d208.feelroom.review.domain.entity.Review;
 import com.d208.feelroom.review.domain.entity.tag.ReviewTag;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -58,22 +57,48 @@ public interface ReviewRepository extends JpaRepository<Review, UUID> {
 
     /**
      * 배치 처리된 summary 테이블을 활용한 리뷰 목록 조회 (좋아요 수 기준 정렬)
-     * LIMIT, OFFSET 제거 - Spring Data JPA가 자동으로 페이징 처리
+     * 페이지 번호 요청용이며, 전체 개수는 MovieSummary에서 읽으므로 count 쿼리 없이 Slice로 조회합니다.
      */
     @Query(value = """
-        SELECT r.*, u.nickname, 
+        SELECT r.*, u.nickname,
                COALESCE(rs.review_like_count, 0) as like_count,
                COALESCE(rs.review_comment_count, 0) as comment_count
         FROM reviews r
         INNER JOIN users u ON r.user_id = u.user_id
         LEFT JOIN review_summary rs ON r.review_id = rs.review_id
-        WHERE r.movie_id = :movieId 
+        WHERE r.movie_id = :movieId
+        AND r.deleted_at IS NULL
+        ORDER BY COALESCE(rs.review_like_count, 0) DESC, r.created_at DESC, r.review_id ASC
+        """,
+            nativeQuery = true)
+    Slice<Object[]> findReviewsByMovieIdOrderByLikesNative(
+            @Param("movieId") Integer movieId,
+            Pageable pageable
+    );
+
+    /**
+     * [키셋 페이징] 커서(좋아요 수, created_at, review_id) 이후의 리뷰 조회 (좋아요 수 기준 정렬)
+     */
+    @Query(value = """
+        SELECT r.*, u.nickname,
+               COALESCE(rs.review_like_count, 0) as like_count,
+               COALESCE(rs.review_comment_count, 0) as comment_count
+        FROM reviews r
+        INNER JOIN users u ON r.user_id = u.user_id
+        LEFT JOIN review_summary rs ON r.review_id = rs.review_id
+        WHERE r.movie_id = :movieId
         AND r.deleted_at IS NULL
-        ORDER BY COALESCE(rs.review_like_count, 0) DESC, r.created_at DESC
+        AND (COALESCE(rs.review_like_count, 0) < :score
+             OR (COALESCE(rs.review_like_count, 0) = :score
+                 AND (r.created_at < :createdAt OR (r.created_at = :createdAt AND r.review_id > :reviewId))))
+        ORDER BY COALESCE(rs.review_like_count, 0) DESC, r.created_at DESC, r.review_id ASC
         """,
             nativeQuery = true)
-    Page<Object[]> findReviewsByMovieIdOrderByLikesNative(
+    Slice<Object[]> findReviewsByMovieIdOrderByLikesNativeAfter(
             @Param("movieId") Integer movieId,
+            @Param("score") long score,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("reviewId") UUID reviewId,
             Pageable pageable
     );
 
@@ -81,19 +106,45 @@ public interface ReviewRepository extends JpaRepository<Review, UUID> {
      * 배치 처리된 summary 테이블을 활용한 리뷰 목록 조회 (댓글 수 기준 정렬)
      */
     @Query(value = """
-        SELECT r.*, u.nickname, 
+        SELECT r.*, u.nickname,
                COALESCE(rs.review_like_count, 0) as like_count,
                COALESCE(rs.review_comment_count, 0) as comment_count
         FROM reviews r
         INNER JOIN users u ON r.user_id = u.user_id
         LEFT JOIN review_summary rs ON r.review_id = rs.review_id
-        WHERE r.movie_id = :movieId 
+        WHERE r.movie_id = :movieId
+        AND r.deleted_at IS NULL
+        ORDER BY COALESCE(rs.review_comment_count, 0) DESC, r.created_at DESC, r.review_id ASC
+        """,
+            nativeQuery = true)
+    Slice<Object[]> findReviewsByMovieIdOrderByCommentsNative(
+            @Param("movieId") Integer movieId,
+            Pageable pageable
+    );
+
+    /**
+     * [키셋 페이징] 커서(댓글 수, created_at, review_id) 이후의 리뷰 조회 (댓글 수 기준 정렬)
+     */
+    @Query(value = """
+        SELECT r.*, u.nickname,
+               COALESCE(rs.review_like_count, 0) as like_count,
+               COALESCE(rs.review_comment_count, 0) as comment_count
+        FROM reviews r
+        INNER JOIN users u ON r.user_id = u.user_id
+        LEFT JOIN review_summary rs ON r.review_id = rs.review_id
+        WHERE r.movie_id = :movieId
         AND r.deleted_at IS NULL
-        ORDER BY COALESCE(rs.review_comment_count, 0) DESC, r.created_at DESC
+        AND (COALESCE(rs.review_comment_count, 0) < :score
+             OR (COALESCE(rs.review_comment_count, 0) = :score
+                 AND (r.created_at < :createdAt OR (r.created_at = :createdAt AND r.review_id > :reviewId))))
+        ORDER BY COALESCE(rs.review_comment_count, 0) DESC, r.created_at DESC, r.review_id ASC
         """,
             nativeQuery = true)
-    Page<Object[]> findReviewsByMovieIdOrderByCommentsNative(
+    Slice<Object[]> findReviewsByMovieIdOrderByCommentsNativeAfter(
             @Param("movieId") Integer movieId,
+            @Param("score") long score,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("reviewId") UUID reviewId,
             Pageable pageable
     );
 
@@ -101,19 +152,43 @@ public interface ReviewRepository extends JpaRepository<Review, UUID> {
      * 배치 처리된 summary 테이블을 활용한 리뷰 목록 조회 (최신순 정렬)
      */
     @Query(value = """
-        SELECT r.*, u.nickname, 
+        SELECT r.*, u.nickname,
                COALESCE(rs.review_like_count, 0) as like_count,
                COALESCE(rs.review_comment_count, 0) as comment_count
         FROM reviews r
         INNER JOIN users u ON r.user_id = u.user_id
         LEFT JOIN review_summary rs ON r.review_id = rs.review_id
-        WHERE r.movie_id = :movieId 
+        WHERE r.movie_id = :movieId
         AND r.deleted_at IS NULL
-        ORDER BY r.created_at DESC
+        ORDER BY r.created_at DESC, r.review_id ASC
+        """,
+            nativeQuery = true)
+    Slice<Object[]> findReviewsByMovieIdOrderByLatestNative(
+            @Param("movieId") Integer movieId,
+            Pageable pageable
+    );
+
+    /**
+     * [키셋 페이징] 커서(created_at, review_id) 이후의 리뷰 조회 (최신순 정렬)
+     * OFFSET 없이 idx_movie_reviews (movie_id, created_at) 범위 스캔으로 다음 페이지를 가져옵니다.
+     */
+    @Query(value = """
+        SELECT r.*, u.nickname,
+               COALESCE(rs.review_like_count, 0) as like_count,
+               COALESCE(rs.review_comment_count, 0) as comment_count
+        FROM reviews r
+        INNER JOIN users u ON r.user_id = u.user_id
+        LEFT JOIN review_summary rs ON r.review_id = rs.review_id
+        WHERE r.movie_id = :movieId
+        AND r.deleted_at IS NULL
+        AND (r.created_at < :createdAt OR (r.created_at = :createdAt AND r.review_id > :reviewId))
+        ORDER BY r.created_at DESC, r.review_id ASC
         """,
             nativeQuery = true)
-    Page<Object[]> findReviewsByMovieIdOrderByLatestNative(
+    Slice<Object[]> findReviewsByMovieIdOrderByLatestNativeAfter(
             @Param("movieId") Integer movieId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("reviewId") UUID reviewId,
             Pageable pageable
     );
 
@@ -205,14 +280,15 @@ public interface ReviewRepository extends JpaRepository<Review, UUID> {
      * @param userId 현재 사용자의 ID
      * @param pageable 페이징 정보 (size, page)
      * @return Native Query 결과를 담은 Slice 객체. 각 row는 Object[] 타입입니다.
-     *         (findFeedReviewsByAuthorIds 와 동일한 컬럼 순서를 가짐)
+     *         (findFeedReviewsByAuthorIds 와 동일한 컬럼 순서 + [13] liked_at (Timestamp, 커서 생성용))
      */
     @Query(value = """
         SELECT r.review_id, r.title as review_title, r.content as review_content, r.rating as review_rating, r.created_at as review_created_at,
                m.movie_id, m.title as movie_title, m.poster_url,
                u.user_id as author_user_id, u.nickname as author_nickname, u.profile_image_url as author_profile_image_url,
                COALESCE(rs.review_like_count, 0) as likes_count,
-               COALESCE(rs.review_comment_count, 0) as comments_count
+               COALESCE(rs.review_comment_count, 0) as comments_count,
+               rl.created_at as liked_at
         FROM review_likes rl
         INNER JOIN reviews r ON rl.review_id = r.review_id
         INNER JOIN users u ON r.user_id = u.user_id
@@ -220,12 +296,39 @@ public interface ReviewRepository extends JpaRepository<Review, UUID> {
         LEFT JOIN review_summary rs ON r.review_id = rs.review_id
         WHERE rl.user_id = :userId
         AND r.deleted_at IS NULL
-        ORDER BY rl.created_at DESC
+        ORDER BY rl.created_at DESC, rl.review_id ASC
         """,
             countQuery = "SELECT count(*) FROM review_likes rl INNER JOIN reviews r ON rl.review_id = r.review_id WHERE rl.user_id = :userId AND r.deleted_at IS NULL",
             nativeQuery = true)
     Slice<Object[]> findLikedReviewsByUserId(@Param("userId") Long userId, Pageable pageable);
 
+    /**
+     * [키셋 페이징] 커서(liked_at, review_id) 이후의 '좋아요' 한 리뷰를 조회합니다.
+     * OFFSET 없이 idx_user_liked_reviews (user_id, created_at) 범위 스캔으로 다음 페이지를 가져옵니다.
+     * (findLikedReviewsByUserId 와 컬럼 순서 동일)
+     */
+    @Query(value = """
+        SELECT r.review_id, r.title as review_title, r.content as review_content, r.rating as review_rating, r.created_at as review_created_at,
+               m.movie_id, m.title as movie_title, m.poster_url,
+               u.user_id as author_user_id, u.nickname as author_nickname, u.profile_image_url as author_profile_image_url,
+               COALESCE(rs.review_like_count, 0) as likes_count,
+               COALESCE(rs.review_comment_count, 0) as comments_count,
+               rl.created_at as liked_at
+        FROM review_likes rl
+        INNER JOIN reviews r ON rl.review_id = r.review_id
+        INNER JOIN users u ON r.user_id = u.user_id
+        INNER JOIN movies m ON r.movie_id = m.movie_id
+        LEFT JOIN review_summary rs ON r.review_id = rs.review_id
+        WHERE rl.user_id = :userId
+        AND (rl.created_at < :likedAt OR (rl.created_at = :likedAt AND rl.review_id > :reviewId))
+        AND r.deleted_at IS NULL
+        ORDER BY rl.created_at DESC, rl.review_id ASC
+        """, nativeQuery = true)
+    Slice<Object[]> findLikedReviewsByUserIdAfter(@Param("userId") Long userId,
+                                                 @Param("likedAt") LocalDateTime likedAt,
+                                                 @Param("reviewId") UUID reviewId,
+                                                 Pageable pageable);
+
     /**
      * 인기 피드 조회를 위해 Redis에서 가져온 리뷰 ID 목록으로 상세 정보를 조회합니다.
      * (findFeedReviewsByAuthorIds 와 컬럼 순서 및 내용 동일)
@@ -244,9 +347,32 @@ public interface ReviewRepository extends JpaRepository<Review, UUID> {
         INNER JOIN movies m ON r.movie_id = m.movie_id
         LEFT JOIN review_summary rs ON r.review_id = rs.review_id
         WHERE r.review_id IN :reviewIds
+        AND r.deleted_at IS NULL
         """, nativeQuery = true)
     List<Object[]> findFeedReviewsByIds(@Param("reviewIds") List<UUID> reviewIds);
 
+    /**
+     * 팔로잉 피드 타임라인 구성용으로 작성자들의 최근 리뷰 ID와 작성 시각만 조회합니다.
+     * (idx_user_reviews (user_id, created_at DESC) 인덱스 범위 스캔)
+     *
+     * @param authorIds 작성자 ID 목록
+     * @param before    이 시각 이전(미포함)에 작성된 리뷰만 조회
+     * @param limit     최대 조회 건수
+     * @return 각 row는 [review_id (byte[]), created_at (Timestamp)], 최신순
+     */
+    @Query(value = """
+        SELECT r.review_id, r.created_at
+        FROM reviews r
+        WHERE r.user_id IN :authorIds
+        AND r.deleted_at IS NULL
+        AND r.created_at < :before
+        ORDER BY r.created_at DESC, r.review_id DESC
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<Object[]> findTimelineEntriesByAuthorIds(@Param("authorIds") Collection<Long> authorIds,
+                                                 @Param("before") LocalDateTime before,
+                                                 @Param("limit") int limit);
+
     /**
      * User Activity Badge System
      */
@@ -299,6 +425,21 @@ public interface ReviewRepository extends JpaRepository<Review, UUID> {
     @Query("SELECT COUNT(r) FROM Review r WHERE r.deletedAt IS NULL")
     long countTotalValidReviews();
 
+    /**
+     * 인기 리뷰 랭킹 재구성용: 기준 시각 이후 작성되었고 좋아요가 있는 리뷰의 ID, 작성 시각, 좋아요 수를 한 번에 조회합니다.
+     *
+     * @return List<Object[]>, 각 row는 [0]: review_id (byte[]), [1]: created_at (Timestamp), [2]: review_like_count
+     */
+    @Query(value = """
+        SELECT r.review_id, r.created_at, rs.review_like_count
+        FROM reviews r
+        INNER JOIN review_summary rs ON r.review_id = rs.review_id
+        WHERE r.created_at >= :since
+        AND r.deleted_at IS NULL
+        AND rs.review_like_count > 0
+        """, nativeQuery = true)
+    List<Object[]> findRecentReviewLikeCounts(@Param("since") LocalDateTime since);
+
     @Query("SELECT DISTINCT r.movie.movieId FROM Review r WHERE r.createdAt >= :dateTime")
     List<Integer> findMovieIdsWithRecentActivity(@Param("dateTime") LocalDateTime dateTime);
 
@@ -313,4 +454,13 @@ public interface ReviewRepository extends JpaRepository<Review, UUID> {
      */
     @Query("SELECT r.movie.tmdbId, r.rating FROM Review r WHERE r.user.userId = :userId AND r.deletedAt IS NULL")
     List<Object[]> findReviewedMovieTmdbIdsAndRatingsByUserId(@Param("userId") Long userId);
+
+    /**
+     * 여러 사용자의 리뷰 영화 tmdb_id와 평점을 한 번에 조회합니다. (추천 배치의 청크 단위 조회)
+     *
+     * @param userIds 사용자 ID 목록
+     * @return List<Object[]>, 각 row는 [0]: user_id (Long), [1]: tmdb_id (Integer), [2]: rating (Integer)
+     */
+    @Query("SELECT r.user.userId, r.movie.tmdbId, r.rating FROM Review r WHERE r.user.userId IN :userIds AND r.deletedAt IS NULL")
+    List<Object[]> findReviewedMovieTmdbIdsAndRatingsByUserIdIn(@Param("userIds") Collection<Long> userIds);
 }
\ No newline at end of file
@@ -12,4 +12,9 @@ import java.util.List;
 public class ReviewFeedResponseDto {
     private List<FeedReviewInfo> reviews;
     private boolean hasNext; // 다음 페이지가 있는지 여부
+    private String nextCursor; // 다음 페이지 커서 (팔로잉 피드만 사용, 마지막 페이지이면 null)
+
+    public ReviewFeedResponseDto(List<FeedReviewInfo> reviews, boolean hasNext) {
+        this(reviews, hasNext, null);
+    }
 }
@@ -40,4 +40,7 @@ public class ReviewListResponseDto {
     
     private List<ReviewInfo> reviews;
     private ReviewStats reviewStats;
+    private boolean hasNext; // 다음 페이지가 있는지 여부
+    @Schema(description = "다음 페이지 조회용 커서 (불투명 문자열). 마지막 페이지면 null")
+    private String nextCursor;
 }
\ No newline at end of file
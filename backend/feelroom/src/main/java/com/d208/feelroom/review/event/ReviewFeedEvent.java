@@ -0,0 +1,25 @@
+package com.d208.feelroom.review.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 리뷰가 작성되거나 삭제되어 팔로워 피드 타임라인에 반영해야 할 때 발행되는 이벤트
+ */
+@Getter
+@RequiredArgsConstructor
+public class ReviewFeedEvent {
+
+    private final UUID reviewId;
+    private final Long authorId;
+    private final LocalDateTime createdAt; // 리뷰 작성 시각 (타임라인 점수)
+    private final EventType type;
+
+    public enum EventType {
+        PUBLISHED,   // 리뷰 작성
+        DELETED      // 리뷰 삭제
+    }
+}
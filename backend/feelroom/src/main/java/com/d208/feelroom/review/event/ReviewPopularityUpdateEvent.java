@@ -3,12 +3,15 @@ package com.d208.feelroom.review.event;
 import lombok.Getter;
 import org.springframework.context.ApplicationEvent;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Getter
 public class ReviewPopularityUpdateEvent extends ApplicationEvent {
     private final UUID reviewId;
     private final EventType type;
+    private final LocalDateTime createdAt; // 리뷰 작성 시각 (LIKED 이벤트에서 점수 계산용)
+    private final int likeChange;          // 좋아요 변경량 (+1 또는 -1, LIKED 이벤트에서만 사용)
 
     public enum EventType {
         LIKED,       // 좋아요 추가/취소
@@ -16,8 +19,19 @@ public class ReviewPopularityUpdateEvent extends ApplicationEvent {
     }
 
     public ReviewPopularityUpdateEvent(Object source, UUID reviewId, EventType type) {
+        this(source, reviewId, type, null, 0);
+    }
+
+    private ReviewPopularityUpdateEvent(Object source, UUID reviewId, EventType type, LocalDateTime createdAt, int likeChange) {
         super(source);
         this.reviewId = reviewId;
         this.type = type;
+        this.createdAt = createdAt;
+        this.likeChange = likeChange;
+    }
+
+    // 좋아요 추가/취소 이벤트 생성을 위한 팩토리 메서드
+    public static ReviewPopularityUpdateEvent forLikeChange(Object source, UUID reviewId, LocalDateTime createdAt, int likeChange) {
+        return new ReviewPopularityUpdateEvent(source, reviewId, EventType.LIKED, createdAt, likeChange);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,43 @@
+package com.d208.feelroom.review.event.listener;
+
+import com.d208.feelroom.global.config.AsyncConfig;
+import com.d208.feelroom.review.event.ReviewFeedEvent;
+import com.d208.feelroom.review.service.FollowFeedTimeline;
+import com.d208.feelroom.user.event.FollowChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 리뷰 작성/삭제와 팔로우 변경을 팔로잉 피드 타임라인(Redis)에 반영합니다.
+ * 커밋 이후 전용 풀에서 실행되므로 리뷰 작성 API 응답 시간은 팔로워 수와 무관합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedTimelineEventListener {
+
+    private final FollowFeedTimeline followFeedTimeline;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Async(AsyncConfig.FEED_EXECUTOR)
+    public void handleReviewFeed(ReviewFeedEvent event) {
+        switch (event.getType()) {
+            case PUBLISHED -> followFeedTimeline.publish(event.getReviewId(), event.getAuthorId(), event.getCreatedAt());
+            case DELETED -> followFeedTimeline.remove(event.getReviewId(), event.getAuthorId());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Async(AsyncConfig.FEED_EXECUTOR)
+    public void handleFollowChanged(FollowChangedEvent event) {
+        if (event.followed()) {
+            followFeedTimeline.backfill(event.followerId(), event.followeeId());
+        } else {
+            followFeedTimeline.evict(event.followerId(), event.followeeId());
+        }
+    }
+}
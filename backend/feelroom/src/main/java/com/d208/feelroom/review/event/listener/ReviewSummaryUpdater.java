@@ -1,49 +1,111 @@
 package com.d208.feelroom.review.event.listener;
 
-import com.d208.feelroom.review.domain.repository.ReviewSummaryRepository;
+import com.d208.feelroom.global.buffer.CoalescingWriteBuffer;
+import com.d208.feelroom.global.util.UuidUtils;
 import com.d208.feelroom.review.event.ReviewInteractionEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class ReviewSummaryUpdater {
 
-    private final ReviewSummaryRepository reviewSummaryRepository;
+    private static final int UPSERT_ROWS_PER_STATEMENT = 500;
+    private static final String UPSERT_SQL_PREFIX =
+            "INSERT INTO review_summary (review_id, review_like_count, review_comment_count) VALUES ";
+    private static final String UPSERT_SQL_SUFFIX = """
+             ON DUPLICATE KEY UPDATE
+                review_like_count = review_like_count + VALUES(review_like_count),
+                review_comment_count = review_comment_count + VALUES(review_comment_count)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${summary.write-buffer.flush-interval-ms:200}")
+    private long flushIntervalMs;
+
+    @Value("${summary.write-buffer.max-entries:1000}")
+    private int maxEntries;
+
+    @Value("${summary.write-buffer.stripes:16}")
+    private int stripes;
+
+    @Value("${summary.write-buffer.max-attempts:20}")
+    private int maxAttempts;
+
+    // reviewId -> [좋아요 변경량, 댓글 변경량]
+    private CoalescingWriteBuffer<UUID> buffer;
+
+    @PostConstruct
+    public void init() {
+        buffer = new CoalescingWriteBuffer<>("review-summary", 2, stripes, flushIntervalMs, maxEntries, maxAttempts,
+                this::flushReviewSummaries, meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        buffer.close(); // 종료 시 남은 변경량 기록
+    }
 
     /**
-     * 리뷰에 대한 좋아요 또는 댓글 변경 이벤트를 비동기적으로 처리하여
-     * ReviewSummary 테이블을 업데이트합니다.
-     * 트랜잭션이 성공적으로 커밋된 후에 새로운 트랜잭션으로 실행됩니다.
+     * 리뷰에 대한 좋아요 또는 댓글 변경 이벤트를 받아 ReviewSummary 변경량을 버퍼에 합산합니다.
+     * 트랜잭션이 성공적으로 커밋된 후에만 반영되며, 실제 DB 기록은 버퍼가 주기적으로
+     * 리뷰별로 합산된 값을 다중 행 UPSERT 한 번으로 처리합니다.
+     * (인기 리뷰에 좋아요가 몰려도 같은 행에 대한 단건 UPSERT 경합이 발생하지 않음)
      *
      * @param event 좋아요 또는 댓글 변경 이벤트
      */
-    @Async // 비동기적으로 실행
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT) // 부모 트랜잭션 커밋 후 실행
-    @Transactional(propagation = Propagation.REQUIRES_NEW) // 새로운 트랜잭션에서 실행
     public void handleReviewInteractionEvent(ReviewInteractionEvent event) {
-        log.info("UPSERT ReviewSummary 실행: reviewId={}, likeChange={}, commentChange={}",
+        log.debug("ReviewSummary 변경량 버퍼링: reviewId={}, likeChange={}, commentChange={}",
                 event.getReviewId(), event.getLikeChange(), event.getCommentChange());
+        buffer.add(event.getReviewId(), event.getLikeChange(), event.getCommentChange());
+    }
+
+    /**
+     * 리뷰별로 합산된 변경량을 다중 행 UPSERT로 기록합니다.
+     * BINARY(16) 인덱스 순서(바이트 순서)로 정렬하여 여러 노드가 동시에 flush 하더라도 행 잠금 순서가 같도록 합니다.
+     * (UUID.compareTo는 부호 있는 long 비교라서 인덱스 순서와 다름)
+     */
+    private void flushReviewSummaries(Map<UUID, long[]> deltas) {
+        List<UUID> reviewIds = new ArrayList<>(deltas.keySet());
+        reviewIds.sort(UuidUtils.BINARY_ORDER);
 
-        try {
-            // ReviewSummaryRepository의 upsertReviewInteractionSummary 메서드 호출
-            reviewSummaryRepository.upsertReviewInteractionSummary(
-                    event.getReviewId(),
-                    event.getLikeChange(),
-                    event.getCommentChange()
-            );
-            log.debug("ReviewSummary updated successfully for reviewId: {}", event.getReviewId());
-        } catch (Exception e) {
-            // DB 제약 조건 위반 등 예외 발생 시 로그 기록 및 후속 처리
-            log.error("ReviewSummary UPSERT 중 오류 발생 (reviewId: {})", event.getReviewId(), e);
-            // 필요 시 에러 알림(Sentry, Slack 등) 로직 추가
-        }
+        // 청크가 여러 문장으로 나뉘어도 한 트랜잭션으로 기록합니다. 뒤 청크가 실패했을 때 앞 청크만 커밋된 채
+        // 버퍼가 배치 전체를 다시 기록하면 이미 반영된 변경량이 두 번 더해지기 때문입니다.
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int from = 0; from < reviewIds.size(); from += UPSERT_ROWS_PER_STATEMENT) {
+                List<UUID> chunk = reviewIds.subList(from, Math.min(from + UPSERT_ROWS_PER_STATEMENT, reviewIds.size()));
+                Object[] params = new Object[chunk.size() * 3];
+                int i = 0;
+                for (UUID reviewId : chunk) {
+                    long[] delta = deltas.get(reviewId);
+                    params[i++] = UuidUtils.uuidToBytes(reviewId);
+                    params[i++] = delta[0];
+                    params[i++] = delta[1];
+                }
+                String sql = UPSERT_SQL_PREFIX + String.join(", ", Collections.nCopies(chunk.size(), "(?, ?, ?)")) + UPSERT_SQL_SUFFIX;
+                jdbcTemplate.update(sql, params);
+            }
+        });
+        log.debug("ReviewSummary flush 완료: {}건", reviewIds.size());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,374 @@
+package com.d208.feelroom.review.service;
+
+import com.d208.feelroom.global.util.KeysetCursor;
+import com.d208.feelroom.global.util.UuidUtils;
+import com.d208.feelroom.review.domain.repository.ReviewRepository;
+import com.d208.feelroom.user.domain.repository.FollowRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Redis 기반 팔로잉 피드 타임라인 (fan-out on write)
+ *
+ * - timeline:{userId}      : 사용자별 타임라인 ZSET (member = 리뷰 ID, score = 작성 시각 epoch millis), 최근 capacity건만 유지
+ * - timeline:celebrities   : 팔로워가 많아 fan-out 대상에서 제외된 작성자 SET
+ *
+ * 리뷰 작성 시 팔로워들의 타임라인에 리뷰 ID를 미리 넣어두고, 조회 시에는 커서 이후 범위만 읽습니다.
+ * 팔로워가 임계값 이상인 작성자(셀럽)는 fan-out 비용이 크므로 조회 시점에 DB에서 읽어 병합합니다. (fan-out on read)
+ * 타임라인은 조회할 때만 TTL이 연장되므로, 한동안 접속하지 않은 사용자의 키는 만료되어 fan-out 대상에서 빠지고
+ * 다음 조회 시 DB에서 다시 구성됩니다.
+ * 타임라인은 최근 capacity건만 유지하므로, 가득 찬 타임라인의 가장 오래된 항목보다 이전 범위는 DB에서 keyset으로 이어서 읽습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FollowFeedTimeline {
+
+    private static final String KEY_PREFIX = "timeline:";
+    public static final String CELEBRITIES_KEY = KEY_PREFIX + "celebrities";
+    // 빈 타임라인도 '구성됨' 상태로 남기기 위한 표식 (score 0, 조회 범위에서 제외)
+    private static final String BUILT_MARKER = "-";
+    private static final LocalDateTime FAR_FUTURE = LocalDateTime.of(9999, 12, 31, 0, 0);
+    private static final int TIE_SLACK = 16; // 커서와 같은 시각의 리뷰를 건너뛰기 위한 여유 조회 건수
+
+    // 타임라인이 있을 때만 추가 후 capacity건으로 잘라냄 (없는 키는 다음 조회 시 DB에서 구성되므로 만들지 않음)
+    // KEYS[1]=타임라인 ZSET, ARGV[1]=capacity, ARGV[2..]=(score, member) 쌍
+    private static final DefaultRedisScript<Long> APPEND_IF_EXISTS_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            for i = 2, #ARGV, 2 do
+                redis.call('ZADD', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(tonumber(ARGV[1]) + 1))
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ReviewRepository reviewRepository;
+    private final FollowRepository followRepository;
+
+    @Value("${feed.timeline.capacity:800}")
+    private int capacity;
+
+    @Value("${feed.timeline.ttl-days:7}")
+    private int ttlDays;
+
+    @Value("${feed.timeline.celebrity-follower-threshold:5000}")
+    private long celebrityFollowerThreshold;
+
+    @Value("${feed.timeline.fan-out-batch-size:500}")
+    private int fanOutBatchSize;
+
+    /**
+     * 타임라인 한 페이지 조회 결과
+     *
+     * @param reviewIds  최신순 리뷰 ID
+     * @param hasNext    다음 페이지 존재 여부
+     * @param nextCursor 다음 페이지 커서 (마지막 페이지이면 null)
+     */
+    public record TimelinePage(List<UUID> reviewIds, boolean hasNext, KeysetCursor nextCursor) {
+    }
+
+    private record Entry(UUID reviewId, long createdAtMillis) {
+    }
+
+    // 최신순, 같은 시각이면 리뷰 ID 문자열 역순 (Redis ZREVRANGE와 같은 순서)
+    private static final Comparator<Entry> NEWEST_FIRST = Comparator
+            .comparingLong(Entry::createdAtMillis).reversed()
+            .thenComparing(entry -> entry.reviewId().toString(), Comparator.reverseOrder());
+
+    // ========== 조회 ==========
+
+    /**
+     * 사용자의 팔로잉 피드 한 페이지를 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @param cursor 이전 페이지 마지막 항목의 커서 (첫 페이지이면 null)
+     * @param skip   커서 이후 건너뛸 건수 (커서 없이 page 번호로 요청하는 기존 클라이언트 호환용)
+     * @param size   페이지 크기
+     */
+    public TimelinePage read(Long userId, KeysetCursor cursor, int skip, int size) {
+        String key = key(userId);
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+            rebuild(userId);
+        }
+        redisTemplate.expire(key, Duration.ofDays(ttlDays));
+
+        int need = skip + size + 1;
+        int fetch = need + TIE_SLACK;
+        long maxMillis = cursor == null ? Long.MAX_VALUE : toMillis(cursor.createdAt());
+
+        // 1. 미리 전파된 타임라인에서 커서 이후 범위만 읽음
+        List<Entry> merged = new ArrayList<>();
+        Set<ZSetOperations.TypedTuple<Object>> tuples = redisTemplate.opsForZSet()
+                .reverseRangeByScoreWithScores(key, 1, maxMillis, 0, fetch);
+        if (tuples != null) {
+            for (ZSetOperations.TypedTuple<Object> tuple : tuples) {
+                if (tuple.getValue() != null && tuple.getScore() != null) {
+                    merged.add(new Entry(UUID.fromString(tuple.getValue().toString()), tuple.getScore().longValue()));
+                }
+            }
+        }
+
+        // 2. 타임라인 끝까지 읽었는데 타임라인이 capacity로 잘려 있다면, 가장 오래된 항목 이전은 DB에서 이어서 읽음
+        if (merged.size() < fetch) {
+            Long oldestMillis = truncatedSince(key);
+            if (oldestMillis != null) {
+                Set<Long> authorIds = new HashSet<>(followRepository.findFolloweeIdsByFollowerId(userId));
+                authorIds.add(userId);
+                // 잘려 나간 항목 중 가장 오래된 항목과 같은 시각의 리뷰가 있을 수 있으므로 그 시각까지 포함해서 읽음 (중복은 아래에서 제거)
+                LocalDateTime before = toLocalDateTime(Math.min(maxMillis, oldestMillis) + 1);
+                merged.addAll(toEntries(reviewRepository.findTimelineEntriesByAuthorIds(authorIds, before, fetch)));
+            }
+        }
+
+        // 3. 팔로우 중인 셀럽의 리뷰는 DB에서 같은 범위만 읽어 병합 (fan-out on read)
+        List<Long> celebrityFolloweeIds = findCelebrityFolloweeIds(userId);
+        if (!celebrityFolloweeIds.isEmpty()) {
+            // created_at의 밀리초 미만 단위 때문에 커서 시각과 같은 밀리초의 리뷰도 포함해서 가져온 뒤 아래에서 걸러냄
+            LocalDateTime before = cursor == null ? FAR_FUTURE : toLocalDateTime(maxMillis + 1);
+            merged.addAll(toEntries(reviewRepository.findTimelineEntriesByAuthorIds(celebrityFolloweeIds, before, fetch)));
+        }
+
+        // 4. 정렬 + 중복 제거 (셀럽 승격 전 전파된 리뷰) + 커서 이후만 남김
+        merged.sort(NEWEST_FIRST);
+        List<Entry> ordered = new ArrayList<>(need);
+        Set<UUID> seen = new HashSet<>();
+        for (Entry entry : merged) {
+            if (isAfterCursor(entry, cursor, maxMillis) && seen.add(entry.reviewId())) {
+                ordered.add(entry);
+            }
+        }
+
+        if (ordered.size() <= skip) {
+            return new TimelinePage(Collections.emptyList(), false, null);
+        }
+        boolean hasNext = ordered.size() > skip + size;
+        List<Entry> page = ordered.subList(skip, Math.min(skip + size, ordered.size()));
+        Entry last = page.get(page.size() - 1);
+        KeysetCursor nextCursor = hasNext ? KeysetCursor.of(toLocalDateTime(last.createdAtMillis()), last.reviewId()) : null;
+
+        return new TimelinePage(page.stream().map(Entry::reviewId).toList(), hasNext, nextCursor);
+    }
+
+    private boolean isAfterCursor(Entry entry, KeysetCursor cursor, long cursorMillis) {
+        if (cursor == null || entry.createdAtMillis() < cursorMillis) {
+            return true;
+        }
+        return entry.createdAtMillis() == cursorMillis
+                && entry.reviewId().toString().compareTo(cursor.id()) < 0;
+    }
+
+    /**
+     * 셀럽 중 사용자가 팔로우하는 작성자만 조회합니다. (전체 팔로잉 목록이 아니라 셀럽 수만큼의 PK 조회)
+     */
+    private List<Long> findCelebrityFolloweeIds(Long userId) {
+        Set<Object> celebrities = redisTemplate.opsForSet().members(CELEBRITIES_KEY);
+        if (celebrities == null || celebrities.isEmpty()) {
+            return Collections.emptyList(); // 셀럽이 없으면 팔로우 여부 조회도 생략
+        }
+        List<Long> celebrityIds = celebrities.stream()
+                .map(id -> ((Number) id).longValue())
+                .toList();
+        return followRepository.findFolloweeIdsAmong(userId, celebrityIds);
+    }
+
+    /**
+     * 타임라인이 capacity만큼 차 있으면(그 이전 리뷰가 잘려 나갔을 수 있음) 가장 오래된 항목의 시각을, 아니면 null을 반환합니다.
+     * (append 시 잘라내면서 빈 타임라인 표식이 먼저 빠질 수 있으므로 표식 유무와 관계없이 capacity 이상이면 가득 찬 것으로 봄)
+     */
+    private Long truncatedSince(String key) {
+        Long size = redisTemplate.opsForZSet().zCard(key);
+        if (size == null || size < capacity) {
+            return null;
+        }
+        Set<ZSetOperations.TypedTuple<Object>> oldest = redisTemplate.opsForZSet()
+                .rangeByScoreWithScores(key, 1, Double.POSITIVE_INFINITY, 0, 1);
+        if (oldest == null || oldest.isEmpty()) {
+            return null;
+        }
+        Double score = oldest.iterator().next().getScore();
+        return score != null ? score.longValue() : null;
+    }
+
+    /**
+     * DB에서 타임라인을 다시 구성합니다. (최초 조회 또는 TTL 만료 후 조회)
+     * 셀럽 작성자는 조회 시점에 병합하므로 제외합니다. 기존 키를 지우지 않고 추가하므로
+     * 구성 중 전파된 리뷰가 사라지지 않습니다.
+     */
+    private void rebuild(Long userId) {
+        Set<Long> authorIds = new HashSet<>(followRepository.findFolloweeIdsByFollowerId(userId));
+        Set<Object> celebrities = redisTemplate.opsForSet().members(CELEBRITIES_KEY);
+        if (celebrities != null) {
+            celebrities.forEach(id -> authorIds.remove(((Number) id).longValue()));
+        }
+        authorIds.add(userId); // 내 리뷰도 피드에 포함
+
+        List<Entry> entries = toEntries(reviewRepository.findTimelineEntriesByAuthorIds(authorIds, FAR_FUTURE, capacity));
+        Set<ZSetOperations.TypedTuple<Object>> tuples = new HashSet<>();
+        tuples.add(new DefaultTypedTuple<>(BUILT_MARKER, 0d));
+        entries.forEach(entry -> tuples.add(new DefaultTypedTuple<>(entry.reviewId().toString(), (double) entry.createdAtMillis())));
+
+        String key = key(userId);
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                operations.opsForZSet().add(key, tuples);
+                operations.opsForZSet().removeRange(key, 0, -(capacity + 2L)); // 표식 포함 capacity + 1건 유지
+                operations.expire(key, Duration.ofDays(ttlDays));
+                return null;
+            }
+        });
+        log.debug("[Redis] Rebuilt feed timeline for user {} with {} reviews.", userId, entries.size());
+    }
+
+    // ========== 쓰기 (fan-out) ==========
+
+    /**
+     * 새 리뷰를 작성자와 팔로워들의 타임라인에 전파합니다.
+     * 팔로워 수가 임계값 이상인 작성자는 셀럽으로 등록하고 전파하지 않습니다. (한 번 등록되면 유지)
+     */
+    public void publish(UUID reviewId, Long authorId, LocalDateTime createdAt) {
+        long score = toMillis(createdAt);
+        String member = reviewId.toString();
+        append(key(authorId), score, member);
+
+        if (isCelebrity(authorId)) {
+            return;
+        }
+        if (followRepository.countByFollowee_UserId(authorId) >= celebrityFollowerThreshold) {
+            redisTemplate.opsForSet().add(CELEBRITIES_KEY, authorId);
+            log.info("[Redis] User {} registered as feed celebrity, fan-out skipped.", authorId);
+            return;
+        }
+
+        List<Long> followerIds = followRepository.findFollowerIdsByFolloweeId(authorId);
+        for (int from = 0; from < followerIds.size(); from += fanOutBatchSize) {
+            List<Long> chunk = followerIds.subList(from, Math.min(from + fanOutBatchSize, followerIds.size()));
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) throws DataAccessException {
+                    for (Long followerId : chunk) {
+                        operations.execute(APPEND_IF_EXISTS_SCRIPT, List.of(key(followerId)), capacity, score, member);
+                    }
+                    return null;
+                }
+            });
+        }
+        log.debug("[Redis] Fanned out review {} to {} followers.", reviewId, followerIds.size());
+    }
+
+    /**
+     * 삭제된 리뷰를 작성자와 팔로워들의 타임라인에서 제거합니다.
+     */
+    public void remove(UUID reviewId, Long authorId) {
+        String member = reviewId.toString();
+        List<Long> targetIds = new ArrayList<>();
+        targetIds.add(authorId);
+        if (!isCelebrity(authorId)) {
+            targetIds.addAll(followRepository.findFollowerIdsByFolloweeId(authorId));
+        }
+
+        for (int from = 0; from < targetIds.size(); from += fanOutBatchSize) {
+            List<Long> chunk = targetIds.subList(from, Math.min(from + fanOutBatchSize, targetIds.size()));
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) throws DataAccessException {
+                    for (Long userId : chunk) {
+                        operations.opsForZSet().remove(key(userId), member);
+                    }
+                    return null;
+                }
+            });
+        }
+    }
+
+    /**
+     * 새로 팔로우한 작성자의 최근 리뷰를 팔로워 타임라인에 채워 넣습니다. (타임라인이 있을 때만)
+     *
+     * 팔로우/언팔로우 이벤트는 순서 없이 처리되므로, 추가한 뒤 팔로우 관계를 DB에서 다시 확인하고
+     * 그사이 언팔로우되었으면 추가한 리뷰를 되돌립니다. (언팔로우 커밋 이전에 확인했다면 evict가 이 추가 이후에 실행됨)
+     */
+    public void backfill(Long followerId, Long followeeId) {
+        if (isCelebrity(followeeId) || !Boolean.TRUE.equals(redisTemplate.hasKey(key(followerId)))) {
+            return;
+        }
+        List<Entry> entries = toEntries(reviewRepository.findTimelineEntriesByAuthorIds(List.of(followeeId), FAR_FUTURE, capacity));
+        if (entries.isEmpty() || !followRepository.existsByFollower_UserIdAndFollowee_UserId(followerId, followeeId)) {
+            return;
+        }
+        List<Object> args = new ArrayList<>(entries.size() * 2 + 1);
+        args.add(capacity);
+        for (Entry entry : entries) {
+            args.add(entry.createdAtMillis());
+            args.add(entry.reviewId().toString());
+        }
+        redisTemplate.execute(APPEND_IF_EXISTS_SCRIPT, List.of(key(followerId)), args.toArray());
+
+        if (!followRepository.existsByFollower_UserIdAndFollowee_UserId(followerId, followeeId)) {
+            redisTemplate.opsForZSet().remove(key(followerId), entries.stream().map(entry -> entry.reviewId().toString()).toArray());
+        }
+    }
+
+    /**
+     * 언팔로우한 작성자의 리뷰를 팔로워 타임라인에서 제거합니다.
+     */
+    public void evict(Long followerId, Long followeeId) {
+        String key = key(followerId);
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+            return;
+        }
+        Object[] members = toEntries(reviewRepository.findTimelineEntriesByAuthorIds(List.of(followeeId), FAR_FUTURE, capacity)).stream()
+                .map(entry -> entry.reviewId().toString())
+                .toArray();
+        if (members.length > 0) {
+            redisTemplate.opsForZSet().remove(key, members);
+        }
+    }
+
+    // ========== 헬퍼 ==========
+
+    private void append(String key, long score, String member) {
+        redisTemplate.execute(APPEND_IF_EXISTS_SCRIPT, List.of(key), capacity, score, member);
+    }
+
+    private boolean isCelebrity(Long userId) {
+        return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(CELEBRITIES_KEY, userId));
+    }
+
+    private List<Entry> toEntries(List<Object[]> rows) {
+        return rows.stream()
+                .map(row -> new Entry(UuidUtils.bytesToUUID((byte[]) row[0]), ((Timestamp) row[1]).getTime()))
+                .toList();
+    }
+
+    private static String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return Timestamp.valueOf(dateTime).getTime();
+    }
+
+    private static LocalDateTime toLocalDateTime(long millis) {
+        return new Timestamp(millis).toLocalDateTime();
+    }
+}
@@ -0,0 +1,236 @@
+package com.d208.feelroom.review.service;
+
+import com.d208.feelroom.global.infra.RedisJobLock;
+import com.d208.feelroom.global.util.UuidUtils;
+import com.d208.feelroom.review.domain.repository.ReviewRepository;
+import com.d208.feelroom.review.util.PopularityCalculator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Redis 기반 인기 리뷰 랭킹
+ *
+ * - popular_reviews          : 랭킹 ZSET (score = ln(좋아요 수) + 작성시각 / 감쇠상수, 시각과 무관하게 순위 유지)
+ * - popular_reviews:likes    : 리뷰별 좋아요 수 ZSET (멤버 직렬화 방식을 랭킹 ZSET과 맞추기 위해 HASH 대신 ZSET 사용)
+ * - popular_reviews:created  : 리뷰별 작성 시각(epoch seconds) ZSET, 오래된 리뷰 일괄 만료용
+ *
+ * 좋아요 이벤트마다 Lua 스크립트 한 번(왕복 1회)으로 세 키를 원자적으로 갱신하므로,
+ * 매시간 전체 리뷰를 다시 계산할 필요가 없습니다. 좋아요 수는 순서와 무관하게 누적되며,
+ * 유실된 이벤트로 인한 차이는 주기적인 재구성(DB 대조)으로 바로잡습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PopularReviewRanking {
+
+    public static final String RANKING_KEY = "popular_reviews";
+    private static final String LIKES_KEY = RANKING_KEY + ":likes";
+    private static final String CREATED_KEY = RANKING_KEY + ":created";
+    private static final String TMP_SUFFIX = ":rebuild";
+    public static final int RANKING_WINDOW_DAYS = 7; // 최근 7일 이내 작성된 리뷰만 랭킹 대상
+
+    private static final String REBUILDING_KEY = RANKING_KEY + ":rebuilding";
+    private static final String JOURNAL_LIKES_KEY = RANKING_KEY + ":journal:likes";
+    private static final String JOURNAL_CREATED_KEY = RANKING_KEY + ":journal:created";
+    private static final String REBUILD_LOCK = RANKING_KEY + ":rebuild"; // 재구성은 임시/기록 키를 공유하므로 노드 하나만 실행
+    private static final Duration REBUILD_TIMEOUT = Duration.ofMinutes(10); // 재구성이 중단되어도 기록이 계속 쌓이지 않도록 하는 상한
+
+    // KEYS[1]=랭킹 ZSET, KEYS[2]=좋아요 ZSET, KEYS[3]=작성시각 ZSET, KEYS[4]=재구성 중 표식, KEYS[5..6]=재구성 중 변경 기록
+    // ARGV[1]=member, ARGV[2]=좋아요 변경량, ARGV[3]=시간 항 점수, ARGV[4]=작성시각(epoch seconds)
+    // 좋아요 수가 0 이하가 되어도 카운터는 지우지 않습니다. 이벤트는 여러 스레드에서 순서 없이 반영되므로
+    // 취소(-1)가 추가(+1)보다 먼저 와도 두 변경량이 상쇄되어야 하기 때문입니다. (랭킹에서만 빠지고, 작성시각 기준으로 만료됨)
+    private static final DefaultRedisScript<Long> APPLY_LIKE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[4]) == 1 then
+                redis.call('ZINCRBY', KEYS[5], ARGV[2], ARGV[1])
+                redis.call('ZADD', KEYS[6], ARGV[4], ARGV[1])
+            end
+            local likes = tonumber(redis.call('ZINCRBY', KEYS[2], ARGV[2], ARGV[1]))
+            redis.call('ZADD', KEYS[3], ARGV[4], ARGV[1])
+            if likes <= 0 then
+                redis.call('ZREM', KEYS[1], ARGV[1])
+                return likes
+            end
+            redis.call('ZADD', KEYS[1], math.log(likes) + tonumber(ARGV[3]), ARGV[1])
+            return likes
+            """, Long.class);
+
+    // 재구성한 임시 키로 교체하고, 재구성 중에 반영된 변경량을 새 키에 다시 반영합니다. (교체와 재반영 사이에 끼어드는 이벤트가 없도록 한 번에 실행)
+    // KEYS[1..3]=랭킹/좋아요/작성시각 ZSET, KEYS[4..6]=각 임시 키, KEYS[7]=재구성 중 표식, KEYS[8..9]=재구성 중 변경 기록
+    // ARGV[1]=시간 감쇠 상수(초)
+    private static final DefaultRedisScript<Long> SWAP_SCRIPT = new DefaultRedisScript<>("""
+            for i = 1, 3 do
+                if redis.call('EXISTS', KEYS[i + 3]) == 1 then
+                    redis.call('RENAME', KEYS[i + 3], KEYS[i])
+                else
+                    redis.call('DEL', KEYS[i])
+                end
+            end
+            local journal = redis.call('ZRANGE', KEYS[8], 0, -1, 'WITHSCORES')
+            for i = 1, #journal, 2 do
+                local member = journal[i]
+                local created = redis.call('ZSCORE', KEYS[9], member)
+                local likes = tonumber(redis.call('ZINCRBY', KEYS[2], journal[i + 1], member))
+                redis.call('ZADD', KEYS[3], created, member)
+                if likes <= 0 then
+                    redis.call('ZREM', KEYS[1], member)
+                else
+                    redis.call('ZADD', KEYS[1], math.log(likes) + tonumber(created) / tonumber(ARGV[1]), member)
+                end
+            end
+            redis.call('DEL', KEYS[7], KEYS[8], KEYS[9])
+            return #journal / 2
+            """, Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ReviewRepository reviewRepository;
+    private final RedisJobLock redisJobLock;
+
+    /**
+     * 좋아요 추가/취소를 랭킹에 반영합니다.
+     *
+     * @param reviewId   리뷰 ID
+     * @param createdAt  리뷰 작성 시각
+     * @param likeChange 좋아요 변경량 (+1 또는 -1)
+     */
+    public void applyLikeChange(UUID reviewId, LocalDateTime createdAt, int likeChange) {
+        if (createdAt == null || createdAt.isBefore(LocalDateTime.now().minusDays(RANKING_WINDOW_DAYS))) {
+            return; // 랭킹 기간이 지난 리뷰는 반영하지 않음
+        }
+        Long likes = redisTemplate.execute(APPLY_LIKE_SCRIPT,
+                List.of(RANKING_KEY, LIKES_KEY, CREATED_KEY, REBUILDING_KEY, JOURNAL_LIKES_KEY, JOURNAL_CREATED_KEY),
+                reviewId.toString(), likeChange,
+                PopularityCalculator.calculateRecencyScore(createdAt),
+                PopularityCalculator.toEpochSeconds(createdAt));
+        log.debug("[Redis] Applied like change {} to review {}. Likes in ranking: {}", likeChange, reviewId, likes);
+    }
+
+    /**
+     * 삭제된 리뷰를 랭킹에서 제거합니다.
+     */
+    public void remove(UUID reviewId) {
+        String member = reviewId.toString();
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                operations.opsForZSet().remove(RANKING_KEY, member);
+                operations.opsForZSet().remove(CREATED_KEY, member);
+                operations.opsForZSet().remove(LIKES_KEY, member);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 랭킹 기간이 지난 리뷰들을 파이프라인 한 번으로 일괄 제거합니다.
+     *
+     * @return 제거된 리뷰 수
+     */
+    public int expireStale() {
+        double cutoff = PopularityCalculator.toEpochSeconds(LocalDateTime.now().minusDays(RANKING_WINDOW_DAYS));
+        Set<Object> staleMembers = redisTemplate.opsForZSet().rangeByScore(CREATED_KEY, Double.NEGATIVE_INFINITY, cutoff);
+        if (staleMembers == null || staleMembers.isEmpty()) {
+            return 0;
+        }
+
+        Object[] members = staleMembers.toArray();
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                operations.opsForZSet().remove(RANKING_KEY, members);
+                operations.opsForZSet().remove(LIKES_KEY, members);
+                operations.opsForZSet().removeRangeByScore(CREATED_KEY, Double.NEGATIVE_INFINITY, cutoff);
+                return null;
+            }
+        });
+        return members.length;
+    }
+
+    /**
+     * 랭킹 데이터가 초기화되지 않았는지 확인합니다. (최초 배포, Redis 초기화 등)
+     */
+    public boolean isEmpty() {
+        return !Boolean.TRUE.equals(redisTemplate.hasKey(LIKES_KEY));
+    }
+
+    /**
+     * DB의 최근 리뷰 좋아요 수로 랭킹 전체를 다시 만듭니다. (쿼리 1회 + Redis 일괄 쓰기 후 교체)
+     * 평상시에는 이벤트로만 갱신되며, 초기화와 주기적인 DB 대조(이벤트 유실, Redis 장애 복구)에 사용합니다.
+     *
+     * 재구성 중에 반영된 좋아요 변경은 따로 기록해 두었다가 교체 직후 새 랭킹에 다시 반영하므로 교체 시점에 사라지지 않습니다.
+     * (DB 조회 직전에 커밋되어 아직 반영 대기 중이던 변경은 두 번 반영될 수 있으나, 다음 대조에서 바로잡힘)
+     *
+     * 임시 키와 변경 기록 키는 고정 이름이므로, 여러 노드의 스케줄러가 동시에 실행되지 않도록 Redis 잠금을 잡고 실행합니다.
+     *
+     * @return 랭킹에 등록된 리뷰 수 (다른 노드가 재구성 중이라 건너뛰었으면 empty)
+     */
+    public OptionalInt rebuild() {
+        Optional<String> lock = redisJobLock.tryAcquire(REBUILD_LOCK, REBUILD_TIMEOUT);
+        if (lock.isEmpty()) {
+            log.info("[Redis] Popular review ranking rebuild is running on another node. Skipping.");
+            return OptionalInt.empty();
+        }
+        try {
+            return OptionalInt.of(rebuildLocked());
+        } finally {
+            redisJobLock.release(REBUILD_LOCK, lock.get());
+        }
+    }
+
+    private int rebuildLocked() {
+        redisTemplate.delete(List.of(JOURNAL_LIKES_KEY, JOURNAL_CREATED_KEY));
+        redisTemplate.opsForValue().set(REBUILDING_KEY, 1, REBUILD_TIMEOUT);
+
+        LocalDateTime since = LocalDateTime.now().minusDays(RANKING_WINDOW_DAYS);
+        List<Object[]> rows = reviewRepository.findRecentReviewLikeCounts(since);
+
+        Set<ZSetOperations.TypedTuple<Object>> rankingTuples = new HashSet<>(rows.size());
+        Set<ZSetOperations.TypedTuple<Object>> createdTuples = new HashSet<>(rows.size());
+        Set<ZSetOperations.TypedTuple<Object>> likesTuples = new HashSet<>(rows.size());
+        for (Object[] row : rows) {
+            String member = UuidUtils.bytesToUUID((byte[]) row[0]).toString();
+            LocalDateTime createdAt = ((Timestamp) row[1]).toLocalDateTime();
+            long likes = ((Number) row[2]).longValue();
+
+            rankingTuples.add(new DefaultTypedTuple<>(member, PopularityCalculator.calculateRankingScore(likes, createdAt)));
+            createdTuples.add(new DefaultTypedTuple<>(member, (double) PopularityCalculator.toEpochSeconds(createdAt)));
+            likesTuples.add(new DefaultTypedTuple<>(member, (double) likes));
+        }
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                operations.delete(List.of(RANKING_KEY + TMP_SUFFIX, LIKES_KEY + TMP_SUFFIX, CREATED_KEY + TMP_SUFFIX));
+                if (!rankingTuples.isEmpty()) {
+                    operations.opsForZSet().add(RANKING_KEY + TMP_SUFFIX, rankingTuples);
+                    operations.opsForZSet().add(CREATED_KEY + TMP_SUFFIX, createdTuples);
+                    operations.opsForZSet().add(LIKES_KEY + TMP_SUFFIX, likesTuples);
+                }
+                return null;
+            }
+        });
+
+        Long replayed = redisTemplate.execute(SWAP_SCRIPT,
+                List.of(RANKING_KEY, LIKES_KEY, CREATED_KEY,
+                        RANKING_KEY + TMP_SUFFIX, LIKES_KEY + TMP_SUFFIX, CREATED_KEY + TMP_SUFFIX,
+                        REBUILDING_KEY, JOURNAL_LIKES_KEY, JOURNAL_CREATED_KEY),
+                PopularityCalculator.DECAY_SECONDS);
+        log.debug("[Redis] Replayed {} reviews liked during popular review ranking rebuild.", replayed);
+        return rows.size();
+    }
+}
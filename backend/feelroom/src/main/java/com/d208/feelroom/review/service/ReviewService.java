@@ -15,17 +15,17 @@ import com.d208.feelroom.review.domain.repository.ReviewLikeRepository;
 import com.d208.feelroom.review.domain.repository.ReviewRepository;
 import com.d208.feelroom.review.domain.repository.TagRepository;
 import com.d208.feelroom.movie.exception.MovieNotFoundException;
-import com.d208.feelroom.movie.service.MovieService;
 import com.d208.feelroom.review.dto.*;
 import com.d208.feelroom.review.event.ReviewChangedEvent;
+import com.d208.feelroom.review.event.ReviewFeedEvent;
 import com.d208.feelroom.review.event.ReviewInteractionEvent;
 import com.d208.feelroom.review.event.ReviewPopularityUpdateEvent;
 import com.d208.feelroom.review.exception.ReviewAccessDeniedException;
 import com.d208.feelroom.review.exception.ReviewNotFoundException;
 import com.d208.feelroom.user.domain.entity.User;
-import com.d208.feelroom.user.domain.repository.FollowRepository;
 import com.d208.feelroom.user.domain.repository.UserRepository;
 import com.d208.feelroom.user.event.UserActivityEvent.ActivityType;
+import com.d208.feelroom.global.util.KeysetCursor;
 import com.d208.feelroom.global.util.UuidUtils;
 import com.d208.feelroom.user.exception.UserNotFoundException;
 import jakarta.validation.Valid;
@@ -57,14 +57,13 @@ public class ReviewService {
     private final MovieRepository movieRepository;
     private final TagRepository tagRepository;
     private final ReviewLikeRepository reviewLikeRepository;
-    private final FollowRepository followRepository;
     private final EventPublisher eventPublisher;
-    private final MovieService movieService;
     private final ApplicationEventPublisher appEventPublisher;
     private final RecommendationService recommendationService;
     private final UserActivityService userActivityService;
     private final RedisTemplate<String, Object> redisTemplate; // RedisTemplate<String, Object>로 변경
-    private static final String POPULAR_REVIEWS_ZSET_KEY = "popular_reviews";
+    private final FollowFeedTimeline followFeedTimeline;
+    private static final String POPULAR_REVIEWS_ZSET_KEY = PopularReviewRanking.RANKING_KEY;
 
     @Transactional
     public ReviewCreateResponseDto createReview(Long userId, ReviewCreateRequestDto requestDto) {
@@ -109,12 +108,17 @@ public class ReviewService {
                 1
         ));
 
+        // 이벤트 발행! -- 팔로워 피드 타임라인 전파 (커밋 후 비동기)
+        appEventPublisher.publishEvent(new ReviewFeedEvent(
+                savedReview.getReviewId(),
+                userId,
+                savedReview.getCreatedAt() != null ? savedReview.getCreatedAt() : LocalDateTime.now(),
+                ReviewFeedEvent.EventType.PUBLISHED
+        ));
+
         // == 이벤트 발행 ==
         eventPublisher.publishUserActivity(userId, ActivityType.REVIEW_WRITE);
 
-        movieService.evictMovieDetailsCache(savedReview.getMovie().getMovieId());
-        log.info("===== 리뷰 생성 완료. 영화 ID: {}의 캐시를 삭제합니다. =====", requestDto.getMovieId());
-
         // 6. 응답 DTO 변환 및 반환
         return new ReviewCreateResponseDto(savedReview.getReviewId(), "리뷰 작성 완료");
     }
@@ -145,14 +149,21 @@ public class ReviewService {
         }
 
         // 4. 리뷰 내용 업데이트 (엔티티 내부의 update 메서드 호출)
+        int previousRating = review.getRating();
         review.update(
                 requestDto.getTitle(),
                 requestDto.getContent(),
                 requestDto.getRating()
         );
 
-        movieService.evictMovieDetailsCache(review.getMovie().getMovieId());
-        log.info("===== 리뷰 수정 완료. 영화 ID: {}의 캐시를 삭제합니다. =====", review.getMovie().getMovieId());
+        // [이벤트 발행!] -- movieSummary (평점이 바뀐 경우에만 변화량 반영, 리뷰 개수는 그대로)
+        if (review.getRating() != previousRating) {
+            appEventPublisher.publishEvent(new ReviewChangedEvent(
+                    review.getMovie().getMovieId(),
+                    review.getRating() - previousRating,
+                    0
+            ));
+        }
     }
 
     @Transactional
@@ -183,6 +194,7 @@ public class ReviewService {
         ));
 
         appEventPublisher.publishEvent(new ReviewPopularityUpdateEvent(this, reviewId, ReviewPopularityUpdateEvent.EventType.DELETED));
+        appEventPublisher.publishEvent(new ReviewFeedEvent(reviewId, userId, review.getCreatedAt(), ReviewFeedEvent.EventType.DELETED));
 
         // 4. Soft Delete 처리
         review.softDelete(currentUser);
@@ -264,10 +276,11 @@ public class ReviewService {
 
             // == 이벤트 발생 == (리뷰 작성자에게 좋아요가 발생했음을 알림)
             eventPublisher.publishUserActivity(review.getUser().getUserId(), ActivityType.REVIEW_LIKE_RECEIVED);
-            // 좋아요 수 변동 발생 -> 인기 점수 업데이트 이벤트 발행
-            appEventPublisher.publishEvent(new ReviewPopularityUpdateEvent(this, reviewId, ReviewPopularityUpdateEvent.EventType.LIKED));
         }
 
+        // 좋아요 수 변동 발생 -> 인기 점수 증분 업데이트 이벤트 발행 (추가/취소 모두)
+        appEventPublisher.publishEvent(ReviewPopularityUpdateEvent.forLikeChange(this, reviewId, review.getCreatedAt(), likeChange));
+
         // 3. ReviewSummary 업데이트 이벤트를 발행 (비동기 처리)
         appEventPublisher.publishEvent(ReviewInteractionEvent.forLikeChange(this, reviewId, likeChange));
 
@@ -354,21 +367,27 @@ public class ReviewService {
 
     /**
      * SNS 피드처럼 나와 내가 팔로우하는 사용자들의 리뷰를 조회합니다. (무한 스크롤)
+     * 리뷰 작성 시 미리 전파된 Redis 타임라인에서 커서 이후 범위만 읽고, 리뷰 상세는 한 번에 조회합니다.
      *
      * @param currentUserId 현재 로그인한 사용자의 ID
-     * @param pageable      페이징 정보 (size, page)
-     * @return 피드 리뷰 목록과 다음 페이지 존재 여부를 담은 DTO
+     * @param cursor        이전 응답의 nextCursor (첫 페이지이면 null)
+     * @param pageable      페이징 정보 (size, 커서가 없을 때만 page 사용)
+     * @return 피드 리뷰 목록과 다음 페이지 존재 여부, 다음 페이지 커서를 담은 DTO
      */
-    public ReviewFeedResponseDto getReviewFeed(Long currentUserId, Pageable pageable) {
-        Set<Long> authorIds = followRepository.findFolloweeIdsByFollowerId(currentUserId);
-        authorIds.add(currentUserId); // 내 리뷰도 피드에 포함
+    public ReviewFeedResponseDto getReviewFeed(Long currentUserId, String cursor, Pageable pageable) {
+        KeysetCursor feedCursor = KeysetCursor.parse(cursor);
+        // 커서 없이 page 번호로 요청하는 기존 클라이언트는 타임라인 앞에서부터 건너뛰어 응답 (타임라인 capacity 이내)
+        int skip = feedCursor == null ? (int) pageable.getOffset() : 0;
 
-        Slice<Object[]> reviewSlice = reviewRepository.findFeedReviewsByAuthorIds(authorIds, pageable);
+        FollowFeedTimeline.TimelinePage page = followFeedTimeline.read(currentUserId, feedCursor, skip, pageable.getPageSize());
+        if (page.reviewIds().isEmpty()) {
+            return new ReviewFeedResponseDto(Collections.emptyList(), false);
+        }
 
-        // [리팩토링] 공통 로직 호출
-        List<FeedReviewInfo> feedReviews = processReviewSlice(reviewSlice, currentUserId);
+        List<FeedReviewInfo> feedReviews = fetchAndProcessReviewsByIds(page.reviewIds(), currentUserId);
+        String nextCursor = page.nextCursor() != null ? page.nextCursor().encode() : null;
 
-        return new ReviewFeedResponseDto(feedReviews, reviewSlice.hasNext());
+        return new ReviewFeedResponseDto(feedReviews, page.hasNext(), nextCursor);
     }
 
 
@@ -376,16 +395,25 @@ public class ReviewService {
      * 특정 사용자가 '좋아요' 한 리뷰 목록을 조회합니다. (무한 스크롤)
      *
      * @param currentUserId 현재 로그인한 사용자의 ID
+     * @param cursor        이전 응답의 nextCursor (없으면 page 번호로 조회)
      * @param pageable      페이징 정보
-     * @return '좋아요' 한 리뷰 목록과 다음 페이지 존재 여부를 담은 DTO
+     * @return '좋아요' 한 리뷰 목록과 다음 페이지 존재 여부, 다음 페이지 커서를 담은 DTO
      */
-    public ReviewFeedResponseDto getLikedReviews(Long currentUserId, Pageable pageable) {
-        Slice<Object[]> reviewSlice = reviewRepository.findLikedReviewsByUserId(currentUserId, pageable);
+    public ReviewFeedResponseDto getLikedReviews(Long currentUserId, String cursor, Pageable pageable) {
+        KeysetCursor keyset = KeysetCursor.parse(cursor);
+        Slice<Object[]> reviewSlice = (keyset == null)
+                ? reviewRepository.findLikedReviewsByUserId(currentUserId, pageable)
+                : reviewRepository.findLikedReviewsByUserIdAfter(currentUserId, keyset.createdAt(), keyset.uuidId(),
+                        PageRequest.of(0, pageable.getPageSize()));
 
         // [리팩토링] 공통 로직 호출
         List<FeedReviewInfo> likedReviews = processReviewSlice(reviewSlice, currentUserId);
 
-        return new ReviewFeedResponseDto(likedReviews, reviewSlice.hasNext());
+        // 커서는 좋아요 누른 시각([13] liked_at) + 리뷰 ID
+        String nextCursor = KeysetCursor.nextOf(reviewSlice,
+                row -> KeysetCursor.of(((Timestamp) row[13]).toLocalDateTime(), UuidUtils.bytesToUUID((byte[]) row[0])));
+
+        return new ReviewFeedResponseDto(likedReviews, reviewSlice.hasNext(), nextCursor);
     }
 
     /**
@@ -442,7 +470,7 @@ public class ReviewService {
     }
 
     /**
-     * List<UUID>를 받아 DTO 리스트로 변환하는 공통 로직 (인기 피드용)
+     * List<UUID>를 받아 DTO 리스트로 변환하는 공통 로직 (인기 피드, 팔로잉 피드용)
      */
     private List<FeedReviewInfo> fetchAndProcessReviewsByIds(List<UUID> reviewIds, Long currentUserId) {
         List<Object[]> results = reviewRepository.findFeedReviewsByIds(reviewIds);
@@ -1,12 +1,9 @@
 package com.d208.feelroom.review.service.scheduler;
 
-import com.d208.feelroom.review.domain.repository.ReviewRepository;
-import com.d208.feelroom.review.domain.repository.ReviewSummaryRepository;
-import com.d208.feelroom.review.util.PopularityCalculator;
+import com.d208.feelroom.review.service.PopularReviewRanking;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -17,10 +14,7 @@ import java.time.LocalDateTime;
 @RequiredArgsConstructor
 public class PopularReviewScheduler {
 
-    private final ReviewRepository reviewRepository;
-    private final ReviewSummaryRepository reviewSummaryRepository;
-    private final RedisTemplate<String, Object> redisTemplate;
-    private static final String POPULAR_REVIEWS_ZSET_KEY = "popular_reviews";
+    private final PopularReviewRanking popularReviewRanking;
 
     /**
      * 서버 시작 시 딱 한 번 실행되는 초기화 메서드.
@@ -33,24 +27,32 @@ public class PopularReviewScheduler {
     }
 
     /**
-     * 1시간마다 '최근 7일 이내에 작성된' 리뷰들의 인기 점수를 재계산합니다.
-     * 모든 리뷰를 대상으로 하지 않아 DB 부하를 줄입니다.
+     * 1시간마다 인기 리뷰 랭킹을 정리합니다.
+     * 점수는 좋아요 이벤트마다 증분 갱신되고 시간이 지나도 순위가 유지되므로, 전체 재계산 없이
+     * 7일이 지난 리뷰만 제거합니다. 랭킹 데이터가 비어 있을 때(최초 배포, Redis 초기화)만 DB에서 재구성합니다.
      */
     @Scheduled(cron = "0 0 * * * *") // 매시 정각에 실행
     public void updatePopularReviewsScore() {
-        log.info("[Scheduler] Starting popular review score update at {}", LocalDateTime.now());
-        LocalDateTime sevenDaysAgo = LocalDateTime.now().minusDays(7);
+        log.info("[Scheduler] Starting popular review ranking maintenance at {}", LocalDateTime.now());
 
-        // findByCreatedAtAfter는 ReviewRepository에 추가해야 할 메서드
-        reviewRepository.findByCreatedAtAfter(sevenDaysAgo).forEach(review -> {
-            Integer likesCount = reviewSummaryRepository.findById(review.getReviewId())
-                    .map(summary -> summary.getReviewLikeCount())
-                    .orElse(0);
+        if (popularReviewRanking.isEmpty()) {
+            popularReviewRanking.rebuild().ifPresent(rebuilt ->
+                    log.info("[Scheduler] Rebuilt popular review ranking from DB. {} reviews ranked.", rebuilt));
+            return;
+        }
 
-            double score = PopularityCalculator.calculateReviewPopularity(likesCount, review.getCreatedAt());
-            redisTemplate.opsForZSet().add(POPULAR_REVIEWS_ZSET_KEY, review.getReviewId().toString(), score);
-        });
+        int expired = popularReviewRanking.expireStale();
+        log.info("[Scheduler] Finished popular review ranking maintenance. {} stale reviews removed.", expired);
+    }
 
-        log.info("[Scheduler] Finished popular review score update.");
+    /**
+     * 6시간마다 DB(review_summary)의 좋아요 수로 랭킹을 다시 만들어 증분 갱신과의 차이를 바로잡습니다.
+     * (비동기 풀 종료나 Redis 오류로 유실된 좋아요 이벤트, 삭제 후 도착한 이벤트 등)
+     */
+    @Scheduled(cron = "0 30 */6 * * *")
+    public void reconcilePopularReviews() {
+        log.info("[Scheduler] Starting popular review ranking reconciliation at {}", LocalDateTime.now());
+        popularReviewRanking.rebuild().ifPresent(rebuilt ->
+                log.info("[Scheduler] Finished popular review ranking reconciliation. {} reviews ranked.", rebuilt));
     }
-}
\ No newline at end of file
+}
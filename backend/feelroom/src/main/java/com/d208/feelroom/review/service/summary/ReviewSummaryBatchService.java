@@ -1,5 +1,6 @@
 package com.d208.feelroom.review.service.summary;
 
+import com.d208.feelroom.global.infra.RedisJobLock;
 import com.d208.feelroom.review.domain.entity.Review; // Review 엔티티 필요 (summary가 없는 경우 생성 시)
 import com.d208.feelroom.review.domain.entity.summary.ReviewSummary;
 import com.d208.feelroom.review.domain.repository.ReviewRepository;
@@ -8,13 +9,22 @@ import com.d208.feelroom.comment.domain.repository.CommentRepository; // 댓글
 import com.d208.feelroom.review.domain.repository.ReviewLikeRepository; // 좋아요 수 조회용
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.List;
-import java.util.UUID; // Review ID가 UUID임을 명심
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
 @Service
 @RequiredArgsConstructor
@@ -25,6 +35,61 @@ public class ReviewSummaryBatchService {
     private final ReviewSummaryRepository reviewSummaryRepository;
     private final ReviewLikeRepository reviewLikeRepository; // 좋아요 레포지토리 주입
     private final CommentRepository commentRepository;       // 댓글 레포지토리 주입
+    private final JdbcTemplate jdbcTemplate;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RedisJobLock redisJobLock;
+
+    private static final String CHECKPOINT_KEY = "batch:review-summary:checkpoint";
+    private static final String JOB_LOCK = "batch:review-summary";
+    private static final Duration JOB_LOCK_TTL = Duration.ofHours(2); // 워커 대기 상한(1시간)보다 길게
+    private static final Duration CHECKPOINT_TTL = Duration.ofDays(2);
+    private static final HexFormat HEX = HexFormat.of();
+
+    private static final String SELECT_FIRST_CHUNK_IDS_SQL =
+            "SELECT review_id FROM review_summary ORDER BY review_id LIMIT ?";
+    private static final String SELECT_NEXT_CHUNK_IDS_SQL =
+            "SELECT review_id FROM review_summary WHERE review_id > ? ORDER BY review_id LIMIT ?";
+
+    // 청크 범위의 현재 요약 값과 실제 집계 값을 한 번에 조회 (idx_review_likes, idx_review_comments 활용)
+    private static final String SELECT_CHUNK_AGGREGATES_SQL = """
+            SELECT rs.review_id, rs.review_like_count, rs.review_comment_count,
+                   COALESCE(l.like_count, 0) AS actual_like_count,
+                   COALESCE(c.comment_count, 0) AS actual_comment_count
+            FROM review_summary rs
+            LEFT JOIN (
+                SELECT review_id, COUNT(*) AS like_count
+                FROM review_likes
+                WHERE review_id BETWEEN ? AND ?
+                GROUP BY review_id
+            ) l ON l.review_id = rs.review_id
+            LEFT JOIN (
+                SELECT review_id, COUNT(*) AS comment_count
+                FROM comments
+                WHERE review_id BETWEEN ? AND ? AND deleted_at IS NULL
+                GROUP BY review_id
+            ) c ON c.review_id = rs.review_id
+            WHERE rs.review_id BETWEEN ? AND ?
+            """;
+    // 보정 직전 다시 읽을 때는 요약 행을 잠가, 그 사이 버퍼 flush가 끼어들지 못하도록 함 (집계 대상 테이블은 잠그지 않음)
+    private static final String SELECT_CHUNK_AGGREGATES_FOR_UPDATE_SQL = SELECT_CHUNK_AGGREGATES_SQL + " FOR UPDATE OF rs";
+
+    private static final String UPSERT_SUMMARIES_SQL_PREFIX =
+            "INSERT INTO review_summary (review_id, review_like_count, review_comment_count) VALUES ";
+    private static final String UPSERT_SUMMARIES_SQL_SUFFIX = """
+             ON DUPLICATE KEY UPDATE
+                review_like_count = VALUES(review_like_count),
+                review_comment_count = VALUES(review_comment_count)
+            """;
+
+    @Value("${batch.review-summary.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${batch.review-summary.workers:4}") // 커넥션 풀 크기보다 작게 유지
+    private int workerCount;
+
+    @Value("${batch.review-summary.settle-delay-ms:500}")
+    private long settleDelayMs; // 어긋난 행을 다시 확인하기 전 대기 시간 (summary.write-buffer.flush-interval-ms보다 길게)
 
     /**
      * 서버 시작 시 딱 한 번 실행되는 초기화 메서드.
@@ -41,33 +106,228 @@ public class ReviewSummaryBatchService {
      * 매일 새벽 3시에 기존 리뷰 요약 정보(ReviewSummary)를 재동기화합니다.
      * 이미 ReviewSummary가 존재하는 리뷰들만 대상으로 합니다.
      * (새로운 리뷰의 좋아요/댓글 Summary는 이벤트 리스너가 처리)
+     *
+     * review_summary를 PK(review_id) 범위 단위의 청크로 나누어 순회하며,
+     * 청크마다 집계 쿼리 1회 + 보정이 필요한 행에 대한 다중 행 UPSERT 1회만 실행합니다.
+     * 청크는 제한된 크기의 워커 풀에서 병렬 처리되고, 연속으로 완료된 구간까지 Redis에 체크포인트를 남겨
+     * 중간에 중단되더라도 다음 실행 시 이어서 처리합니다.
+     * 모든 노드에서 스케줄되므로 Redis 잠금을 잡은 노드 하나만 실행합니다.
      */
     @Scheduled(cron = "0 0 3 * * *") // 매일 새벽 3시 (MovieSummary와 겹치지 않게)
     public void syncExistingReviewSummaries() {
+        Optional<String> lock = redisJobLock.tryAcquire(JOB_LOCK, JOB_LOCK_TTL);
+        if (lock.isEmpty()) {
+            log.warn("ReviewSummary Sync Batch is already running. Skipping this trigger.");
+            return;
+        }
+        try {
+            reconcileAllChunks();
+        } finally {
+            redisJobLock.release(JOB_LOCK, lock.get());
+        }
+    }
+
+    private void reconcileAllChunks() {
         log.info("===== ReviewSummary Sync Batch Started (Existing Summaries Only) =====");
         long startTime = System.currentTimeMillis();
 
-        List<ReviewSummary> existingSummaries = reviewSummaryRepository.findAll();
+        byte[] lowerBound = loadCheckpoint();
+        if (lowerBound != null) {
+            log.info("Resuming ReviewSummary sync from checkpoint: {}", HEX.formatHex(lowerBound));
+        }
 
-        int processedCount = 0;
-        int failedCount = 0;
+        ChunkProgress progress = new ChunkProgress();
+        ExecutorService workers = Executors.newFixedThreadPool(workerCount, new CustomizableThreadFactory("review-summary-sync-"));
+        Semaphore inFlight = new Semaphore(workerCount * 2); // 청크 생산 속도를 워커 처리 속도에 맞춰 제한
+        long chunkSeq = 0;
+
+        try {
+            while (true) {
+                List<byte[]> chunkIds = findNextChunkIds(lowerBound);
+                if (chunkIds.isEmpty()) {
+                    break;
+                }
+                byte[] from = chunkIds.get(0);
+                byte[] to = chunkIds.get(chunkIds.size() - 1);
+                long seq = chunkSeq++;
+
+                inFlight.acquire();
+                workers.execute(() -> {
+                    try {
+                        int corrected = reconcileChunk(from, to);
+                        progress.complete(seq, to, chunkIds.size(), corrected);
+                    } catch (Exception e) {
+                        progress.fail(seq);
+                        log.error("Failed to sync ReviewSummary chunk [{} ~ {}]. Error: {}",
+                                HEX.formatHex(from), HEX.formatHex(to), e.getMessage(), e);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
 
-        log.info("Processing {} existing ReviewSummaries...", existingSummaries.size());
-        for (ReviewSummary summary : existingSummaries) {
-            try {
-                // 각 리뷰별 요약 정보 업데이트를 별도의 트랜잭션으로 처리
-                syncSingleReviewSummary(summary.getReviewId());
-                processedCount++;
-            } catch (Exception e) {
-                failedCount++;
-                log.error("Failed to sync ReviewSummary for review ID: {}. Error: {}", summary.getReviewId(), e.getMessage(), e);
+                lowerBound = to;
+                if (chunkIds.size() < chunkSize) {
+                    break;
+                }
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("ReviewSummary Sync Batch was interrupted. It will resume from the last checkpoint.");
+        } finally {
+            workers.shutdown();
+            progress.abandon(awaitWorkers(workers));
+        }
+
+        if (progress.failedChunks == 0 && !Thread.currentThread().isInterrupted()) {
+            clearCheckpoint(); // 전체 완료 시 다음 실행은 처음부터 시작
         }
 
         long endTime = System.currentTimeMillis();
         log.info("===== ReviewSummary Sync Batch Finished =====");
-        log.info("Total existing summaries processed: {}, Success: {}, Failed: {}, Duration: {} ms",
-                existingSummaries.size(), processedCount, failedCount, (endTime - startTime));
+        log.info("Total chunks: {}, Summaries scanned: {}, Corrected: {}, Failed chunks: {}, Duration: {} ms",
+                chunkSeq, progress.scannedCount, progress.correctedCount, progress.failedChunks, (endTime - startTime));
+    }
+
+    /**
+     * lowerBound(제외) 이후의 review_id를 PK 순서로 chunkSize 만큼 조회합니다.
+     */
+    private List<byte[]> findNextChunkIds(byte[] lowerBound) {
+        if (lowerBound == null) {
+            return jdbcTemplate.query(SELECT_FIRST_CHUNK_IDS_SQL, (rs, rowNum) -> rs.getBytes(1), chunkSize);
+        }
+        return jdbcTemplate.query(SELECT_NEXT_CHUNK_IDS_SQL, (rs, rowNum) -> rs.getBytes(1), lowerBound, chunkSize);
+    }
+
+    /**
+     * [from, to] 범위의 ReviewSummary를 실제 좋아요/댓글 수와 비교하여, 어긋난 행만 한 번의 UPSERT로 보정합니다.
+     *
+     * 요약 값은 write-behind 버퍼(ReviewSummaryUpdater)를 거쳐 늦게 반영되므로, 한 번 읽었을 때의 차이에는
+     * 아직 flush 되지 않은 변경량이 섞여 있을 수 있습니다. 그 상태에서 실제 값으로 덮어쓰면 나중에 flush 되는 변경량이
+     * 두 번 더해집니다. 그래서 settleDelayMs(모든 노드의 flush 주기 이상) 뒤에 요약 행을 잠근 채 다시 읽어,
+     * 차이가 그대로인 행(버퍼로 설명되지 않는 실제 불일치)만 같은 트랜잭션에서 보정합니다.
+     *
+     * @return 보정된 ReviewSummary 수
+     */
+    private int reconcileChunk(byte[] from, byte[] to) throws InterruptedException {
+        Map<String, long[]> firstLook = findDrift(SELECT_CHUNK_AGGREGATES_SQL, from, to);
+        if (firstLook.isEmpty()) {
+            return 0;
+        }
+        if (settleDelayMs > 0) {
+            Thread.sleep(settleDelayMs);
+        }
+
+        Integer corrected = transactionTemplate.execute(status -> {
+            List<Object[]> confirmed = new ArrayList<>();
+            findDrift(SELECT_CHUNK_AGGREGATES_FOR_UPDATE_SQL, from, to).forEach((hexId, drift) -> {
+                if (Arrays.equals(drift, firstLook.get(hexId))) {
+                    confirmed.add(new Object[]{HEX.parseHex(hexId), drift[2], drift[3]});
+                }
+            });
+            if (confirmed.isEmpty()) {
+                return 0;
+            }
+            String sql = UPSERT_SUMMARIES_SQL_PREFIX
+                    + String.join(", ", Collections.nCopies(confirmed.size(), "(?, ?, ?)"))
+                    + UPSERT_SUMMARIES_SQL_SUFFIX;
+            jdbcTemplate.update(sql, confirmed.stream().flatMap(Arrays::stream).toArray());
+            return confirmed.size();
+        });
+        return corrected != null ? corrected : 0;
+    }
+
+    /**
+     * 범위 안에서 요약 값이 실제 값과 다른 행을 찾습니다.
+     *
+     * @return review_id(hex) → [좋아요 차이, 댓글 차이, 실제 좋아요 수, 실제 댓글 수]
+     */
+    private Map<String, long[]> findDrift(String sql, byte[] from, byte[] to) {
+        Map<String, long[]> drifted = new HashMap<>();
+        jdbcTemplate.query(sql, (rs, rowNum) -> {
+            long actualLikes = rs.getLong("actual_like_count");
+            long actualComments = rs.getLong("actual_comment_count");
+            long likeDrift = actualLikes - rs.getLong("review_like_count");
+            long commentDrift = actualComments - rs.getLong("review_comment_count");
+            if (likeDrift != 0 || commentDrift != 0) {
+                drifted.put(HEX.formatHex(rs.getBytes("review_id")), new long[]{likeDrift, commentDrift, actualLikes, actualComments});
+            }
+            return null;
+        }, from, to, from, to, from, to);
+        return drifted;
+    }
+
+    /**
+     * 워커가 끝나기를 기다립니다. 시간 안에 끝나지 않으면 강제 종료합니다.
+     *
+     * @return 시작하지 못하고 버려진 청크 수
+     */
+    private int awaitWorkers(ExecutorService workers) {
+        try {
+            if (!workers.awaitTermination(1, TimeUnit.HOURS)) {
+                log.warn("ReviewSummary sync workers did not finish within timeout. Forcing shutdown.");
+                return workers.shutdownNow().size();
+            }
+        } catch (InterruptedException e) {
+            int dropped = workers.shutdownNow().size();
+            Thread.currentThread().interrupt();
+            return dropped;
+        }
+        return 0;
+    }
+
+    private byte[] loadCheckpoint() {
+        Object checkpoint = redisTemplate.opsForValue().get(CHECKPOINT_KEY);
+        return (checkpoint != null) ? HEX.parseHex(checkpoint.toString()) : null;
+    }
+
+    private void saveCheckpoint(byte[] reviewId) {
+        redisTemplate.opsForValue().set(CHECKPOINT_KEY, HEX.formatHex(reviewId), CHECKPOINT_TTL);
+    }
+
+    private void clearCheckpoint() {
+        redisTemplate.delete(CHECKPOINT_KEY);
+    }
+
+    /**
+     * 병렬로 완료되는 청크들 중, 앞에서부터 연속으로 완료된 구간까지만 체크포인트로 기록합니다.
+     * 실패한 청크가 있으면 그 이전까지만 기록되므로 다음 실행에서 실패 구간부터 다시 처리됩니다.
+     */
+    private class ChunkProgress {
+        private final Map<Long, byte[]> completedUpperBounds = new HashMap<>();
+        private long nextExpectedSeq = 0;
+        private boolean blocked = false;
+        private long scannedCount = 0;
+        private long correctedCount = 0;
+        private int failedChunks = 0;
+
+        synchronized void complete(long seq, byte[] upperBound, int scanned, int corrected) {
+            scannedCount += scanned;
+            correctedCount += corrected;
+            completedUpperBounds.put(seq, upperBound);
+
+            byte[] watermark = null;
+            while (!blocked && completedUpperBounds.containsKey(nextExpectedSeq)) {
+                watermark = completedUpperBounds.remove(nextExpectedSeq++);
+            }
+            if (watermark != null) {
+                saveCheckpoint(watermark);
+            }
+        }
+
+        synchronized void fail(long seq) {
+            failedChunks++;
+            if (seq >= nextExpectedSeq) {
+                blocked = true;
+            }
+        }
+
+        // 강제 종료로 시작하지 못한 청크: 실패로 집계하고 체크포인트를 더 진행하지 않음
+        synchronized void abandon(int chunks) {
+            if (chunks > 0) {
+                failedChunks += chunks;
+                blocked = true;
+            }
+        }
     }
 
     /**
@@ -127,7 +387,6 @@ public class ReviewSummaryBatchService {
      * 개발/테스트 환경에서 ReviewSummary 기존 데이터 동기화 배치를 수동으로 실행합니다.
      * 이 메서드는 프로덕션 환경에서는 호출되지 않도록 주의해야 합니다.
      */
-    @Transactional
     public void runSyncManually() {
         log.info("Manual Sync (Existing Review Summaries) initiated...");
         syncExistingReviewSummaries();
@@ -2,6 +2,7 @@ package com.d208.feelroom.review.util;
 
 import java.time.LocalDateTime;
 import java.time.Duration;
+import java.time.ZoneId;
 
 public class PopularityCalculator {
 
@@ -9,6 +10,10 @@ public class PopularityCalculator {
     // 값이 클수록 최신 리뷰가 더 유리해집니다. 서비스에 맞게 튜닝 필요 (1.5 ~ 2.0 권장)
     private static final double GRAVITY = 1.8;
 
+    // 랭킹 점수의 시간 감쇠 상수 (초). 좋아요 수가 e배(약 2.7배)인 리뷰가 이 시간만큼 먼저 작성된 리뷰와 같은 점수를 가집니다.
+    // GRAVITY 1.8 기준 최근 하루 구간의 감쇠 정도와 비슷하도록 8시간으로 설정
+    public static final double DECAY_SECONDS = 8 * 60 * 60;
+
     /**
      * 리뷰의 인기 점수를 계산합니다.
      * Score = (likesCount) / (hoursSinceCreation + 2)^GRAVITY
@@ -29,4 +34,30 @@ public class PopularityCalculator {
             // likesCount가 0일 때도 0이 되도록 함
             return (double) likesCount / Math.pow(hoursSinceCreation + 2, GRAVITY);
         }
-}
\ No newline at end of file
+
+    /**
+     * 현재 시각과 무관한 랭킹 점수를 계산합니다. (인기 리뷰 ZSET 저장용)
+     * Score = ln(likesCount) + createdAtEpochSeconds / DECAY_SECONDS
+     *
+     * likes * e^(-(now - createdAt) / DECAY_SECONDS) 에 로그를 취한 값에서 now 항을 뺀 것이므로,
+     * 모든 리뷰의 순위가 시간이 지나도 유지됩니다. 따라서 좋아요가 바뀔 때만 점수를 갱신하면 됩니다.
+     *
+     * @param likesCount 리뷰의 좋아요 수 (1 이상)
+     * @param createdAt  리뷰 생성 시간
+     * @return 랭킹 점수
+     */
+    public static double calculateRankingScore(long likesCount, LocalDateTime createdAt) {
+        return Math.log(Math.max(likesCount, 1)) + calculateRecencyScore(createdAt);
+    }
+
+    /**
+     * 랭킹 점수의 시간 항 (createdAtEpochSeconds / DECAY_SECONDS)
+     */
+    public static double calculateRecencyScore(LocalDateTime createdAt) {
+        return toEpochSeconds(createdAt) / DECAY_SECONDS;
+    }
+
+    public static long toEpochSeconds(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toEpochSecond();
+    }
+}
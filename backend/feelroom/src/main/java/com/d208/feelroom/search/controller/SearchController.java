@@ -1,8 +1,10 @@
 package com.d208.feelroom.search.controller;
 
+import com.d208.feelroom.search.dto.MovieAutocompleteDto;
 import com.d208.feelroom.search.dto.MovieSearchResponseDto;
 import com.d208.feelroom.search.dto.UserSearchResponseDto;
 import com.d208.feelroom.search.service.SearchService;
+import com.d208.feelroom.search.service.TitleAutocompleteIndex;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -13,6 +15,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/search")
 @RequiredArgsConstructor
@@ -21,11 +25,14 @@ import org.springframework.web.bind.annotation.*;
 public class SearchController {
 
     private final SearchService searchService;
+    private final TitleAutocompleteIndex titleAutocompleteIndex;
 
     // 검색 관련 상수
     private static final int DEFAULT_PAGE = 0;
     private static final int DEFAULT_SIZE = 20;
     private static final int MAX_SIZE = 100;
+    private static final int AUTOCOMPLETE_DEFAULT_LIMIT = 10;
+    private static final int AUTOCOMPLETE_MAX_LIMIT = 20;
 
     @GetMapping("/movies")
     @Operation(summary = "영화 제목 검색", description = "영화 제목으로 검색하여 유사도 순으로 정렬된 결과를 반환합니다.")
@@ -60,6 +67,33 @@ public class SearchController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 제목 자동완성 (키 입력마다 호출됨)
+     * 메모리 인덱스에서만 응답하므로 DB 트랜잭션/Elasticsearch를 거치지 않도록 SearchService를 통하지 않습니다.
+     */
+    @GetMapping("/autocomplete")
+    @Operation(summary = "영화 제목 자동완성", description = "입력 중인 검색어로 시작하거나(영문 단어 접두사) 포함하는(한글) 영화 제목을 TMDB 투표수 순으로 반환합니다.")
+    public ResponseEntity<List<MovieAutocompleteDto>> autocompleteMovies(
+            @Parameter(description = "입력 중인 검색어", required = true, example = "기생")
+            @RequestParam String query,
+
+            @Parameter(description = "최대 결과 수 (최대 20)", example = "10")
+            @RequestParam(defaultValue = "10") int limit) {
+
+        if (query == null || query.trim().isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        if (limit <= 0) limit = AUTOCOMPLETE_DEFAULT_LIMIT;
+        if (limit > AUTOCOMPLETE_MAX_LIMIT) limit = AUTOCOMPLETE_MAX_LIMIT;
+
+        List<MovieAutocompleteDto> suggestions = titleAutocompleteIndex.suggest(query.trim(), limit);
+
+        log.debug("영화 제목 자동완성: query={}, 결과수={}, ready={}", query, suggestions.size(), titleAutocompleteIndex.isReady());
+
+        return ResponseEntity.ok(suggestions);
+    }
+
     @GetMapping("/user")
     @Operation(summary = "사용자 통합 검색", description = "username 또는 nickname으로 사용자를 검색합니다. 정확도 순으로 정렬됩니다.")
     public ResponseEntity<UserSearchResponseDto> searchUsers(
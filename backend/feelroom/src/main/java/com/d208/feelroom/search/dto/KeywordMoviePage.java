@@ -0,0 +1,20 @@
+package com.d208.feelroom.search.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 키워드 기반 영화 검색의 한 페이지 결과 (캐시 저장용)
+ * 영화 카드는 매번 MovieCardAssembler로 조립하므로 순위가 매겨진 영화 ID만 보관합니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class KeywordMoviePage {
+
+    private List<Integer> keywordIds;  // FastAPI가 반환한 키워드 ID
+    private List<Integer> movieIds;    // 키워드 일치 수 -> TMDB 평점 순으로 정렬된 영화 ID
+    private boolean hasNext;           // 다음 페이지 존재 여부
+    private long totalElements;        // 키워드에 해당하는 전체 영화 수
+}
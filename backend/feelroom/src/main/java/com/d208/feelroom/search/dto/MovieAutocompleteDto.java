@@ -0,0 +1,19 @@
+package com.d208.feelroom.search.dto;
+
+import lombok.*;
+
+/**
+ * 영화 제목 자동완성 결과 항목 DTO
+ * 키 입력마다 호출되므로 메모리 인덱스에 들고 있는 최소 필드만 담습니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MovieAutocompleteDto {
+
+    private Integer movieId;     // 상세 페이지 이동용
+    private String title;        // 영화 제목
+    private String releaseYear;  // 개봉년도 (알 수 없으면 "미정")
+    private Integer voteCount;   // TMDB 투표수 (정렬 기준)
+}
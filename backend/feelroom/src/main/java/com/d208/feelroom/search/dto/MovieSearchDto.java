@@ -1,5 +1,6 @@
 package com.d208.feelroom.search.dto;
 
+import com.d208.feelroom.movie.dto.MovieCardDto;
 import com.d208.feelroom.search.document.MovieDocument;
 import lombok.*;
 
@@ -42,6 +43,22 @@ public class MovieSearchDto {
 
 
 
+    /**
+     * MovieCardAssembler가 조립한 카드 정보로 MovieSearchDto를 생성
+     */
+    public static MovieSearchDto fromMovieCard(MovieCardDto card) {
+        return MovieSearchDto.builder()
+                .movieId(card.getMovieId())
+                .title(card.getTitle())
+                .posterUrl(card.getPosterUrl())
+                .releaseYear(extractYearFromDate(card.getReleaseDate()))
+                .genres(card.getGenres())
+                .runtime(card.getRuntime())
+                .voteAverage(card.getVoteAverage())
+                .userRatingAverage(card.getUserRatingAverage())
+                .build();
+    }
+
     /**
      * 장르 정보 설정 (별도 메소드로 체이닝 지원)
      */
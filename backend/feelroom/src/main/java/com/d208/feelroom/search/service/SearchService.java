@@ -1,32 +1,26 @@
 package com.d208.feelroom.search.service;
 
-import com.d208.feelroom.search.document.MovieDocument;
-import com.d208.feelroom.movie.domain.entity.Movie;
-import com.d208.feelroom.movie.domain.entity.summary.MovieSummary;
-import com.d208.feelroom.movie.domain.repository.MovieGenreRepository;
+import com.d208.feelroom.global.config.RedisConfig;
+import com.d208.feelroom.global.infra.AiApiClient;
 import com.d208.feelroom.movie.domain.repository.MovieKeywordRepository;
-import com.d208.feelroom.movie.domain.repository.MovieRepository;
-import com.d208.feelroom.movie.domain.repository.MovieSummaryRepository;
-import com.d208.feelroom.search.repository.MovieSearchRepository;
+import com.d208.feelroom.movie.service.MovieCardAssembler;
 import com.d208.feelroom.user.domain.entity.User;
 import com.d208.feelroom.user.domain.repository.UserRepository;
+import com.d208.feelroom.search.dto.KeywordMoviePage;
 import com.d208.feelroom.search.dto.MovieSearchDto;
 import com.d208.feelroom.search.dto.MovieSearchResponseDto;
 import com.d208.feelroom.search.dto.UserSearchDto;
 import com.d208.feelroom.search.dto.UserSearchResponseDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -37,33 +31,14 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class SearchService {
 
-    private final MovieSearchRepository movieSearchRepository;
-    private final MovieRepository movieRepository;
-    private final MovieSummaryRepository movieSummaryRepository;
-    private final MovieGenreRepository movieGenreRepository;
+    private final TitleSearchEngine titleSearchEngine;
+    private final MovieCardAssembler movieCardAssembler;
     private final UserRepository userRepository;
     private final MovieKeywordRepository movieKeywordRepository;
+    private final CacheManager cacheManager;
 
-    // RestTemplate을 직접 생성
-    private final RestTemplate restTemplate = createRestTemplate();
-
-    @Value("${fastapi.url:http://movie-fastapi:8000}")
-    private String fastapiUrl;
-
-    /**
-     * RestTemplate 생성 및 설정
-     */
-    private RestTemplate createRestTemplate() {
-        RestTemplate template = new RestTemplate();
-
-        // 타임아웃 설정이 필요하면 여기서 설정
-        // SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        // factory.setConnectTimeout(5000);
-        // factory.setReadTimeout(10000);
-        // template.setRequestFactory(factory);
-
-        return template;
-    }
+    // 타임아웃/서킷 브레이커/벌크헤드/응답 캐시가 적용된 AI 서버 공용 클라이언트
+    private final AiApiClient aiApiClient;
 
     // FastAPI 응답 DTO 클래스들
     public static class KeywordSearchResult {
@@ -124,37 +99,23 @@ public class SearchService {
             log.info("영화 제목 검색 시작: title={}, page={}, size={}",
                     title, pageable.getPageNumber(), pageable.getPageSize());
 
-            // 1단계: MySQL DB 스캔 검색
-            List<Movie> mysqlMovies = movieRepository.findByTitleContainingIgnoreCase(title);
-
-            if (!mysqlMovies.isEmpty()) {
-                // MySQL 검색 결과가 있으면 바로 반환
-                log.info("MySQL 검색 결과 있음: title={}, 결과수={}", title, mysqlMovies.size());
-                return convertMySQLResultToResponse(mysqlMovies, title, pageable);
-            }
-
-            // 2단계: Elasticsearch nori 분석기 검색
-            Page<MovieDocument> movieDocumentPage = movieSearchRepository
-                    .findByTitleContaining(title, pageable);
-
-            // 3단계: 결과 없으면 wildcard 검색
-            if (!movieDocumentPage.hasContent()) {
-                log.info("nori 검색 결과 없음, wildcard 검색 시도: title={}", title);
-                movieDocumentPage = movieSearchRepository
-                        .findByTitleWildcard(title, pageable);
-            }
+            // 검색어 형태에 따라 인덱스 기반 경로(접두사 / FULLTEXT / Elasticsearch)로 검색하고, 페이지 크기만큼만 가져옵니다.
+            Slice<Integer> movieIdSlice = titleSearchEngine.search(title, pageable);
 
             // 검색 결과가 없으면 빈 응답 반환
-            if (!movieDocumentPage.hasContent()) {
+            if (!movieIdSlice.hasContent()) {
                 log.info("영화 검색 결과 없음: title={}", title);
                 return MovieSearchResponseDto.empty(title, pageable.getPageNumber(), pageable.getPageSize());
             }
 
-            // Page를 Slice처럼 처리하여 응답 DTO 생성
-            Slice<MovieSearchDto> movieSearchSlice = movieDocumentPage.map(this::convertToMovieSearchDto);
+            // 페이지 전체를 한 번에 조립 (검색 순서 유지)
+            List<MovieSearchDto> movieSearchDtos = movieCardAssembler.assemble(movieIdSlice.getContent()).stream()
+                    .map(MovieSearchDto::fromMovieCard)
+                    .collect(Collectors.toList());
+            Slice<MovieSearchDto> movieSearchSlice = new SliceImpl<>(movieSearchDtos, pageable, movieIdSlice.hasNext());
 
             log.info("영화 검색 완료: title={}, 결과수={}, hasNext={}",
-                    title, movieSearchSlice.getContent().size(), movieDocumentPage.hasNext());
+                    title, movieSearchSlice.getContent().size(), movieSearchSlice.hasNext());
 
             return MovieSearchResponseDto.fromSlice(movieSearchSlice, title);
 
@@ -172,69 +133,33 @@ public class SearchService {
             log.info("키워드 기반 영화 검색 시작: query={}, page={}, size={}",
                     query, pageable.getPageNumber(), pageable.getPageSize());
 
-            // 1. FastAPI에서 키워드 ID 목록 가져오기
-            List<Integer> keywordIds = getKeywordIdsFromFastAPI(query, 10); // 최대 10개 키워드
-
-            if (keywordIds.isEmpty()) {
-                log.info("FastAPI 키워드 검색 결과 없음: query={}", query);
-                return MovieSearchResponseDto.empty(query, pageable.getPageNumber(), pageable.getPageSize());
-            }
-
-            log.info("FastAPI에서 받은 키워드 ID: query={}, keywordIds={}", query, keywordIds);
-
-            // 2. 키워드 ID로 영화 수집 (기존 Repository 메소드 사용)
-            Set<Integer> uniqueMovieIds = new HashSet<>();
-
-            for (Integer keywordId : keywordIds) {
-                List<Movie> movies = movieKeywordRepository.findMoviesByKeywordId(keywordId);
-                movies.forEach(movie -> uniqueMovieIds.add(movie.getMovieId()));
-            }
-
-            if (uniqueMovieIds.isEmpty()) {
-                log.info("키워드로 영화 검색 결과 없음: query={}, keywordIds={}", query, keywordIds);
-                return MovieSearchResponseDto.empty(query, pageable.getPageNumber(), pageable.getPageSize());
-            }
-
-            // 3. 영화 정보 조회 및 vote_average 기준 정렬
-            List<Movie> allMovies = new ArrayList<>();
-            for (Integer movieId : uniqueMovieIds) {
-                Optional<Movie> movieOpt = movieRepository.findById(movieId);
-                if (movieOpt.isPresent()) {
-                    allMovies.add(movieOpt.get());
-                }
-            }
-
-            // vote_average 기준 내림차순 정렬 (높은 평점이 먼저)
-            allMovies.sort((m1, m2) -> Double.compare(
-                    m2.getVoteAverage() != null ? m2.getVoteAverage() : 0.0,
-                    m1.getVoteAverage() != null ? m1.getVoteAverage() : 0.0
-            ));
+            // 1. (검색어, 페이지) 단위 캐시 조회, 없으면 FastAPI 키워드 추출 + 집계 쿼리로 한 페이지만 계산
+            //    같은 키에 대한 동시 요청은 캐시의 동기 로딩으로 한 번만 계산됨
+            Cache cache = cacheManager.getCache(RedisConfig.KEYWORD_SEARCH_CACHE);
+            String cacheKey = query + ":" + pageable.getPageNumber() + ":" + pageable.getPageSize();
+            KeywordMoviePage keywordPage = cache != null
+                    ? cache.get(cacheKey, () -> loadKeywordMoviePage(query, pageable))
+                    : loadKeywordMoviePage(query, pageable);
 
-            // 4. 페이징 처리
-            int start = pageable.getPageNumber() * pageable.getPageSize();
-            int end = Math.min(start + pageable.getPageSize(), allMovies.size());
-
-            if (start >= allMovies.size()) {
+            if (keywordPage == null || keywordPage.getMovieIds().isEmpty()) {
+                log.info("키워드로 영화 검색 결과 없음: query={}", query);
                 return MovieSearchResponseDto.empty(query, pageable.getPageNumber(), pageable.getPageSize());
             }
 
-            List<Movie> pageMovies = allMovies.subList(start, end);
-            boolean hasNext = end < allMovies.size();
-
-            // 5. DTO 변환
-            List<MovieSearchDto> movieSearchDtos = pageMovies.stream()
-                    .map(this::convertMovieToSearchDto)
+            // 2. DTO 변환 (장르/평점 일괄 조회, 순위 유지)
+            List<MovieSearchDto> movieSearchDtos = movieCardAssembler.assemble(keywordPage.getMovieIds()).stream()
+                    .map(MovieSearchDto::fromMovieCard)
                     .collect(Collectors.toList());
 
             log.info("키워드 검색 완료: query={}, keywordIds={}, 결과수={}, hasNext={}",
-                    query, keywordIds, movieSearchDtos.size(), hasNext);
+                    query, keywordPage.getKeywordIds(), movieSearchDtos.size(), keywordPage.isHasNext());
 
             return MovieSearchResponseDto.builder()
                     .movies(movieSearchDtos)
-                    .hasNext(hasNext)
+                    .hasNext(keywordPage.isHasNext())
                     .currentPage(pageable.getPageNumber())
                     .pageSize(pageable.getPageSize())
-                    .totalElements(allMovies.size())
+                    .totalElements(keywordPage.getTotalElements())
                     .searchQuery("keywords for: " + query)
                     .build();
 
@@ -245,43 +170,58 @@ public class SearchService {
     }
 
     /**
-     * FastAPI에서 키워드 ID 목록 가져오기
+     * 키워드 ID 추출 후 집계 쿼리로 한 페이지의 영화 ID를 계산합니다. (캐시 미스 시에만 호출)
+     * FastAPI 호출 실패는 예외로 전파하여 실패 결과가 캐시에 남지 않도록 합니다.
      */
-    private List<Integer> getKeywordIdsFromFastAPI(String query, int topK) {
-        try {
-            // 요청 URL 구성
-            String url = fastapiUrl + "/api/v1/keywordSearch";
+    private KeywordMoviePage loadKeywordMoviePage(String query, Pageable pageable) {
+        List<Integer> keywordIds = getKeywordIdsFromFastAPI(query, 10); // 최대 10개 키워드
 
-            // 요청 헤더 설정
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
+        if (keywordIds.isEmpty()) {
+            log.info("FastAPI 키워드 검색 결과 없음: query={}", query);
+            return new KeywordMoviePage(new ArrayList<>(), new ArrayList<>(), false, 0);
+        }
 
-            // 요청 바디 구성
-            KeywordSearchRequest request = new KeywordSearchRequest(query, topK);
-            HttpEntity<KeywordSearchRequest> entity = new HttpEntity<>(request, headers);
+        log.info("FastAPI에서 받은 키워드 ID: query={}, keywordIds={}", query, keywordIds);
 
-            log.info("FastAPI 키워드 검색 요청: url={}, query={}, topK={}", url, query, topK);
+        // 키워드 일치 수 -> TMDB 평점 순으로 DB에서 정렬/페이징 (다음 페이지 여부 확인용으로 1건 더 조회)
+        List<Integer> movieIds = new ArrayList<>(movieKeywordRepository.findMovieIdsRankedByKeywordOverlap(
+                keywordIds, pageable.getPageSize() + 1, pageable.getOffset()));
+        boolean hasNext = movieIds.size() > pageable.getPageSize();
+        if (hasNext) {
+            movieIds.remove(movieIds.size() - 1);
+        }
 
-            // FastAPI 호출
-            ResponseEntity<KeywordSearchResponse> response = restTemplate.postForEntity(
-                    url, entity, KeywordSearchResponse.class);
+        long totalElements = (pageable.getPageNumber() == 0 && !hasNext)
+                ? movieIds.size()
+                : movieKeywordRepository.countMoviesByKeywordIds(keywordIds);
 
-            if (response.getBody() != null && response.getBody().getSuccess()) {
-                List<Integer> keywordIds = response.getBody().getResults().stream()
-                        .map(KeywordSearchResult::getKeywordId)
-                        .collect(Collectors.toList());
+        return new KeywordMoviePage(new ArrayList<>(keywordIds), movieIds, hasNext, totalElements);
+    }
 
-                log.info("FastAPI 키워드 검색 성공: query={}, 결과수={}", query, keywordIds.size());
-                return keywordIds;
-            } else {
-                log.warn("FastAPI 키워드 검색 실패: query={}, response={}", query, response.getBody());
-                return Collections.emptyList();
-            }
+    /**
+     * FastAPI에서 키워드 ID 목록 가져오기
+     * 호출 실패 시 예외를 그대로 던집니다. (호출 측에서 빈 결과로 처리)
+     */
+    private List<Integer> getKeywordIdsFromFastAPI(String query, int topK) {
+        KeywordSearchRequest request = new KeywordSearchRequest(query, topK);
 
-        } catch (Exception e) {
-            log.error("FastAPI 키워드 검색 중 오류 발생: query={}", query, e);
-            // FastAPI 호출 실패 시 빈 목록 반환 (서비스 계속 동작)
-            return Collections.emptyList();
+        log.info("FastAPI 키워드 검색 요청: query={}, topK={}", query, topK);
+
+        // 실패/서킷 OPEN/벌크헤드 초과 시 빈 값 -> 예외로 바꿔 결과가 캐시되지 않도록 함
+        KeywordSearchResponse response = aiApiClient
+                .post(AiApiClient.KEYWORD_SEARCH, "/keywordSearch", request, KeywordSearchResponse.class)
+                .blockOptional()
+                .orElseThrow(() -> new IllegalStateException("FastAPI 키워드 검색 응답 없음: query=" + query));
+
+        if (Boolean.TRUE.equals(response.getSuccess()) && response.getResults() != null) {
+            List<Integer> keywordIds = response.getResults().stream()
+                    .map(KeywordSearchResult::getKeywordId)
+                    .collect(Collectors.toList());
+
+            log.info("FastAPI 키워드 검색 성공: query={}, 결과수={}", query, keywordIds.size());
+            return keywordIds;
+        } else {
+            throw new IllegalStateException("FastAPI 키워드 검색 실패: response=" + response);
         }
     }
 
@@ -314,162 +254,4 @@ public class SearchService {
             return UserSearchResponseDto.empty(query, pageable.getPageNumber(), pageable.getPageSize());
         }
     }
-
-    /**
-     * MySQL 검색 결과를 응답 DTO로 변환 (페이징 처리 포함)
-     */
-    private MovieSearchResponseDto convertMySQLResultToResponse(List<Movie> allMovies, String title, Pageable pageable) {
-        try {
-            // 수동 페이징 처리
-            int start = pageable.getPageNumber() * pageable.getPageSize();
-            int end = Math.min(start + pageable.getPageSize(), allMovies.size());
-
-            if (start >= allMovies.size()) {
-                return MovieSearchResponseDto.empty(title,
-                        pageable.getPageNumber(), pageable.getPageSize());
-            }
-
-            List<Movie> pageMovies = allMovies.subList(start, end);
-            boolean hasNext = end < allMovies.size();
-
-            // Movie -> MovieSearchDto 변환
-            List<MovieSearchDto> movieSearchDtos = pageMovies.stream()
-                    .map(this::convertMovieToSearchDto)
-                    .collect(Collectors.toList());
-
-            return MovieSearchResponseDto.builder()
-                    .movies(movieSearchDtos)
-                    .hasNext(hasNext)
-                    .currentPage(pageable.getPageNumber())
-                    .pageSize(pageable.getPageSize())
-                    .totalElements(allMovies.size())
-                    .searchQuery(title)
-                    .build();
-
-        } catch (Exception e) {
-            log.error("MySQL 검색 결과 변환 중 오류 발생: title='{}'", title, e);
-            return MovieSearchResponseDto.empty(title,
-                    pageable.getPageNumber(), pageable.getPageSize());
-        }
-    }
-
-    /**
-     * MovieDocument를 MovieSearchDto로 변환
-     */
-    private MovieSearchDto convertToMovieSearchDto(MovieDocument document) {
-        try {
-            Integer movieId = document.getMovieId();
-
-            // 1. 기본 MovieSearchDto 생성 (MovieDocument 기반)
-            MovieSearchDto baseDto = MovieSearchDto.fromMovieDocument(document);
-
-            // 2. MySQL에서 추가 정보 조회
-            // 2-1. 장르 정보 조회
-            List<String> genres = movieGenreRepository.findGenreNamesByMovieId(movieId);
-            MovieSearchDto dtoWithGenres = baseDto.withGenres(genres);
-
-            // 2-2. 런타임 정보 조회 (MovieDocument에 runtime이 없을 수 있음)
-            MovieSearchDto dtoWithRuntime = dtoWithGenres;
-            if (dtoWithGenres.getRuntime() == null) {
-                Optional<Movie> movieOpt = movieRepository.findById(movieId);
-                if (movieOpt.isPresent() && movieOpt.get().getRuntime() != null) {
-                    dtoWithRuntime = dtoWithGenres.withRuntime(movieOpt.get().getRuntime());
-                }
-            }
-
-            // 2-3. 우리 서비스 평점 조회
-            MovieSummary summary = movieSummaryRepository.findById(movieId).orElse(null);
-            MovieSearchDto finalDto = dtoWithRuntime;
-            if (summary != null) {
-                finalDto = dtoWithRuntime.withUserRatingAverage(summary.getUserRatingAverage());
-            }
-
-            return finalDto;
-
-        } catch (Exception e) {
-            log.error("MovieDocument 변환 중 오류 발생: movieId={}", document.getMovieId(), e);
-            // 에러 발생 시 기본 정보만으로 DTO 생성
-            return MovieSearchDto.fromMovieDocument(document);
-        }
-    }
-
-    /**
-     * Movie 엔티티를 MovieSearchDto로 변환 (MySQL 기반)
-     */
-    private MovieSearchDto convertMovieToSearchDto(Movie movie) {
-        try {
-            // 장르 정보 조회
-            List<String> genres = movieGenreRepository.findGenreNamesByMovieId(movie.getMovieId());
-
-            // 우리 서비스 평점 조회
-            Double userRatingAverage = 0.0;
-            MovieSummary summary = movieSummaryRepository.findById(movie.getMovieId()).orElse(null);
-            if (summary != null) {
-                userRatingAverage = summary.getUserRatingAverage();
-            }
-
-            // 개봉년도 추출
-            String releaseYear = extractYearFromDate(movie.getReleaseDate());
-
-            return MovieSearchDto.builder()
-                    .movieId(movie.getMovieId())
-                    .title(movie.getTitle())
-                    .posterUrl(movie.getPosterUrl())
-                    .releaseYear(releaseYear)
-                    .genres(genres)
-                    .runtime(movie.getRuntime())
-                    .voteAverage(movie.getVoteAverage())
-                    .userRatingAverage(userRatingAverage)
-                    .build();
-
-        } catch (Exception e) {
-            log.error("Movie 변환 중 오류 발생: movieId={}", movie.getMovieId(), e);
-            // 에러 발생 시 기본 정보만으로 DTO 생성
-            return MovieSearchDto.builder()
-                    .movieId(movie.getMovieId())
-                    .title(movie.getTitle())
-                    .posterUrl(movie.getPosterUrl())
-                    .releaseYear(extractYearFromDate(movie.getReleaseDate()))
-                    .voteAverage(movie.getVoteAverage())
-                    .userRatingAverage(0.0)
-                    .build();
-        }
-    }
-
-    /**
-     * 날짜 문자열에서 년도 추출 (Date 타입 처리)
-     */
-    private String extractYearFromDate(java.sql.Date releaseDate) {
-        if (releaseDate == null) {
-            return "미정";
-        }
-
-        // Date를 String으로 변환 후 년도 추출
-        String dateStr = releaseDate.toString();
-        return extractYearFromDate(dateStr);
-    }
-
-    /**
-     * 날짜 문자열에서 년도 추출
-     */
-    private String extractYearFromDate(String releaseDate) {
-        if (releaseDate == null || releaseDate.trim().isEmpty()) {
-            return "미정";
-        }
-
-        // 이미 년도 형태라면 그대로 반환
-        if (releaseDate.length() == 4 && releaseDate.matches("\\d{4}")) {
-            return releaseDate;
-        }
-
-        // "YYYY-MM-DD" 형태에서 년도 추출
-        if (releaseDate.length() >= 4) {
-            String year = releaseDate.substring(0, 4);
-            if (year.matches("\\d{4}")) {
-                return year;
-            }
-        }
-
-        return "미정";
-    }
-}
\ No newline at end of file
+}
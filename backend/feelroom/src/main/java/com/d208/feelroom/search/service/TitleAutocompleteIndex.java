@@ -0,0 +1,538 @@
+package com.d208.feelroom.search.service;
+
+import com.d208.feelroom.global.config.AsyncConfig;
+import com.d208.feelroom.movie.domain.repository.MovieRepository;
+import com.d208.feelroom.movie.event.MovieCreatedEvent;
+import com.d208.feelroom.search.dto.MovieAutocompleteDto;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 영화 제목 자동완성용 인메모리 인덱스
+ *
+ * 키 입력마다 MySQL/Elasticsearch를 치지 않도록 전체 영화 제목을 메모리에 올려두고 검색합니다.
+ * - 문서 번호(ordinal)는 voteCount 내림차순으로 부여하므로, 오름차순 int 포스팅을 앞에서부터 읽으면 곧 인기순이고 limit개를 채우면 바로 멈출 수 있습니다.
+ * - 한글/혼합 검색어: 정규화한 제목의 음절 unigram/bigram 포스팅 교집합 후 contains로 확인 (부분 일치)
+ * - 라틴 문자 검색어: 정렬된 단어 사전(배열 기반 트라이)에서 단어 접두사 범위를 찾아 후보를 모은 뒤 확인 (단어 접두사 일치)
+ *
+ * 인덱스는 기동 후 비동기로 한 번 빌드하고 매일 새벽 재빌드합니다.
+ * 그 사이 TMDB import로 추가된 영화는 MovieCreatedEvent로 받아 pending 목록에 쌓았다가 다음 재빌드 때 본 인덱스에 합칩니다.
+ * import는 한 노드에서만 실행되므로, 새 제목은 Redis pub/sub(NEW_TITLE_CHANNEL)으로 다른 노드의 pending 목록에도 전파합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TitleAutocompleteIndex implements MessageListener {
+
+    public static final String NEW_TITLE_CHANNEL = "autocomplete:new-title";
+    private static final String UNKNOWN_YEAR = "미정";
+
+    private final MovieRepository movieRepository;
+    private final MeterRegistry meterRegistry;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private volatile boolean ready = false;
+
+    // 마지막 빌드 이후 추가된 영화 (수십~수백 건 수준이라 선형 탐색)
+    private final List<Entry> pending = new CopyOnWriteArrayList<>();
+
+    private Timer suggestTimer;
+
+    @PostConstruct
+    public void register() {
+        suggestTimer = Timer.builder("search.autocomplete.latency")
+                .description("제목 자동완성 인메모리 검색 시간")
+                .register(meterRegistry);
+        Gauge.builder("search.autocomplete.index.size", this, TitleAutocompleteIndex::size)
+                .description("자동완성 인덱스에 올라간 영화 수")
+                .register(meterRegistry);
+        listenerContainer.addMessageListener(this, new ChannelTopic(NEW_TITLE_CHANNEL));
+    }
+
+    /**
+     * 애플리케이션 기동 완료 후 인덱스 빌드 (기동을 막지 않도록 비동기)
+     */
+    @Async(AsyncConfig.DEFAULT_EXECUTOR)
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        rebuild();
+    }
+
+    /**
+     * 매일 새벽 재빌드: voteCount 순위 갱신 및 pending 병합
+     */
+    @Scheduled(cron = "0 30 3 * * *")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * DB에서 제목 목록을 읽어 새 스냅샷을 만든 뒤 한 번에 교체합니다.
+     * 빌드 중에도 기존 스냅샷으로 계속 응답합니다.
+     */
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        try {
+            List<Object[]> rows = movieRepository.findAllTitleEntries();
+            List<Entry> entries = new ArrayList<>(rows.size());
+            for (Object[] row : rows) {
+                if (row[0] == null || row[1] == null) {
+                    continue;
+                }
+                entries.add(Entry.of(
+                        ((Number) row[0]).intValue(),
+                        (String) row[1],
+                        row[2] != null ? row[2].toString() : null, // 드라이버 / 매핑에 따라 String 또는 java.sql.Date
+                        row[3] != null ? ((Number) row[3]).intValue() : 0));
+            }
+
+            Snapshot built = Snapshot.build(entries);
+            snapshot = built;
+            pending.removeIf(entry -> built.contains(entry.movieId));
+            ready = true;
+
+            log.info("제목 자동완성 인덱스 빌드 완료: movies={}, grams={}, words={}, pending={}, elapsed={}ms",
+                    built.size(), built.gramCount(), built.wordCount(), pending.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("제목 자동완성 인덱스 빌드 실패 (기존 인덱스 유지)", e);
+        }
+    }
+
+    /**
+     * 새로 추가된 영화를 pending 목록에 반영하고 다른 노드에도 전파합니다. (커밋 이후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMovieCreated(MovieCreatedEvent event) {
+        if (event.getMovieId() == null || event.getTitle() == null) {
+            return;
+        }
+        NewTitle title = new NewTitle(event.getMovieId(), event.getTitle(), event.getReleaseDate(),
+                event.getVoteCount() != null ? event.getVoteCount() : 0);
+        addPending(title);
+        try {
+            redisTemplate.convertAndSend(NEW_TITLE_CHANNEL, title);
+        } catch (Exception e) {
+            // 전파에 실패해도 다른 노드는 다음 재빌드 때 반영합니다.
+            log.error("제목 자동완성 새 영화 전파 실패: movieId={}", title.movieId(), e);
+        }
+    }
+
+    /**
+     * 다른 노드에서 추가된 영화를 pending 목록에 반영합니다. (발행한 노드 자신도 수신하지만 중복은 무시)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Object payload = redisTemplate.getValueSerializer().deserialize(message.getBody());
+        if (payload instanceof NewTitle title) {
+            addPending(title);
+        }
+    }
+
+    private void addPending(NewTitle title) {
+        synchronized (pending) {
+            if (snapshot.contains(title.movieId()) || pending.stream().anyMatch(entry -> entry.movieId == title.movieId())) {
+                return;
+            }
+            pending.add(Entry.of(title.movieId(), title.title(), title.releaseDate(), title.voteCount()));
+        }
+    }
+
+    /**
+     * 검색어로 시작하거나(라틴 단어 접두사) 검색어를 포함하는(한글 부분 일치) 영화 제목을 voteCount 순으로 반환합니다.
+     * 인덱스가 아직 준비되지 않았으면 빈 목록을 반환합니다.
+     *
+     * @param query 사용자가 입력 중인 검색어
+     * @param limit 최대 결과 수
+     */
+    public List<MovieAutocompleteDto> suggest(String query, int limit) {
+        long start = System.nanoTime();
+        try {
+            String normalized = normalize(query);
+            if (normalized.isEmpty() || limit <= 0) {
+                return Collections.emptyList();
+            }
+
+            Snapshot current = snapshot;
+            List<Entry> matches = current.search(query, normalized, limit);
+
+            if (!pending.isEmpty()) {
+                matches = mergePending(matches, query, normalized, limit);
+            }
+
+            List<MovieAutocompleteDto> result = new ArrayList<>(matches.size());
+            for (Entry entry : matches) {
+                result.add(MovieAutocompleteDto.builder()
+                        .movieId(entry.movieId)
+                        .title(entry.title)
+                        .releaseYear(entry.year > 0 ? String.valueOf(entry.year) : UNKNOWN_YEAR)
+                        .voteCount(entry.voteCount)
+                        .build());
+            }
+            return result;
+        } finally {
+            suggestTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return snapshot.size() + pending.size();
+    }
+
+    private List<Entry> mergePending(List<Entry> matches, String query, String normalized, int limit) {
+        List<Entry> merged = new ArrayList<>(matches);
+        String[] latinTokens = latinQueryTokens(query, normalized);
+        for (Entry entry : pending) {
+            boolean hit = latinTokens != null
+                    ? entry.matchesWordPrefix(latinTokens, normalized)
+                    : entry.normalizedTitle.contains(normalized);
+            if (hit) {
+                merged.add(entry);
+            }
+        }
+        merged.sort(Entry.RANK_ORDER);
+        return merged.size() > limit ? new ArrayList<>(merged.subList(0, limit)) : merged;
+    }
+
+    // ========== 정규화 / 토큰화 ==========
+
+    /**
+     * 소문자화 후 글자/숫자만 남김 ("스파이더맨: 노 웨이 홈" -> "스파이더맨노웨이홈")
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(lower.length());
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 라틴 문자 단어 목록 ("Star Wars: Episode IV" -> [star, wars, episode, iv])
+     */
+    static List<String> latinWords(String text) {
+        List<String> words = new ArrayList<>();
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean wordChar = i < lower.length() && isLatinLetterOrDigit(lower.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                words.add(lower.substring(start, i));
+                start = -1;
+            }
+        }
+        return words;
+    }
+
+    /**
+     * 검색어가 라틴 문자/숫자로만 이루어져 있으면 단어 토큰을, 아니면 null을 반환
+     */
+    private static String[] latinQueryTokens(String query, String normalized) {
+        for (int i = 0; i < normalized.length(); i++) {
+            if (!isLatinLetterOrDigit(normalized.charAt(i))) {
+                return null;
+            }
+        }
+        List<String> tokens = latinWords(query);
+        return tokens.isEmpty() ? null : tokens.toArray(new String[0]);
+    }
+
+    private static boolean isLatinLetterOrDigit(char c) {
+        return c < 0x0250 && Character.isLetterOrDigit(c);
+    }
+
+    // ========== 내부 자료구조 ==========
+
+    /**
+     * 인덱스 한 건 (제목과 정렬 기준만 보관)
+     */
+    /**
+     * 노드 간 전파되는 새 영화 제목 (NEW_TITLE_CHANNEL 메시지)
+     */
+    public record NewTitle(int movieId, String title, String releaseDate, int voteCount) {
+    }
+
+    private static final class Entry {
+
+        static final Comparator<Entry> RANK_ORDER = Comparator
+                .comparingInt((Entry e) -> e.voteCount).reversed()
+                .thenComparingInt(e -> e.movieId);
+
+        final int movieId;
+        final String title;
+        final String normalizedTitle;
+        final short year;
+        final int voteCount;
+
+        private Entry(int movieId, String title, short year, int voteCount) {
+            this.movieId = movieId;
+            this.title = title;
+            this.normalizedTitle = normalize(title);
+            this.year = year;
+            this.voteCount = voteCount;
+        }
+
+        static Entry of(int movieId, String title, String releaseDate, int voteCount) {
+            short year = 0;
+            if (releaseDate != null && releaseDate.length() >= 4) {
+                try {
+                    year = Short.parseShort(releaseDate.substring(0, 4));
+                } catch (NumberFormatException ignored) {
+                    // 잘못된 날짜 형식은 "미정"으로 처리
+                }
+            }
+            return new Entry(movieId, title, year, voteCount);
+        }
+
+        boolean matchesWordPrefix(String[] tokens, String normalizedQuery) {
+            if (!normalizedTitle.contains(normalizedQuery)) {
+                return false;
+            }
+            String longest = longestToken(tokens);
+            for (String word : latinWords(title)) {
+                if (word.startsWith(longest)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static String longestToken(String[] tokens) {
+        String longest = tokens[0];
+        for (String token : tokens) {
+            if (token.length() > longest.length()) {
+                longest = token;
+            }
+        }
+        return longest;
+    }
+
+    /**
+     * 불변 인덱스 스냅샷
+     *
+     * - entries: ordinal 순서(voteCount 내림차순)의 문서 배열
+     * - gramPostings: 음절 unigram(char) / bigram(c1 << 16 | c2) -> 오름차순 ordinal 배열
+     * - words / wordPostings: 정렬된 라틴 단어 사전과 단어별 ordinal 배열
+     * - sortedMovieIds: movieId 포함 여부 확인용
+     */
+    private static final class Snapshot {
+
+        static final Snapshot EMPTY = build(Collections.emptyList());
+
+        private final Entry[] entries;
+        private final Map<Integer, int[]> gramPostings;
+        private final String[] words;
+        private final int[][] wordPostings;
+        private final int[] sortedMovieIds;
+
+        private Snapshot(Entry[] entries, Map<Integer, int[]> gramPostings, String[] words, int[][] wordPostings) {
+            this.entries = entries;
+            this.gramPostings = gramPostings;
+            this.words = words;
+            this.wordPostings = wordPostings;
+            this.sortedMovieIds = new int[entries.length];
+            for (int i = 0; i < entries.length; i++) {
+                sortedMovieIds[i] = entries[i].movieId;
+            }
+            Arrays.sort(sortedMovieIds);
+        }
+
+        static Snapshot build(List<Entry> source) {
+            Entry[] entries = source.toArray(new Entry[0]);
+            Arrays.sort(entries, Entry.RANK_ORDER);
+
+            Map<Integer, IntList> grams = new HashMap<>();
+            Map<String, IntList> wordLists = new HashMap<>();
+
+            for (int ordinal = 0; ordinal < entries.length; ordinal++) {
+                String text = entries[ordinal].normalizedTitle;
+                for (int i = 0; i < text.length(); i++) {
+                    grams.computeIfAbsent(unigram(text.charAt(i)), k -> new IntList()).add(ordinal);
+                    if (i + 1 < text.length()) {
+                        grams.computeIfAbsent(bigram(text.charAt(i), text.charAt(i + 1)), k -> new IntList()).add(ordinal);
+                    }
+                }
+                for (String word : latinWords(entries[ordinal].title)) {
+                    wordLists.computeIfAbsent(word, k -> new IntList()).add(ordinal);
+                }
+            }
+
+            Map<Integer, int[]> gramPostings = new HashMap<>(grams.size() * 4 / 3 + 1);
+            grams.forEach((key, list) -> gramPostings.put(key, list.toArray()));
+
+            String[] words = wordLists.keySet().toArray(new String[0]);
+            Arrays.sort(words);
+            int[][] wordPostings = new int[words.length][];
+            for (int i = 0; i < words.length; i++) {
+                wordPostings[i] = wordLists.get(words[i]).toArray();
+            }
+
+            return new Snapshot(entries, gramPostings, words, wordPostings);
+        }
+
+        List<Entry> search(String query, String normalized, int limit) {
+            if (entries.length == 0) {
+                return Collections.emptyList();
+            }
+            String[] latinTokens = latinQueryTokens(query, normalized);
+            return latinTokens != null
+                    ? searchWordPrefix(latinTokens, normalized, limit)
+                    : searchGrams(normalized, limit);
+        }
+
+        /**
+         * 가장 긴 토큰을 단어 접두사로 사전 범위를 찾고, 후보 중 제목에 검색어 전체가 이어서 나오는 것만 채택
+         */
+        private List<Entry> searchWordPrefix(String[] tokens, String normalized, int limit) {
+            String prefix = longestToken(tokens);
+            int from = lowerBound(words, prefix);
+            BitSet candidates = new BitSet(entries.length);
+            for (int i = from; i < words.length && words[i].startsWith(prefix); i++) {
+                for (int ordinal : wordPostings[i]) {
+                    candidates.set(ordinal);
+                }
+            }
+
+            List<Entry> result = new ArrayList<>(limit);
+            for (int ordinal = candidates.nextSetBit(0); ordinal >= 0 && result.size() < limit;
+                 ordinal = candidates.nextSetBit(ordinal + 1)) {
+                if (entries[ordinal].normalizedTitle.contains(normalized)) {
+                    result.add(entries[ordinal]);
+                }
+            }
+            return result;
+        }
+
+        /**
+         * 한 글자는 unigram 포스팅을 그대로, 두 글자 이상은 bigram 포스팅 교집합 후 contains로 확인
+         */
+        private List<Entry> searchGrams(String normalized, int limit) {
+            List<Entry> result = new ArrayList<>(limit);
+
+            if (normalized.length() == 1) {
+                int[] postings = gramPostings.get(unigram(normalized.charAt(0)));
+                if (postings != null) {
+                    for (int i = 0; i < postings.length && result.size() < limit; i++) {
+                        result.add(entries[postings[i]]);
+                    }
+                }
+                return result;
+            }
+
+            List<int[]> lists = new ArrayList<>(normalized.length() - 1);
+            for (int i = 0; i + 1 < normalized.length(); i++) {
+                int[] postings = gramPostings.get(bigram(normalized.charAt(i), normalized.charAt(i + 1)));
+                if (postings == null) {
+                    return result;
+                }
+                lists.add(postings);
+            }
+            lists.sort(Comparator.comparingInt(postings -> postings.length));
+
+            int[] shortest = lists.get(0);
+            for (int i = 0; i < shortest.length && result.size() < limit; i++) {
+                int ordinal = shortest[i];
+                if (containsAll(lists, ordinal) && entries[ordinal].normalizedTitle.contains(normalized)) {
+                    result.add(entries[ordinal]);
+                }
+            }
+            return result;
+        }
+
+        private static boolean containsAll(List<int[]> lists, int ordinal) {
+            for (int i = 1; i < lists.size(); i++) {
+                if (Arrays.binarySearch(lists.get(i), ordinal) < 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static int lowerBound(String[] sorted, String key) {
+            int index = Arrays.binarySearch(sorted, key);
+            return index >= 0 ? index : -index - 1;
+        }
+
+        private static int unigram(char c) {
+            return c;
+        }
+
+        private static int bigram(char first, char second) {
+            // 정규화된 문자는 0이 아니므로 unigram 키(0~0xFFFF)와 겹치지 않음
+            return (first << 16) | second;
+        }
+
+        boolean contains(int movieId) {
+            return Arrays.binarySearch(sortedMovieIds, movieId) >= 0;
+        }
+
+        int size() {
+            return entries.length;
+        }
+
+        int gramCount() {
+            return gramPostings.size();
+        }
+
+        int wordCount() {
+            return words.length;
+        }
+    }
+
+    /**
+     * 박싱 없는 int 포스팅 빌더 (ordinal을 오름차순으로만 추가하므로 직전 값과 같으면 중복으로 보고 건너뜀)
+     */
+    private static final class IntList {
+
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size > 0 && values[size - 1] == value) {
+                return;
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.d208.feelroom.search.service;
+
+import com.d208.feelroom.movie.domain.repository.MovieRepository;
+import com.d208.feelroom.search.document.MovieDocument;
+import com.d208.feelroom.search.repository.MovieSearchRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 영화 제목 검색 엔진
+ *
+ * 검색어 형태에 따라 인덱스를 탈 수 있는 경로로 라우팅하고, 모든 경로에서 결과를 DB/검색엔진 쪽에서 페이지 크기만큼만 가져옵니다.
+ * - 한 글자: movies.idx_title을 이용한 접두사 검색 (LIKE 'x%', ngram FULLTEXT는 2글자 토큰이라 한 글자는 찾을 수 없음)
+ * - 여러 단어: Elasticsearch nori 분석 검색 (형태소 단위 매칭), 결과가 없으면 FULLTEXT
+ * - 그 외: MySQL FULLTEXT(ngram) 구문 검색, 결과가 없으면 Elasticsearch (nori -> wildcard)
+ *
+ * 결과는 영화 ID 목록(Slice)이며, 카드 정보는 호출 측에서 MovieCardAssembler로 조립합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TitleSearchEngine {
+
+    public enum Route {
+        PREFIX,        // MySQL idx_title 접두사 검색
+        FULLTEXT,      // MySQL FULLTEXT(ngram) 검색
+        ELASTICSEARCH  // Elasticsearch nori / wildcard 검색
+    }
+
+    private final MovieRepository movieRepository;
+    private final MovieSearchRepository movieSearchRepository;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 제목으로 영화 ID를 검색합니다.
+     *
+     * @param title    검색어
+     * @param pageable 페이지 정보
+     * @return 영화 ID Slice (다음 페이지 존재 여부 포함)
+     */
+    public Slice<Integer> search(String title, Pageable pageable) {
+        String normalized = normalize(title);
+        if (normalized.isEmpty()) {
+            return new SliceImpl<>(Collections.emptyList(), pageable, false);
+        }
+
+        Route route = route(normalized);
+        Slice<Integer> result = searchWithTimer(route, normalized, pageable);
+
+        // 첫 페이지 결과가 없을 때만 다른 경로로 한 번 더 시도 (기존 MySQL -> ES 폴백 동작 유지)
+        if (!result.hasContent() && pageable.getPageNumber() == 0) {
+            Route fallback = switch (route) {
+                case ELASTICSEARCH -> Route.FULLTEXT;
+                case FULLTEXT -> Route.ELASTICSEARCH;
+                case PREFIX -> null;
+            };
+            if (fallback != null) {
+                log.info("제목 검색 결과 없음, {} -> {} 폴백: title={}", route, fallback, normalized);
+                result = searchWithTimer(fallback, normalized, pageable);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 검색어 형태로 검색 경로를 결정합니다.
+     */
+    Route route(String normalized) {
+        if (normalized.codePointCount(0, normalized.length()) == 1) {
+            return Route.PREFIX;
+        }
+        if (normalized.indexOf(' ') >= 0) {
+            return Route.ELASTICSEARCH;
+        }
+        return Route.FULLTEXT;
+    }
+
+    private Slice<Integer> searchWithTimer(Route route, String title, Pageable pageable) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return switch (route) {
+                case PREFIX -> toSlice(movieRepository.findMovieIdsByTitlePrefix(
+                        escapeLike(title), pageable.getPageSize() + 1, (int) pageable.getOffset()), pageable);
+                case FULLTEXT -> toSlice(movieRepository.findMovieIdsByTitleFulltext(
+                        toBooleanPhrase(title), pageable.getPageSize() + 1, (int) pageable.getOffset()), pageable);
+                case ELASTICSEARCH -> searchElasticsearch(title, pageable);
+            };
+        } finally {
+            sample.stop(meterRegistry.timer("search.title.latency", "route", route.name()));
+        }
+    }
+
+    private Slice<Integer> searchElasticsearch(String title, Pageable pageable) {
+        try {
+            Page<MovieDocument> page = movieSearchRepository.findByTitleContaining(title, pageable);
+            if (!page.hasContent()) {
+                page = movieSearchRepository.findByTitleWildcard(title, pageable);
+            }
+            List<Integer> movieIds = page.getContent().stream().map(MovieDocument::getMovieId).toList();
+            return new SliceImpl<>(movieIds, pageable, page.hasNext());
+        } catch (Exception e) {
+            // Elasticsearch 장애 시 빈 결과로 처리하여 MySQL 경로로 폴백되도록 함
+            log.error("Elasticsearch 제목 검색 실패: title={}", title, e);
+            return new SliceImpl<>(Collections.emptyList(), pageable, false);
+        }
+    }
+
+    // LIMIT을 페이지 크기 + 1로 조회하여 다음 페이지 존재 여부를 판단
+    private Slice<Integer> toSlice(List<Integer> movieIds, Pageable pageable) {
+        boolean hasNext = movieIds.size() > pageable.getPageSize();
+        List<Integer> content = hasNext ? movieIds.subList(0, pageable.getPageSize()) : movieIds;
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    private String normalize(String title) {
+        return title == null ? "" : title.trim().replaceAll("\\s+", " ");
+    }
+
+    // LIKE 패턴 특수문자 이스케이프 (기본 이스케이프 문자 '\')
+    private String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    // BOOLEAN MODE 구문 검색: 따옴표로 감싸 ngram 토큰이 연속으로 나타나는 제목만 매칭 (부분 문자열 검색과 동일한 의미)
+    private String toBooleanPhrase(String value) {
+        return "\"" + value.replace("\"", " ").trim() + "\"";
+    }
+}
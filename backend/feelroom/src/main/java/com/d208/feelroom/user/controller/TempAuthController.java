@@ -40,7 +40,7 @@ public class TempAuthController {
                 .orElseThrow(() -> new UserNotFoundException(userId));
 
         // 2. 조회된 사용자의 username과 role으로 JWT를 생성합니다.
-        String token = jwtUtil.createAccessToken(user.getUsername(), user.getUserRole());
+        String token = jwtUtil.createAccessToken(user.getUserId(), user.getUsername(), user.getUserRole());
 
         // 3. 생성된 토큰을 200 OK 응답과 함께 반환합니다.
         return ResponseEntity.ok(token);
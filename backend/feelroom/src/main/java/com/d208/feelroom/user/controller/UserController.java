@@ -100,7 +100,8 @@ public class UserController {
 		userService.changeUsername(userDetails.getUser().getUserId(), newUsername);
 
 		// 변경된 사용자 이름으로 새로운 액세스 토큰 생성
-		String newToken = jwtUtil.createAccessToken(newUsername, userDetails.getUser().getUserRole());
+		String newToken = jwtUtil.createAccessToken(userDetails.getUser().getUserId(), newUsername,
+			userDetails.getUser().getUserRole());
 
 		// 기존 토큰을 블랙리스트에 추가
 		authService.logout(currentToken);
@@ -169,13 +170,16 @@ public class UserController {
             @Parameter(description = "페이지 정보 (size, page). 예: ?size=10&page=0")
             Pageable pageable,
 
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략, 지정하면 page는 무시)")
+            @RequestParam(required = false) String cursor,
+
             @Parameter(hidden = true)
             @AuthenticationPrincipal UserDetailsImpl userDetails) {
 
         Long currentUserId = userDetails.getUser().getUserId();
 
         // 새로 만든 서비스 메서드 호출
-        ReviewFeedResponseDto response = reviewService.getLikedReviews(currentUserId, pageable);
+        ReviewFeedResponseDto response = reviewService.getLikedReviews(currentUserId, cursor, pageable);
 
         return ResponseEntity.ok(response);
     }
@@ -225,10 +229,12 @@ public class UserController {
 	@GetMapping("/me/following")
 	public ResponseEntity<FollowListResponseDto> getFollowingList(
 			@Parameter(hidden = true) @AuthenticationPrincipal UserDetailsImpl userDetails,
-			@PageableDefault(size = 20) Pageable pageable) { // Pageable 파라미터 추가
+			@PageableDefault(size = 20) Pageable pageable, // Pageable 파라미터 추가
+			@Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략, 지정하면 page는 무시)")
+			@RequestParam(required = false) String cursor) {
 
 		Long userId = userDetails.getUser().getUserId();
-		FollowListResponseDto responseDto = userService.getFollowingList(userId, pageable);
+		FollowListResponseDto responseDto = userService.getFollowingList(userId, cursor, pageable);
 		return ResponseEntity.ok(responseDto);
 	}
 
@@ -237,10 +243,12 @@ public class UserController {
 	@GetMapping("/me/followers")
 	public ResponseEntity<FollowListResponseDto> getFollowerList(
 			@Parameter(hidden = true) @AuthenticationPrincipal UserDetailsImpl userDetails,
-			@PageableDefault(size = 20) Pageable pageable) { // Pageable 파라미터 추가
+			@PageableDefault(size = 20) Pageable pageable, // Pageable 파라미터 추가
+			@Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략, 지정하면 page는 무시)")
+			@RequestParam(required = false) String cursor) {
 
 		Long userId = userDetails.getUser().getUserId();
-		FollowListResponseDto responseDto = userService.getFollowerList(userId, pageable);
+		FollowListResponseDto responseDto = userService.getFollowerList(userId, cursor, pageable);
 		return ResponseEntity.ok(responseDto);
 	}
 
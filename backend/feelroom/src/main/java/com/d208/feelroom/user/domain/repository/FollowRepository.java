@@ -1,8 +1,10 @@
 package com.d208.feelroom.user.domain.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 
-import com.d208.feelroom.user.domain.entity.User;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -26,13 +28,52 @@ public interface FollowRepository extends JpaRepository<Follow, FollowId> {
 	@Query("SELECT f.followee.userId FROM Follow f WHERE f.follower.userId = :followerId")
 	Set<Long> findFolloweeIdsByFollowerId(@Param("followerId") Long followerId);
 
-	// [수정] 팔로잉 목록 조회 (Slice 반환, Pageable 파라미터 추가)
-	@Query("SELECT f.followee FROM Follow f WHERE f.follower.userId = :followerId ORDER BY f.followedAt DESC")
-	Slice<User> findFolloweesByFollowerId(@Param("followerId") Long followerId, Pageable pageable);
+	/**
+	 * 주어진 사용자들 중 특정 사용자가 팔로우하는 사용자의 ID만 조회합니다. (PK 단건 조회의 묶음)
+	 * 피드 조회 시 전체 팔로잉 목록을 읽지 않고 셀럽 작성자 중 팔로우 중인 사용자만 골라내기 위해 필요합니다.
+	 * @param followerId 현재 사용자의 ID
+	 * @param followeeIds 확인할 사용자 ID 목록
+	 * @return followeeIds 중 팔로우 중인 사용자 ID 목록
+	 */
+	@Query("SELECT f.followee.userId FROM Follow f WHERE f.follower.userId = :followerId AND f.followee.userId IN :followeeIds")
+	List<Long> findFolloweeIdsAmong(@Param("followerId") Long followerId, @Param("followeeIds") Collection<Long> followeeIds);
+
+	/**
+	 * 특정 사용자를 팔로우하는 모든 사용자의 ID를 조회합니다.
+	 * 리뷰 작성 시 팔로워 피드 타임라인에 전파(fan-out)하기 위해 필요합니다.
+	 * @param followeeId 작성자 ID
+	 * @return 팔로워 ID 목록
+	 */
+	@Query("SELECT f.follower.userId FROM Follow f WHERE f.followee.userId = :followeeId")
+	List<Long> findFollowerIdsByFolloweeId(@Param("followeeId") Long followeeId);
+
+	// [수정] 팔로잉 목록 조회 (Slice 반환, 커서 생성을 위해 팔로우 시각과 함께 Follow로 조회)
+	@Query("SELECT f FROM Follow f JOIN FETCH f.followee WHERE f.follower.userId = :followerId " +
+			"ORDER BY f.followedAt DESC, f.followee.userId ASC")
+	Slice<Follow> findFolloweesByFollowerId(@Param("followerId") Long followerId, Pageable pageable);
+
+	// [키셋 페이징] 커서(followedAt, followeeId) 이후의 팔로잉 목록 조회 (idx_follower_followed 범위 스캔)
+	@Query("SELECT f FROM Follow f JOIN FETCH f.followee WHERE f.follower.userId = :followerId " +
+			"AND (f.followedAt < :followedAt OR (f.followedAt = :followedAt AND f.followee.userId > :userId)) " +
+			"ORDER BY f.followedAt DESC, f.followee.userId ASC")
+	Slice<Follow> findFolloweesByFollowerIdAfter(@Param("followerId") Long followerId,
+												 @Param("followedAt") LocalDateTime followedAt,
+												 @Param("userId") Long userId,
+												 Pageable pageable);
+
+	// [수정] 팔로워 목록 조회 (Slice 반환, 커서 생성을 위해 팔로우 시각과 함께 Follow로 조회)
+	@Query("SELECT f FROM Follow f JOIN FETCH f.follower WHERE f.followee.userId = :followeeId " +
+			"ORDER BY f.followedAt DESC, f.follower.userId DESC")
+	Slice<Follow> findFollowersByFolloweeId(@Param("followeeId") Long followeeId, Pageable pageable);
 
-	// [수정] 팔로워 목록 조회 (Slice 반환, Pageable 파라미터 추가)
-	@Query("SELECT f.follower FROM Follow f WHERE f.followee.userId = :followeeId ORDER BY f.followedAt DESC")
-	Slice<User> findFollowersByFolloweeId(@Param("followeeId") Long followeeId, Pageable pageable);
+	// [키셋 페이징] 커서(followedAt, followerId) 이후의 팔로워 목록 조회 (idx_followee_follower 범위 스캔)
+	@Query("SELECT f FROM Follow f JOIN FETCH f.follower WHERE f.followee.userId = :followeeId " +
+			"AND (f.followedAt < :followedAt OR (f.followedAt = :followedAt AND f.follower.userId < :userId)) " +
+			"ORDER BY f.followedAt DESC, f.follower.userId DESC")
+	Slice<Follow> findFollowersByFolloweeIdAfter(@Param("followeeId") Long followeeId,
+												 @Param("followedAt") LocalDateTime followedAt,
+												 @Param("userId") Long userId,
+												 Pageable pageable);
 	/**
 	 * User Activity Badge System
 	 */
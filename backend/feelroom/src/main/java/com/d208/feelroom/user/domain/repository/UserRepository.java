@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -20,6 +21,15 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT u FROM User u LEFT JOIN FETCH u.localAccount WHERE u.username = :username")
     Optional<User> findByUsernameWithLocalAccount(@Param("username") String username);
 
+    /**
+     * 인증 주체 구성에 필요한 최소 정보만 조회합니다. (연관 엔티티 로딩 없이 PK 조회 한 번)
+     * 탈퇴한 사용자는 @SQLRestriction에 의해 조회되지 않습니다.
+     *
+     * @return [0]: username (String), [1]: userRole (UserRole)
+     */
+    @Query("SELECT u.username, u.userRole FROM User u WHERE u.userId = :userId")
+    List<Object[]> findAuthInfoById(@Param("userId") Long userId);
+
     Optional<User> findByEmail(String email);
 
     boolean existsByUsername(String username);
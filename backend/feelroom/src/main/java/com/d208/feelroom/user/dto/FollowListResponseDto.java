@@ -6,9 +6,15 @@ import java.util.List;
 public class FollowListResponseDto {
     private final List<FollowUserDto> users;
     private final boolean hasNext;
+    private final String nextCursor; // 다음 페이지 커서 (마지막 페이지이면 null)
 
     public FollowListResponseDto(List<FollowUserDto> users, boolean hasNext) {
+        this(users, hasNext, null);
+    }
+
+    public FollowListResponseDto(List<FollowUserDto> users, boolean hasNext, String nextCursor) {
         this.users = users;
         this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
     }
 }
\ No newline at end of file
@@ -0,0 +1,8 @@
+package com.d208.feelroom.user.event;
+
+/**
+ * 팔로우/언팔로우가 커밋된 후 피드 타임라인을 보정하기 위한 이벤트
+ *
+ * @param followed true면 팔로우, false면 언팔로우
+ */
+public record FollowChangedEvent(Long followerId, Long followeeId, boolean followed) {}
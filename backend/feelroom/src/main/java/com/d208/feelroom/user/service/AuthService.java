@@ -64,7 +64,8 @@ public class AuthService {
 		UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
 
 		// 4. JWT 생성
-		String accessToken = jwtUtil.createAccessToken(userDetails.getUsername(), userDetails.getUser().getUserRole());
+		String accessToken = jwtUtil.createAccessToken(userDetails.getUser().getUserId(), userDetails.getUsername(),
+				userDetails.getUser().getUserRole());
 
 		// 5. DTO 담아 전송
 		return new LoginResponseDto(accessToken, userDetails.getUser().getUserId());
@@ -74,13 +75,14 @@ public class AuthService {
 //	@Transactional
 	public void logout(String token) {
 		String pureToken = token.replace(JwtUtil.BEARER_PREFIX, "");
-		// 토큰 유효성 검사
-		if (!jwtUtil.validateToken(pureToken)) {
+		// 토큰 유효성 검사 (한 번만 파싱)
+		JwtUtil.TokenVerification verification = jwtUtil.verify(pureToken);
+		if (!verification.isValid()) {
 			throw new IllegalArgumentException("유효하지 않은 토큰입니다.");
 		}
 
 		// 토큰 만료시간과 현재 시간으로 TTL 계산
-		Date expiration = jwtUtil.getExpiration(pureToken);
+		Date expiration = verification.claims().getExpiration();
 		long now = System.currentTimeMillis();
 		long ttl = expiration.getTime() - now; // ttl: time to live
 
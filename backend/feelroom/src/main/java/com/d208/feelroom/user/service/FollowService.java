@@ -1,7 +1,9 @@
 package com.d208.feelroom.user.service;
 
 import com.d208.feelroom.badge.event.EventPublisher;
+import com.d208.feelroom.user.event.FollowChangedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import com.d208.feelroom.user.domain.entity.Follow;
@@ -18,6 +20,7 @@ public class FollowService {
 	private final UserRepository userRepository;
 	private final FollowRepository followRepository;
 	private final EventPublisher eventPublisher;
+	private final ApplicationEventPublisher appEventPublisher;
 
 //	public FollowService(UserRepository userRepository, FollowRepository followRepository) {
 //		this.userRepository = userRepository;
@@ -52,6 +55,8 @@ public class FollowService {
 
 		// == 이벤트 생성 ==
 		eventPublisher.publishFollow(follower, followee);
+		// 팔로잉 피드 타임라인에 상대방의 최근 리뷰 채우기 (커밋 후 비동기)
+		appEventPublisher.publishEvent(new FollowChangedEvent(followerId, followeeId, true));
 	}
 
 	@Transactional
@@ -62,6 +67,8 @@ public class FollowService {
 		}
 
 		followRepository.deleteByFollower_UserIdAndFollowee_UserId(followerId, followeeId);
+		// 팔로잉 피드 타임라인에서 상대방의 리뷰 제거 (커밋 후 비동기)
+		appEventPublisher.publishEvent(new FollowChangedEvent(followerId, followeeId, false));
 	}
 
 }
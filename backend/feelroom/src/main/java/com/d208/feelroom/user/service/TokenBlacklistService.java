@@ -1,31 +1,125 @@
 package com.d208.feelroom.user.service;
 
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import com.d208.feelroom.global.config.AsyncConfig;
+import com.d208.feelroom.global.security.util.TokenDigest;
+import com.d208.feelroom.global.util.BloomFilter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 
+/**
+ * 로그아웃 등으로 무효화된 JWT 블랙리스트
+ *
+ * - Redis 키는 토큰 원문 대신 SHA-256 다이제스트를 씁니다. (blacklist:{Base64URL 43자})
+ * - 요청마다 Redis를 조회하지 않도록 프로세스 내부 Bloom filter를 앞에 둡니다. 필터에 없으면 블랙리스트가 아니며,
+ *   필터가 "있을 수도 있다"고 답할 때만 Redis로 확인합니다. (오탐은 Redis 조회 한 번으로 끝남)
+ * - 등록은 Redis pub/sub(BLACKLIST_CHANNEL)으로 모든 노드의 필터에 전파하고, 기동 시에는 Redis의 블랙리스트 키를 SCAN해서 채웁니다.
+ *   필터를 채우기 전까지는 예전처럼 매 요청 Redis를 확인합니다.
+ * - pub/sub 메시지는 유실될 수 있으므로(재연결 중 구독 끊김, 발행 실패) 필터를 믿지 않는 상태(ready=false)로 되돌려
+ *   Redis 조회로 대체하고, 다시 SCAN해서 채운 뒤에 필터를 사용합니다. 감지하지 못한 유실에 대비해 주기적으로도 다시 SCAN합니다.
+ * - Bloom filter는 삭제가 안 되므로 토큰 최대 수명 주기로 세대를 교체합니다. (현재 + 직전 세대를 함께 확인)
+ */
 //@Slf4j(topic = "TokenBlacklistService")
 @Service
 @RequiredArgsConstructor
-public class TokenBlacklistService {
+public class TokenBlacklistService implements MessageListener, SubscriptionListener {
 
 	private static final Logger log = LoggerFactory.getLogger(TokenBlacklistService.class);
 
+	public static final String BLACKLIST_CHANNEL = "auth:blacklist";
+
 	private final RedisTemplate<String, Object> redisTemplate;
+	private final MeterRegistry meterRegistry;
+	private final RedisMessageListenerContainer listenerContainer;
 	private static final String BLACKLIST_PREFIX = "blacklist:";
+	private static final int DIGEST_KEY_LENGTH = 43; // SHA-256 Base64URL (패딩 없음)
+
+	@Value("${jwt.token.access-expiration-time}")
+	private long generationMillis; // 세대 교체 주기 = 토큰 최대 수명
+
+	@Value("${security.blacklist-filter.expected-insertions:100000}")
+	private long expectedInsertions; // 한 세대(토큰 수명) 동안 예상되는 블랙리스트 등록 수
+
+	@Value("${security.blacklist-filter.false-positive-rate:0.001}")
+	private double falsePositiveRate;
+
+	private volatile BloomFilter current;
+	private volatile BloomFilter previous;
+	private volatile long generationStartedAt;
+	private final Object rotationLock = new Object(); // loadFromRedis(this 모니터)의 SCAN 동안에도 조회 경로의 세대 교체가 막히지 않도록 분리
+	private volatile boolean ready = false; // true일 때만 필터로 Redis 조회를 건너뜀
+	private volatile boolean subscribed = false; // BLACKLIST_CHANNEL 구독 중 여부 (구독 중이 아니면 메시지 유실 가능)
+	private final AtomicLong staleCount = new AtomicLong(); // 메시지 유실 가능성을 감지할 때마다 증가
+
+	private Counter filteredLookups;
+	private Counter redisHits;
+	private Counter redisMisses;
+
+	@PostConstruct
+	public void init() {
+		current = newFilter();
+		previous = newFilter();
+		generationStartedAt = System.currentTimeMillis();
+
+		filteredLookups = lookupCounter("filtered");
+		redisHits = lookupCounter("redis_hit");
+		redisMisses = lookupCounter("redis_miss"); // 필터 오탐 (또는 필터 준비 전 조회)
+
+		listenerContainer.addMessageListener(this, new ChannelTopic(BLACKLIST_CHANNEL));
+	}
 
 	public void blacklistToken(String token, long expirationMillis) {
-		String key = BLACKLIST_PREFIX + token;
-		redisTemplate.opsForValue().set(key, "logout", expirationMillis, TimeUnit.MILLISECONDS);
+		byte[] digest = TokenDigest.sha256(token);
+		String encoded = TokenDigest.encode(digest);
+		redisTemplate.opsForValue().set(BLACKLIST_PREFIX + encoded, "logout", expirationMillis, TimeUnit.MILLISECONDS);
+
+		addLocal(digest);
+		try {
+			redisTemplate.convertAndSend(BLACKLIST_CHANNEL, encoded);
+		} catch (Exception e) {
+			// 다른 노드는 주기적인 재동기화(resync) 전까지 이 토큰을 모를 수 있음
+			// 발행이 실패할 정도의 Redis 장애라면 이 노드의 구독도 메시지를 놓쳤을 수 있으므로 필터를 다시 채움
+			log.error("Failed to publish blacklisted token digest", e);
+			markStale("publish failed");
+		}
 	}
 
 	public boolean isTokenBlacklisted(String token) {
-		String key = BLACKLIST_PREFIX + token;
+		return isTokenBlacklisted(TokenDigest.sha256(token));
+	}
+
+	/**
+	 * 토큰 다이제스트를 이미 계산한 경우(JWT 필터 등) 재사용하는 조회 메서드입니다.
+	 */
+	public boolean isTokenBlacklisted(byte[] digest) {
+		if (ready && !mightContain(digest)) {
+			filteredLookups.increment();
+			return false;
+		}
+
+		String key = BLACKLIST_PREFIX + TokenDigest.encode(digest);
 
 		boolean result = false;
 		try {
@@ -34,6 +128,166 @@ public class TokenBlacklistService {
 			log.error("############# Redis error in hasKey: {}", e.getMessage(), e);
 		}
 
+		(result ? redisHits : redisMisses).increment();
 		return result;
 	}
+
+	/**
+	 * 다른 노드에서 등록한 블랙리스트 다이제스트를 로컬 필터에 반영합니다.
+	 */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		Object payload = redisTemplate.getValueSerializer().deserialize(message.getBody());
+		if (!(payload instanceof String encoded)) {
+			return;
+		}
+		try {
+			addLocal(TokenDigest.decode(encoded));
+		} catch (IllegalArgumentException e) {
+			log.warn("Ignored malformed blacklist message: {}", encoded);
+		}
+	}
+
+	/**
+	 * 리스너 컨테이너가 채널을 (재)구독했을 때 호출됩니다. 끊겨 있던 동안의 메시지는 받을 수 없으므로 다시 SCAN할 때까지 Redis를 확인합니다.
+	 */
+	@Override
+	public void onChannelSubscribed(byte[] channel, long count) {
+		subscribed = true;
+		markStale("channel subscribed");
+	}
+
+	/**
+	 * 구독이 끊기면(연결 끊김, 컨테이너 중지) 그 사이 등록된 토큰을 알 수 없으므로 필터를 믿지 않습니다.
+	 */
+	@Override
+	public void onChannelUnsubscribed(byte[] channel, long count) {
+		subscribed = false;
+		markStale("channel unsubscribed");
+	}
+
+	/**
+	 * 기동 완료 후 Redis의 블랙리스트 키로 필터를 채웁니다. (기동을 막지 않도록 비동기)
+	 */
+	@Async(AsyncConfig.DEFAULT_EXECUTOR)
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		loadFromRedis();
+	}
+
+	/**
+	 * 필터를 믿지 않는 상태(기동 시 Redis 장애, 재구독, 발행 실패)라면 짧은 주기로 다시 채웁니다. (그동안은 매 요청 Redis 확인)
+	 */
+	@Scheduled(fixedDelayString = "${security.blacklist-filter.retry-interval-ms:5000}",
+			initialDelayString = "${security.blacklist-filter.retry-interval-ms:5000}")
+	public void retryWarmUp() {
+		if (!ready) {
+			loadFromRedis();
+		}
+	}
+
+	/**
+	 * 감지하지 못한 메시지 유실에 대비해 주기적으로 Redis의 블랙리스트 키를 다시 필터에 넣습니다.
+	 * (유실된 토큰이 통과될 수 있는 시간의 상한)
+	 */
+	@Scheduled(fixedDelayString = "${security.blacklist-filter.resync-interval-ms:60000}",
+			initialDelayString = "${security.blacklist-filter.resync-interval-ms:60000}")
+	public void resync() {
+		if (ready) {
+			loadFromRedis();
+		}
+	}
+
+	private void markStale(String reason) {
+		staleCount.incrementAndGet();
+		if (ready) {
+			log.warn("Token blacklist filter marked stale ({}), falling back to Redis lookups until resync", reason);
+		}
+		ready = false;
+	}
+
+	private synchronized void loadFromRedis() {
+		long staleCountAtStart = staleCount.get();
+		long start = System.currentTimeMillis();
+		int loaded = 0;
+		ScanOptions options = ScanOptions.scanOptions().match(BLACKLIST_PREFIX + "*").count(1000).build();
+		try (Cursor<String> cursor = redisTemplate.scan(options)) {
+			while (cursor.hasNext()) {
+				String key = cursor.next();
+				String suffix = key.substring(BLACKLIST_PREFIX.length());
+				if (suffix.length() == DIGEST_KEY_LENGTH) {
+					addLocal(TokenDigest.decode(suffix));
+				} else {
+					migrateLegacyKey(key, suffix);
+				}
+				loaded++;
+			}
+			// SCAN 도중 구독이 끊기거나 다시 유실 가능성이 생겼다면(markStale) 이번 결과로는 필터를 믿지 않고 다음 재시도를 기다림
+			// (ready를 먼저 켜고 다시 확인해야 확인 직후의 markStale이 ready=true로 덮어써지지 않음)
+			if (subscribed) {
+				ready = true;
+				if (staleCount.get() != staleCountAtStart) {
+					ready = false;
+				}
+			}
+			log.debug("Token blacklist filter loaded: entries={}, ready={}, elapsed={}ms", loaded, ready,
+					System.currentTimeMillis() - start);
+		} catch (Exception e) {
+			ready = false;
+			log.error("Failed to load token blacklist filter from Redis (falling back to Redis lookups)", e);
+		}
+	}
+
+	/**
+	 * 토큰 원문을 키로 쓰던 예전 블랙리스트 항목을 남은 TTL 그대로 다이제스트 키로 옮깁니다.
+	 * (예전 키는 토큰 만료와 함께 사라지므로 지우지 않음)
+	 */
+	private void migrateLegacyKey(String key, String token) {
+		byte[] digest = TokenDigest.sha256(token);
+		Long remainingMillis = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+		if (remainingMillis != null && remainingMillis > 0) {
+			redisTemplate.opsForValue().set(BLACKLIST_PREFIX + TokenDigest.encode(digest), "logout", remainingMillis,
+					TimeUnit.MILLISECONDS);
+		}
+		addLocal(digest);
+	}
+
+	private void addLocal(byte[] digest) {
+		rotateIfNeeded();
+		current.put(digest);
+	}
+
+	private boolean mightContain(byte[] digest) {
+		rotateIfNeeded();
+		return current.mightContain(digest) || previous.mightContain(digest);
+	}
+
+	// 현재 세대가 토큰 최대 수명만큼 지났으면 직전 세대를 버리고 새 세대를 시작
+	// (세대에 들어간 항목은 최소 한 주기 이상 남으므로, 그 사이 해당 토큰은 이미 만료됨)
+	private void rotateIfNeeded() {
+		long now = System.currentTimeMillis();
+		if (now - generationStartedAt < generationMillis) {
+			return;
+		}
+		synchronized (rotationLock) {
+			long elapsed = now - generationStartedAt;
+			if (elapsed < generationMillis) {
+				return;
+			}
+			previous = elapsed < generationMillis * 2 ? current : newFilter();
+			current = newFilter();
+			generationStartedAt = now;
+		}
+	}
+
+	private BloomFilter newFilter() {
+		return new BloomFilter(expectedInsertions, falsePositiveRate);
+	}
+
+	private Counter lookupCounter(String result) {
+		return Counter.builder("auth.blacklist.lookups")
+				.description("Token blacklist lookups by result")
+				.tag("result", result)
+				.register(meterRegistry);
+	}
 }
@@ -2,11 +2,13 @@ package com.d208.feelroom.user.service;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import com.d208.feelroom.global.infra.S3Service;
 import com.d208.feelroom.user.dto.*;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -14,10 +16,13 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.d208.feelroom.user.domain.entity.Follow;
 import com.d208.feelroom.user.domain.entity.LocalAccount;
 import com.d208.feelroom.user.domain.entity.User;
 import com.d208.feelroom.user.domain.repository.FollowRepository;
 import com.d208.feelroom.user.domain.repository.UserRepository;
+import com.d208.feelroom.global.util.KeysetCursor;
+import com.d208.feelroom.global.security.service.JwtPrincipalCache;
 import com.d208.feelroom.global.util.PasswordValidator;
 
 import lombok.RequiredArgsConstructor;
@@ -29,6 +34,7 @@ public class UserService {
 	private final S3Service s3Service;
 	private final UserRepository userRepository;
 	private final FollowRepository followRepository;
+	private final JwtPrincipalCache jwtPrincipalCache;
 
 	private final PasswordEncoder passwordEncoder;
 
@@ -95,6 +101,7 @@ public class UserService {
 
 		// 변경
 		user.setUsername(newUsername);
+		jwtPrincipalCache.invalidate(userId); // 예전 username으로 발급된 토큰이 캐시된 주체로 통과하지 않도록
 	}
 
 	// 로그인한 사용자의 비밀번호 변경 처리
@@ -173,42 +180,47 @@ public class UserService {
 			.build();
 	}
 
-	// [수정] 팔로잉 목록 조회 (Slice 처리)
-	public FollowListResponseDto getFollowingList(Long userId, Pageable pageable) {
-		// 1. Repository 호출 (Slice<User> 반환)
-		Slice<User> followeeSlice = followRepository.findFolloweesByFollowerId(userId, pageable);
-
-		// 2. Slice<User>를 List<FollowUserDto>로 변환
-		List<FollowUserDto> dtoList = followeeSlice.getContent().stream()
-				.map(followee -> FollowUserDto.builder()
-						.userId(followee.getUserId())
-						.username(followee.getUsername())
-						.nickname(followee.getNickname())
-						.profileImageUrl(followee.getProfileImageUrl())
-						.build())
-				.collect(Collectors.toList());
+	// [수정] 팔로잉 목록 조회 (Slice 처리, cursor가 있으면 키셋 페이징)
+	public FollowListResponseDto getFollowingList(Long userId, String cursor, Pageable pageable) {
+		// 1. Repository 호출 (Slice<Follow> 반환)
+		KeysetCursor keyset = KeysetCursor.parse(cursor);
+		Slice<Follow> followSlice = (keyset == null)
+				? followRepository.findFolloweesByFollowerId(userId, pageable)
+				: followRepository.findFolloweesByFollowerIdAfter(userId, keyset.createdAt(), keyset.longId(),
+						PageRequest.of(0, pageable.getPageSize()));
+
+		// 2. 최종 응답 DTO 생성 (다음 페이지 커서는 팔로우 시각 + 상대방 ID)
+		return toFollowListResponse(followSlice, Follow::getFollowee);
+	}
 
-		// 3. 최종 응답 DTO 생성
-		return new FollowListResponseDto(dtoList, followeeSlice.hasNext());
+	// [수정] 팔로워 목록 조회 (Slice 처리, cursor가 있으면 키셋 페이징)
+	public FollowListResponseDto getFollowerList(Long userId, String cursor, Pageable pageable) {
+		// 1. Repository 호출 (Slice<Follow> 반환)
+		KeysetCursor keyset = KeysetCursor.parse(cursor);
+		Slice<Follow> followSlice = (keyset == null)
+				? followRepository.findFollowersByFolloweeId(userId, pageable)
+				: followRepository.findFollowersByFolloweeIdAfter(userId, keyset.createdAt(), keyset.longId(),
+						PageRequest.of(0, pageable.getPageSize()));
+
+		// 2. 최종 응답 DTO 생성 (다음 페이지 커서는 팔로우 시각 + 상대방 ID)
+		return toFollowListResponse(followSlice, Follow::getFollower);
 	}
 
-	// [수정] 팔로워 목록 조회 (Slice 처리)
-	public FollowListResponseDto getFollowerList(Long userId, Pageable pageable) {
-		// 1. Repository 호출 (Slice<User> 반환)
-		Slice<User> followerSlice = followRepository.findFollowersByFolloweeId(userId, pageable);
-
-		// 2. Slice<User>를 List<FollowUserDto>로 변환
-		List<FollowUserDto> dtoList = followerSlice.getContent().stream()
-				.map(follower -> FollowUserDto.builder()
-						.userId(follower.getUserId())
-						.username(follower.getUsername())
-						.nickname(follower.getNickname())
-						.profileImageUrl(follower.getProfileImageUrl())
+	private FollowListResponseDto toFollowListResponse(Slice<Follow> followSlice, Function<Follow, User> counterpart) {
+		// Slice<Follow>를 List<FollowUserDto>로 변환
+		List<FollowUserDto> dtoList = followSlice.getContent().stream()
+				.map(counterpart)
+				.map(user -> FollowUserDto.builder()
+						.userId(user.getUserId())
+						.username(user.getUsername())
+						.nickname(user.getNickname())
+						.profileImageUrl(user.getProfileImageUrl())
 						.build())
 				.collect(Collectors.toList());
 
-		// 3. 최종 응답 DTO 생성
-		return new FollowListResponseDto(dtoList, followerSlice.hasNext());
+		String nextCursor = KeysetCursor.nextOf(followSlice,
+				follow -> KeysetCursor.of(follow.getFollowedAt(), counterpart.apply(follow).getUserId()));
+		return new FollowListResponseDto(dtoList, followSlice.hasNext(), nextCursor);
 	}
 
 	public void updateUserProfileImageUrl(Long userId, String objectKey) {
@@ -272,6 +284,7 @@ public class UserService {
 		// JPA dirty checking으로 논리적 삭제 및 닉네임 익명화
 		user.setDeletedAt(LocalDateTime.now());
 		user.setNickname("탈퇴한 사용자");
+		jwtPrincipalCache.invalidate(userId); // 남은 토큰으로 더 이상 인증되지 않도록
 
 		log.info("User deactivated and anonymized: userId={}", userId);
 	}
@@ -292,6 +305,8 @@ public class UserService {
 			user.setDescription(description);
 		}
 
+		jwtPrincipalCache.invalidate(userId);
+
 		log.info("Profile updated for user: userId={}, nickname={}, description={}",
 				userId, nickname, description);
 	}
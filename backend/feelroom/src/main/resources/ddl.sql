@@ -41,6 +41,7 @@ CREATE TABLE movies (
 
     -- 인덱스 추가: 영화 검색 및 정렬 효율성
                         INDEX idx_title (title),
+                        FULLTEXT INDEX ft_title (title) WITH PARSER ngram, -- 제목 부분 문자열 검색 (ngram_token_size 기본값 2)
                         INDEX idx_release_date (release_date),
                         INDEX idx_vote_average (vote_average DESC),
                         INDEX idx_tmdb_id (tmdb_id),
@@ -394,6 +395,22 @@ CREATE TABLE user_recommendations (
 
 RENAME TABLE user_recommendations TO user_movie_recommendations;
 
+-- 추천 결과를 JSON 텍스트 대신 압축 바이너리(버전 + varint 개수 + zigzag varint 델타)로 저장
+-- 기존 JSON 값은 바이트 그대로 남으며 애플리케이션에서 이전 형식으로 읽음 (RecommendationIdCodec)
+ALTER TABLE user_movie_recommendations
+    MODIFY recommended_movie_ids VARBINARY(1024) NOT NULL;
+
+-- 키셋(커서) 페이징용 인덱스: 정렬 키 순서대로 범위 스캔 (PK 컬럼이 보조 인덱스 뒤에 붙어 동순위 정렬 키 역할을 함)
+ALTER TABLE review_likes
+    ADD INDEX idx_user_liked_reviews (user_id, created_at DESC); -- 내가 좋아요 한 리뷰 (좋아요 누른 순)
+ALTER TABLE follows
+    ADD INDEX idx_follower_followed (follower_id, followed_at DESC); -- 팔로잉 목록 (최신순)
+
+-- 알림 일괄 기록(NotificationWriter)의 재시도 중복 방지: 같은 멱등 키의 행은 INSERT IGNORE로 무시됨 (기존 행은 NULL)
+ALTER TABLE notifications
+    ADD COLUMN idempotency_key VARCHAR(100) NULL,
+    ADD UNIQUE KEY uk_notification_idempotency (idempotency_key);
+
 -- =================================================================================
 -- 6. 샘플 데이터
 -- =================================================================================
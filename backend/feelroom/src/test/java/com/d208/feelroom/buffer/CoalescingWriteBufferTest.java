@@ -0,0 +1,146 @@
+package com.d208.feelroom.buffer;
+
+import com.d208.feelroom.global.buffer.CoalescingWriteBuffer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CoalescingWriteBufferTest {
+
+    private static final long FLUSH_INTERVAL_MS = 60_000; // 스케줄러가 끼어들지 않도록 길게 두고 flush()를 직접 호출
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<Map<String, long[]>> flushed = new ArrayList<>(); // 실패한 호출 포함 전체 호출
+    private final List<String> writtenKeys = new ArrayList<>(); // 기록에 성공한 키
+    private final Set<String> failingKeys = new HashSet<>();
+    private boolean failAll = false;
+
+    private CoalescingWriteBuffer<String> buffer;
+
+    @AfterEach
+    void tearDown() {
+        failAll = false;
+        failingKeys.clear();
+        buffer.close();
+    }
+
+    @Test
+    @DisplayName("같은 키의 delta를 합산해 한 번에 기록하고, 합이 0인 키는 기록하지 않는다")
+    void flush_CoalescesDeltas() {
+        // given
+        buffer = newBuffer(5);
+        buffer.add("a", 1, 0);
+        buffer.add("a", 1, 1);
+        buffer.add("b", 1, 0);
+        buffer.add("b", -1, 0);
+
+        // when
+        buffer.flush();
+
+        // then
+        assertThat(flushed).hasSize(1);
+        assertThat(flushed.get(0)).containsOnlyKeys("a");
+        assertThat(flushed.get(0).get("a")).containsExactly(2, 1);
+        assertThat(buffer.depth()).isZero();
+    }
+
+    @Test
+    @DisplayName("배치가 실패하면 키별로 다시 기록하여 실패한 키만 버퍼에 남긴다")
+    void flush_BatchFailure_IsolatesFailingKey() {
+        // given
+        buffer = newBuffer(5);
+        failingKeys.add("bad");
+        buffer.add("good1", 1, 0);
+        buffer.add("bad", 1, 0);
+        buffer.add("good2", 0, 1);
+
+        // when
+        buffer.flush();
+
+        // then
+        assertThat(writtenKeys).containsExactlyInAnyOrder("good1", "good2");
+        assertThat(buffer.depth()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("maxAttempts 번 실패한 키는 버리고 나머지 키는 계속 기록된다")
+    void flush_DropsKeyAfterMaxAttempts() {
+        // given
+        buffer = newBuffer(3);
+        failingKeys.add("bad");
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            buffer.add("bad", 1, 0);
+            buffer.add("good" + i, 1, 0);
+            buffer.flush();
+        }
+
+        // then
+        assertThat(buffer.depth()).isZero();
+        assertThat(writtenKeys).containsExactlyInAnyOrder("good0", "good1", "good2");
+        assertThat(meterRegistry.get("write.buffer.dropped.entries").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("한 키도 기록하지 못하면 delta를 보존하고 다음 flush를 미룬다")
+    void flush_AllFail_KeepsDeltasAndBacksOff() {
+        // given
+        buffer = newBuffer(5);
+        failAll = true;
+        for (int i = 0; i < 10; i++) {
+            buffer.add("key" + i, 1, 0);
+        }
+
+        // when
+        buffer.flush();
+        int attemptsAfterFirstFlush = flushed.size();
+        buffer.flush(); // backoff 중이라 시도하지 않음
+
+        // then
+        assertThat(buffer.depth()).isEqualTo(10);
+        assertThat(attemptsAfterFirstFlush).isEqualTo(1 + 3); // 배치 1번 + 연속 실패 3번 후 키별 재기록 중단
+        assertThat(flushed).hasSize(attemptsAfterFirstFlush);
+    }
+
+    @Test
+    @DisplayName("close() 시에는 backoff와 관계없이 남은 delta를 기록한다")
+    void close_FlushesRemaining() {
+        // given
+        buffer = newBuffer(5);
+        failAll = true;
+        buffer.add("a", 1, 0);
+        buffer.flush();
+        failAll = false;
+
+        // when
+        buffer.close();
+
+        // then
+        assertThat(writtenKeys).containsExactly("a");
+        assertThat(buffer.depth()).isZero();
+    }
+
+    private CoalescingWriteBuffer<String> newBuffer(int maxAttempts) {
+        return new CoalescingWriteBuffer<>("test", 2, 4, FLUSH_INTERVAL_MS, 1000, maxAttempts, this::write, meterRegistry);
+    }
+
+    // 호출 기록을 남기고, 실패 대상 키가 있으면 DB 예외처럼 통째로 실패
+    private void write(Map<String, long[]> batch) {
+        flushed.add(new HashMap<>(batch));
+        if (failAll || batch.keySet().stream().anyMatch(failingKeys::contains)) {
+            throw new IllegalStateException("write failed");
+        }
+        writtenKeys.addAll(batch.keySet());
+    }
+}
@@ -2,10 +2,10 @@ package com.d208.feelroom.event.listener;
 
 import com.d208.feelroom.badge.domain.entity.Badge;
 import com.d208.feelroom.notification.domain.entity.Notification;
-import com.d208.feelroom.notification.domain.repository.NotificationRepository;
 import com.d208.feelroom.comment.domain.entity.Comment;
 import com.d208.feelroom.review.domain.entity.Review;
 import com.d208.feelroom.notification.event.listener.NotificationEventListener;
+import com.d208.feelroom.notification.service.NotificationWriter;
 import com.d208.feelroom.user.domain.entity.User;
 import com.d208.feelroom.badge.event.BadgeAchievedEvent;
 import com.d208.feelroom.comment.event.CommentEvent;
@@ -29,7 +29,7 @@ class NotificationEventListenerTest {
     private NotificationEventListener notificationEventListener;
 
     @Mock
-    private NotificationRepository notificationRepository;
+    private NotificationWriter notificationWriter;
 
     // 테스트에 사용할 공용 객체들
     private User sender;
@@ -53,8 +53,8 @@ class NotificationEventListenerTest {
         notificationEventListener.handleFollowEvent(event);
 
         // then
-        // 1. save 메서드가 1번 호출되었는지 검증
-        verify(notificationRepository, times(1)).save(notificationCaptor.capture());
+        // 1. 알림이 1번 기록 대기열에 들어갔는지 검증
+        verify(notificationWriter, times(1)).enqueue(notificationCaptor.capture(), any());
 
         // 2. 저장된 Notification 객체의 내용 검증
         Notification savedNotification = notificationCaptor.getValue();
@@ -78,7 +78,7 @@ class NotificationEventListenerTest {
         notificationEventListener.handleCommentEvent(event);
 
         // then
-        verify(notificationRepository, times(1)).save(notificationCaptor.capture());
+        verify(notificationWriter, times(1)).enqueue(notificationCaptor.capture(), any());
 
         Notification savedNotification = notificationCaptor.getValue();
         assertThat(savedNotification.getType()).isEqualTo("COMMENT");
@@ -103,7 +103,7 @@ class NotificationEventListenerTest {
         notificationEventListener.handleCommentEvent(event);
 
         // then
-        verify(notificationRepository, times(1)).save(notificationCaptor.capture());
+        verify(notificationWriter, times(1)).enqueue(notificationCaptor.capture(), any());
 
         Notification savedNotification = notificationCaptor.getValue();
         assertThat(savedNotification.getType()).isEqualTo("REPLY");
@@ -126,8 +126,8 @@ class NotificationEventListenerTest {
         notificationEventListener.handleCommentEvent(event);
 
         // then
-        // save 메서드가 절대로 호출되지 않았음을 검증
-        verify(notificationRepository, never()).save(any());
+        // 알림이 절대로 기록 대기열에 들어가지 않았음을 검증
+        verify(notificationWriter, never()).enqueue(any(), any());
     }
 
 
@@ -144,7 +144,8 @@ class NotificationEventListenerTest {
         notificationEventListener.handleBadgeAchievedEvent(event);
 
         // then
-        verify(notificationRepository, times(1)).save(notificationCaptor.capture());
+        // 같은 뱃지 알림은 (사용자, 뱃지) 멱등 키로 한 번만 기록됨
+        verify(notificationWriter, times(1)).enqueue(notificationCaptor.capture(), eq("BADGE:2:1"));
 
         Notification savedNotification = notificationCaptor.getValue();
         assertThat(savedNotification.getType()).isEqualTo("BADGE");
@@ -0,0 +1,131 @@
+package com.d208.feelroom.global.infra;
+
+import com.d208.feelroom.global.config.AiClientProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.*;
+
+// EndpointGuard가 패키지 전용이므로 같은 패키지에 둡니다.
+class EndpointGuardTest {
+
+    @Test
+    @DisplayName("연속 실패가 임계치에 도달하면 OPEN이 되어 호출을 거절한다")
+    void onFailure_ReachesThreshold_Opens() {
+        // given
+        EndpointGuard guard = guard(2, 60_000, 10);
+
+        // when
+        guard.onFailure();
+        EndpointGuard.State afterOne = guard.state();
+        guard.onFailure();
+
+        // then
+        assertThat(afterOne).isEqualTo(EndpointGuard.State.CLOSED);
+        assertThat(guard.state()).isEqualTo(EndpointGuard.State.OPEN);
+        assertThat(guard.tryAcquire()).isEqualTo(EndpointGuard.Permit.CIRCUIT_OPEN);
+    }
+
+    @Test
+    @DisplayName("OPEN 시간이 지나면 한 건만 시험 호출로 허가하고, 성공하면 CLOSED로 돌아간다")
+    void halfOpen_ProbeSucceeds_Closes() {
+        // given
+        EndpointGuard guard = guard(1, 0, 10);
+        guard.onFailure();
+
+        // when
+        EndpointGuard.Permit probe = guard.tryAcquire();
+        EndpointGuard.Permit second = guard.tryAcquire();
+        guard.onSuccess();
+        guard.release(probe);
+
+        // then
+        assertThat(probe).isEqualTo(EndpointGuard.Permit.PROBE);
+        assertThat(second).isEqualTo(EndpointGuard.Permit.CIRCUIT_OPEN);
+        assertThat(guard.state()).isEqualTo(EndpointGuard.State.CLOSED);
+        assertThat(guard.tryAcquire()).isEqualTo(EndpointGuard.Permit.ACQUIRED);
+    }
+
+    @Test
+    @DisplayName("시험 호출이 실패하면 다시 OPEN이 된다")
+    void halfOpen_ProbeFails_Reopens() {
+        // given
+        EndpointGuard guard = guard(1, 60_000, 10);
+        guard.onFailure();
+        ReflectionTestUtils.setField(guard, "openedAt", System.currentTimeMillis() - 120_000); // OPEN 시간 경과
+
+        // when
+        EndpointGuard.Permit probe = guard.tryAcquire();
+        guard.onFailure();
+        guard.release(probe);
+
+        // then
+        assertThat(probe).isEqualTo(EndpointGuard.Permit.PROBE);
+        assertThat(guard.state()).isEqualTo(EndpointGuard.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("시험 호출이 결과 없이 취소되어도 다음 시험 호출을 허가한다")
+    void halfOpen_ProbeCancelled_AllowsNextProbe() {
+        // given
+        EndpointGuard guard = guard(1, 0, 10);
+        guard.onFailure();
+        EndpointGuard.Permit probe = guard.tryAcquire();
+
+        // when
+        guard.release(probe);
+
+        // then
+        assertThat(guard.state()).isEqualTo(EndpointGuard.State.HALF_OPEN);
+        assertThat(guard.tryAcquire()).isEqualTo(EndpointGuard.Permit.PROBE);
+    }
+
+    @Test
+    @DisplayName("벌크헤드가 가득 차면 거절하고, 반환되면 다시 허가한다")
+    void bulkhead_Full_RejectsUntilReleased() {
+        // given
+        EndpointGuard guard = guard(5, 60_000, 1);
+        EndpointGuard.Permit first = guard.tryAcquire();
+
+        // when
+        EndpointGuard.Permit rejected = guard.tryAcquire();
+        guard.release(rejected); // 거절된 허가의 반환은 무시
+        guard.release(first);
+
+        // then
+        assertThat(rejected).isEqualTo(EndpointGuard.Permit.BULKHEAD_FULL);
+        assertThat(guard.availablePermits()).isEqualTo(1);
+        assertThat(guard.tryAcquire()).isEqualTo(EndpointGuard.Permit.ACQUIRED);
+    }
+
+    @Test
+    @DisplayName("5xx, 타임아웃, 연결 실패만 서킷 실패로 센다")
+    void isServerFailure_OnlyServerSideErrors() {
+        assertThat(AiApiClient.isServerFailure(
+                WebClientResponseException.create(503, "Service Unavailable", HttpHeaders.EMPTY, new byte[0], null))).isTrue();
+        assertThat(AiApiClient.isServerFailure(new TimeoutException())).isTrue();
+        assertThat(AiApiClient.isServerFailure(new WebClientRequestException(
+                new IOException("Connection refused"), HttpMethod.POST, URI.create("http://ai/api/v1"), HttpHeaders.EMPTY))).isTrue();
+
+        assertThat(AiApiClient.isServerFailure(
+                WebClientResponseException.create(422, "Unprocessable Entity", HttpHeaders.EMPTY, new byte[0], null))).isFalse();
+        assertThat(AiApiClient.isServerFailure(new IllegalStateException("decode"))).isFalse();
+    }
+
+    private static EndpointGuard guard(int failureThreshold, long openDurationMs, int maxConcurrent) {
+        AiClientProperties.Endpoint config = new AiClientProperties.Endpoint();
+        config.setFailureThreshold(failureThreshold);
+        config.setOpenDurationMs(openDurationMs);
+        config.setMaxConcurrent(maxConcurrent);
+        return new EndpointGuard(config);
+    }
+}
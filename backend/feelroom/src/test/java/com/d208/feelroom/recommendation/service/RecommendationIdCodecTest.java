@@ -0,0 +1,70 @@
+package com.d208.feelroom.recommendation.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+// RecommendationIdCodec이 패키지 전용이므로 같은 패키지에 둡니다.
+class RecommendationIdCodecTest {
+
+    @Test
+    @DisplayName("추천 순서 그대로 인코딩/디코딩되며, 이전 ID보다 작은 ID(음수 차이)도 보존한다")
+    void roundTrip_PreservesOrderWithNegativeDeltas() {
+        // given
+        List<Integer> ids = List.of(550, 13, 1_000_000, 680, 680, 1);
+
+        // when
+        byte[] encoded = RecommendationIdCodec.encode(ids);
+
+        // then
+        assertThat(RecommendationIdCodec.decode(encoded)).containsExactlyElementsOf(ids);
+        assertThat(encoded.length).isLessThan("[550,13,1000000,680,680,1]".length());
+    }
+
+    @Test
+    @DisplayName("빈 목록과 빈 값은 빈 목록으로 읽는다")
+    void decode_Empty() {
+        assertThat(RecommendationIdCodec.decode(RecommendationIdCodec.encode(List.of()))).isEmpty();
+        assertThat(RecommendationIdCodec.decode(null)).isEmpty();
+        assertThat(RecommendationIdCodec.decode(new byte[0])).isEmpty();
+    }
+
+    @Test
+    @DisplayName("'['로 시작하는 이전 형식(JSON 배열)도 읽는다")
+    void decode_LegacyJson() {
+        byte[] legacy = "[550, 13, 680]".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(RecommendationIdCodec.decode(legacy)).containsExactly(550, 13, 680);
+        assertThatThrownBy(() -> RecommendationIdCodec.decode("[550, ".getBytes(StandardCharsets.UTF_8)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("잘린 데이터는 IllegalArgumentException으로 알린다")
+    void decode_Truncated_ThrowsIllegalArgument() {
+        byte[] encoded = RecommendationIdCodec.encode(List.of(550, 1_000_000, 13));
+
+        for (int length = 1; length < encoded.length; length++) {
+            byte[] truncated = Arrays.copyOf(encoded, length);
+            assertThatThrownBy(() -> RecommendationIdCodec.decode(truncated))
+                    .as("length=%d", length)
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 버전, 데이터보다 큰 개수, 32비트를 넘는 varint는 IllegalArgumentException으로 알린다")
+    void decode_Corrupted_ThrowsIllegalArgument() {
+        assertThatThrownBy(() -> RecommendationIdCodec.decode(new byte[]{9, 0}))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RecommendationIdCodec.decode(new byte[]{1, 0x7F, 2}))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RecommendationIdCodec.decode(new byte[]{1, 1, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 1}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
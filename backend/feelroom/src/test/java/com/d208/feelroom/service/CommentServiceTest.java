@@ -13,9 +13,14 @@ import com.d208.feelroom.user.domain.repository.UserRepository;
 import com.d208.feelroom.comment.dto.CommentCreateRequestDto;
 import com.d208.feelroom.comment.dto.CommentCreateResponseDto;
 import com.d208.feelroom.comment.dto.CommentMyStatusResponseDto;
+import com.d208.feelroom.comment.dto.CommentNodeDto;
+import com.d208.feelroom.comment.dto.CommentSliceResponseDto;
+import com.d208.feelroom.comment.domain.entity.summary.CommentSummary;
 import com.d208.feelroom.comment.dto.CommentUpdateRequestDto;
 import com.d208.feelroom.comment.exception.CommentAccessDeniedException;
 import com.d208.feelroom.comment.exception.CommentNotFoundException;
+import com.d208.feelroom.global.util.KeysetCursor;
+import com.d208.feelroom.global.util.UuidUtils;
 import com.d208.feelroom.user.exception.UserNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -26,13 +31,24 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -358,4 +374,172 @@ class CommentServiceTest {
             verify(commentLikeRepository, never()).deleteByCommentIdAndUserId(any(), any());
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("리뷰 댓글 목록 조회 테스트")
+    class FindCommentsByReviewTest {
+
+        @Test
+        @DisplayName("성공: 요청 페이지의 최상위 댓글과 대댓글만 조회하고 좋아요 수는 CommentSummary에서 가져옴")
+        void findCommentsByReview_Success() {
+            // given
+            Pageable pageable = PageRequest.of(0, 10);
+            UUID rootId = UUID.randomUUID();
+            UUID replyId = UUID.randomUUID();
+
+            Comment root = Comment.builder().commentId(rootId).user(mockUser).content("부모").build();
+            CommentSummary rootSummary = new CommentSummary(root);
+            rootSummary.reconcile(3);
+            root.setCommentSummary(rootSummary);
+            Comment reply = Comment.builder().commentId(replyId).user(mockUser).parentComment(root).content("자식").build();
+
+            given(commentRepository.findRootCommentsByReviewId(any(), any(Pageable.class)))
+                    .willReturn(new PageImpl<>(List.of(root), pageable, 1));
+            given(commentRepository.findRepliesByParentIds(List.of(rootId))).willReturn(List.of(reply));
+            given(commentLikeRepository.findLikedCommentIdsByUser(any(), anyList())).willReturn(Set.of(replyId));
+
+            // when
+            Page<CommentNodeDto> result = commentService.findCommentsByReview(reviewId, pageable, userId);
+
+            // then
+            assertThat(result.getTotalElements()).isEqualTo(1);
+            CommentNodeDto rootDto = result.getContent().get(0);
+            assertThat(rootDto.getLikeCount()).isEqualTo(3);
+            assertThat(rootDto.isLiked()).isFalse();
+            assertThat(rootDto.getReplies()).hasSize(1);
+            assertThat(rootDto.getReplies().get(0).isLiked()).isTrue();
+            assertThat(rootDto.getReplies().get(0).getLikeCount()).isZero();
+            verify(commentLikeRepository, never()).countByComment_CommentId(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("커서 기반 댓글 조회 테스트")
+    class FindCommentsByReviewCursorTest {
+
+        private final LocalDateTime baseTime = LocalDateTime.of(2025, 7, 1, 12, 0);
+
+        private Comment comment(int minutes, Comment parent) {
+            return Comment.builder()
+                    .commentId(UUID.randomUUID())
+                    .user(mockUser)
+                    .parentComment(parent)
+                    .content("댓글 " + minutes)
+                    .createdAt(baseTime.plusMinutes(minutes))
+                    .build();
+        }
+
+        @Test
+        @DisplayName("성공: 첫 페이지는 커서 없이 조회하고, 대댓글은 미리보기 개수만큼만 담고 더보기 커서를 내려준다")
+        void firstPage_PreviewRepliesAndNextCursor() {
+            // given
+            Comment root1 = comment(0, null);
+            Comment root2 = comment(1, null);
+            List<Comment> replies = List.of(comment(2, root1), comment(3, root1), comment(4, root1), comment(5, root1));
+
+            given(commentRepository.findRootCommentSlice(eq(reviewId), any(Pageable.class)))
+                    .willReturn(new SliceImpl<>(List.of(root1, root2), PageRequest.of(0, 2), true));
+            given(commentRepository.findReplyIdsLimitedPerParent(List.of(root1.getCommentId(), root2.getCommentId()), 4))
+                    .willReturn(replies.stream().map(reply -> UuidUtils.uuidToBytes(reply.getCommentId())).toList());
+            given(commentRepository.findRepliesByIds(anyList())).willReturn(replies);
+
+            // when
+            CommentSliceResponseDto result = commentService.findCommentsByReviewCursor(reviewId, null, 2, null);
+
+            // then
+            assertThat(result.comments()).extracting(CommentNodeDto::getCommentId)
+                    .containsExactly(root1.getCommentId(), root2.getCommentId());
+            assertThat(result.hasNext()).isTrue();
+            assertThat(KeysetCursor.parse(result.nextCursor()))
+                    .isEqualTo(KeysetCursor.of(root2.getCreatedAt(), root2.getCommentId()));
+
+            CommentNodeDto first = result.comments().get(0);
+            assertThat(first.getReplies()).extracting(CommentNodeDto::getCommentId)
+                    .containsExactly(replies.get(0).getCommentId(), replies.get(1).getCommentId(), replies.get(2).getCommentId());
+            assertThat(first.isHasMoreReplies()).isTrue();
+            assertThat(KeysetCursor.parse(first.getNextReplyCursor()))
+                    .isEqualTo(KeysetCursor.of(replies.get(2).getCreatedAt(), replies.get(2).getCommentId()));
+
+            CommentNodeDto second = result.comments().get(1);
+            assertThat(second.getReplies()).isEmpty();
+            assertThat(second.isHasMoreReplies()).isFalse();
+            assertThat(second.getNextReplyCursor()).isNull();
+
+            verify(commentRepository, never()).findRootCommentSliceAfter(any(), any(), any(), any());
+            verifyNoInteractions(commentLikeRepository); // 비로그인 조회는 좋아요 조회 생략
+        }
+
+        @Test
+        @DisplayName("성공: 커서가 있으면 커서의 (createdAt, id) 이후부터 조회한다")
+        void nextPage_UsesCursorKey() {
+            // given
+            Comment last = comment(10, null);
+            String after = KeysetCursor.of(last.getCreatedAt(), last.getCommentId()).encode();
+
+            given(commentRepository.findRootCommentSliceAfter(eq(reviewId), eq(last.getCreatedAt()), eq(last.getCommentId()), any(Pageable.class)))
+                    .willReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 10), false));
+
+            // when
+            CommentSliceResponseDto result = commentService.findCommentsByReviewCursor(reviewId, after, 10, userId);
+
+            // then
+            assertThat(result.comments()).isEmpty();
+            assertThat(result.hasNext()).isFalse();
+            assertThat(result.nextCursor()).isNull();
+            verify(commentRepository, never()).findRootCommentSlice(any(), any());
+            verify(commentRepository, never()).findReplyIdsLimitedPerParent(anyList(), anyInt());
+        }
+
+        @Test
+        @DisplayName("성공: 페이지 크기는 1 ~ 최대값(50) 범위로 제한된다")
+        void pageSize_IsClamped() {
+            // given
+            given(commentRepository.findRootCommentSlice(eq(reviewId), any(Pageable.class)))
+                    .willReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 50), false));
+
+            // when
+            commentService.findCommentsByReviewCursor(reviewId, null, 1000, null);
+            commentService.findCommentsByReviewCursor(reviewId, null, 0, null);
+
+            // then
+            ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+            verify(commentRepository, times(2)).findRootCommentSlice(eq(reviewId), pageableCaptor.capture());
+            assertThat(pageableCaptor.getAllValues()).extracting(Pageable::getPageSize).containsExactly(50, 1);
+        }
+
+        @Test
+        @DisplayName("실패: 형식이 잘못된 커서는 IllegalArgumentException")
+        void malformedCursor_Throws() {
+            // when & then
+            assertThrows(IllegalArgumentException.class,
+                    () -> commentService.findCommentsByReviewCursor(reviewId, "not-a-cursor", 10, null));
+            verifyNoInteractions(commentRepository);
+        }
+
+        @Test
+        @DisplayName("성공: 대댓글 더보기는 미리보기 커서 이후부터 조회하고, 마지막 페이지면 커서가 없다")
+        void replies_AfterPreviewCursor() {
+            // given
+            Comment root = comment(0, null);
+            Comment previewLast = comment(3, root);
+            Comment next1 = comment(4, root);
+            Comment next2 = comment(5, root);
+            String after = KeysetCursor.of(previewLast.getCreatedAt(), previewLast.getCommentId()).encode();
+
+            given(commentRepository.findReplySliceAfter(eq(root.getCommentId()), eq(previewLast.getCreatedAt()), eq(previewLast.getCommentId()), any(Pageable.class)))
+                    .willReturn(new SliceImpl<>(List.of(next1, next2), PageRequest.of(0, 10), false));
+            given(commentLikeRepository.findLikedCommentIdsByUser(userId, List.of(next1.getCommentId(), next2.getCommentId())))
+                    .willReturn(Set.of(next2.getCommentId()));
+
+            // when
+            CommentSliceResponseDto result = commentService.findRepliesByCursor(root.getCommentId(), after, 10, userId);
+
+            // then
+            assertThat(result.comments()).extracting(CommentNodeDto::getCommentId)
+                    .containsExactly(next1.getCommentId(), next2.getCommentId());
+            assertThat(result.comments()).extracting(CommentNodeDto::isLiked).containsExactly(false, true);
+            assertThat(result.hasNext()).isFalse();
+            assertThat(result.nextCursor()).isNull();
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.d208.feelroom.service;
+
+import com.d208.feelroom.global.util.KeysetCursor;
+import com.d208.feelroom.global.util.UuidUtils;
+import com.d208.feelroom.review.domain.repository.ReviewRepository;
+import com.d208.feelroom.review.service.FollowFeedTimeline;
+import com.d208.feelroom.user.domain.repository.FollowRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FollowFeedTimelineTest {
+
+    private static final Long USER_ID = 1L;
+    private static final String KEY = "timeline:1";
+
+    @InjectMocks
+    private FollowFeedTimeline followFeedTimeline;
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Mock
+    private FollowRepository followRepository;
+
+    @Mock
+    private ZSetOperations<String, Object> zSetOperations;
+
+    @Mock
+    private SetOperations<String, Object> setOperations;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(followFeedTimeline, "capacity", 3);
+        ReflectionTestUtils.setField(followFeedTimeline, "ttlDays", 7);
+        when(redisTemplate.hasKey(KEY)).thenReturn(true); // 이미 구성된 타임라인
+        lenient().when(redisTemplate.expire(KEY, Duration.ofDays(7))).thenReturn(true); // 조회 테스트에서만 사용
+        lenient().when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+    }
+
+    @Test
+    @DisplayName("셀럽이 없고 타임라인이 가득 차지 않았으면 Redis만 읽고 팔로우 목록은 조회하지 않는다")
+    void read_NoCelebrities_ReadsOnlyTimeline() {
+        // given
+        UUID newer = UUID.randomUUID();
+        UUID older = UUID.randomUUID();
+        stubTimeline(tuple(newer, 200), tuple(older, 100));
+        when(zSetOperations.zCard(KEY)).thenReturn(2L);
+        when(setOperations.members(FollowFeedTimeline.CELEBRITIES_KEY)).thenReturn(Collections.emptySet());
+
+        // when
+        FollowFeedTimeline.TimelinePage page = followFeedTimeline.read(USER_ID, null, 0, 10);
+
+        // then
+        assertThat(page.reviewIds()).containsExactly(newer, older);
+        assertThat(page.hasNext()).isFalse();
+        verifyNoInteractions(followRepository, reviewRepository);
+    }
+
+    @Test
+    @DisplayName("셀럽이 있으면 셀럽 중 팔로우한 작성자만 조회해 그 리뷰를 병합한다")
+    void read_Celebrities_QueriesOnlyFollowedCelebrities() {
+        // given
+        UUID fannedOut = UUID.randomUUID();
+        UUID celebrityReview = UUID.randomUUID();
+        stubTimeline(tuple(fannedOut, 100));
+        when(zSetOperations.zCard(KEY)).thenReturn(1L);
+        when(setOperations.members(FollowFeedTimeline.CELEBRITIES_KEY)).thenReturn(new LinkedHashSet<>(List.of(100, 200)));
+        when(followRepository.findFolloweeIdsAmong(USER_ID, List.of(100L, 200L))).thenReturn(List.of(100L));
+        when(reviewRepository.findTimelineEntriesByAuthorIds(eq(List.of(100L)), any(), anyInt()))
+                .thenReturn(rows(row(celebrityReview, 300)));
+
+        // when
+        FollowFeedTimeline.TimelinePage page = followFeedTimeline.read(USER_ID, null, 0, 10);
+
+        // then
+        assertThat(page.reviewIds()).containsExactly(celebrityReview, fannedOut);
+        verify(followRepository, never()).findFolloweeIdsByFollowerId(any());
+    }
+
+    @Test
+    @DisplayName("가득 찬 타임라인의 가장 오래된 항목 이후로 넘어가면 DB에서 keyset으로 이어서 읽는다")
+    void read_PastCapacity_FallsBackToDatabase() {
+        // given (capacity 3 → 100 이전 리뷰는 타임라인에서 잘려 나감)
+        UUID r100 = UUID.randomUUID();
+        UUID r90 = UUID.randomUUID();
+        UUID r80 = UUID.randomUUID();
+        UUID r70 = UUID.randomUUID();
+        stubTimeline(tuple(r100, 100)); // 커서(r100) 이하 범위
+        when(zSetOperations.zCard(KEY)).thenReturn(3L);
+        when(zSetOperations.rangeByScoreWithScores(KEY, 1, Double.POSITIVE_INFINITY, 0, 1))
+                .thenReturn(new LinkedHashSet<>(List.of(tuple(r100, 100))));
+        when(followRepository.findFolloweeIdsByFollowerId(USER_ID)).thenReturn(new HashSet<>(Set.of(5L)));
+        when(reviewRepository.findTimelineEntriesByAuthorIds(eq(Set.of(USER_ID, 5L)), eq(toLocalDateTime(101)), anyInt()))
+                .thenReturn(rows(row(r100, 100), row(r90, 90), row(r80, 80), row(r70, 70)));
+        when(setOperations.members(FollowFeedTimeline.CELEBRITIES_KEY)).thenReturn(Collections.emptySet());
+        KeysetCursor cursor = KeysetCursor.of(toLocalDateTime(100), r100);
+
+        // when
+        FollowFeedTimeline.TimelinePage page = followFeedTimeline.read(USER_ID, cursor, 0, 2);
+
+        // then
+        assertThat(page.reviewIds()).containsExactly(r90, r80);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.nextCursor().uuidId()).isEqualTo(r80);
+    }
+
+    @Test
+    @DisplayName("가득 차지 않은 타임라인을 끝까지 읽으면 DB를 조회하지 않고 마지막 페이지로 응답한다")
+    void read_EndOfUntruncatedTimeline_LastPage() {
+        // given
+        UUID only = UUID.randomUUID();
+        stubTimeline(tuple(only, 100));
+        when(zSetOperations.zCard(KEY)).thenReturn(2L); // 표식 + 1건
+        when(setOperations.members(FollowFeedTimeline.CELEBRITIES_KEY)).thenReturn(Collections.emptySet());
+
+        // when
+        FollowFeedTimeline.TimelinePage page = followFeedTimeline.read(USER_ID, null, 0, 2);
+
+        // then
+        assertThat(page.reviewIds()).containsExactly(only);
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+        verifyNoInteractions(reviewRepository);
+    }
+
+    @Test
+    @DisplayName("백필 후에도 팔로우 중이면 추가한 리뷰를 그대로 둔다")
+    void backfill_StillFollowing_KeepsEntries() {
+        // given
+        UUID review = UUID.randomUUID();
+        when(reviewRepository.findTimelineEntriesByAuthorIds(eq(List.of(5L)), any(), anyInt())).thenReturn(rows(row(review, 100)));
+        when(followRepository.existsByFollower_UserIdAndFollowee_UserId(USER_ID, 5L)).thenReturn(true);
+
+        // when
+        followFeedTimeline.backfill(USER_ID, 5L);
+
+        // then
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(KEY)), any(Object[].class));
+        verify(zSetOperations, never()).remove(anyString(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("백필하는 사이 언팔로우가 먼저 처리되었으면 추가한 리뷰를 되돌린다")
+    void backfill_UnfollowedMeanwhile_RevertsEntries() {
+        // given
+        UUID review = UUID.randomUUID();
+        when(reviewRepository.findTimelineEntriesByAuthorIds(eq(List.of(5L)), any(), anyInt())).thenReturn(rows(row(review, 100)));
+        when(followRepository.existsByFollower_UserIdAndFollowee_UserId(USER_ID, 5L)).thenReturn(true, false);
+
+        // when
+        followFeedTimeline.backfill(USER_ID, 5L);
+
+        // then
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(KEY)), any(Object[].class));
+        verify(zSetOperations).remove(KEY, review.toString());
+    }
+
+    @Test
+    @DisplayName("이미 언팔로우된 작성자는 백필하지 않는다")
+    void backfill_AlreadyUnfollowed_Skips() {
+        // given
+        when(reviewRepository.findTimelineEntriesByAuthorIds(eq(List.of(5L)), any(), anyInt()))
+                .thenReturn(rows(row(UUID.randomUUID(), 100)));
+        when(followRepository.existsByFollower_UserIdAndFollowee_UserId(USER_ID, 5L)).thenReturn(false);
+
+        // when
+        followFeedTimeline.backfill(USER_ID, 5L);
+
+        // then
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @SafeVarargs
+    private void stubTimeline(ZSetOperations.TypedTuple<Object>... tuples) {
+        when(zSetOperations.reverseRangeByScoreWithScores(eq(KEY), anyDouble(), anyDouble(), anyLong(), anyLong()))
+                .thenReturn(new LinkedHashSet<>(List.of(tuples)));
+    }
+
+    private static ZSetOperations.TypedTuple<Object> tuple(UUID reviewId, long millis) {
+        return new DefaultTypedTuple<>(reviewId.toString(), (double) millis);
+    }
+
+    private static Object[] row(UUID reviewId, long millis) {
+        return new Object[]{UuidUtils.uuidToBytes(reviewId), new Timestamp(millis)};
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return List.of(rows);
+    }
+
+    private static LocalDateTime toLocalDateTime(long millis) {
+        return new Timestamp(millis).toLocalDateTime();
+    }
+}
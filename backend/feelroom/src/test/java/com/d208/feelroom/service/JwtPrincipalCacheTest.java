@@ -0,0 +1,170 @@
+package com.d208.feelroom.service;
+
+import com.d208.feelroom.global.security.dto.UserDetailsImpl;
+import com.d208.feelroom.global.security.service.JwtPrincipalCache;
+import com.d208.feelroom.user.domain.UserRole;
+import com.d208.feelroom.user.domain.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtPrincipalCacheTest {
+
+    private static final Long USER_ID = 7L;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private JwtPrincipalCache createCache(boolean enabled, long ttlMs) {
+        JwtPrincipalCache principalCache = new JwtPrincipalCache(userRepository, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(principalCache, "enabled", enabled);
+        ReflectionTestUtils.setField(principalCache, "maxSize", 100L);
+        ReflectionTestUtils.setField(principalCache, "ttlMs", ttlMs);
+        principalCache.init();
+        return principalCache;
+    }
+
+    private void givenAccount(String username, UserRole role) {
+        when(userRepository.findAuthInfoById(USER_ID)).thenReturn(List.<Object[]>of(new Object[]{username, role}));
+    }
+
+    @Test
+    @DisplayName("캐시 미스일 때만 DB를 조회하고, 이후 같은 사용자의 요청은 캐시에서 주체를 반환한다")
+    void resolve_CachesPrincipal() {
+        // given
+        JwtPrincipalCache principalCache = createCache(true, 60_000);
+        givenAccount("alice", UserRole.ADMIN);
+
+        // when
+        Optional<UserDetailsImpl> first = principalCache.resolve(USER_ID, "alice", UserRole.USER);
+        Optional<UserDetailsImpl> second = principalCache.resolve(USER_ID, "alice", UserRole.USER);
+
+        // then
+        verify(userRepository, times(1)).findAuthInfoById(USER_ID);
+        assertThat(first).isPresent();
+        assertThat(second).containsSame(first.get());
+        assertThat(first.get().getUser().getUserId()).isEqualTo(USER_ID);
+        assertThat(first.get().getUser().getUserRole()).isEqualTo(UserRole.ADMIN); // 권한은 토큰이 아닌 DB 값 사용
+    }
+
+    @Test
+    @DisplayName("토큰의 username이 현재 계정과 다르면(username 변경 이전 토큰) 주체를 반환하지 않는다")
+    void resolve_UsernameMismatch_Empty() {
+        // given
+        JwtPrincipalCache principalCache = createCache(true, 60_000);
+        givenAccount("alice-new", UserRole.USER);
+
+        // when & then
+        assertThat(principalCache.resolve(USER_ID, "alice", UserRole.USER)).isEmpty();
+        assertThat(principalCache.resolve(USER_ID, "alice-new", UserRole.USER)).isPresent();
+        verify(userRepository, times(1)).findAuthInfoById(USER_ID);
+    }
+
+    @Test
+    @DisplayName("탈퇴(조회되지 않는) 사용자도 empty로 캐시하여 남은 토큰이 매 요청 DB를 조회하지 않는다")
+    void resolve_MissingUser_NegativeCached() {
+        // given
+        JwtPrincipalCache principalCache = createCache(true, 60_000);
+        when(userRepository.findAuthInfoById(USER_ID)).thenReturn(List.of());
+
+        // when
+        Optional<UserDetailsImpl> first = principalCache.resolve(USER_ID, "alice", UserRole.USER);
+        Optional<UserDetailsImpl> second = principalCache.resolve(USER_ID, "alice", UserRole.USER);
+
+        // then
+        assertThat(first).isEmpty();
+        assertThat(second).isEmpty();
+        verify(userRepository, times(1)).findAuthInfoById(USER_ID);
+    }
+
+    @Test
+    @DisplayName("TTL이 지나면 DB를 다시 조회하여 다른 노드의 변경(탈퇴 등)을 반영한다")
+    void resolve_AfterTtl_Reloads() throws InterruptedException {
+        // given
+        JwtPrincipalCache principalCache = createCache(true, 1);
+        when(userRepository.findAuthInfoById(USER_ID))
+                .thenReturn(List.<Object[]>of(new Object[]{"alice", UserRole.USER}))
+                .thenReturn(List.of());
+
+        // when
+        Optional<UserDetailsImpl> beforeExpiry = principalCache.resolve(USER_ID, "alice", UserRole.USER);
+        Thread.sleep(20);
+        Optional<UserDetailsImpl> afterExpiry = principalCache.resolve(USER_ID, "alice", UserRole.USER);
+
+        // then
+        assertThat(beforeExpiry).isPresent();
+        assertThat(afterExpiry).isEmpty();
+        verify(userRepository, times(2)).findAuthInfoById(USER_ID);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 무효화하면 즉시 캐시에서 제거된다")
+    void invalidate_OutsideTransaction_Immediate() {
+        // given
+        JwtPrincipalCache principalCache = createCache(true, 60_000);
+        givenAccount("alice", UserRole.USER);
+        principalCache.resolve(USER_ID, "alice", UserRole.USER);
+
+        // when
+        principalCache.invalidate(USER_ID);
+        principalCache.resolve(USER_ID, "alice", UserRole.USER);
+
+        // then
+        verify(userRepository, times(2)).findAuthInfoById(USER_ID);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 무효화하면 커밋 이후에 제거된다")
+    void invalidate_InsideTransaction_AfterCommit() {
+        // given
+        JwtPrincipalCache principalCache = createCache(true, 60_000);
+        givenAccount("alice", UserRole.USER);
+        principalCache.resolve(USER_ID, "alice", UserRole.USER);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            principalCache.invalidate(USER_ID);
+            principalCache.resolve(USER_ID, "alice", UserRole.USER); // 커밋 전: 아직 캐시됨
+
+            // then
+            verify(userRepository, times(1)).findAuthInfoById(USER_ID);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        principalCache.resolve(USER_ID, "alice", UserRole.USER);
+        verify(userRepository, times(2)).findAuthInfoById(USER_ID);
+    }
+
+    @Test
+    @DisplayName("비활성화하면 DB를 조회하지 않고 Claim만으로 주체를 만든다")
+    void resolve_Disabled_UsesClaims() {
+        // given
+        JwtPrincipalCache principalCache = createCache(false, 60_000);
+
+        // when
+        Optional<UserDetailsImpl> principal = principalCache.resolve(USER_ID, "alice", UserRole.USER);
+
+        // then
+        assertThat(principal).isPresent();
+        assertThat(principal.get().getUsername()).isEqualTo("alice");
+        assertThat(principal.get().getUser().getUserRole()).isEqualTo(UserRole.USER);
+        verifyNoInteractions(userRepository);
+    }
+}
@@ -0,0 +1,158 @@
+package com.d208.feelroom.service;
+
+import com.d208.feelroom.movie.domain.entity.Movie;
+import com.d208.feelroom.movie.domain.entity.summary.MovieSummary;
+import com.d208.feelroom.movie.domain.repository.MovieGenreRepository;
+import com.d208.feelroom.movie.domain.repository.MovieRepository;
+import com.d208.feelroom.movie.domain.repository.MovieSummaryRepository;
+import com.d208.feelroom.movie.dto.MovieCardDto;
+import com.d208.feelroom.movie.event.MovieChangedEvent;
+import com.d208.feelroom.movie.service.MovieCardAssembler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MovieCardAssemblerTest {
+
+    @Mock
+    private MovieRepository movieRepository;
+
+    @Mock
+    private MovieGenreRepository movieGenreRepository;
+
+    @Mock
+    private MovieSummaryRepository movieSummaryRepository;
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private MovieCardAssembler movieCardAssembler;
+
+    private final Movie movie1 = Movie.builder().movieId(1).title("영화1").build();
+    private final Movie movie3 = Movie.builder().movieId(3).title("영화3").build();
+
+    @BeforeEach
+    void setUp() {
+        movieCardAssembler = new MovieCardAssembler(movieRepository, movieGenreRepository, movieSummaryRepository,
+                new SimpleMeterRegistry(), redisTemplate, listenerContainer);
+        ReflectionTestUtils.setField(movieCardAssembler, "cacheMaxSize", 100L);
+        ReflectionTestUtils.setField(movieCardAssembler, "genreTtlMs", 600000L);
+        ReflectionTestUtils.setField(movieCardAssembler, "ratingTtlMs", 60000L);
+        movieCardAssembler.init();
+    }
+
+    @Test
+    @DisplayName("요청한 ID 순서와 중복을 유지하고, DB에 없는 영화는 제외하며, 관계별로 한 번씩만 조회한다")
+    void assemble_KeepsOrderAndDuplicates_SkipsMissing() {
+        // given
+        when(movieRepository.findAllById(Set.of(3, 1, 99))).thenReturn(List.of(movie1, movie3));
+        when(movieGenreRepository.findGenreNamesByMovieIds(any())).thenReturn(List.of(
+                new Object[]{3, "드라마"}, new Object[]{1, "액션"}, new Object[]{3, "코미디"}));
+        MovieSummary summary = MovieSummary.builder().movie(movie3).build();
+        summary.updateReviewSummary(9, 2);
+        when(movieSummaryRepository.findAllById(any())).thenReturn(List.of(summary));
+
+        // when
+        List<MovieCardDto> cards = movieCardAssembler.assemble(List.of(3, 1, 3, 99));
+
+        // then
+        assertThat(cards).extracting(MovieCardDto::getMovieId).containsExactly(3, 1, 3);
+        assertThat(cards.get(0).getGenres()).containsExactly("드라마", "코미디");
+        assertThat(cards.get(0).getUserRatingAverage()).isEqualTo(4.5);
+        assertThat(cards.get(1).getGenres()).containsExactly("액션");
+        assertThat(cards.get(1).getUserRatingAverage()).isEqualTo(0.0); // 요약이 없는 영화
+        verify(movieGenreRepository, times(1)).findGenreNamesByMovieIds(any());
+        verify(movieSummaryRepository, times(1)).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("한 번 조립한 영화의 장르와 평점은 캐시에서 읽는다")
+    void assemble_SecondCall_UsesCache() {
+        // given
+        when(movieRepository.findAllById(Set.of(1))).thenReturn(List.of(movie1));
+        when(movieGenreRepository.findGenreNamesByMovieIds(List.of(1))).thenReturn(List.<Object[]>of(new Object[]{1, "액션"}));
+        when(movieSummaryRepository.findAllById(List.of(1))).thenReturn(List.of());
+
+        // when
+        movieCardAssembler.assemble(List.of(1));
+        List<MovieCardDto> cards = movieCardAssembler.assemble(List.of(1));
+
+        // then
+        assertThat(cards.get(0).getGenres()).containsExactly("액션");
+        verify(movieGenreRepository, times(1)).findGenreNamesByMovieIds(any());
+        verify(movieSummaryRepository, times(1)).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("메타데이터가 바뀌면 장르 캐시를 비우고 다른 노드에 무효화 메시지를 발행한다")
+    void handleMovieChanged_MetadataChanged_InvalidatesAndPublishes() {
+        // given
+        when(movieRepository.findAllById(Set.of(1))).thenReturn(List.of(movie1));
+        when(movieGenreRepository.findGenreNamesByMovieIds(List.of(1)))
+                .thenReturn(List.<Object[]>of(new Object[]{1, "액션"}))
+                .thenReturn(List.<Object[]>of(new Object[]{1, "스릴러"}));
+        when(movieSummaryRepository.findAllById(List.of(1))).thenReturn(List.of());
+        movieCardAssembler.assemble(List.of(1));
+
+        // when
+        movieCardAssembler.handleMovieChanged(new MovieChangedEvent(1, MovieChangedEvent.ChangeType.METADATA_CHANGED));
+        List<MovieCardDto> cards = movieCardAssembler.assemble(List.of(1));
+
+        // then
+        verify(redisTemplate).convertAndSend(MovieCardAssembler.GENRE_INVALIDATION_CHANNEL, 1);
+        assertThat(cards.get(0).getGenres()).containsExactly("스릴러");
+    }
+
+    @Test
+    @DisplayName("다른 노드가 발행한 무효화 메시지를 받으면 이 노드의 장르 캐시에서 제거한다")
+    void onMessage_InvalidatesLocalGenreCache() {
+        // given
+        GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer();
+        doReturn(serializer).when(redisTemplate).getValueSerializer();
+        when(movieRepository.findAllById(Set.of(1))).thenReturn(List.of(movie1));
+        when(movieGenreRepository.findGenreNamesByMovieIds(List.of(1)))
+                .thenReturn(List.<Object[]>of(new Object[]{1, "액션"}))
+                .thenReturn(List.<Object[]>of(new Object[]{1, "스릴러"}));
+        when(movieSummaryRepository.findAllById(List.of(1))).thenReturn(List.of());
+        movieCardAssembler.assemble(List.of(1));
+
+        // when
+        movieCardAssembler.onMessage(new DefaultMessage(
+                MovieCardAssembler.GENRE_INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8), serializer.serialize(1)), null);
+        List<MovieCardDto> cards = movieCardAssembler.assemble(List.of(1));
+
+        // then
+        assertThat(cards.get(0).getGenres()).containsExactly("스릴러");
+    }
+
+    @Test
+    @DisplayName("영화 정보만 바뀐 경우에는 장르 캐시를 유지하고 발행하지 않는다")
+    void handleMovieChanged_MovieUpdated_Ignored() {
+        // when
+        movieCardAssembler.handleMovieChanged(new MovieChangedEvent(1, MovieChangedEvent.ChangeType.MOVIE_UPDATED));
+
+        // then
+        verifyNoInteractions(redisTemplate);
+    }
+}
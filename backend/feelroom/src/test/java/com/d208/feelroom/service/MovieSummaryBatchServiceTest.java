@@ -0,0 +1,110 @@
+package com.d208.feelroom.service;
+
+import com.d208.feelroom.movie.domain.repository.MovieRepository;
+import com.d208.feelroom.movie.domain.repository.MovieSummaryRepository;
+import com.d208.feelroom.movie.service.summary.MovieSummaryBatchService;
+import com.d208.feelroom.review.domain.repository.ReviewRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MovieSummaryBatchServiceTest {
+
+    @Mock
+    private MovieRepository movieRepository;
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Mock
+    private MovieSummaryRepository movieSummaryRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MovieSummaryBatchService movieSummaryBatchService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        movieSummaryBatchService = new MovieSummaryBatchService(
+                movieRepository, reviewRepository, movieSummaryRepository, meterRegistry);
+        movieSummaryBatchService.registerMetrics();
+        ReflectionTestUtils.setField(movieSummaryBatchService, "chunkSize", 2);
+    }
+
+    // [0]: movie_id, [1]: 현재 review_count, [2]: 실제 review_count, [3]: 현재 rating_sum, [4]: 실제 rating_sum
+    private static Object[] row(int movieId, long count, long actualCount, long sum, long actualSum) {
+        return new Object[]{movieId, count, actualCount, sum, actualSum};
+    }
+
+    @Test
+    @DisplayName("어긋난 영화가 없으면 보정 UPDATE를 실행하지 않는다")
+    void sync_NoDrift_SkipsReconcile() {
+        // given
+        when(movieSummaryRepository.findDriftedMovieSummaries()).thenReturn(List.of());
+
+        // when
+        movieSummaryBatchService.syncExistingMovieSummaries();
+
+        // then
+        verify(movieSummaryRepository, never()).reconcileMovieSummaries(anyList());
+        assertThat(meterRegistry.get("movie.summary.sync.drifted.movies").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("어긋난 영화를 chunkSize개씩 나눠 보정하고 drift 규모를 메트릭에 기록한다")
+    void sync_Drift_ReconcilesInChunks() {
+        // given
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(row(1, 3, 5, 12, 20));   // count +2, sum +8
+        rows.add(row(2, 4, 1, 16, 4));    // count -3, sum -12
+        rows.add(row(3, 1, 0, 5, 0));     // count -1, sum -5
+        when(movieSummaryRepository.findDriftedMovieSummaries()).thenReturn(rows);
+        when(movieSummaryRepository.reconcileMovieSummaries(anyList()))
+                .thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+
+        // when
+        movieSummaryBatchService.syncExistingMovieSummaries();
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Integer>> captor = ArgumentCaptor.forClass(List.class);
+        verify(movieSummaryRepository, times(2)).reconcileMovieSummaries(captor.capture());
+        assertThat(captor.getAllValues()).containsExactly(List.of(1, 2), List.of(3));
+
+        assertThat(meterRegistry.get("movie.summary.sync.drifted.movies").gauge().value()).isEqualTo(3);
+        assertThat(meterRegistry.get("movie.summary.sync.drift.review.count").gauge().value()).isEqualTo(6);
+        assertThat(meterRegistry.get("movie.summary.sync.drift.rating.sum").gauge().value()).isEqualTo(25);
+        assertThat(meterRegistry.get("movie.summary.sync.corrected").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("chunkSize 이하의 drift는 UPDATE 한 번으로 보정한다")
+    void sync_SmallDrift_SingleStatement() {
+        // given
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(row(7, 2, 3, 8, 13));
+        when(movieSummaryRepository.findDriftedMovieSummaries()).thenReturn(rows);
+        when(movieSummaryRepository.reconcileMovieSummaries(List.of(7))).thenReturn(1);
+
+        // when
+        movieSummaryBatchService.syncExistingMovieSummaries();
+
+        // then
+        verify(movieSummaryRepository, times(1)).reconcileMovieSummaries(anyList());
+        assertThat(meterRegistry.get("movie.summary.sync.corrected").counter().count()).isEqualTo(1);
+    }
+}
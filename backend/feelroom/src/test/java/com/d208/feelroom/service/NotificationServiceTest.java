@@ -5,6 +5,7 @@ import com.d208.feelroom.notification.dto.NotificationResponseDto;
 import com.d208.feelroom.notification.dto.NotificationSliceResponseDto;
 import com.d208.feelroom.notification.dto.UnreadNotificationStatusDto;
 import com.d208.feelroom.notification.service.NotificationService;
+import com.d208.feelroom.notification.service.UnreadNotificationCounter;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -33,19 +34,23 @@ class NotificationServiceTest {
     @Mock // 가짜 객체(Mock)로 만들 의존성
     private NotificationRepository notificationRepository;
 
+    @Mock
+    private UnreadNotificationCounter unreadNotificationCounter;
+
     @Test
     @DisplayName("안 읽은 알림 존재 여부 확인 -존재할 경우")
     void checkForUnreadNotifications_Exists() {
         // given (주어진 상황)
         Long userId = 1L;
-        // notificationRepository.existsByReceiver_IdAndIsRead(...)가 호출되면 true를 반환하도록 설정
-        when(notificationRepository.existsByReceiver_UserIdAndIsRead(userId, 'N')).thenReturn(true);
+        // unreadNotificationCounter.get(...)이 호출되면 3을 반환하도록 설정
+        when(unreadNotificationCounter.get(userId)).thenReturn(3L);
 
         // when (테스트할 행동 실행)
         UnreadNotificationStatusDto result = notificationService.checkForUnreadNotifications(userId);
 
         // then (결과 검증)
         assertThat(result.exists()).isTrue();
+        assertThat(result.unreadCount()).isEqualTo(3L);
     }
 
     @Test
@@ -53,13 +58,14 @@ class NotificationServiceTest {
     void checkForUnreadNotifications_NotExists() {
         // given
         Long userId = 1L;
-        when(notificationRepository.existsByReceiver_UserIdAndIsRead(userId, 'N')).thenReturn(false);
+        when(unreadNotificationCounter.get(userId)).thenReturn(0L);
 
         // when
         UnreadNotificationStatusDto result = notificationService.checkForUnreadNotifications(userId);
 
         // then
         assertThat(result.exists()).isFalse();
+        assertThat(result.unreadCount()).isZero();
     }
 
     @Test
@@ -127,8 +133,8 @@ class NotificationServiceTest {
         // given
         Long userId = 1L;
         List<Long> notificationIds = List.of(101L, 102L);
-        // void 메서드는 특별한 설정이 필요 없음. 호출 여부만 검증하면 됨.
-        // doNothing().when(notificationRepository).markAsReadByIds(anyLong(), anyList()); -> 이렇게 명시적으로 선언도 가능
+        // 두 알림 모두 새로 읽음 처리되었다고 가정
+        when(notificationRepository.markAsReadByIds(userId, notificationIds)).thenReturn(2);
 
         // when
         notificationService.markNotificationsAsRead(userId, notificationIds);
@@ -137,6 +143,8 @@ class NotificationServiceTest {
         // notificationRepository의 markAsReadByIds 메서드가
         // 정확히 1번, 그리고 올바른 파라미터(userId, notificationIds)로 호출되었는지 검증
         verify(notificationRepository, times(1)).markAsReadByIds(userId, notificationIds);
+        // 새로 읽음 처리된 수만큼 안 읽은 알림 카운터가 차감되어야 함
+        verify(unreadNotificationCounter, times(1)).decrement(userId, 2);
     }
 
     @Test
@@ -152,5 +160,6 @@ class NotificationServiceTest {
         // then
         // ID 목록이 비어있으면 Repository 메서드가 절대로 호출되지 않아야 함을 검증
         verify(notificationRepository, never()).markAsReadByIds(anyLong(), any());
+        verify(unreadNotificationCounter, never()).decrement(anyLong(), anyLong());
     }
 }
\ No newline at end of file
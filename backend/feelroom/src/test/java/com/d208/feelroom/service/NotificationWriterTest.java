@@ -0,0 +1,219 @@
+package com.d208.feelroom.service;
+
+import com.d208.feelroom.notification.domain.entity.Notification;
+import com.d208.feelroom.notification.service.NotificationWriter;
+import com.d208.feelroom.notification.service.UnreadNotificationCounter;
+import com.d208.feelroom.user.domain.entity.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collections;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationWriterTest {
+
+    private static final int COLUMNS = 8;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private UnreadNotificationCounter unreadNotificationCounter;
+
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationWriter notificationWriter;
+    private final List<Integer> writtenBatchSizes = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        notificationWriter = new NotificationWriter(jdbcTemplate, unreadNotificationCounter, meterRegistry);
+        ReflectionTestUtils.setField(notificationWriter, "queueCapacity", 100);
+        ReflectionTestUtils.setField(notificationWriter, "batchSize", 500);
+        ReflectionTestUtils.setField(notificationWriter, "flushIntervalMs", 3_600_000L); // 주기 flush 대신 테스트에서 직접 호출
+        ReflectionTestUtils.setField(notificationWriter, "maxRetries", 3);
+        ReflectionTestUtils.setField(notificationWriter, "offerTimeoutMs", 10L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        notificationWriter.close();
+    }
+
+    @Test
+    @DisplayName("대기 중인 알림을 batchSize 행씩 나눠 다중 행 INSERT로 기록하고 수신자별로 카운터를 올린다")
+    void flush_WritesInBatches() {
+        // given
+        ReflectionTestUtils.setField(notificationWriter, "batchSize", 2);
+        notificationWriter.init();
+        stubInsertAll();
+
+        // when
+        notificationWriter.enqueue(notification(1L), "k1");
+        notificationWriter.enqueue(notification(1L), "k2");
+        notificationWriter.enqueue(notification(2L), "k3");
+        notificationWriter.flush();
+
+        // then
+        assertThat(writtenBatchSizes).allMatch(size -> size <= 2);
+        assertThat(writtenBatchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(3);
+        assertThat(rows("written")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("기록에 실패하면 재시도하고, 성공한 시도 기준으로 카운터를 올린다")
+    void flush_RetriesFailedBatch() {
+        // given
+        notificationWriter.init();
+        when(jdbcTemplate.update(anyString(), any(Object[].class)))
+                .thenThrow(new QueryTimeoutException("lock wait timeout"))
+                .thenReturn(1);
+
+        // when
+        notificationWriter.enqueue(notification(1L), "k1");
+        notificationWriter.flush();
+
+        // then
+        verify(jdbcTemplate, times(2)).update(anyString(), any(Object[].class));
+        verify(unreadNotificationCounter).incrementAll(Map.of(1L, 1L));
+        assertThat(rows("written")).isEqualTo(1);
+        assertThat(rows("failed")).isZero();
+    }
+
+    @Test
+    @DisplayName("재시도 횟수를 넘기면 배치를 실패로 집계하고 카운터는 건드리지 않는다")
+    void flush_GivesUpAfterMaxRetries() {
+        // given
+        ReflectionTestUtils.setField(notificationWriter, "maxRetries", 1);
+        notificationWriter.init();
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenThrow(new QueryTimeoutException("db down"));
+
+        // when
+        notificationWriter.enqueue(notification(1L), "k1");
+        notificationWriter.flush();
+
+        // then
+        verify(jdbcTemplate, times(2)).update(anyString(), any(Object[].class));
+        verifyNoInteractions(unreadNotificationCounter);
+        assertThat(rows("failed")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("멱등 키가 겹쳐 무시된 행이 있으면 해당 수신자의 카운터를 지워 DB에서 다시 세도록 한다")
+    void flush_DuplicateRows_EvictsCounters() {
+        // given
+        notificationWriter.init();
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenReturn(1); // 2건 중 1건만 기록됨
+
+        // when
+        notificationWriter.enqueue(notification(1L), "COMMENT:same");
+        notificationWriter.enqueue(notification(1L), "COMMENT:same");
+        notificationWriter.flush();
+
+        // then
+        verify(unreadNotificationCounter).evictAll(Set.of(1L));
+        verify(unreadNotificationCounter, never()).incrementAll(any());
+        assertThat(rows("duplicate")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이전 시도에서 이미 기록된 멱등 키는 중복으로 세고, FK 위반 등을 숨기지 않도록 INSERT IGNORE를 쓰지 않는다")
+    void flush_AlreadyWrittenKey_CountedAsDuplicate() {
+        // given
+        notificationWriter.init();
+        when(jdbcTemplate.queryForObject(startsWith("SELECT COUNT(*) FROM notifications"), eq(Long.class), any(Object[].class)))
+                .thenReturn(1L);
+        stubInsertAll();
+
+        // when
+        notificationWriter.enqueue(notification(1L), "COMMENT:k1");
+        notificationWriter.enqueue(notification(2L), "COMMENT:k2");
+        notificationWriter.flush();
+
+        // then
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate).update(sql.capture(), any(Object[].class));
+        assertThat(sql.getValue()).doesNotContain("IGNORE").endsWith("ON DUPLICATE KEY UPDATE idempotency_key = idempotency_key");
+        verify(unreadNotificationCounter).evictAll(Set.of(1L, 2L));
+        assertThat(rows("written")).isEqualTo(1);
+        assertThat(rows("duplicate")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 호출 스레드에서 기록하지 않고 잠시 기다린 뒤 버린다")
+    void enqueue_QueueFull_RejectsWithoutWritingOnCaller() {
+        // given (flush 스레드가 큐를 비우지 못하도록 flush 잠금을 잡아 둠)
+        ReflectionTestUtils.setField(notificationWriter, "queueCapacity", 1);
+        notificationWriter.init();
+        stubInsertAll();
+        ReentrantLock flushLock = (ReentrantLock) ReflectionTestUtils.getField(notificationWriter, "flushLock");
+        flushLock.lock();
+        try {
+            // when
+            notificationWriter.enqueue(notification(1L), "k1");
+            notificationWriter.enqueue(notification(2L), "k2");
+
+            // then
+            verifyNoInteractions(jdbcTemplate);
+            assertThat(rows("rejected")).isEqualTo(1);
+        } finally {
+            flushLock.unlock();
+        }
+
+        notificationWriter.flush();
+        assertThat(writtenBatchSizes).containsExactly(1); // 대기열에 들어간 첫 알림만 기록됨
+    }
+
+    @Test
+    @DisplayName("종료 후 들어온 알림은 예외 없이 버린다")
+    void enqueue_AfterClose_Rejects() {
+        // given
+        notificationWriter.init();
+        notificationWriter.close();
+
+        // when
+        assertThatCode(() -> notificationWriter.enqueue(notification(1L), "k1")).doesNotThrowAnyException();
+
+        // then
+        assertThat(rows("rejected")).isEqualTo(1);
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    private void stubInsertAll() {
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenAnswer(invocation -> {
+            int size = ((Object[]) invocation.getRawArguments()[1]).length / COLUMNS;
+            writtenBatchSizes.add(size);
+            return size;
+        });
+    }
+
+    private double rows(String result) {
+        return meterRegistry.get("notification.writer.rows").tag("result", result).counter().count();
+    }
+
+    private static Notification notification(Long receiverId) {
+        return Notification.builder()
+                .type("COMMENT")
+                .receiver(User.builder().userId(receiverId).build())
+                .build();
+    }
+}
@@ -0,0 +1,173 @@
+package com.d208.feelroom.service;
+
+import com.d208.feelroom.movie.domain.entity.Movie;
+import com.d208.feelroom.movie.domain.entity.summary.MovieSummary;
+import com.d208.feelroom.movie.domain.repository.MovieRepository;
+import com.d208.feelroom.movie.domain.repository.MovieSummaryRepository;
+import com.d208.feelroom.movie.scheduler.PopularMovieRankingHealthIndicator;
+import com.d208.feelroom.movie.scheduler.PopularMovieScheduler;
+import com.d208.feelroom.review.domain.repository.ReviewRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PopularMovieSchedulerTest {
+
+    @InjectMocks
+    private PopularMovieScheduler popularMovieScheduler;
+
+    @Mock
+    private MovieRepository movieRepository;
+
+    @Mock
+    private MovieSummaryRepository movieSummaryRepository;
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, Object> zSetOperations;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(popularMovieScheduler, "initialRetryDelayMs", 0L);
+        ReflectionTestUtils.setField(popularMovieScheduler, "maxRetryDelayMs", 600000L);
+    }
+
+    @Test
+    @DisplayName("시작 시 랭킹 준비가 실패하면 다음 재시도에서 다시 계산해 준비 상태가 된다")
+    void retryWarmUp_AfterStartupFailure_Recovers() {
+        // given (첫 시도는 DB 오류, 두 번째는 계산 대상 없음)
+        when(movieRepository.findMovieIdsByReleaseDateAfter(anyString()))
+                .thenThrow(new QueryTimeoutException("db down"))
+                .thenReturn(Collections.emptyList());
+        when(reviewRepository.findMovieIdsWithRecentActivity(any())).thenReturn(Collections.emptyList());
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.reverseRange("popular_movies", 0, 199)).thenReturn(Collections.emptySet());
+
+        // when
+        popularMovieScheduler.init();
+
+        // then
+        assertThat(popularMovieScheduler.isRankingReady()).isFalse();
+        assertThat(popularMovieScheduler.getWarmUpFailure()).isEqualTo("db down");
+
+        // when
+        popularMovieScheduler.retryWarmUp();
+
+        // then
+        assertThat(popularMovieScheduler.isRankingReady()).isTrue();
+        assertThat(popularMovieScheduler.getWarmUpFailure()).isNull();
+    }
+
+    @Test
+    @DisplayName("랭킹 교체는 실행마다 고유한 임시 키에 쓴 뒤 RENAME하고, 옮겨진 TTL을 해제한다")
+    @SuppressWarnings("unchecked")
+    void updatePopularMovieScores_UsesUniqueTempKeyPerRun() {
+        // given
+        Movie movie = Movie.builder().movieId(1).releaseDate(LocalDate.now().toString()).build();
+        MovieSummary summary = MovieSummary.builder().movie(movie).build();
+        summary.updateReviewSummary(8, 2);
+        when(movieRepository.findMovieIdsByReleaseDateAfter(anyString())).thenReturn(List.of(1));
+        when(reviewRepository.findMovieIdsWithRecentActivity(any())).thenReturn(Collections.emptyList());
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(movieRepository.findAllById(any())).thenReturn(List.of(movie));
+        when(movieSummaryRepository.findAllById(any())).thenReturn(List.of(summary));
+
+        // when
+        popularMovieScheduler.updatePopularMovieScores();
+        popularMovieScheduler.updatePopularMovieScores();
+
+        // then
+        ArgumentCaptor<SessionCallback<Object>> callbacks = ArgumentCaptor.forClass(SessionCallback.class);
+        verify(redisTemplate, times(2)).executePipelined(callbacks.capture());
+        RedisOperations<String, Object> operations = mock(RedisOperations.class);
+        when(operations.opsForZSet()).thenReturn(mock(ZSetOperations.class));
+        callbacks.getAllValues().forEach(callback -> callback.execute(operations));
+
+        ArgumentCaptor<String> tmpKeys = ArgumentCaptor.forClass(String.class);
+        verify(operations, times(2)).rename(tmpKeys.capture(), eq("popular_movies"));
+        assertThat(tmpKeys.getAllValues()).allMatch(key -> key.startsWith("popular_movies:rebuild:"));
+        assertThat(tmpKeys.getAllValues().get(0)).isNotEqualTo(tmpKeys.getAllValues().get(1));
+        verify(operations, times(2)).persist("popular_movies");
+    }
+
+    @Test
+    @DisplayName("백오프 시간이 지나기 전에는 재시도하지 않는다")
+    void retryWarmUp_BeforeBackoffElapsed_Skips() {
+        // given
+        ReflectionTestUtils.setField(popularMovieScheduler, "initialRetryDelayMs", 60000L);
+        when(movieRepository.findMovieIdsByReleaseDateAfter(anyString())).thenThrow(new QueryTimeoutException("db down"));
+        popularMovieScheduler.init();
+
+        // when
+        popularMovieScheduler.retryWarmUp();
+
+        // then
+        verify(movieRepository, times(1)).findMovieIdsByReleaseDateAfter(anyString());
+    }
+
+    @Test
+    @DisplayName("시작 전이거나 이미 준비된 상태에서는 재시도하지 않는다")
+    void retryWarmUp_NotFailed_Skips() {
+        // when
+        popularMovieScheduler.retryWarmUp();
+
+        // then
+        verifyNoInteractions(movieRepository, reviewRepository, redisTemplate);
+    }
+
+    @Test
+    @DisplayName("스냅샷이 없어도 popular_movies ZSET이 남아 있으면 UP으로 보고한다")
+    void health_NoSnapshotButLiveRanking_Up() {
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("popular_movies:snapshot")).thenReturn(null);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.zCard("popular_movies")).thenReturn(42L);
+
+        // when & then
+        assertThat(new PopularMovieRankingHealthIndicator(popularMovieScheduler).health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    @Test
+    @DisplayName("스냅샷도 ZSET도 없으면 OUT_OF_SERVICE로 보고한다")
+    void health_NothingToServe_OutOfService() {
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("popular_movies:snapshot")).thenReturn(List.of());
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.zCard("popular_movies")).thenReturn(0L);
+
+        // when & then
+        assertThat(new PopularMovieRankingHealthIndicator(popularMovieScheduler).health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+    }
+}
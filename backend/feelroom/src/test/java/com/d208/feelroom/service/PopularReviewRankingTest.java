@@ -0,0 +1,117 @@
+package com.d208.feelroom.service;
+
+import com.d208.feelroom.global.infra.RedisJobLock;
+import com.d208.feelroom.global.util.UuidUtils;
+import com.d208.feelroom.review.domain.repository.ReviewRepository;
+import com.d208.feelroom.review.service.PopularReviewRanking;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PopularReviewRankingTest {
+
+    @InjectMocks
+    private PopularReviewRanking popularReviewRanking;
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    @Mock
+    private RedisJobLock redisJobLock;
+
+    @Test
+    @DisplayName("좋아요 변경은 재구성 중 기록 키까지 넘겨 한 번의 스크립트로 반영한다")
+    void applyLikeChange_RecentReview_RunsScriptWithJournalKeys() {
+        // given
+        UUID reviewId = UUID.randomUUID();
+
+        // when
+        popularReviewRanking.applyLikeChange(reviewId, LocalDateTime.now().minusHours(1), -1);
+
+        // then
+        verify(redisTemplate).execute(any(RedisScript.class),
+                eq(List.of("popular_reviews", "popular_reviews:likes", "popular_reviews:created",
+                        "popular_reviews:rebuilding", "popular_reviews:journal:likes", "popular_reviews:journal:created")),
+                eq(reviewId.toString()), eq(-1), anyDouble(), anyLong());
+    }
+
+    @Test
+    @DisplayName("랭킹 기간이 지난 리뷰의 좋아요 변경은 반영하지 않는다")
+    void applyLikeChange_StaleReview_Ignored() {
+        // when
+        popularReviewRanking.applyLikeChange(UUID.randomUUID(), LocalDateTime.now().minusDays(8), 1);
+
+        // then
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("재구성은 DB 조회 전에 변경 기록을 시작하고, 임시 키를 채운 뒤 교체 스크립트로 기록을 다시 반영한다")
+    void rebuild_JournalsChangesDuringRebuild() {
+        // given
+        UUID reviewId = UUID.randomUUID();
+        when(redisJobLock.tryAcquire(eq("popular_reviews:rebuild"), any())).thenReturn(Optional.of("token"));
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(reviewRepository.findRecentReviewLikeCounts(any())).thenReturn(List.<Object[]>of(
+                new Object[]{UuidUtils.uuidToBytes(reviewId), Timestamp.valueOf(LocalDateTime.now().minusDays(1)), 3L}));
+
+        // when
+        OptionalInt ranked = popularReviewRanking.rebuild();
+
+        // then
+        assertThat(ranked).hasValue(1);
+        InOrder inOrder = inOrder(redisTemplate, valueOperations, reviewRepository, redisJobLock);
+        inOrder.verify(redisTemplate).delete(List.of("popular_reviews:journal:likes", "popular_reviews:journal:created"));
+        inOrder.verify(valueOperations).set(eq("popular_reviews:rebuilding"), any(), any(Duration.class));
+        inOrder.verify(reviewRepository).findRecentReviewLikeCounts(any());
+        inOrder.verify(redisTemplate).executePipelined(any(SessionCallback.class));
+        inOrder.verify(redisTemplate).execute(any(RedisScript.class),
+                eq(List.of("popular_reviews", "popular_reviews:likes", "popular_reviews:created",
+                        "popular_reviews:rebuild", "popular_reviews:likes:rebuild", "popular_reviews:created:rebuild",
+                        "popular_reviews:rebuilding", "popular_reviews:journal:likes", "popular_reviews:journal:created")),
+                anyDouble());
+        inOrder.verify(redisJobLock).release("popular_reviews:rebuild", "token");
+    }
+
+    @Test
+    @DisplayName("다른 노드가 재구성 중이면 임시 키를 건드리지 않고 건너뛴다")
+    void rebuild_LockHeldByAnotherNode_Skips() {
+        // given
+        when(redisJobLock.tryAcquire(eq("popular_reviews:rebuild"), any())).thenReturn(Optional.empty());
+
+        // when
+        OptionalInt ranked = popularReviewRanking.rebuild();
+
+        // then
+        assertThat(ranked).isEmpty();
+        verifyNoInteractions(redisTemplate, reviewRepository);
+        verify(redisJobLock, never()).release(any(), any());
+    }
+}
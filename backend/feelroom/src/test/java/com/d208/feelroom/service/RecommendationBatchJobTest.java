@@ -0,0 +1,162 @@
+package com.d208.feelroom.service;
+
+import com.d208.feelroom.global.infra.RedisJobLock;
+import com.d208.feelroom.recommendation.dto.MovieRecommendationResultDto;
+import com.d208.feelroom.recommendation.dto.request.UserActivityRequestDto;
+import com.d208.feelroom.recommendation.service.RecommendationBatchJob;
+import com.d208.feelroom.recommendation.service.RecommendationService;
+import com.d208.feelroom.recommendation.service.RecommendationStore;
+import com.d208.feelroom.recommendation.service.UserActivityService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RecommendationBatchJobTest {
+
+    private static final String LAST_RUN_KEY = "batch:movie-recommendation:last-run";
+    private static final String RETRY_KEY = "batch:movie-recommendation:retry";
+
+    @InjectMocks
+    private RecommendationBatchJob recommendationBatchJob;
+
+    @Mock
+    private RecommendationService recommendationService;
+
+    @Mock
+    private UserActivityService activityCollector;
+
+    @Mock
+    private RecommendationStore recommendationStore;
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    @Mock
+    private SetOperations<String, Object> setOperations;
+
+    @Mock
+    private RedisJobLock redisJobLock;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(recommendationBatchJob, "chunkSize", 10);
+        ReflectionTestUtils.setField(recommendationBatchJob, "concurrency", 2);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 실행 중이면 아무것도 하지 않는다")
+    void run_LockHeld_Skips() {
+        // given
+        when(redisJobLock.tryAcquire(eq("batch:movie-recommendation"), any(Duration.class))).thenReturn(Optional.empty());
+
+        // when
+        recommendationBatchJob.runMovieRecommendationBatch();
+
+        // then
+        verifyNoInteractions(activityCollector, recommendationService, redisTemplate);
+    }
+
+    @Test
+    @DisplayName("실패한 사용자가 있어도 마지막 실행 시각은 앞으로 옮기고, 실패 사용자만 재시도 Set에 남긴다")
+    void run_PartialFailure_AdvancesCheckpointAndKeepsRetrySet() {
+        // given (3번은 이전 실행의 재시도 대상, 2번은 AI 응답 없음, 1번은 저장 실패)
+        givenLockAndRedis();
+        when(setOperations.members(RETRY_KEY)).thenReturn(Set.of(3));
+        when(activityCollector.findUserIdsWithActivitySince(any(LocalDateTime.class))).thenReturn(List.of(1L, 2L));
+        List<UserActivityRequestDto> activities = List.of(activity(1L), activity(2L), activity(3L));
+        when(activityCollector.getUserActivities(List.of(1L, 2L, 3L))).thenReturn(activities);
+        List<MovieRecommendationResultDto> results = List.of(
+                new MovieRecommendationResultDto(1L, List.of(550)),
+                new MovieRecommendationResultDto(3L, List.of(680)));
+        when(recommendationService.getUserRecommendationsInBatch(activities, 2)).thenReturn(results);
+        when(recommendationStore.saveAll(results)).thenReturn(Set.of(1L));
+
+        // when
+        recommendationBatchJob.runMovieRecommendationBatch();
+
+        // then
+        ArgumentCaptor<Object[]> failed = ArgumentCaptor.forClass(Object[].class);
+        verify(setOperations).add(eq(RETRY_KEY), failed.capture());
+        assertThat(failed.getValue()).containsExactlyInAnyOrder(1L, 2L);
+        verify(setOperations).remove(RETRY_KEY, 3L);
+        verify(valueOperations).set(eq(LAST_RUN_KEY), anyLong());
+        verify(redisJobLock).release("batch:movie-recommendation", "token");
+    }
+
+    @Test
+    @DisplayName("한 청크가 예외로 실패해도 다음 청크는 계속 처리하고, 실패한 청크의 사용자만 재시도 대상으로 남긴다")
+    void run_ChunkThrows_OtherChunksContinue() {
+        // given
+        ReflectionTestUtils.setField(recommendationBatchJob, "chunkSize", 1);
+        givenLockAndRedis();
+        when(activityCollector.findUserIdsWithActivitySince(any(LocalDateTime.class))).thenReturn(List.of(1L, 2L));
+        when(activityCollector.getUserActivities(List.of(1L))).thenThrow(new QueryTimeoutException("timeout"));
+        List<UserActivityRequestDto> activities = List.of(activity(2L));
+        when(activityCollector.getUserActivities(List.of(2L))).thenReturn(activities);
+        List<MovieRecommendationResultDto> results = List.of(new MovieRecommendationResultDto(2L, List.of(550)));
+        when(recommendationService.getUserRecommendationsInBatch(activities, 2)).thenReturn(results);
+        when(recommendationStore.saveAll(results)).thenReturn(Set.of());
+
+        // when
+        recommendationBatchJob.runMovieRecommendationBatch();
+
+        // then
+        ArgumentCaptor<Object[]> failed = ArgumentCaptor.forClass(Object[].class);
+        verify(setOperations).add(eq(RETRY_KEY), failed.capture());
+        assertThat(failed.getValue()).containsExactly(1L);
+        verify(valueOperations).set(eq(LAST_RUN_KEY), anyLong());
+    }
+
+    @Test
+    @DisplayName("활동이 모두 사라진 사용자는 AI 서버에 요청하지 않는다")
+    void run_NoActivity_NotRequested() {
+        // given
+        givenLockAndRedis();
+        when(activityCollector.findUserIdsWithActivitySince(any(LocalDateTime.class))).thenReturn(List.of(1L));
+        when(activityCollector.getUserActivities(List.of(1L))).thenReturn(List.of(
+                new UserActivityRequestDto(1L, List.of(), List.of(), List.of(), List.of())));
+        when(recommendationService.getUserRecommendationsInBatch(List.of(), 2)).thenReturn(List.of());
+        when(recommendationStore.saveAll(List.of())).thenReturn(Set.of());
+
+        // when
+        recommendationBatchJob.runMovieRecommendationBatch();
+
+        // then
+        verify(setOperations, never()).add(anyString(), any(Object[].class));
+        verify(valueOperations).set(eq(LAST_RUN_KEY), anyLong());
+    }
+
+    private void givenLockAndRedis() {
+        when(redisJobLock.tryAcquire(eq("batch:movie-recommendation"), any(Duration.class))).thenReturn(Optional.of("token"));
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+    }
+
+    private static UserActivityRequestDto activity(Long userId) {
+        return new UserActivityRequestDto(userId, List.of(550), List.of(4.0), List.of(), List.of());
+    }
+}
@@ -0,0 +1,221 @@
+package com.d208.feelroom.service;
+
+import com.d208.feelroom.global.infra.RedisJobLock;
+import com.d208.feelroom.review.service.summary.ReviewSummaryBatchService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewSummaryBatchServiceTest {
+
+    private static final String CHECKPOINT_KEY = "batch:review-summary:checkpoint";
+    private static final byte[] A = {1};
+    private static final byte[] B = {2};
+    private static final byte[] C = {3};
+
+    @InjectMocks
+    private ReviewSummaryBatchService reviewSummaryBatchService;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private RedisJobLock redisJobLock;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(reviewSummaryBatchService, "chunkSize", 2);
+        ReflectionTestUtils.setField(reviewSummaryBatchService, "workerCount", 1); // 청크 처리 순서를 고정
+        ReflectionTestUtils.setField(reviewSummaryBatchService, "settleDelayMs", 0L);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 실행 중이면 아무것도 하지 않는다")
+    void sync_LockHeld_Skips() {
+        // given
+        when(redisJobLock.tryAcquire(eq("batch:review-summary"), any(Duration.class))).thenReturn(Optional.empty());
+
+        // when
+        reviewSummaryBatchService.syncExistingReviewSummaries();
+
+        // then
+        verifyNoInteractions(jdbcTemplate, redisTemplate);
+    }
+
+    @Test
+    @DisplayName("PK 순서로 청크를 나눠 처리하며 체크포인트를 남기고, 모두 끝나면 체크포인트를 지운다")
+    void sync_AllChunks_ClearsCheckpoint() {
+        // given
+        givenLock();
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(jdbcTemplate.query(startsWith("SELECT review_id FROM review_summary ORDER BY"), any(RowMapper.class), any(Object[].class)))
+                .thenAnswer(ids(A, B));
+        when(jdbcTemplate.query(startsWith("SELECT review_id FROM review_summary WHERE"), any(RowMapper.class), any(Object[].class)))
+                .thenAnswer(ids(C));
+        when(jdbcTemplate.query(argThat(ReviewSummaryBatchServiceTest::isFirstLook), any(RowMapper.class), any(Object[].class)))
+                .thenAnswer(aggregates());
+
+        // when
+        reviewSummaryBatchService.syncExistingReviewSummaries();
+
+        // then
+        verify(jdbcTemplate, times(2)).query(argThat(ReviewSummaryBatchServiceTest::isFirstLook), any(RowMapper.class), any(Object[].class));
+        verify(valueOperations).set(eq(CHECKPOINT_KEY), eq(hex(B)), any(Duration.class));
+        verify(valueOperations).set(eq(CHECKPOINT_KEY), eq(hex(C)), any(Duration.class));
+        verify(redisTemplate).delete(CHECKPOINT_KEY);
+        verify(redisJobLock).release("batch:review-summary", "token");
+    }
+
+    @Test
+    @DisplayName("체크포인트가 있으면 그 다음 review_id부터 이어서 처리한다")
+    void sync_Checkpoint_Resumes() {
+        // given
+        givenLock();
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(CHECKPOINT_KEY)).thenReturn(hex(B));
+        when(jdbcTemplate.query(startsWith("SELECT review_id FROM review_summary WHERE"), any(RowMapper.class), any(Object[].class)))
+                .thenAnswer(ids(C));
+        when(jdbcTemplate.query(argThat(ReviewSummaryBatchServiceTest::isFirstLook), any(RowMapper.class), any(Object[].class)))
+                .thenAnswer(aggregates());
+
+        // when
+        reviewSummaryBatchService.syncExistingReviewSummaries();
+
+        // then
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate).query(startsWith("SELECT review_id FROM review_summary WHERE"), any(RowMapper.class), args.capture());
+        assertThat(args.getValue()[0]).isEqualTo(B);
+        verify(jdbcTemplate, never()).query(startsWith("SELECT review_id FROM review_summary ORDER BY"), any(RowMapper.class), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("실패한 청크가 있으면 그 앞까지만 체크포인트를 남기고 지우지 않는다")
+    void sync_ChunkFails_KeepsCheckpoint() {
+        // given
+        givenLock();
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(jdbcTemplate.query(startsWith("SELECT review_id FROM review_summary ORDER BY"), any(RowMapper.class), any(Object[].class)))
+                .thenAnswer(ids(A, B));
+        when(jdbcTemplate.query(startsWith("SELECT review_id FROM review_summary WHERE"), any(RowMapper.class), any(Object[].class)))
+                .thenAnswer(ids(C));
+        when(jdbcTemplate.query(argThat(ReviewSummaryBatchServiceTest::isFirstLook), any(RowMapper.class), any(Object[].class)))
+                .thenAnswer(aggregates())
+                .thenThrow(new QueryTimeoutException("lock wait timeout"));
+
+        // when
+        reviewSummaryBatchService.syncExistingReviewSummaries();
+
+        // then
+        verify(valueOperations).set(eq(CHECKPOINT_KEY), eq(hex(B)), any(Duration.class));
+        verify(valueOperations, never()).set(eq(CHECKPOINT_KEY), eq(hex(C)), any(Duration.class));
+        verify(redisTemplate, never()).delete(CHECKPOINT_KEY);
+    }
+
+    @Test
+    @DisplayName("잠근 채 다시 읽어도 차이가 같은 행만 실제 값으로 보정한다")
+    void sync_PersistentDrift_Corrected() {
+        // given (A는 두 번 모두 좋아요 1개 차이, B는 그 사이 버퍼 flush로 차이가 사라짐)
+        givenLock();
+        givenTransaction();
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(jdbcTemplate.query(startsWith("SELECT review_id FROM review_summary ORDER BY"), any(RowMapper.class), any(Object[].class)))
+                .thenAnswer(ids(A, B));
+        when(jdbcTemplate.query(startsWith("SELECT review_id FROM review_summary WHERE"), any(RowMapper.class), any(Object[].class)))
+                .thenAnswer(ids());
+        when(jdbcTemplate.query(argThat(ReviewSummaryBatchServiceTest::isFirstLook), any(RowMapper.class), any(Object[].class)))
+                .thenAnswer(aggregates(new Object[]{A, 1L, 0L, 2L, 0L}, new Object[]{B, 4L, 1L, 5L, 1L}));
+        when(jdbcTemplate.query(endsWith("FOR UPDATE OF rs"), any(RowMapper.class), any(Object[].class)))
+                .thenAnswer(aggregates(new Object[]{A, 1L, 0L, 2L, 0L}));
+
+        // when
+        reviewSummaryBatchService.syncExistingReviewSummaries();
+
+        // then
+        ArgumentCaptor<Object[]> params = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate).update(startsWith("INSERT INTO review_summary"), params.capture());
+        assertThat(params.getValue()).containsExactly(A, 2L, 0L);
+    }
+
+    private void givenLock() {
+        when(redisJobLock.tryAcquire(eq("batch:review-summary"), any(Duration.class))).thenReturn(Optional.of("token"));
+    }
+
+    private void givenTransaction() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    private static boolean isFirstLook(String sql) {
+        return sql != null && sql.contains("actual_like_count") && !sql.endsWith("FOR UPDATE OF rs");
+    }
+
+    private static String hex(byte[] id) {
+        return HexFormat.of().formatHex(id);
+    }
+
+    private static Answer<List<Object>> ids(byte[]... ids) {
+        return invocation -> {
+            RowMapper<?> mapper = invocation.getArgument(1);
+            List<Object> result = new ArrayList<>();
+            for (int i = 0; i < ids.length; i++) {
+                ResultSet rs = mock(ResultSet.class);
+                when(rs.getBytes(1)).thenReturn(ids[i]);
+                result.add(mapper.mapRow(rs, i));
+            }
+            return result;
+        };
+    }
+
+    // 각 행: [review_id, 요약 좋아요 수, 요약 댓글 수, 실제 좋아요 수, 실제 댓글 수]
+    private static Answer<List<Object>> aggregates(Object[]... rows) {
+        return invocation -> {
+            RowMapper<?> mapper = invocation.getArgument(1);
+            List<Object> result = new ArrayList<>();
+            for (int i = 0; i < rows.length; i++) {
+                ResultSet rs = mock(ResultSet.class);
+                lenient().when(rs.getBytes("review_id")).thenReturn((byte[]) rows[i][0]);
+                lenient().when(rs.getLong("review_like_count")).thenReturn((Long) rows[i][1]);
+                lenient().when(rs.getLong("review_comment_count")).thenReturn((Long) rows[i][2]);
+                lenient().when(rs.getLong("actual_like_count")).thenReturn((Long) rows[i][3]);
+                lenient().when(rs.getLong("actual_comment_count")).thenReturn((Long) rows[i][4]);
+                result.add(mapper.mapRow(rs, i));
+            }
+            return result;
+        };
+    }
+}
@@ -0,0 +1,183 @@
+package com.d208.feelroom.service;
+
+import com.d208.feelroom.global.config.RedisConfig;
+import com.d208.feelroom.global.infra.AiApiClient;
+import com.d208.feelroom.movie.domain.repository.MovieKeywordRepository;
+import com.d208.feelroom.movie.dto.MovieCardDto;
+import com.d208.feelroom.movie.service.MovieCardAssembler;
+import com.d208.feelroom.search.dto.KeywordMoviePage;
+import com.d208.feelroom.search.dto.MovieSearchDto;
+import com.d208.feelroom.search.dto.MovieSearchResponseDto;
+import com.d208.feelroom.search.service.SearchService;
+import com.d208.feelroom.search.service.SearchService.KeywordSearchResponse;
+import com.d208.feelroom.search.service.SearchService.KeywordSearchResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SearchServiceTest {
+
+    @InjectMocks
+    private SearchService searchService;
+
+    @Mock
+    private MovieCardAssembler movieCardAssembler;
+
+    @Mock
+    private MovieKeywordRepository movieKeywordRepository;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private AiApiClient aiApiClient;
+
+    private ConcurrentMapCache keywordCache;
+
+    @BeforeEach
+    void setUp() {
+        keywordCache = new ConcurrentMapCache(RedisConfig.KEYWORD_SEARCH_CACHE);
+        when(cacheManager.getCache(RedisConfig.KEYWORD_SEARCH_CACHE)).thenReturn(keywordCache);
+    }
+
+    private static KeywordSearchResponse keywordResponse(Integer... keywordIds) {
+        List<KeywordSearchResult> results = new ArrayList<>();
+        for (Integer keywordId : keywordIds) {
+            KeywordSearchResult result = new KeywordSearchResult();
+            result.setKeywordId(keywordId);
+            results.add(result);
+        }
+        KeywordSearchResponse response = new KeywordSearchResponse();
+        response.setSuccess(true);
+        response.setResults(results);
+        return response;
+    }
+
+    private void givenKeywords(Integer... keywordIds) {
+        when(aiApiClient.post(eq(AiApiClient.KEYWORD_SEARCH), eq("/keywordSearch"), any(), eq(KeywordSearchResponse.class)))
+                .thenReturn(Mono.just(keywordResponse(keywordIds)));
+    }
+
+    private void givenCards() {
+        when(movieCardAssembler.assemble(anyList())).thenAnswer(invocation -> {
+            List<Integer> movieIds = invocation.getArgument(0);
+            return movieIds.stream()
+                    .map(id -> MovieCardDto.builder().movieId(id).title("영화 " + id).build())
+                    .toList();
+        });
+    }
+
+    @Test
+    @DisplayName("키워드 일치 순위 쿼리를 페이지 크기 + 1로 조회하여 다음 페이지를 판단하고, 순위 순서대로 응답한다")
+    void keywordSearch_RankedQuery_PageAndOrder() {
+        // given
+        Pageable pageable = PageRequest.of(1, 2);
+        givenKeywords(10, 20);
+        givenCards();
+        when(movieKeywordRepository.findMovieIdsRankedByKeywordOverlap(List.of(10, 20), 3, 2L)).thenReturn(List.of(5, 3, 9));
+        when(movieKeywordRepository.countMoviesByKeywordIds(List.of(10, 20))).thenReturn(7L);
+
+        // when
+        MovieSearchResponseDto result = searchService.searchMoviesByKeywords("우주 모험", pageable);
+
+        // then
+        assertThat(result.getMovies()).extracting(MovieSearchDto::getMovieId).containsExactly(5, 3);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(result.getTotalElements()).isEqualTo(7);
+        assertThat(result.getCurrentPage()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("첫 페이지에서 다음 페이지가 없으면 COUNT 쿼리 없이 결과 수를 전체 수로 사용한다")
+    void keywordSearch_SinglePage_SkipsCount() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        givenKeywords(10);
+        givenCards();
+        when(movieKeywordRepository.findMovieIdsRankedByKeywordOverlap(List.of(10), 11, 0L)).thenReturn(List.of(1, 2));
+
+        // when
+        MovieSearchResponseDto result = searchService.searchMoviesByKeywords("우주", pageable);
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        assertThat(result.isHasNext()).isFalse();
+        verify(movieKeywordRepository, never()).countMoviesByKeywordIds(any());
+    }
+
+    @Test
+    @DisplayName("같은 (검색어, 페이지) 요청은 캐시된 영화 ID로 응답하여 FastAPI와 순위 쿼리를 다시 호출하지 않는다")
+    void keywordSearch_CacheHit() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        givenKeywords(10);
+        givenCards();
+        when(movieKeywordRepository.findMovieIdsRankedByKeywordOverlap(List.of(10), 11, 0L)).thenReturn(List.of(4));
+
+        // when
+        searchService.searchMoviesByKeywords("우주", pageable);
+        MovieSearchResponseDto second = searchService.searchMoviesByKeywords("우주", pageable);
+
+        // then
+        assertThat(second.getMovies()).extracting(MovieSearchDto::getMovieId).containsExactly(4);
+        verify(aiApiClient, times(1)).post(any(), any(), any(), any());
+        verify(movieKeywordRepository, times(1)).findMovieIdsRankedByKeywordOverlap(any(), anyInt(), anyLong());
+        verify(movieCardAssembler, times(2)).assemble(List.of(4)); // 카드는 캐시하지 않고 매번 조립
+
+        KeywordMoviePage cached = keywordCache.get("우주:0:10", KeywordMoviePage.class);
+        assertThat(cached).isNotNull();
+        assertThat(cached.getMovieIds()).containsExactly(4);
+    }
+
+    @Test
+    @DisplayName("페이지가 다르면 캐시 키가 달라 별도로 계산한다")
+    void keywordSearch_CacheKeyIncludesPage() {
+        // given
+        givenKeywords(10);
+        when(movieKeywordRepository.findMovieIdsRankedByKeywordOverlap(eq(List.of(10)), eq(3), anyLong())).thenReturn(List.of());
+        when(movieKeywordRepository.countMoviesByKeywordIds(List.of(10))).thenReturn(0L);
+
+        // when
+        searchService.searchMoviesByKeywords("우주", PageRequest.of(0, 2));
+        searchService.searchMoviesByKeywords("우주", PageRequest.of(1, 2));
+
+        // then
+        verify(movieKeywordRepository).findMovieIdsRankedByKeywordOverlap(List.of(10), 3, 0L);
+        verify(movieKeywordRepository).findMovieIdsRankedByKeywordOverlap(List.of(10), 3, 2L);
+        assertThat(keywordCache.getNativeCache()).containsOnlyKeys("우주:0:2", "우주:1:2");
+    }
+
+    @Test
+    @DisplayName("FastAPI 호출이 실패하면 빈 결과를 반환하고, 실패 결과는 캐시하지 않는다")
+    void keywordSearch_AiFailure_NotCached() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        when(aiApiClient.post(eq(AiApiClient.KEYWORD_SEARCH), eq("/keywordSearch"), any(), eq(KeywordSearchResponse.class)))
+                .thenReturn(Mono.empty());
+
+        // when
+        MovieSearchResponseDto result = searchService.searchMoviesByKeywords("우주", pageable);
+
+        // then
+        assertThat(result.getMovies()).isEmpty();
+        assertThat(keywordCache.getNativeCache()).isEmpty();
+        verifyNoInteractions(movieKeywordRepository, movieCardAssembler);
+    }
+}
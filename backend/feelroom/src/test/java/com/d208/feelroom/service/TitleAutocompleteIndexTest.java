@@ -0,0 +1,180 @@
+package com.d208.feelroom.service;
+
+import com.d208.feelroom.movie.domain.repository.MovieRepository;
+import com.d208.feelroom.movie.event.MovieCreatedEvent;
+import com.d208.feelroom.search.dto.MovieAutocompleteDto;
+import com.d208.feelroom.search.service.TitleAutocompleteIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TitleAutocompleteIndexTest {
+
+    @Mock
+    private MovieRepository movieRepository;
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private TitleAutocompleteIndex index;
+
+    private final List<Object[]> rows = new ArrayList<>(List.of(
+            new Object[]{1, "Star Wars", "1977-05-25", 20000},
+            new Object[]{2, "Star Trek", "2009-05-06", 15000},
+            new Object[]{3, "Starship Troopers", "1997-11-07", 5000},
+            new Object[]{4, "The Lost Star", null, 100},
+            new Object[]{5, "기생충", Date.valueOf("2019-05-30"), 17000}, // release_date가 DATE로 넘어오는 경우
+            new Object[]{6, "기생수: 파트 1", "2014-11-29", 300},
+            new Object[]{7, "스파이더맨: 노 웨이 홈", "2021-12-15", 18000}));
+
+    @BeforeEach
+    void setUp() {
+        index = new TitleAutocompleteIndex(movieRepository, new SimpleMeterRegistry(), redisTemplate, listenerContainer);
+        index.register();
+    }
+
+    @Test
+    @DisplayName("빌드 전에는 빈 목록을 반환한다")
+    void suggest_BeforeBuild_Empty() {
+        assertThat(index.isReady()).isFalse();
+        assertThat(index.suggest("star", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("라틴 검색어는 단어 접두사로 찾고 voteCount 내림차순으로 정렬한다")
+    void suggest_LatinWordPrefix_RankedByVoteCount() {
+        // given
+        build();
+
+        // when & then
+        assertThat(movieIds(index.suggest("star", 10))).containsExactly(1, 2, 3, 4);
+        assertThat(movieIds(index.suggest("Star W", 10))).containsExactly(1);
+        assertThat(index.suggest("tar", 10)).isEmpty(); // 단어 중간은 일치하지 않음
+    }
+
+    @Test
+    @DisplayName("한글 검색어는 음절 bigram / unigram으로 부분 일치를 찾는다")
+    void suggest_HangulGrams() {
+        // given
+        build();
+
+        // when & then
+        assertThat(movieIds(index.suggest("기생", 10))).containsExactly(5, 6);
+        assertThat(movieIds(index.suggest("생충", 10))).containsExactly(5);
+        assertThat(movieIds(index.suggest("노 웨이", 10))).containsExactly(7); // 공백/기호는 정규화로 무시
+        assertThat(movieIds(index.suggest("웨", 10))).containsExactly(7);
+        assertThat(index.suggest("기충", 10)).isEmpty(); // 두 bigram이 이어져 있지 않음
+    }
+
+    @Test
+    @DisplayName("limit 개수만큼만 인기순으로 반환한다")
+    void suggest_Limit() {
+        build();
+
+        assertThat(movieIds(index.suggest("star", 2))).containsExactly(1, 2);
+        assertThat(movieIds(index.suggest("기생", 1))).containsExactly(5);
+    }
+
+    @Test
+    @DisplayName("개봉일이 String이든 DATE든 개봉년도를 채우고, 없으면 '미정'으로 표시한다")
+    void suggest_ReleaseYear() {
+        build();
+
+        assertThat(index.suggest("기생충", 1).get(0).getReleaseYear()).isEqualTo("2019");
+        assertThat(index.suggest("star wars", 1).get(0).getReleaseYear()).isEqualTo("1977");
+        assertThat(index.suggest("lost", 1).get(0).getReleaseYear()).isEqualTo("미정");
+    }
+
+    @Test
+    @DisplayName("빌드 이후 추가된 영화는 pending으로 바로 검색되고, 다음 빌드에서 본 인덱스에 합쳐진다")
+    void onMovieCreated_PendingUntilRebuild() {
+        // given
+        build();
+
+        // when
+        index.onMovieCreated(new MovieCreatedEvent(8, "Star Wars: Andor", "2022-09-21", 30000));
+        index.onMovieCreated(new MovieCreatedEvent(1, "Star Wars", "1977-05-25", 20000)); // 이미 인덱스에 있는 영화는 무시
+
+        // then
+        assertThat(index.size()).isEqualTo(8);
+        assertThat(movieIds(index.suggest("star wars", 10))).containsExactly(8, 1);
+
+        // when (DB에도 반영된 뒤 재빌드)
+        rows.add(new Object[]{8, "Star Wars: Andor", "2022-09-21", 30000});
+        index.rebuild();
+
+        // then
+        assertThat(index.size()).isEqualTo(8);
+        assertThat(movieIds(index.suggest("star wars", 10))).containsExactly(8, 1);
+    }
+
+    @Test
+    @DisplayName("새 영화는 다른 노드에 전파되고, 수신한 노드는 pending으로 바로 검색한다")
+    void onMovieCreated_BroadcastToOtherNodes() {
+        // given
+        GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer();
+        doReturn(serializer).when(redisTemplate).getValueSerializer();
+        TitleAutocompleteIndex otherNode = new TitleAutocompleteIndex(movieRepository, new SimpleMeterRegistry(), redisTemplate, listenerContainer);
+        when(movieRepository.findAllTitleEntries()).thenReturn(rows);
+        otherNode.rebuild();
+
+        // when
+        index.onMovieCreated(new MovieCreatedEvent(8, "Star Wars: Andor", "2022-09-21", 30000));
+
+        // then
+        ArgumentCaptor<Object> published = ArgumentCaptor.forClass(Object.class);
+        verify(redisTemplate).convertAndSend(eq(TitleAutocompleteIndex.NEW_TITLE_CHANNEL), published.capture());
+        Message message = new DefaultMessage(TitleAutocompleteIndex.NEW_TITLE_CHANNEL.getBytes(), serializer.serialize(published.getValue()));
+        otherNode.onMessage(message, null);
+        otherNode.onMessage(message, null); // 중복 수신은 무시
+
+        assertThat(otherNode.size()).isEqualTo(8);
+        assertThat(movieIds(otherNode.suggest("andor", 10))).containsExactly(8);
+    }
+
+    @Test
+    @DisplayName("재빌드에 실패하면 기존 인덱스로 계속 응답한다")
+    void rebuild_Failure_KeepsPreviousSnapshot() {
+        // given
+        build();
+        when(movieRepository.findAllTitleEntries()).thenThrow(new IllegalStateException("db down"));
+
+        // when
+        index.rebuild();
+
+        // then
+        assertThat(movieIds(index.suggest("star", 10))).containsExactly(1, 2, 3, 4);
+    }
+
+    private void build() {
+        when(movieRepository.findAllTitleEntries()).thenReturn(rows);
+        index.rebuild();
+        assertThat(index.isReady()).isTrue();
+    }
+
+    private static List<Integer> movieIds(List<MovieAutocompleteDto> suggestions) {
+        return suggestions.stream().map(MovieAutocompleteDto::getMovieId).toList();
+    }
+}
@@ -0,0 +1,183 @@
+package com.d208.feelroom.service;
+
+import com.d208.feelroom.movie.domain.repository.MovieRepository;
+import com.d208.feelroom.search.document.MovieDocument;
+import com.d208.feelroom.search.repository.MovieSearchRepository;
+import com.d208.feelroom.search.service.TitleSearchEngine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TitleSearchEngineTest {
+
+    @Mock
+    private MovieRepository movieRepository;
+
+    @Mock
+    private MovieSearchRepository movieSearchRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TitleSearchEngine titleSearchEngine;
+
+    private final Pageable firstPage = PageRequest.of(0, 2);
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        titleSearchEngine = new TitleSearchEngine(movieRepository, movieSearchRepository, meterRegistry);
+    }
+
+    private static Page<MovieDocument> documents(Pageable pageable, Integer... movieIds) {
+        List<MovieDocument> content = Arrays.stream(movieIds)
+                .map(id -> MovieDocument.builder().movieId(id).build())
+                .toList();
+        return new PageImpl<>(content, pageable, content.size());
+    }
+
+    private long routeCount(String route) {
+        return meterRegistry.get("search.title.latency").tag("route", route).timer().count();
+    }
+
+    @Test
+    @DisplayName("한 글자 검색어는 LIKE 특수문자를 이스케이프하여 접두사 검색으로 보내고, 페이지 크기 + 1로 다음 페이지를 판단한다")
+    void singleCharacter_RoutesToPrefix() {
+        // given
+        when(movieRepository.findMovieIdsByTitlePrefix("\\%", 3, 0)).thenReturn(List.of(1, 2, 3));
+
+        // when
+        Slice<Integer> result = titleSearchEngine.search(" % ", firstPage);
+
+        // then
+        assertThat(result.getContent()).containsExactly(1, 2);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(routeCount("PREFIX")).isEqualTo(1);
+        verifyNoInteractions(movieSearchRepository);
+    }
+
+    @Test
+    @DisplayName("접두사 검색 결과가 없어도 다른 경로로 폴백하지 않는다")
+    void prefix_NoFallback() {
+        // given
+        when(movieRepository.findMovieIdsByTitlePrefix("가", 3, 0)).thenReturn(List.of());
+
+        // when
+        Slice<Integer> result = titleSearchEngine.search("가", firstPage);
+
+        // then
+        assertThat(result.hasContent()).isFalse();
+        verify(movieRepository, never()).findMovieIdsByTitleFulltext(any(), anyInt(), anyInt());
+        verifyNoInteractions(movieSearchRepository);
+    }
+
+    @Test
+    @DisplayName("한 단어 검색어는 FULLTEXT 구문 검색으로 보내고, OFFSET은 페이지 번호로 계산한다")
+    void singleWord_RoutesToFulltext() {
+        // given
+        Pageable secondPage = PageRequest.of(1, 2);
+        when(movieRepository.findMovieIdsByTitleFulltext("\"기생충\"", 3, 2)).thenReturn(List.of(7));
+
+        // when
+        Slice<Integer> result = titleSearchEngine.search("기생충", secondPage);
+
+        // then
+        assertThat(result.getContent()).containsExactly(7);
+        assertThat(result.hasNext()).isFalse();
+        assertThat(routeCount("FULLTEXT")).isEqualTo(1);
+        verifyNoInteractions(movieSearchRepository);
+    }
+
+    @Test
+    @DisplayName("FULLTEXT 첫 페이지 결과가 없으면 Elasticsearch nori -> wildcard 순서로 폴백한다")
+    void fulltext_Empty_FallsBackToElasticsearch() {
+        // given
+        when(movieRepository.findMovieIdsByTitleFulltext("\"어벤져스\"", 3, 0)).thenReturn(List.of());
+        when(movieSearchRepository.findByTitleContaining("어벤져스", firstPage)).thenReturn(documents(firstPage));
+        when(movieSearchRepository.findByTitleWildcard("어벤져스", firstPage)).thenReturn(documents(firstPage, 11, 12));
+
+        // when
+        Slice<Integer> result = titleSearchEngine.search("어벤져스", firstPage);
+
+        // then
+        assertThat(result.getContent()).containsExactly(11, 12);
+        assertThat(routeCount("FULLTEXT")).isEqualTo(1);
+        assertThat(routeCount("ELASTICSEARCH")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("두 번째 페이지 이후에는 결과가 없어도 폴백하지 않는다")
+    void fulltext_EmptyLaterPage_NoFallback() {
+        // given
+        Pageable secondPage = PageRequest.of(1, 2);
+        when(movieRepository.findMovieIdsByTitleFulltext("\"어벤져스\"", 3, 2)).thenReturn(List.of());
+
+        // when
+        Slice<Integer> result = titleSearchEngine.search("어벤져스", secondPage);
+
+        // then
+        assertThat(result.hasContent()).isFalse();
+        verifyNoInteractions(movieSearchRepository);
+    }
+
+    @Test
+    @DisplayName("여러 단어 검색어는 공백을 정규화하여 Elasticsearch로 보낸다")
+    void multiWord_RoutesToElasticsearch() {
+        // given
+        when(movieSearchRepository.findByTitleContaining("해리 포터", firstPage))
+                .thenReturn(new PageImpl<>(documents(firstPage, 3, 4).getContent(), firstPage, 5));
+
+        // when
+        Slice<Integer> result = titleSearchEngine.search("  해리   포터 ", firstPage);
+
+        // then
+        assertThat(result.getContent()).containsExactly(3, 4);
+        assertThat(result.hasNext()).isTrue();
+        verify(movieSearchRepository, never()).findByTitleWildcard(any(), any());
+        verifyNoInteractions(movieRepository);
+    }
+
+    @Test
+    @DisplayName("Elasticsearch 장애 시 빈 결과로 처리하고 FULLTEXT로 폴백한다")
+    void elasticsearchFailure_FallsBackToFulltext() {
+        // given
+        when(movieSearchRepository.findByTitleContaining("해리 포터", firstPage))
+                .thenThrow(new RuntimeException("connection refused"));
+        when(movieRepository.findMovieIdsByTitleFulltext("\"해리 포터\"", 3, 0)).thenReturn(List.of(9));
+
+        // when
+        Slice<Integer> result = titleSearchEngine.search("해리 포터", firstPage);
+
+        // then
+        assertThat(result.getContent()).containsExactly(9);
+        assertThat(routeCount("ELASTICSEARCH")).isEqualTo(1);
+        assertThat(routeCount("FULLTEXT")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("빈 검색어는 저장소를 조회하지 않는다")
+    void blankTitle_ReturnsEmpty() {
+        // when
+        Slice<Integer> result = titleSearchEngine.search("   ", firstPage);
+
+        // then
+        assertThat(result.hasContent()).isFalse();
+        assertThat(result.hasNext()).isFalse();
+        verifyNoInteractions(movieRepository, movieSearchRepository);
+    }
+}
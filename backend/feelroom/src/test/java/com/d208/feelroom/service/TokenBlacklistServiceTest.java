@@ -0,0 +1,190 @@
+package com.d208.feelroom.service;
+
+import com.d208.feelroom.global.security.util.TokenDigest;
+import com.d208.feelroom.user.service.TokenBlacklistService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenBlacklistServiceTest {
+
+    private static final byte[] CHANNEL = TokenBlacklistService.BLACKLIST_CHANNEL.getBytes(StandardCharsets.UTF_8);
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private TokenBlacklistService tokenBlacklistService;
+
+    @BeforeEach
+    void setUp() {
+        tokenBlacklistService = new TokenBlacklistService(redisTemplate, new SimpleMeterRegistry(), listenerContainer);
+        ReflectionTestUtils.setField(tokenBlacklistService, "generationMillis", 3_600_000L);
+        ReflectionTestUtils.setField(tokenBlacklistService, "expectedInsertions", 1_000L);
+        ReflectionTestUtils.setField(tokenBlacklistService, "falsePositiveRate", 0.001);
+        tokenBlacklistService.init();
+    }
+
+    @Test
+    @DisplayName("필터를 채우기 전에는 매 조회마다 Redis를 확인한다")
+    void isTokenBlacklisted_NotReady_ChecksRedis() {
+        // given
+        when(redisTemplate.hasKey(key("token"))).thenReturn(true);
+
+        // when
+        boolean result = tokenBlacklistService.isTokenBlacklisted("token");
+
+        // then
+        assertThat(result).isTrue();
+        verify(redisTemplate).hasKey(key("token"));
+    }
+
+    @Test
+    @DisplayName("구독 중에 필터를 채우면 필터에 없는 토큰은 Redis를 확인하지 않는다")
+    void isTokenBlacklisted_Ready_SkipsRedisForUnknownToken() {
+        // given
+        warmUp();
+
+        // when
+        boolean result = tokenBlacklistService.isTokenBlacklisted("token");
+
+        // then
+        assertThat(result).isFalse();
+        verify(redisTemplate, never()).hasKey(anyString());
+    }
+
+    @Test
+    @DisplayName("SCAN으로 채운 블랙리스트 토큰은 Redis로 확인한다")
+    void isTokenBlacklisted_Ready_ChecksRedisForLoadedToken() {
+        // given
+        warmUp(key("logged-out"));
+        when(redisTemplate.hasKey(key("logged-out"))).thenReturn(true);
+
+        // when & then
+        assertThat(tokenBlacklistService.isTokenBlacklisted("logged-out")).isTrue();
+    }
+
+    @Test
+    @DisplayName("구독 전에 SCAN하면 메시지를 놓쳤을 수 있으므로 필터를 쓰지 않는다")
+    void warmUp_NotSubscribed_StaysNotReady() {
+        // given
+        stubScan();
+        tokenBlacklistService.warmUp();
+
+        // when
+        tokenBlacklistService.isTokenBlacklisted("token");
+
+        // then
+        verify(redisTemplate).hasKey(key("token"));
+    }
+
+    @Test
+    @DisplayName("구독이 끊기면 다시 SCAN할 때까지 Redis를 확인한다")
+    void onChannelUnsubscribed_FallsBackToRedis() {
+        // given
+        warmUp();
+        tokenBlacklistService.onChannelUnsubscribed(CHANNEL, 0);
+
+        // when
+        tokenBlacklistService.isTokenBlacklisted("token");
+
+        // then
+        verify(redisTemplate).hasKey(key("token"));
+    }
+
+    @Test
+    @DisplayName("재구독되면 끊긴 동안의 메시지를 알 수 없으므로 다시 SCAN할 때까지 Redis를 확인한다")
+    void onChannelSubscribed_Again_FallsBackToRedisUntilRetry() {
+        // given
+        warmUp();
+        tokenBlacklistService.onChannelSubscribed(CHANNEL, 1);
+
+        // when
+        tokenBlacklistService.isTokenBlacklisted("token");
+        tokenBlacklistService.retryWarmUp();
+        tokenBlacklistService.isTokenBlacklisted("token");
+
+        // then (재시도로 다시 채운 뒤에는 필터 사용)
+        verify(redisTemplate, times(1)).hasKey(key("token"));
+        verify(redisTemplate, times(2)).scan(any(ScanOptions.class));
+    }
+
+    @Test
+    @DisplayName("블랙리스트 발행에 실패하면 다시 SCAN할 때까지 Redis를 확인한다")
+    void blacklistToken_PublishFailure_FallsBackToRedis() {
+        // given
+        warmUp();
+        @SuppressWarnings("unchecked")
+        ValueOperations<String, Object> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        doThrow(new RedisConnectionFailureException("connection lost"))
+                .when(redisTemplate).convertAndSend(eq(TokenBlacklistService.BLACKLIST_CHANNEL), any());
+
+        // when
+        tokenBlacklistService.blacklistToken("logged-out", 60_000L);
+        tokenBlacklistService.isTokenBlacklisted("token");
+
+        // then
+        verify(valueOperations).set(key("logged-out"), "logout", 60_000L, TimeUnit.MILLISECONDS);
+        verify(redisTemplate).hasKey(key("token"));
+    }
+
+    @Test
+    @DisplayName("SCAN이 실패하면 필터를 쓰지 않고 Redis를 확인한다")
+    void resync_ScanFailure_FallsBackToRedis() {
+        // given
+        warmUp();
+        doThrow(new RedisConnectionFailureException("connection lost")).when(redisTemplate).scan(any(ScanOptions.class));
+
+        // when
+        tokenBlacklistService.resync();
+        tokenBlacklistService.isTokenBlacklisted("token");
+
+        // then
+        verify(redisTemplate).hasKey(key("token"));
+    }
+
+    private void warmUp(String... keys) {
+        tokenBlacklistService.onChannelSubscribed(CHANNEL, 1);
+        stubScan(keys);
+        tokenBlacklistService.warmUp();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubScan(String... keys) {
+        when(redisTemplate.scan(any(ScanOptions.class))).thenAnswer(invocation -> {
+            Cursor<String> cursor = mock(Cursor.class);
+            Iterator<String> iterator = List.of(keys).iterator();
+            lenient().when(cursor.hasNext()).thenAnswer(i -> iterator.hasNext());
+            lenient().when(cursor.next()).thenAnswer(i -> iterator.next());
+            return cursor;
+        });
+    }
+
+    private static String key(String token) {
+        return "blacklist:" + TokenDigest.encode(TokenDigest.sha256(token));
+    }
+}
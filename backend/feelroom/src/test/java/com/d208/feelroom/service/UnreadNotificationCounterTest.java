@@ -0,0 +1,224 @@
+package com.d208.feelroom.service;
+
+import com.d208.feelroom.notification.domain.repository.NotificationRepository;
+import com.d208.feelroom.notification.service.UnreadNotificationCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings({"unchecked", "rawtypes"})
+class UnreadNotificationCounterTest {
+
+    @InjectMocks
+    private UnreadNotificationCounter unreadNotificationCounter;
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    @Mock
+    private RedisOperations<String, Object> pipelineOperations;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(unreadNotificationCounter, "ttlHours", 24L);
+        ReflectionTestUtils.setField(unreadNotificationCounter, "reconcileIntervalMs", 600_000L);
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("카운터가 있으면 DB를 조회하지 않고 그 값을 반환한다")
+    void get_Cached() {
+        // given
+        when(valueOperations.get("notification:unread:1")).thenReturn(3);
+
+        // when
+        long count = unreadNotificationCounter.get(1L);
+
+        // then
+        assertThat(count).isEqualTo(3L);
+        verifyNoInteractions(notificationRepository);
+    }
+
+    @Test
+    @DisplayName("카운터가 없으면 DB에서 세어 TTL과 함께 SETNX로 채운다")
+    void get_Miss_LoadsFromDb() {
+        // given
+        when(notificationRepository.countByReceiver_UserIdAndIsRead(1L, 'N')).thenReturn(5L);
+
+        // when
+        long count = unreadNotificationCounter.get(1L);
+
+        // then
+        assertThat(count).isEqualTo(5L);
+        verify(valueOperations).setIfAbsent("notification:unread:1", 5L, Duration.ofHours(24));
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시에는 DB에서 센 값을 반환한다")
+    void get_RedisFailure_FallsBackToDb() {
+        // given
+        when(valueOperations.get("notification:unread:1")).thenThrow(new RedisConnectionFailureException("down"));
+        when(notificationRepository.countByReceiver_UserIdAndIsRead(1L, 'N')).thenReturn(2L);
+
+        // when & then
+        assertThat(unreadNotificationCounter.get(1L)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("새 알림 수만큼 수신자별로 '키가 있을 때만 증가' 스크립트를 실행한다")
+    void incrementAll_RunsAddIfExistsPerReceiver() {
+        // given
+        Map<Long, Long> counts = new LinkedHashMap<>();
+        counts.put(1L, 2L);
+        counts.put(2L, 1L);
+
+        // when
+        unreadNotificationCounter.incrementAll(counts);
+
+        // then
+        runPipeline();
+        verify(pipelineOperations).execute(any(RedisScript.class), eq(List.of("notification:unread:1")), eq(2L));
+        verify(pipelineOperations).execute(any(RedisScript.class), eq(List.of("notification:unread:2")), eq(1L));
+        verify(pipelineOperations, never()).opsForValue(); // 키가 없는 사용자의 카운터를 새로 만들지 않음
+    }
+
+    @Test
+    @DisplayName("증가에 실패하면 해당 수신자의 카운터를 지워 다음 조회에서 DB 값으로 다시 채우게 한다")
+    void incrementAll_Failure_EvictsKeys() {
+        // given
+        when(redisTemplate.executePipelined(any(SessionCallback.class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        unreadNotificationCounter.incrementAll(Map.of(1L, 1L));
+
+        // then
+        verify(redisTemplate).delete(List.of("notification:unread:1"));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 읽음 처리하면 커밋 이후에 음수 증감량으로 스크립트를 실행한다 (0 미만은 스크립트에서 0으로 보정)")
+    void decrement_AppliedAfterCommit() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        unreadNotificationCounter.decrement(1L, 2L);
+
+        // then
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("notification:unread:1")), eq(-2L));
+    }
+
+    @Test
+    @DisplayName("감소에 실패하면 카운터를 지운다")
+    void decrement_Failure_EvictsKey() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        unreadNotificationCounter.decrement(1L, 1L);
+
+        // then
+        verify(redisTemplate).delete(List.of("notification:unread:1"));
+    }
+
+    @Test
+    @DisplayName("바뀐 행이 없으면 카운터를 건드리지 않는다")
+    void decrement_Zero_NoOp() {
+        unreadNotificationCounter.decrement(1L, 0L);
+
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 보정 락을 잡고 있으면 보정하지 않는다")
+    void reconcile_LockHeldElsewhere_Skips() {
+        // given
+        when(valueOperations.setIfAbsent(eq("lock:notification:unread-reconcile"), any(), any(Duration.class)))
+                .thenReturn(false);
+
+        // when
+        unreadNotificationCounter.reconcile();
+
+        // then
+        verify(redisTemplate, never()).scan(any(ScanOptions.class));
+        verifyNoInteractions(notificationRepository);
+    }
+
+    @Test
+    @DisplayName("보정은 키가 있는 카운터의 값만 DB 값으로 바꾸고 TTL은 늘리지 않는다")
+    void reconcile_SetsValuesWithoutExtendingTtl() {
+        // given
+        when(valueOperations.setIfAbsent(eq("lock:notification:unread-reconcile"), any(), eq(Duration.ofMillis(540_000L))))
+                .thenReturn(true);
+        Cursor<String> cursor = mock(Cursor.class);
+        Iterator<String> keys = List.of("notification:unread:1", "notification:unread:2").iterator();
+        when(cursor.hasNext()).thenAnswer(i -> keys.hasNext());
+        when(cursor.next()).thenAnswer(i -> keys.next());
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+        when(notificationRepository.countUnreadByReceiverIds(List.of(1L, 2L)))
+                .thenReturn(List.<Object[]>of(new Object[]{1L, 4L})); // 2번은 안 읽은 알림 없음
+
+        // when
+        unreadNotificationCounter.reconcile();
+
+        // then
+        runPipeline();
+        verify(pipelineOperations).execute(any(RedisScript.class), eq(List.of("notification:unread:1")), eq(4L));
+        verify(pipelineOperations).execute(any(RedisScript.class), eq(List.of("notification:unread:2")), eq(0L));
+        verify(pipelineOperations, never()).opsForValue(); // SET ... EX 로 TTL을 다시 늘리지 않음
+    }
+
+    /**
+     * executePipelined에 넘긴 콜백을 가짜 RedisOperations로 실행합니다.
+     */
+    private void runPipeline() {
+        ArgumentCaptor<SessionCallback> captor = ArgumentCaptor.forClass(SessionCallback.class);
+        verify(redisTemplate).executePipelined(captor.capture());
+        captor.getValue().execute(pipelineOperations);
+    }
+}
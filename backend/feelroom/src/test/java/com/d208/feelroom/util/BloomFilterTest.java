@@ -0,0 +1,66 @@
+package com.d208.feelroom.util;
+
+import com.d208.feelroom.global.security.util.TokenDigest;
+import com.d208.feelroom.global.util.BloomFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("넣은 키는 항상 있다고 답한다 (false negative 없음)")
+    void mightContain_NoFalseNegatives() {
+        // given
+        BloomFilter filter = new BloomFilter(10_000, 0.001);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(TokenDigest.sha256("token-" + i));
+        }
+
+        // when & then
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain(TokenDigest.sha256("token-" + i))).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("예상 삽입 수만큼 넣었을 때 오탐률이 목표치 근처에 머문다")
+    void mightContain_FalsePositiveRateNearTarget() {
+        // given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(TokenDigest.sha256("token-" + i));
+        }
+
+        // when
+        int falsePositives = 0;
+        int trials = 100_000;
+        for (int i = 0; i < trials; i++) {
+            if (filter.mightContain(TokenDigest.sha256("other-" + i))) {
+                falsePositives++;
+            }
+        }
+
+        // then (목표 1%, 여유를 두고 3배까지 허용)
+        assertThat((double) falsePositives / trials).isLessThan(0.03);
+    }
+
+    @Test
+    @DisplayName("아무것도 넣지 않은 필터는 항상 없다고 답한다")
+    void mightContain_EmptyFilter() {
+        BloomFilter filter = new BloomFilter(100, 0.001);
+
+        assertThat(filter.mightContain(TokenDigest.sha256("token"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("잘못된 설정이나 16바이트 미만의 키는 IllegalArgumentException")
+    void invalidArguments() {
+        assertThatThrownBy(() -> new BloomFilter(0, 0.01)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BloomFilter(100, 1.0)).isInstanceOf(IllegalArgumentException.class);
+
+        BloomFilter filter = new BloomFilter(100, 0.01);
+        assertThatThrownBy(() -> filter.put(new byte[8])).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,163 @@
+package com.d208.feelroom.util;
+
+import com.d208.feelroom.global.security.util.JwtUtil;
+import com.d208.feelroom.global.security.util.JwtUtil.TokenError;
+import com.d208.feelroom.global.security.util.JwtUtil.TokenVerification;
+import com.d208.feelroom.global.security.util.TokenDigest;
+import com.d208.feelroom.user.domain.UserRole;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.*;
+
+class JwtUtilTest {
+
+    private static final String SECRET_KEY = "MXRrYXRqZGZrZGxkaHM3d21kbnRtZGdrcmxmM3ZsZmZuYXZsZmZuYTIwOA";
+
+    private SimpleMeterRegistry meterRegistry;
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        jwtUtil = new JwtUtil(meterRegistry);
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", SECRET_KEY);
+        ReflectionTestUtils.setField(jwtUtil, "claimsCacheMaxSize", 100L);
+        setExpirationMs(3_600_000);
+        jwtUtil.init();
+    }
+
+    private void setExpirationMs(long expirationMs) {
+        ReflectionTestUtils.setField(jwtUtil, "accessTokenExpirationTime", expirationMs);
+    }
+
+    private String issue(Long userId, String username, UserRole role) {
+        return jwtUtil.createAccessToken(userId, username, role).substring(JwtUtil.BEARER_PREFIX.length());
+    }
+
+    private double cacheHits() {
+        return meterRegistry.get("cache.gets").tag("cache", "jwtVerifiedClaims").tag("result", "hit").functionCounter().count();
+    }
+
+    @Test
+    @DisplayName("유효한 토큰의 Claims를 검증하고, Claim에서 사용자 ID와 권한을 꺼낸다")
+    void verify_ValidToken() {
+        // given
+        String token = issue(42L, "alice", UserRole.ADMIN);
+
+        // when
+        TokenVerification verification = jwtUtil.verify(token);
+
+        // then
+        assertThat(verification.isValid()).isTrue();
+        assertThat(verification.error()).isNull();
+        assertThat(verification.claims().getSubject()).isEqualTo("alice");
+        assertThat(jwtUtil.getUserId(verification.claims())).isEqualTo(42L);
+        assertThat(jwtUtil.getUserRole(verification.claims())).isEqualTo(UserRole.ADMIN);
+    }
+
+    @Test
+    @DisplayName("같은 토큰의 두 번째 검증은 캐시된 Claims를 반환한다 (다이제스트를 넘기는 경로도 같은 캐시 사용)")
+    void verify_SecondCall_UsesCache() {
+        // given
+        String token = issue(42L, "alice", UserRole.USER);
+        TokenVerification first = jwtUtil.verify(token);
+
+        // when
+        TokenVerification second = jwtUtil.verify(token);
+        TokenVerification withDigest = jwtUtil.verify(token, TokenDigest.sha256(token));
+
+        // then
+        assertThat(second.claims()).isSameAs(first.claims());
+        assertThat(withDigest.claims()).isSameAs(first.claims());
+        assertThat(cacheHits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("서로 다른 토큰은 캐시를 공유하지 않는다")
+    void verify_DifferentTokens_SeparateEntries() {
+        // given
+        String alice = issue(1L, "alice", UserRole.USER);
+        String bob = issue(2L, "bob", UserRole.USER);
+
+        // when
+        jwtUtil.verify(alice);
+        TokenVerification verification = jwtUtil.verify(bob);
+
+        // then
+        assertThat(verification.claims().getSubject()).isEqualTo("bob");
+        assertThat(cacheHits()).isZero();
+    }
+
+    @Test
+    @DisplayName("서명이 변조된 토큰은 INVALID_SIGNATURE이며 캐시되지 않는다")
+    void verify_TamperedSignature_Invalid() {
+        // given
+        String token = issue(42L, "alice", UserRole.USER);
+        int signatureStart = token.lastIndexOf('.') + 1; // 서명의 첫 글자는 6비트 모두 서명 바이트에 쓰임
+        char firstChar = token.charAt(signatureStart);
+        String tampered = token.substring(0, signatureStart) + (firstChar == 'A' ? 'B' : 'A') + token.substring(signatureStart + 1);
+
+        // when
+        TokenVerification first = jwtUtil.verify(tampered);
+        TokenVerification second = jwtUtil.verify(tampered);
+
+        // then
+        assertThat(first.isValid()).isFalse();
+        assertThat(first.error()).isEqualTo(TokenError.INVALID_SIGNATURE);
+        assertThat(second.error()).isEqualTo(TokenError.INVALID_SIGNATURE);
+        assertThat(cacheHits()).isZero();
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 EXPIRED")
+    void verify_ExpiredToken() {
+        // given
+        setExpirationMs(-60_000);
+        String token = issue(42L, "alice", UserRole.USER);
+
+        // when
+        TokenVerification verification = jwtUtil.verify(token);
+
+        // then
+        assertThat(verification.error()).isEqualTo(TokenError.EXPIRED);
+    }
+
+    @Test
+    @DisplayName("캐시된 토큰도 만료 시각이 지나면 캐시를 쓰지 않고 EXPIRED로 판정한다")
+    void verify_CachedTokenExpires() throws InterruptedException {
+        // given (JWT exp는 초 단위로 잘리므로 여유를 두고 만료)
+        setExpirationMs(2_000);
+        String token = issue(42L, "alice", UserRole.USER);
+        assertThat(jwtUtil.verify(token).isValid()).isTrue();
+
+        // when
+        Thread.sleep(2_100);
+        TokenVerification verification = jwtUtil.verify(token);
+
+        // then
+        assertThat(verification.error()).isEqualTo(TokenError.EXPIRED);
+    }
+
+    @Test
+    @DisplayName("빈 토큰은 EMPTY")
+    void verify_EmptyToken() {
+        assertThat(jwtUtil.verify("").error()).isEqualTo(TokenError.EMPTY);
+    }
+
+    @Test
+    @DisplayName("사용자 ID Claim이 없는 예전 토큰은 getUserId가 null")
+    void getUserId_LegacyToken_Null() {
+        // given
+        String token = jwtUtil.createAccessToken("alice", UserRole.USER).substring(JwtUtil.BEARER_PREFIX.length());
+
+        // when
+        TokenVerification verification = jwtUtil.verify(token);
+
+        // then
+        assertThat(jwtUtil.getUserId(verification.claims())).isNull();
+    }
+}
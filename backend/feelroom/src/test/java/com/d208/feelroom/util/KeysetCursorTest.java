@@ -0,0 +1,111 @@
+package com.d208.feelroom.util;
+
+import com.d208.feelroom.global.util.KeysetCursor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+class KeysetCursorTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 7, 1, 12, 30, 15, 123_000_000);
+
+    private static String rawCursor(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("score 없는 커서는 encode -> parse 후 같은 값이 된다")
+    void encodeParse_WithoutScore_RoundTrip() {
+        // given
+        KeysetCursor cursor = KeysetCursor.of(CREATED_AT, 42L);
+
+        // when
+        KeysetCursor parsed = KeysetCursor.parse(cursor.encode());
+
+        // then
+        assertThat(parsed).isEqualTo(cursor);
+        assertThat(parsed.score()).isNull();
+        assertThat(parsed.longId()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("score와 UUID id가 있는 커서도 encode -> parse 후 같은 값이 된다")
+    void encodeParse_WithScoreAndUuid_RoundTrip() {
+        // given
+        UUID id = UUID.randomUUID();
+        KeysetCursor cursor = KeysetCursor.of(17.5, CREATED_AT, id);
+
+        // when
+        KeysetCursor parsed = KeysetCursor.parse(cursor.encode());
+
+        // then
+        assertThat(parsed).isEqualTo(cursor);
+        assertThat(parsed.requireScore()).isEqualTo(17.5);
+        assertThat(parsed.uuidId()).isEqualTo(id);
+    }
+
+    @Test
+    @DisplayName("인코딩된 커서는 URL에 그대로 쓸 수 있는 문자만 포함한다")
+    void encode_IsUrlSafe() {
+        // when
+        String encoded = KeysetCursor.of(-1.0E10, CREATED_AT, UUID.randomUUID()).encode();
+
+        // then
+        assertThat(encoded).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    @DisplayName("null 또는 빈 커서는 첫 페이지를 의미하므로 null을 반환한다")
+    void parse_Blank_ReturnsNull() {
+        assertThat(KeysetCursor.parse(null)).isNull();
+        assertThat(KeysetCursor.parse("")).isNull();
+        assertThat(KeysetCursor.parse("   ")).isNull();
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 IllegalArgumentException")
+    void parse_Malformed_Throws() {
+        assertThatThrownBy(() -> KeysetCursor.parse("!!!")).isInstanceOf(IllegalArgumentException.class);                    // Base64 아님
+        assertThatThrownBy(() -> KeysetCursor.parse(rawCursor("|2025-07-01T12:00"))).isInstanceOf(IllegalArgumentException.class); // 구분자 부족
+        assertThatThrownBy(() -> KeysetCursor.parse(rawCursor("|2025-07-01T12:00|"))).isInstanceOf(IllegalArgumentException.class); // id 없음
+        assertThatThrownBy(() -> KeysetCursor.parse(rawCursor("|yesterday|1"))).isInstanceOf(IllegalArgumentException.class);      // 시각 형식 오류
+        assertThatThrownBy(() -> KeysetCursor.parse(rawCursor("abc|2025-07-01T12:00|1"))).isInstanceOf(IllegalArgumentException.class); // score 형식 오류
+    }
+
+    @Test
+    @DisplayName("다른 정렬에서 발급된 커서로 score나 숫자 id를 꺼내면 IllegalArgumentException")
+    void mismatchedSort_Throws() {
+        // given
+        KeysetCursor withoutScore = KeysetCursor.of(CREATED_AT, UUID.randomUUID());
+
+        // when & then
+        assertThatThrownBy(withoutScore::requireScore).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(withoutScore::longId).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("nextOf는 다음 페이지가 있을 때만 마지막 항목으로 커서를 만든다")
+    void nextOf_UsesLastItemOnlyWhenHasNext() {
+        // given
+        List<Long> ids = List.of(1L, 2L, 3L);
+
+        // when
+        String next = KeysetCursor.nextOf(new SliceImpl<>(ids, PageRequest.of(0, 3), true), id -> KeysetCursor.of(CREATED_AT, id));
+        String last = KeysetCursor.nextOf(new SliceImpl<>(ids, PageRequest.of(0, 3), false), id -> KeysetCursor.of(CREATED_AT, id));
+        String empty = KeysetCursor.nextOf(List.<Long>of(), true, id -> KeysetCursor.of(CREATED_AT, id));
+
+        // then
+        assertThat(KeysetCursor.parse(next).longId()).isEqualTo(3L);
+        assertThat(last).isNull();
+        assertThat(empty).isNull();
+    }
+}
@@ -0,0 +1,63 @@
+package com.d208.feelroom.util;
+
+import com.d208.feelroom.global.infra.RedisJobLock;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RedisJobLockTest {
+
+    @InjectMocks
+    private RedisJobLock redisJobLock;
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    @Test
+    @DisplayName("잠금을 잡으면 토큰을 돌려주고, 해제는 그 토큰으로만 지운다")
+    void tryAcquire_Free_ReturnsToken() {
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq("lock:job"), anyString(), eq(Duration.ofMinutes(1)))).thenReturn(true);
+
+        // when
+        Optional<String> token = redisJobLock.tryAcquire("job", Duration.ofMinutes(1));
+        redisJobLock.release("job", token.orElseThrow());
+
+        // then
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("lock:job")), eq(token.get()));
+    }
+
+    @Test
+    @DisplayName("다른 노드가 보유 중이거나 Redis 오류면 잡지 못한 것으로 본다")
+    void tryAcquire_HeldOrError_Empty() {
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq("lock:job"), anyString(), any(Duration.class)))
+                .thenReturn(false)
+                .thenThrow(new QueryTimeoutException("redis down"));
+
+        // when & then
+        assertThat(redisJobLock.tryAcquire("job", Duration.ofMinutes(1))).isEmpty();
+        assertThat(redisJobLock.tryAcquire("job", Duration.ofMinutes(1))).isEmpty();
+    }
+}
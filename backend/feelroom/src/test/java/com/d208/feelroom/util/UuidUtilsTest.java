@@ -0,0 +1,46 @@
+package com.d208.feelroom.util;
+
+import com.d208.feelroom.global.util.UuidUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+class UuidUtilsTest {
+
+    @Test
+    @DisplayName("BINARY_ORDER는 BINARY(16) 바이트 순서(부호 없는 비교)와 같다")
+    void binaryOrder_MatchesUnsignedByteOrder() {
+        // given (최상위 비트가 1인 UUID는 UUID.compareTo에서 음수로 취급되어 앞에 옴)
+        UUID high = UUID.fromString("f0000000-0000-0000-0000-000000000000");
+        UUID low = UUID.fromString("10000000-0000-0000-0000-000000000000");
+        List<UUID> uuids = new ArrayList<>(List.of(high, low));
+        for (int i = 0; i < 100; i++) {
+            uuids.add(UUID.randomUUID());
+        }
+
+        // when
+        uuids.sort(UuidUtils.BINARY_ORDER);
+
+        // then
+        assertThat(high.compareTo(low)).isNegative();
+        assertThat(uuids.indexOf(low)).isLessThan(uuids.indexOf(high));
+        for (int i = 1; i < uuids.size(); i++) {
+            assertThat(Arrays.compareUnsigned(UuidUtils.uuidToBytes(uuids.get(i - 1)), UuidUtils.uuidToBytes(uuids.get(i))))
+                    .isNegative();
+        }
+    }
+
+    @Test
+    @DisplayName("uuidToBytes와 bytesToUUID는 서로 역변환이다")
+    void roundTrip() {
+        UUID uuid = UUID.randomUUID();
+
+        assertThat(UuidUtils.bytesToUUID(UuidUtils.uuidToBytes(uuid))).isEqualTo(uuid);
+    }
+}